@@ -0,0 +1,25 @@
+package com.fastcampus.project_board.DTO;
+
+import java.time.LocalDateTime;
+
+/**
+ * 변경 피드의 게시글 변경. 삭제된 게시글(tombstone)은 ID, 작성자, 일시만 담는다.
+ */
+public record ArticleChangeDto(
+        Long id,
+        String userId,
+        String title,
+        String content,
+        String hashtag,
+        LocalDateTime createdAt,
+        LocalDateTime modifiedAt,
+        boolean deleted
+) {
+
+    public static ArticleChangeDto of(Long id, String userId, String title, String content, String hashtag, LocalDateTime createdAt, LocalDateTime modifiedAt, boolean deleted) {
+        if (deleted) {
+            return new ArticleChangeDto(id, userId, null, null, null, createdAt, modifiedAt, true);
+        }
+        return new ArticleChangeDto(id, userId, title, content, hashtag, createdAt, modifiedAt, false);
+    }
+}
@@ -0,0 +1,21 @@
+package com.fastcampus.project_board.DTO;
+
+import java.time.LocalDateTime;
+
+/**
+ * 변경 피드의 댓글 변경. 삭제된 댓글(tombstone)은 본문을 담지 않는다.
+ */
+public record ArticleCommentChangeDto(
+        Long id,
+        Long articleId,
+        String userId,
+        String content,
+        LocalDateTime createdAt,
+        LocalDateTime modifiedAt,
+        boolean deleted
+) {
+
+    public static ArticleCommentChangeDto of(Long id, Long articleId, String userId, String content, LocalDateTime createdAt, LocalDateTime modifiedAt, boolean deleted) {
+        return new ArticleCommentChangeDto(id, articleId, userId, deleted ? null : content, createdAt, modifiedAt, deleted);
+    }
+}
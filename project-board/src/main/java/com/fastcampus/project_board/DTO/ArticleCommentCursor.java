@@ -0,0 +1,53 @@
+package com.fastcampus.project_board.DTO;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 게시글 상세 페이지 댓글의 keyset 페이지네이션 커서
+ * <p>
+ * 댓글은 (createdAt DESC, id DESC) 순서이고, 커서는 직전 페이지 마지막 댓글의 (createdAt, id)를 담는다. 댓글은 더보기로 앞으로만 넘긴다.
+ */
+public record ArticleCommentCursor(
+        LocalDateTime createdAt,
+        Long id
+) {
+    private static final String DELIMITER = "|";
+
+    public static ArticleCommentCursor first() {
+        return new ArticleCommentCursor(null, null);
+    }
+
+    public static ArticleCommentCursor after(LocalDateTime createdAt, Long id) {
+        return new ArticleCommentCursor(createdAt, id);
+    }
+
+    // 비어 있거나 해석할 수 없는 커서는 첫 페이지로 취급한다.
+    public static ArticleCommentCursor decode(String encoded) {
+        if (encoded == null || encoded.isBlank()) {
+            return first();
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\" + DELIMITER);
+            return new ArticleCommentCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (RuntimeException e) {
+            return first();
+        }
+    }
+
+    public String encode() {
+        if (isFirst()) {
+            return "";
+        }
+
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean isFirst() {
+        return createdAt == null || id == null;
+    }
+}
@@ -0,0 +1,67 @@
+package com.fastcampus.project_board.DTO;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 게시글 목록의 keyset(seek) 페이지네이션 커서
+ * <p>
+ * 목록은 (createdAt DESC, id DESC) 순서이고, 커서는 기준 게시글의 (createdAt, id)와 이동 방향을 담는다.
+ * 화면에는 Base64 문자열로만 노출한다.
+ *
+ * @param direction 기준 게시글보다 오래된 쪽(NEXT) 또는 최신 쪽(PREV)
+ */
+public record ArticleCursor(
+        Direction direction,
+        LocalDateTime createdAt,
+        Long id
+) {
+    private static final String DELIMITER = "|";
+
+    public static ArticleCursor first() {
+        return new ArticleCursor(Direction.NEXT, null, null);
+    }
+
+    public static ArticleCursor after(LocalDateTime createdAt, Long id) {
+        return new ArticleCursor(Direction.NEXT, createdAt, id);
+    }
+
+    public static ArticleCursor before(LocalDateTime createdAt, Long id) {
+        return new ArticleCursor(Direction.PREV, createdAt, id);
+    }
+
+    // 비어 있거나 해석할 수 없는 커서는 첫 페이지로 취급한다.
+    public static ArticleCursor decode(String encoded) {
+        if (encoded == null || encoded.isBlank()) {
+            return first();
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\" + DELIMITER);
+            return new ArticleCursor(Direction.valueOf(parts[0]), LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]));
+        } catch (RuntimeException e) {
+            return first();
+        }
+    }
+
+    public String encode() {
+        if (isFirst()) {
+            return "";
+        }
+
+        String raw = direction.name() + DELIMITER + createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean isFirst() {
+        return createdAt == null || id == null;
+    }
+
+    public boolean isBackward() {
+        return direction == Direction.PREV;
+    }
+
+    public enum Direction { NEXT, PREV }
+}
@@ -0,0 +1,19 @@
+package com.fastcampus.project_board.DTO;
+
+import org.springframework.data.domain.Slice;
+
+/**
+ * 게시글 상세 페이지에 필요한 값을 한 번의 읽기 전용 트랜잭션에서 모은 것
+ *
+ * @param articleComments 게시글의 댓글 중 요청한 커서 다음 페이지
+ * @param totalCount      전체 게시글 수
+ */
+public record ArticleDetailDto(
+        ArticleDto article,
+        Slice<ArticleCommentDto> articleComments,
+        long totalCount
+) {
+    public static ArticleDetailDto of(ArticleDto article, Slice<ArticleCommentDto> articleComments, long totalCount) {
+        return new ArticleDetailDto(article, articleComments, totalCount);
+    }
+}
@@ -17,7 +17,9 @@ public record ArticleDto(
         LocalDateTime createdAt,
         String createdBy,
         LocalDateTime modifiedAt,
-        String modifiedBy
+        String modifiedBy,
+        long viewCount,
+        Long version
 ) {
     public static ArticleDto of(
             Long id,
@@ -30,11 +32,18 @@ public record ArticleDto(
             LocalDateTime modifiedAt,
             String modifiedBy
     ) {
-        return new ArticleDto(id, userAccountDto, title, content, hashtag, createdAt, createdBy, modifiedAt, modifiedBy);
+        return new ArticleDto(id, userAccountDto, title, content, hashtag, createdAt, createdBy, modifiedAt, modifiedBy, 0, null);
     }
 
     public static ArticleDto of(UserAccountDto userAccountDto, String title, String content, String hashtag) {
-        return new ArticleDto(null, userAccountDto, title, content, hashtag, null, null, null, null);
+        return of(userAccountDto, title, content, hashtag, null);
+    }
+
+    /**
+     * @param version 수정 폼을 열 때 읽은 게시글 버전. 새 글이면 null이다.
+     */
+    public static ArticleDto of(UserAccountDto userAccountDto, String title, String content, String hashtag, Long version) {
+        return new ArticleDto(null, userAccountDto, title, content, hashtag, null, null, null, null, 0, version);
     }
 
     public static ArticleDto from(Article entity){
@@ -47,7 +56,28 @@ public record ArticleDto(
                 entity.getCreatedAt(),
                 entity.getCreatedBy(),
                 entity.getModifiedAt(),
-                entity.getModifiedBy()
+                entity.getModifiedBy(),
+                entity.getViewCount(),
+                entity.getVersion()
+        );
+    }
+
+    /**
+     * 작성자를 이미 알 때 쓴다. 작성자 프록시를 초기화하지 않는다.
+     */
+    public static ArticleDto from(Article entity, UserAccountDto userAccountDto){
+        return new ArticleDto(
+                entity.getId(),
+                userAccountDto,
+                entity.getTitle(),
+                entity.getContent(),
+                entity.getHashtag(),
+                entity.getCreatedAt(),
+                entity.getCreatedBy(),
+                entity.getModifiedAt(),
+                entity.getModifiedBy(),
+                entity.getViewCount(),
+                entity.getVersion()
         );
     }
 
@@ -0,0 +1,21 @@
+package com.fastcampus.project_board.DTO;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 API에서 쓰는 요약. 본문과 댓글 없이, 필요한 컬럼만 SQL에서 바로 읽어 채운다.
+ */
+public record ArticleExcerptDto(
+        Long id,
+        String title,
+        String hashtag,
+        LocalDateTime createdAt,
+        String userId,
+        String nickname,
+        Long commentCount
+) {
+
+    public static ArticleExcerptDto of(Long id, String title, String hashtag, LocalDateTime createdAt, String userId, String nickname, Long commentCount) {
+        return new ArticleExcerptDto(id, title, hashtag, createdAt, userId, nickname, commentCount);
+    }
+}
@@ -0,0 +1,15 @@
+package com.fastcampus.project_board.DTO;
+
+/**
+ * 검색 색인을 재구성할 때 읽는 게시글의 색인 대상 컬럼. 작성자와 다른 컬럼은 읽지 않는다.
+ */
+public record ArticleTextDto(
+        Long id,
+        String title,
+        String content
+) {
+
+    public static ArticleTextDto of(Long id, String title, String content) {
+        return new ArticleTextDto(id, title, content);
+    }
+}
@@ -1,44 +0,0 @@
-package com.fastcampus.project_board.DTO;
-
-import com.fastcampus.project_board.domain.Article;
-
-import java.time.LocalDateTime;
-import java.util.LinkedHashSet;
-import java.util.Set;
-import java.util.stream.Collectors;
-
-public record ArticleWithCommentsDto(
-        Long id,
-        UserAccountDto userAccountDto,
-        Set<ArticleCommentDto> articleCommentDtos,
-        String title,
-        String content,
-        String hashtag,
-        LocalDateTime createdAt,
-        String createdBy,
-        LocalDateTime modifiedAt,
-        String modifiedBy
-) {
-    public static ArticleWithCommentsDto of(Long id, UserAccountDto userAccountDto, Set<ArticleCommentDto> articleCommentDtos, String title, String content,
-                                            String hashtag, LocalDateTime createdAt, String createdBy, LocalDateTime modifiedAt, String modifiedBy){
-        return new ArticleWithCommentsDto(id, userAccountDto, articleCommentDtos, title, content, hashtag, createdAt, createdBy, modifiedAt, modifiedBy);
-    }
-
-    public static ArticleWithCommentsDto from(Article entity){
-        return new ArticleWithCommentsDto(
-                entity.getId(),
-                UserAccountDto.from(entity.getUserAccount()),
-                entity.getArticleComments().stream()
-                        .map(ArticleCommentDto::from)
-                        .collect(Collectors.toCollection(LinkedHashSet::new)),
-                entity.getTitle(),
-                entity.getContent(),
-                entity.getHashtag(),
-                entity.getCreatedAt(),
-                entity.getCreatedBy(),
-                entity.getModifiedAt(),
-                entity.getModifiedBy()
-        );
-    }
-
-}
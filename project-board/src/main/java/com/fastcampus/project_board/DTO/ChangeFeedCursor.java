@@ -0,0 +1,76 @@
+package com.fastcampus.project_board.DTO;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 변경 피드의 커서
+ * <p>
+ * 게시글과 댓글은 각각 (modifiedAt, id) 순서로 읽으므로, 커서는 두 테이블에서 마지막으로 내보낸 위치를 함께 담는다.
+ * 클라이언트에는 Base64 문자열로만 노출한다.
+ */
+public record ChangeFeedCursor(
+        Position article,
+        Position articleComment
+) {
+    private static final String DELIMITER = "|";
+
+    public static ChangeFeedCursor first() {
+        return new ChangeFeedCursor(Position.FIRST, Position.FIRST);
+    }
+
+    public static ChangeFeedCursor of(Position article, Position articleComment) {
+        return new ChangeFeedCursor(article, articleComment);
+    }
+
+    // 비어 있으면 처음부터 읽는다. 해석할 수 없는 커서로 처음부터 다시 읽으면 전체를 훑게 되므로 거절한다.
+    public static ChangeFeedCursor decode(String encoded) {
+        if (encoded == null || encoded.isBlank()) {
+            return first();
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\" + DELIMITER, -1);
+            return new ChangeFeedCursor(Position.parse(parts[0], parts[1]), Position.parse(parts[2], parts[3]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("변경 피드 커서를 해석할 수 없습니다 - cursor: " + encoded, e);
+        }
+    }
+
+    public String encode() {
+        String raw = String.join(DELIMITER, article.modifiedAtText(), article.idText(), articleComment.modifiedAtText(), articleComment.idText());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 한 테이블에서 마지막으로 내보낸 변경의 (modifiedAt, id). 처음이면 둘 다 null이다.
+     */
+    public record Position(LocalDateTime modifiedAt, Long id) {
+        public static final Position FIRST = new Position(null, null);
+
+        public static Position of(LocalDateTime modifiedAt, Long id) {
+            return new Position(modifiedAt, id);
+        }
+
+        private static Position parse(String modifiedAt, String id) {
+            if (modifiedAt.isEmpty() || id.isEmpty()) {
+                return FIRST;
+            }
+            return new Position(LocalDateTime.parse(modifiedAt), Long.parseLong(id));
+        }
+
+        public boolean isFirst() {
+            return modifiedAt == null || id == null;
+        }
+
+        private String modifiedAtText() {
+            return isFirst() ? "" : modifiedAt.toString();
+        }
+
+        private String idText() {
+            return isFirst() ? "" : id.toString();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.fastcampus.project_board.DTO.request;
+
+import com.fastcampus.project_board.DTO.ArticleCommentDto;
+import com.fastcampus.project_board.DTO.UserAccountDto;
+
+/**
+ * 댓글 대량 등록의 한 행 (NDJSON의 한 줄, 또는 CSV의 한 레코드)
+ */
+public record ArticleCommentImportRow(
+        Long articleId,
+        String userId,
+        String content
+) {
+    public static ArticleCommentImportRow of(Long articleId, String userId, String content) {
+        return new ArticleCommentImportRow(articleId, userId, content);
+    }
+
+    public ArticleCommentDto toDto() {
+        return ArticleCommentDto.of(
+                articleId,
+                UserAccountDto.of(userId, null, null, null, null),
+                content
+        );
+    }
+}
@@ -0,0 +1,27 @@
+package com.fastcampus.project_board.DTO.request;
+
+import com.fastcampus.project_board.DTO.ArticleDto;
+import com.fastcampus.project_board.DTO.UserAccountDto;
+
+/**
+ * 게시글 대량 등록의 한 행 (NDJSON의 한 줄, 또는 CSV의 한 레코드)
+ */
+public record ArticleImportRow(
+        String userId,
+        String title,
+        String content,
+        String hashtag
+) {
+    public static ArticleImportRow of(String userId, String title, String content, String hashtag) {
+        return new ArticleImportRow(userId, title, content, hashtag);
+    }
+
+    public ArticleDto toDto() {
+        return ArticleDto.of(
+                UserAccountDto.of(userId, null, null, null, null),
+                title,
+                content,
+                hashtag
+        );
+    }
+}
@@ -4,13 +4,21 @@ import com.fastcampus.project_board.DTO.ArticleDto;
 import com.fastcampus.project_board.DTO.UserAccountDto;
 import com.fastcampus.project_board.domain.Article;
 
+/**
+ * @param version 수정 폼을 열 때의 게시글 버전(숨은 입력). 그사이 다른 수정이 있었으면 덮어쓰지 않고 충돌로 실패한다. 새 글이면 null이다.
+ */
 public record ArticleRequest(
         String title,
         String content,
-        String hashtag
+        String hashtag,
+        Long version
 ) {
     public static ArticleRequest of(String title, String content,String hashtag) {
-        return new ArticleRequest(title, content, hashtag);
+        return new ArticleRequest(title, content, hashtag, null);
+    }
+
+    public static ArticleRequest of(String title, String content, String hashtag, Long version) {
+        return new ArticleRequest(title, content, hashtag, version);
     }
 
     public ArticleDto toDto(UserAccountDto userAccountDto) {
@@ -18,7 +26,8 @@ public record ArticleRequest(
                 userAccountDto,
                 title,
                 content,
-                hashtag
+                hashtag,
+                version
         );
     }
 }
@@ -0,0 +1,35 @@
+package com.fastcampus.project_board.DTO.response;
+
+import com.fastcampus.project_board.DTO.ArticleDto;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 여러 게시글 한 번에 조회 결과
+ *
+ * @param articles 찾은 게시글. 요청한 ID 순서를 따른다.
+ * @param notFound 없는(지워진) 게시글 ID. 요청한 ID 순서를 따른다.
+ */
+public record ArticleBatchResponse(
+        List<ArticleResponse> articles,
+        List<Long> notFound
+) {
+
+    public static ArticleBatchResponse of(Collection<Long> requestedIds, Map<Long, ArticleDto> found) {
+        List<ArticleResponse> articles = new ArrayList<>(found.size());
+        List<Long> notFound = new ArrayList<>();
+        for (Long articleId : requestedIds) {
+            ArticleDto dto = found.get(articleId);
+            if (dto == null) {
+                notFound.add(articleId);
+            } else {
+                articles.add(ArticleResponse.from(dto));
+            }
+        }
+
+        return new ArticleBatchResponse(articles, notFound);
+    }
+}
@@ -0,0 +1,34 @@
+package com.fastcampus.project_board.DTO.response;
+
+import com.fastcampus.project_board.DTO.ArticleExcerptDto;
+import org.springframework.hateoas.server.core.Relation;
+
+import java.time.LocalDateTime;
+
+// Data REST의 게시글 목록과 같은 이름(_embedded.articles)으로 내보낸다.
+@Relation(itemRelation = "article", collectionRelation = "articles")
+public record ArticleExcerptResponse(
+        Long id,
+        String title,
+        String hashtag,
+        LocalDateTime createdAt,
+        String nickname,
+        long commentCount
+) {
+
+    public static ArticleExcerptResponse from(ArticleExcerptDto dto) {
+        String nickname = dto.nickname();
+        if (nickname == null || nickname.isBlank()) {
+            nickname = dto.userId();
+        }
+
+        return new ArticleExcerptResponse(
+                dto.id(),
+                dto.title(),
+                dto.hashtag(),
+                dto.createdAt(),
+                nickname,
+                dto.commentCount()
+        );
+    }
+}
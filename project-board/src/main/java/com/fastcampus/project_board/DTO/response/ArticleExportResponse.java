@@ -0,0 +1,53 @@
+package com.fastcampus.project_board.DTO.response;
+
+import com.fastcampus.project_board.DTO.ArticleCommentDto;
+import com.fastcampus.project_board.DTO.ArticleDto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 내보내기(NDJSON)의 한 줄. 게시글 하나와 그 댓글 전체
+ */
+public record ArticleExportResponse(
+        Long id,
+        String title,
+        String content,
+        String hashtag,
+        long viewCount,
+        LocalDateTime createdAt,
+        String createdBy,
+        LocalDateTime modifiedAt,
+        String modifiedBy,
+        String email,
+        String nickname,
+        String userId,
+        List<ArticleCommentResponse> articleComments
+) {
+
+    public static ArticleExportResponse from(ArticleDto dto, List<ArticleCommentDto> articleCommentDtos) {
+        String nickname = dto.userAccountDto().nickname();
+        if(nickname == null || nickname.isBlank()){
+            nickname = dto.userAccountDto().userId();
+        }
+
+        return new ArticleExportResponse(
+                dto.id(),
+                dto.title(),
+                dto.content(),
+                dto.hashtag(),
+                dto.viewCount(),
+                dto.createdAt(),
+                dto.createdBy(),
+                dto.modifiedAt(),
+                dto.modifiedBy(),
+                dto.userAccountDto().email(),
+                nickname,
+                dto.userAccountDto().userId(),
+                articleCommentDtos.stream()
+                        .map(ArticleCommentResponse::from)
+                        .toList()
+        );
+    }
+
+}
@@ -12,11 +12,14 @@ public record ArticleResponse(
         String hashtag,
         LocalDateTime createdAt,
         String email,
-        String nickname
+        String nickname,
+        String userId,
+        long viewCount,
+        Long version
 )  {
 
-    public static ArticleResponse of(Long id, String title, String content, String hashtag, LocalDateTime createdAt, String email, String nickname){
-        return new ArticleResponse(id, title, content, hashtag, createdAt, email, nickname);
+    public static ArticleResponse of(Long id, String title, String content, String hashtag, LocalDateTime createdAt, String email, String nickname, String userId){
+        return new ArticleResponse(id, title, content, hashtag, createdAt, email, nickname, userId, 0, null);
     }
 
     public static ArticleResponse from(ArticleDto dto){
@@ -32,7 +35,10 @@ public record ArticleResponse(
                 dto.hashtag(),
                 dto.createdAt(),
                 dto.userAccountDto().email(),
-                nickname
+                nickname,
+                dto.userAccountDto().userId(),
+                dto.viewCount(),
+                dto.version()
         );
     }
 
@@ -1,47 +0,0 @@
-package com.fastcampus.project_board.DTO.response;
-
-import com.fastcampus.project_board.DTO.ArticleWithCommentsDto;
-
-import java.time.LocalDateTime;
-import java.util.LinkedHashSet;
-import java.util.Set;
-import java.util.stream.Collectors;
-
-public record ArticleWithCommentsResponse(
-        Long id,
-        String title,
-        String content,
-        String hashtag,
-        LocalDateTime createdAt,
-        String email,
-        String nickname,
-        String userId,
-        Set<ArticleCommentResponse> articleCommentsResponse
-) {
-
-    public static ArticleWithCommentsResponse of(Long id , String title, String content, String hashtag, LocalDateTime createdAt, String email, String nickname, String userId, Set<ArticleCommentResponse> articleCommentResponses){
-        return new ArticleWithCommentsResponse(id,title,content,hashtag,createdAt,email,nickname, userId, articleCommentResponses);
-    }
-
-    public static ArticleWithCommentsResponse from(ArticleWithCommentsDto dto){
-        String nickname = dto.userAccountDto().nickname();
-        if(nickname == null || nickname.isBlank()){
-            nickname = dto.userAccountDto().userId();
-        }
-
-        return new ArticleWithCommentsResponse(
-                dto.id(),
-                dto.title(),
-                dto.content(),
-                dto.hashtag(),
-                dto.createdAt(),
-                dto.userAccountDto().email(),
-                nickname,
-                dto.userAccountDto().userId(),
-                dto.articleCommentDtos().stream()
-                        .map(ArticleCommentResponse::from)
-                        .collect(Collectors.toCollection(LinkedHashSet::new))
-        );
-    }
-
-}
@@ -0,0 +1,20 @@
+package com.fastcampus.project_board.DTO.response;
+
+import java.util.List;
+
+/**
+ * 대량 등록 결과
+ *
+ * @param rejections 거절한 행과 그 이유. 앞에서부터 일부만 담으므로, 전체 개수는 {@code rejected}로 본다.
+ */
+public record BulkImportResponse(
+        long imported,
+        long rejected,
+        List<Rejection> rejections
+) {
+    public static BulkImportResponse of(long imported, long rejected, List<Rejection> rejections) {
+        return new BulkImportResponse(imported, rejected, rejections);
+    }
+
+    public record Rejection(long line, String reason) {}
+}
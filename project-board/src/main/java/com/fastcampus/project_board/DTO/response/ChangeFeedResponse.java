@@ -0,0 +1,25 @@
+package com.fastcampus.project_board.DTO.response;
+
+import com.fastcampus.project_board.DTO.ArticleChangeDto;
+import com.fastcampus.project_board.DTO.ArticleCommentChangeDto;
+
+import java.util.List;
+
+/**
+ * 변경 피드 한 페이지
+ *
+ * @param articles 바뀐 게시글. (modifiedAt, id) 순서이고, 삭제된 게시글은 {@code deleted = true}로 담긴다.
+ * @param articleComments 바뀐 댓글. 게시글과 같은 방식이다.
+ * @param cursor 다음 요청에 넘길 커서. 바뀐 것이 없어도 항상 채운다.
+ * @param hasMore 바로 이어서 더 읽을 변경이 있는지. false면 잠시 뒤에 같은 커서로 다시 요청한다.
+ */
+public record ChangeFeedResponse(
+        List<ArticleChangeDto> articles,
+        List<ArticleCommentChangeDto> articleComments,
+        String cursor,
+        boolean hasMore
+) {
+    public static ChangeFeedResponse of(List<ArticleChangeDto> articles, List<ArticleCommentChangeDto> articleComments, String cursor, boolean hasMore) {
+        return new ChangeFeedResponse(articles, articleComments, cursor, hasMore);
+    }
+}
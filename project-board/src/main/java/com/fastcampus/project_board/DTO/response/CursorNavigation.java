@@ -0,0 +1,22 @@
+package com.fastcampus.project_board.DTO.response;
+
+/**
+ * keyset 페이지네이션의 이전/다음 커서. 이동할 페이지가 없으면 null이다.
+ */
+public record CursorNavigation(
+        String previousCursor,
+        String nextCursor
+) {
+
+    public static CursorNavigation of(String previousCursor, String nextCursor) {
+        return new CursorNavigation(previousCursor, nextCursor);
+    }
+
+    public boolean hasPrevious() {
+        return previousCursor != null;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,16 @@
+package com.fastcampus.project_board.DTO.response;
+
+/**
+ * 사용자 콘텐츠 삭제 결과
+ *
+ * @param deletedArticleComments 사용자가 단 댓글 수. 지운 게시글에 다른 사용자가 단 댓글은 세지 않는다.
+ */
+public record ModerationResponse(
+        String userId,
+        long deletedArticles,
+        long deletedArticleComments
+) {
+    public static ModerationResponse of(String userId, long deletedArticles, long deletedArticleComments) {
+        return new ModerationResponse(userId, deletedArticles, deletedArticleComments);
+    }
+}
@@ -21,8 +21,10 @@ public record BoardPrincipal(
 ) implements UserDetails {
 
     public static BoardPrincipal of(String username, String password, String email, String nickname, String memo) {
-        Set<RoleType> roleTypes = Set.of(RoleType.USER);
+        return BoardPrincipal.of(username, password, email, nickname, memo, Set.of(RoleType.USER));
+    }
 
+    public static BoardPrincipal of(String username, String password, String email, String nickname, String memo, Set<RoleType> roleTypes) {
         return new BoardPrincipal(
                 username,
                 password,
@@ -46,6 +48,17 @@ public record BoardPrincipal(
         );
     }
 
+    public static BoardPrincipal from(UserAccountDto dto, Set<RoleType> roleTypes) {
+        return BoardPrincipal.of(
+                dto.userId(),
+                dto.userPassword(),
+                dto.email(),
+                dto.nickname(),
+                dto.memo(),
+                roleTypes
+        );
+    }
+
     public UserAccountDto toDto() {
         return UserAccountDto.of(
                 username,
@@ -93,7 +106,8 @@ public record BoardPrincipal(
     }
 
     public enum RoleType{
-        USER("ROLE_USER");
+        USER("ROLE_USER"),
+        MODERATOR("ROLE_MODERATOR");
 
         @Getter private final String name;
 
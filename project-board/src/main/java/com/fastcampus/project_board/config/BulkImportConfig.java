@@ -0,0 +1,31 @@
+package com.fastcampus.project_board.config;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class BulkImportConfig {
+
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.bulk-import")
+    public static class BulkImportProperties {
+        /**
+         * 트랜잭션 하나로 저장하는 행 수. 청크마다 커밋하고 영속성 컨텍스트를 비운다.
+         */
+        private final int chunkSize;
+        /**
+         * 응답에 담는 거절 행의 최대 개수
+         */
+        private final int maxReportedRejections;
+
+        public BulkImportProperties(@DefaultValue("1000") int chunkSize, @DefaultValue("1000") int maxReportedRejections) {
+            this.chunkSize = chunkSize;
+            this.maxReportedRejections = maxReportedRejections;
+        }
+    }
+
+}
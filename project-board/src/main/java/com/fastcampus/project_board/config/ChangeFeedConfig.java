@@ -0,0 +1,34 @@
+package com.fastcampus.project_board.config;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class ChangeFeedConfig {
+
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.change-feed")
+    public static class ChangeFeedProperties {
+        /**
+         * 최근 이 시간 안에 바뀐 행은 아직 내보내지 않는다.
+         * 수정일시는 커밋 전에 정해지므로, 늦게 커밋된 변경이 이미 지나간 커서 뒤로 끼어들지 않게 기다린다.
+         */
+        private final Duration settleTime;
+        /**
+         * 요청 한 번에 게시글/댓글마다 내보내는 최대 변경 수
+         */
+        private final int maxPageSize;
+
+        public ChangeFeedProperties(@DefaultValue("PT5S") Duration settleTime, @DefaultValue("500") int maxPageSize) {
+            this.settleTime = settleTime;
+            this.maxPageSize = maxPageSize;
+        }
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.fastcampus.project_board.config;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Set;
+
+@Configuration
+public class ModerationConfig {
+
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.moderation")
+    public static class ModerationProperties {
+        /**
+         * 모더레이터 권한을 주는 유저 ID
+         */
+        private final Set<String> moderators;
+        /**
+         * 사용자 콘텐츠를 지울 때 트랜잭션 하나로 지우는 게시글/댓글 수
+         */
+        private final int chunkSize;
+
+        public ModerationProperties(@DefaultValue Set<String> moderators, @DefaultValue("500") int chunkSize) {
+            this.moderators = moderators;
+            this.chunkSize = chunkSize;
+        }
+
+        public boolean isModerator(String userId) {
+            return moderators.contains(userId);
+        }
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.fastcampus.project_board.config;
+
+import com.fastcampus.project_board.filter.RenderedPageCacheFilter;
+import com.fastcampus.project_board.repository.index.ArticleViewCounter;
+import com.fastcampus.project_board.service.cache.RenderedPageCache;
+import lombok.Getter;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class PageCacheConfig {
+
+    @Bean
+    public FilterRegistrationBean<RenderedPageCacheFilter> renderedPageCacheFilter(RenderedPageCache renderedPageCache, ArticleViewCounter articleViewCounter) {
+        FilterRegistrationBean<RenderedPageCacheFilter> registration = new FilterRegistrationBean<>(new RenderedPageCacheFilter(renderedPageCache, articleViewCounter));
+        registration.addUrlPatterns("/articles", "/articles/*");
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1); // 로그인한 사용자를 알 수 있도록 Spring Security 다음에 둔다.
+
+        return registration;
+    }
+
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.page-cache")
+    public static class PageCacheProperties {
+        /**
+         * 렌더링한 화면과 게시글 검색 결과를 재사용할 시간. 조회수처럼 무효화하지 않는 값은 최대 이 시간의 두 배만큼 늦게 보인다.
+         * 상세 화면의 전체 게시글 수(다음 글 링크)도 무효화하지 않으므로 최대 이 시간만큼 늦게 보인다.
+         */
+        private final Duration ttl;
+        /**
+         * 캐시에 담는 최대 화면 수. 화면은 (URI + 쿼리, 로그인한 사용자)마다 따로 담는다.
+         */
+        private final int maxEntries;
+
+        public PageCacheProperties(@DefaultValue("PT30S") Duration ttl, @DefaultValue("200") int maxEntries) {
+            this.ttl = ttl;
+            this.maxEntries = maxEntries;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.fastcampus.project_board.config;
+
+import com.fastcampus.project_board.domain.constant.CountStrategy;
+import com.fastcampus.project_board.domain.constant.SearchType;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.Map;
+
+@Configuration
+public class PaginationConfig {
+
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.pagination")
+    public static class PaginationProperties {
+        /**
+         * 검색어가 없을 때, 그리고 따로 지정하지 않은 검색 타입에 쓰는 전체 개수 계산 방식
+         */
+        private final CountStrategy defaultCountStrategy;
+        /**
+         * 검색 타입별 전체 개수 계산 방식
+         */
+        private final Map<SearchType, CountStrategy> countStrategies;
+        /**
+         * SLICE 방식에서 페이지네이션 바를 채우기 위해 확인할 다음 페이지 수
+         */
+        private final int lookaheadPages;
+        /**
+         * APPROXIMATE 방식에서 캐시한 개수를 재사용할 시간
+         */
+        private final Duration approximateCountTtl;
+
+        public PaginationProperties(
+                @DefaultValue("EXACT") CountStrategy defaultCountStrategy,
+                @DefaultValue Map<SearchType, CountStrategy> countStrategies,
+                @DefaultValue("4") int lookaheadPages,
+                @DefaultValue("60s") Duration approximateCountTtl
+        ) {
+            this.defaultCountStrategy = defaultCountStrategy;
+            this.countStrategies = countStrategies;
+            this.lookaheadPages = lookaheadPages;
+            this.approximateCountTtl = approximateCountTtl;
+        }
+
+        // 검색 타입이 없으면(검색어 없이 전체 조회) 기본 방식을 쓴다.
+        public CountStrategy countStrategyOf(SearchType searchType) {
+            if (searchType == null) {
+                return defaultCountStrategy;
+            }
+            return countStrategies.getOrDefault(searchType, defaultCountStrategy);
+        }
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.fastcampus.project_board.config;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class PasswordHashingConfig {
+
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.password-hashing")
+    public static class PasswordHashingProperties {
+        /**
+         * 비밀번호 해시를 계산하는 전용 스레드 수. bcrypt는 CPU를 다 쓰므로 코어 수보다 적게 둔다.
+         */
+        private final int threads;
+        /**
+         * 스레드가 모두 바쁠 때 기다릴 수 있는 요청 수. 넘치면 기다리지 않고 바로 거절한다.
+         */
+        private final int queueCapacity;
+        /**
+         * 대기열에 들어간 요청이 결과를 기다리는 최대 시간
+         */
+        private final Duration timeout;
+        /**
+         * 한 번 확인한 (비밀번호, 해시) 조합을 다시 계산하지 않고 재사용할 시간.
+         * 길수록 메모리에 확인 결과가 오래 남으므로, 연달아 오는 요청을 묶을 만큼만 짧게 둔다.
+         */
+        private final Duration verifiedTtl;
+        /**
+         * 재사용할 확인 결과의 최대 개수
+         */
+        private final int verifiedMaxEntries;
+
+        public PasswordHashingProperties(
+                @DefaultValue("2") int threads,
+                @DefaultValue("32") int queueCapacity,
+                @DefaultValue("PT3S") Duration timeout,
+                @DefaultValue("PT1M") Duration verifiedTtl,
+                @DefaultValue("10000") int verifiedMaxEntries
+        ) {
+            this.threads = threads;
+            this.queueCapacity = queueCapacity;
+            this.timeout = timeout;
+            this.verifiedTtl = verifiedTtl;
+            this.verifiedMaxEntries = verifiedMaxEntries;
+        }
+    }
+
+}
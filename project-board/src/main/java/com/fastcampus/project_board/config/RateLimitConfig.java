@@ -0,0 +1,94 @@
+package com.fastcampus.project_board.config;
+
+import com.fastcampus.project_board.filter.WriteRateLimitFilter;
+import com.fastcampus.project_board.service.ratelimit.TokenBucketRateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.Map;
+
+@Configuration
+public class RateLimitConfig {
+
+    public static final String ARTICLE_PATH = "/articles/form";
+    public static final String ARTICLE_COMMENT_PATH = "/comments/new";
+
+    @Bean
+    public WriteRateLimitFilter writeRateLimitFilter(RateLimitProperties rateLimitProperties, MeterRegistry meterRegistry) {
+        return new WriteRateLimitFilter(
+                Map.of(
+                        ARTICLE_PATH, limiter("article", rateLimitProperties.getArticle(), rateLimitProperties, meterRegistry),
+                        ARTICLE_COMMENT_PATH, limiter("articleComment", rateLimitProperties.getArticleComment(), rateLimitProperties, meterRegistry)
+                )
+        );
+    }
+
+    @Bean
+    public FilterRegistrationBean<WriteRateLimitFilter> writeRateLimitFilterRegistration(WriteRateLimitFilter writeRateLimitFilter) {
+        FilterRegistrationBean<WriteRateLimitFilter> registration = new FilterRegistrationBean<>(writeRateLimitFilter);
+        registration.addUrlPatterns("/articles/*", "/comments/*"); // 끝에 슬래시가 붙은 경로도 필터를 거치도록 넓게 걸고, 필터에서 경로를 맞춰 본다.
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1); // 로그인한 사용자를 알 수 있도록 Spring Security 다음에 둔다.
+
+        return registration;
+    }
+
+    private static TokenBucketRateLimiter limiter(String name, RateLimitProperties.Limit limit, RateLimitProperties rateLimitProperties, MeterRegistry meterRegistry) {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(limit.getCapacity(), limit.getRefillInterval(), rateLimitProperties.getMaxBuckets());
+        limiter.bindTo(meterRegistry, name);
+        return limiter;
+    }
+
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.rate-limit")
+    public static class RateLimitProperties {
+        /**
+         * 게시글 작성 한도
+         */
+        private final Limit article;
+        /**
+         * 댓글 작성 한도
+         */
+        private final Limit articleComment;
+        /**
+         * 한도마다 기억하는 최대 사용자 수. 넘치면 꽉 찬(한동안 쓰지 않은) 버킷부터 지운다.
+         */
+        private final int maxBuckets;
+
+        public RateLimitProperties(
+                @DefaultValue Limit article,
+                @DefaultValue Limit articleComment,
+                @DefaultValue("100000") int maxBuckets
+        ) {
+            this.article = article;
+            this.articleComment = articleComment;
+            this.maxBuckets = maxBuckets;
+        }
+
+        @Getter
+        public static class Limit {
+            /**
+             * 한 번에 몰아서 쓸 수 있는 요청 수(버킷 크기)
+             */
+            private final int capacity;
+            /**
+             * 토큰 하나가 다시 차는 간격
+             */
+            private final Duration refillInterval;
+
+            public Limit(@DefaultValue("10") int capacity, @DefaultValue("PT6S") Duration refillInterval) {
+                this.capacity = capacity;
+                this.refillInterval = refillInterval;
+            }
+        }
+    }
+
+}
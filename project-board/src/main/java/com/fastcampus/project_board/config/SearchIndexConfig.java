@@ -0,0 +1,66 @@
+package com.fastcampus.project_board.config;
+
+import com.fastcampus.project_board.repository.index.NGramTokenizer;
+import com.fastcampus.project_board.repository.index.Tokenizer;
+import com.fastcampus.project_board.repository.index.WordTokenizer;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Configuration
+public class SearchIndexConfig {
+
+    @Bean
+    public Tokenizer searchIndexTokenizer(SearchIndexProperties searchIndexProperties) {
+        return switch (searchIndexProperties.getTokenizer()) {
+            case WORD -> new WordTokenizer();
+            case NGRAM -> new NGramTokenizer(searchIndexProperties.getNgramSize());
+        };
+    }
+
+    public enum TokenizerType { WORD, NGRAM }
+
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.search")
+    public static class SearchIndexProperties {
+        /**
+         * 제목/본문 색인 tokenizer (word: 단어 단위, ngram: 글자 n-gram 단위 "포함" 검색)
+         */
+        private final TokenizerType tokenizer;
+        /**
+         * ngram tokenizer의 gram 크기
+         */
+        private final int ngramSize;
+        /**
+         * 검색 색인과 게시글 작성일시 색인을 테이블로부터 다시 만드는 주기.
+         * 색인은 인스턴스마다 메모리에 따로 들고 있으므로, 여러 인스턴스로 띄우면 다른 인스턴스에서 저장/수정/삭제한 게시글은
+         * 이 주기만큼 늦게 검색 결과에 반영된다.
+         */
+        private final Duration reconcileInterval;
+        /**
+         * 제목/본문 색인이 쓸 수 있는 메모리의 추정치 상한. 재구성하다 넘으면 색인을 버리고 DB 조회로 검색한다.
+         * 재구성 사이에 늘어난 만큼은 다음 재구성 때 확인한다.
+         */
+        private final DataSize maxSize;
+
+        public SearchIndexProperties(
+                @DefaultValue("NGRAM") TokenizerType tokenizer,
+                @DefaultValue("2") int ngramSize,
+                @DefaultValue("PT10M") Duration reconcileInterval,
+                @DefaultValue("256MB") DataSize maxSize
+        ) {
+            this.tokenizer = tokenizer;
+            this.ngramSize = ngramSize;
+            this.reconcileInterval = reconcileInterval;
+            this.maxSize = maxSize;
+        }
+    }
+
+}
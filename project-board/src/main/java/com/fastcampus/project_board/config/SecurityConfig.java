@@ -2,7 +2,14 @@ package com.fastcampus.project_board.config;
 
 import com.fastcampus.project_board.DTO.UserAccountDto;
 import com.fastcampus.project_board.DTO.security.BoardPrincipal;
+import com.fastcampus.project_board.DTO.security.BoardPrincipal.RoleType;
+import com.fastcampus.project_board.config.ModerationConfig.ModerationProperties;
+import com.fastcampus.project_board.config.PasswordHashingConfig.PasswordHashingProperties;
 import com.fastcampus.project_board.repository.UserAccountRepository;
+import com.fastcampus.project_board.service.cache.UserAccountCache;
+import com.fastcampus.project_board.service.security.BulkheadPasswordEncoder;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -11,9 +18,10 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.factory.PasswordEncoderFactories;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 
+import java.util.Set;
+
 @Configuration
 public class SecurityConfig {
 
@@ -28,9 +36,18 @@ public class SecurityConfig {
                                 "/articles",
                                 "/articles/search-hashtag"
                         ).permitAll()
+                        .requestMatchers(EndpointRequest.to(HealthEndpoint.class)).permitAll()
+                        .requestMatchers(EndpointRequest.toAnyEndpoint()).hasRole("MODERATOR") // 지표는 운영자만 본다.
+                        .mvcMatchers("/api/moderation/**").hasRole("MODERATOR")
+                        .mvcMatchers("/api/import/**").hasRole("MODERATOR") // 행마다 작성자를 지정하므로, 아무나 부르면 다른 사용자로 글을 쓸 수 있다.
+                        .mvcMatchers("/api/export/**").hasRole("MODERATOR") // 게시판 전체를 한 번에 내려받는다.
                         .anyRequest().authenticated()
                 )
                 .formLogin().and()
+                .httpBasic().and() // 대량 등록처럼 브라우저 밖에서 부르는 API용
+                // 대량 등록은 NDJSON/CSV 본문만 받는다. 브라우저 폼으로는 보낼 수 없는(preflight가 필요한) 형식이므로 CSRF 토큰을 요구하지 않는다.
+                // 모더레이터 API는 DELETE라서 마찬가지로 폼으로는 보낼 수 없다.
+                .csrf(csrf -> csrf.ignoringAntMatchers("/api/import/**", "/api/moderation/**"))
                 .logout()
                     .logoutSuccessUrl("/")
                     .and()
@@ -38,17 +55,24 @@ public class SecurityConfig {
     }
 
     @Bean
-    public UserDetailsService userDetailsService(UserAccountRepository userAccountRepository) {
-        return username -> userAccountRepository
-                .findById(username)
-                .map(UserAccountDto::from)
-                .map(BoardPrincipal::from)
+    public UserDetailsService userDetailsService(
+            UserAccountRepository userAccountRepository,
+            UserAccountCache userAccountCache,
+            ModerationProperties moderationProperties
+    ) {
+        // 역할을 저장하는 컬럼이 없으므로, 모더레이터는 설정(board.moderation.moderators)으로 정한다.
+        return username -> userAccountCache
+                .get(username, userId -> userAccountRepository.findById(userId).map(UserAccountDto::from))
+                .map(dto -> BoardPrincipal.from(dto, moderationProperties.isModerator(dto.userId())
+                        ? Set.of(RoleType.USER, RoleType.MODERATOR)
+                        : Set.of(RoleType.USER)))
                 .orElseThrow(() -> new UsernameNotFoundException("유저를 찾을 수 없습니다. - username: " + username));
     }
 
+    // bcrypt 계산은 전용 스레드 풀에서만 해서, 로그인이 몰려도 게시글 요청을 처리할 Tomcat 스레드와 CPU를 모두 차지하지 않게 한다.
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+    public BulkheadPasswordEncoder passwordEncoder(PasswordHashingProperties passwordHashingProperties) {
+        return new BulkheadPasswordEncoder(PasswordEncoderFactories.createDelegatingPasswordEncoder(), passwordHashingProperties);
     }
 
 }
@@ -0,0 +1,42 @@
+package com.fastcampus.project_board.config;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class TombstonePurgeConfig {
+
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.tombstone-purge")
+    public static class TombstonePurgeProperties {
+        /**
+         * 삭제 표시한 뒤 행을 남겨 두는 기간
+         */
+        private final Duration retention;
+        /**
+         * 트랜잭션 하나로 지우는 행 수
+         */
+        private final int batchSize;
+        /**
+         * 한 번 실행할 때 테이블마다 지우는 최대 배치 수. 남은 행은 다음 실행에서 이어서 지운다.
+         */
+        private final int maxBatchesPerRun;
+
+        public TombstonePurgeProperties(
+                @DefaultValue("P1D") Duration retention,
+                @DefaultValue("500") int batchSize,
+                @DefaultValue("100") int maxBatchesPerRun
+        ) {
+            this.retention = retention;
+            this.batchSize = batchSize;
+            this.maxBatchesPerRun = maxBatchesPerRun;
+        }
+    }
+
+}
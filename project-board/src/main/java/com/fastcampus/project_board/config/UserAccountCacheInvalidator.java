@@ -0,0 +1,46 @@
+package com.fastcampus.project_board.config;
+
+import com.fastcampus.project_board.domain.UserAccount;
+import com.fastcampus.project_board.service.cache.UserAccountCache;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * {@link UserAccount}가 수정/삭제되면 {@link UserAccountCache}에서 지우는 Hibernate 이벤트 리스너.
+ * <p>
+ * 도메인 엔티티가 캐시를 알지 않도록, 엔티티 리스너 대신 {@link UserCacheConfig}에서 Hibernate에 등록한다.
+ * 캐시는 인스턴스마다 따로 있으므로, 다른 인스턴스는 TTL이 지나야 바뀐 사용자 정보를 읽는다.
+ */
+public class UserAccountCacheInvalidator implements PostUpdateEventListener, PostDeleteEventListener {
+
+    private final UserAccountCache userAccountCache;
+
+    public UserAccountCacheInvalidator(UserAccountCache userAccountCache) {
+        this.userAccountCache = userAccountCache;
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        invalidate(event.getEntity());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        invalidate(event.getEntity());
+    }
+
+    // 캐시가 커밋 후에 지우므로, Hibernate의 커밋 후 처리는 필요 없다.
+    @Override
+    public boolean requiresPostCommitHanding(EntityPersister persister) {
+        return false;
+    }
+
+    private void invalidate(Object entity) {
+        if (entity instanceof UserAccount userAccount) {
+            userAccountCache.invalidate(userAccount.getUserId());
+        }
+    }
+}
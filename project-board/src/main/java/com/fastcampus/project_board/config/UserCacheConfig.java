@@ -0,0 +1,50 @@
+package com.fastcampus.project_board.config;
+
+import com.fastcampus.project_board.service.cache.UserAccountCache;
+import lombok.Getter;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.Duration;
+
+@Configuration
+public class UserCacheConfig {
+
+    @Bean
+    public UserAccountCacheInvalidator userAccountCacheInvalidator(EntityManagerFactory entityManagerFactory, UserAccountCache userAccountCache) {
+        UserAccountCacheInvalidator invalidator = new UserAccountCacheInvalidator(userAccountCache);
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_UPDATE, invalidator);
+        registry.appendListeners(EventType.POST_DELETE, invalidator);
+        return invalidator;
+    }
+
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("board.user-cache")
+    public static class UserCacheProperties {
+        /**
+         * 읽어 온 사용자 정보를 재사용할 시간
+         */
+        private final Duration ttl;
+        /**
+         * 캐시에 담는 최대 사용자 수
+         */
+        private final int maxEntries;
+
+        public UserCacheProperties(@DefaultValue("PT5M") Duration ttl, @DefaultValue("10000") int maxEntries) {
+            this.ttl = ttl;
+            this.maxEntries = maxEntries;
+        }
+    }
+
+}
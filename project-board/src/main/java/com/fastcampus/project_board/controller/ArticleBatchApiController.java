@@ -0,0 +1,41 @@
+package com.fastcampus.project_board.controller;
+
+import com.fastcampus.project_board.DTO.response.ArticleBatchResponse;
+import com.fastcampus.project_board.service.ArticleService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.rest.webmvc.RepositoryRestController;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Data REST의 게시글 리소스에 여러 게시글 한 번에 조회({@code /api/articles/batch?ids=1,2,3})를 더한다.
+ * <p>
+ * 게시글마다 {@code /api/articles/{id}}를 따로 부르지 않고, 트랜잭션 하나에서 IN 조회 한 번으로 읽는다.
+ * 결과는 요청한 ID 순서를 따르고, 같은 ID는 한 번만 담는다. 없는 게시글 ID는 {@code notFound}로 알려준다.
+ */
+@RequiredArgsConstructor
+@RepositoryRestController
+public class ArticleBatchApiController {
+
+    private static final int MAX_IDS = 100;
+
+    private final ArticleService articleService;
+
+    @GetMapping("/articles/batch")
+    public ResponseEntity<ArticleBatchResponse> articles(@RequestParam List<Long> ids) {
+        Set<Long> articleIds = new LinkedHashSet<>(ids);
+        articleIds.remove(null);
+        if (articleIds.size() > MAX_IDS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "한 번에 조회할 수 있는 게시글은 " + MAX_IDS + "개까지입니다 - ids: " + articleIds.size());
+        }
+
+        return ResponseEntity.ok(ArticleBatchResponse.of(articleIds, articleService.getArticles(articleIds)));
+    }
+}
@@ -1,23 +1,31 @@
 package com.fastcampus.project_board.controller;
 
+import com.fastcampus.project_board.DTO.ArticleCommentCursor;
+import com.fastcampus.project_board.DTO.ArticleCursor;
+import com.fastcampus.project_board.DTO.ArticleDetailDto;
 import com.fastcampus.project_board.DTO.UserAccountDto;
 import com.fastcampus.project_board.DTO.request.ArticleRequest;
+import com.fastcampus.project_board.DTO.response.ArticleCommentResponse;
 import com.fastcampus.project_board.DTO.response.ArticleResponse;
-import com.fastcampus.project_board.DTO.response.ArticleWithCommentsResponse;
 import com.fastcampus.project_board.DTO.security.BoardPrincipal;
 import com.fastcampus.project_board.domain.constant.FormStatus;
 import com.fastcampus.project_board.domain.constant.SearchType;
+import com.fastcampus.project_board.service.ArticleCommentService;
 import com.fastcampus.project_board.service.ArticleService;
 import com.fastcampus.project_board.service.PaginationService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.ModelMap;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
 
@@ -25,16 +33,31 @@ import java.util.List;
 @RequestMapping("/articles")
 @Controller
 public class ArticleController {
+    private static final int COMMENT_PAGE_SIZE = 20;
+
     private final ArticleService articleService;
+    private final ArticleCommentService articleCommentService;
     private final PaginationService paginationService;
 
     @GetMapping
     public String articles(
             @RequestParam(required = false) SearchType searchType,
             @RequestParam(required = false) String searchValue,
+            @RequestParam(required = false) String cursor,
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
             ModelMap map
     ){
+        if(cursor != null){ // 커서가 있으면(빈 값 포함) keyset 페이지네이션으로 조회한다.
+            ArticleCursor articleCursor = ArticleCursor.decode(cursor);
+            Slice<ArticleResponse> articles = articleService.searchArticles(searchType, searchValue, articleCursor, pageable.getPageSize()).map(ArticleResponse::from);
+
+            map.addAttribute("articles", articles);
+            map.addAttribute("cursorNavigation", paginationService.getCursorNavigation(articleCursor, articles));
+            map.addAttribute("searchTypes", SearchType.values());
+
+            return "articles/index";
+        }
+
         Page<ArticleResponse> articles = articleService.searchArticles(searchType, searchValue, pageable).map(ArticleResponse::from);
         List<Integer> barNumbers = paginationService.getPaginationBarNumbers(pageable.getPageNumber(), articles.getTotalPages());
 
@@ -45,23 +68,66 @@ public class ArticleController {
         return "articles/index";
     }
 
+    // 댓글은 한 번에 COMMENT_PAGE_SIZE개씩 보여주고, 더보기는 커서로 다음 댓글 조각(articleComments)을 요청해서 뒤에 붙인다.
     @GetMapping("/{articleId}")
-    public String article(@PathVariable Long articleId, ModelMap map){
-        ArticleWithCommentsResponse article = ArticleWithCommentsResponse.from(articleService.getArticleWithComments(articleId));
+    public String article(
+            @PathVariable Long articleId,
+            @RequestParam(required = false) String commentCursor,
+            ModelMap map
+    ){
+        ArticleDetailDto articleDetail = articleService.getArticleDetail(articleId, ArticleCommentCursor.decode(commentCursor), COMMENT_PAGE_SIZE);
+        ArticleResponse article = ArticleResponse.from(articleDetail.article());
+        Slice<ArticleCommentResponse> articleComments = articleDetail.articleComments().map(ArticleCommentResponse::from);
 
         map.addAttribute("article", article);
-        map.addAttribute("articleComments", article.articleCommentsResponse());
-        map.addAttribute("totalCount", articleService.getArticleCount());
+        map.addAttribute("articleId", articleId);
+        map.addAttribute("articleComments", articleComments);
+        map.addAttribute("nextCommentCursor", nextCommentCursor(articleComments));
+        map.addAttribute("totalCount", articleDetail.totalCount());
 
         return "articles/detail";
     }
 
+    /**
+     * 댓글 더보기용. 상세 화면 전체를 다시 그리지 않고, 상세 템플릿의 댓글 목록 부분만 다음 페이지로 렌더링한다.
+     * 게시글 조회수는 세지 않는다.
+     */
+    @GetMapping("/{articleId}/comments")
+    public String articleComments(
+            @PathVariable Long articleId,
+            @RequestParam(required = false) String commentCursor,
+            ModelMap map
+    ){
+        Slice<ArticleCommentResponse> articleComments = articleCommentService
+                .searchArticleComments(articleId, ArticleCommentCursor.decode(commentCursor), COMMENT_PAGE_SIZE)
+                .map(ArticleCommentResponse::from);
+
+        map.addAttribute("articleId", articleId);
+        map.addAttribute("articleComments", articleComments);
+        map.addAttribute("nextCommentCursor", nextCommentCursor(articleComments));
+
+        return "articles/detail :: #article-comment-list";
+    }
+
     @GetMapping("/search-hashtag")
     public String searchArticleHashtag(
             @RequestParam(required = false) String searchValue,
+            @RequestParam(required = false) String cursor,
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
             ModelMap map
     ){
+        if(cursor != null){
+            ArticleCursor articleCursor = ArticleCursor.decode(cursor);
+            Slice<ArticleResponse> articles = articleService.searchArticlesViaHashtag(searchValue, articleCursor, pageable.getPageSize()).map(ArticleResponse::from);
+
+            map.addAttribute("articles", articles);
+            map.addAttribute("hashtags", articleService.getHashtags());
+            map.addAttribute("cursorNavigation", paginationService.getCursorNavigation(articleCursor, articles));
+            map.addAttribute("searchType", SearchType.HASHTAG);
+
+            return "articles/search-hashtag";
+        }
+
         Page<ArticleResponse> articles = articleService.searchArticlesViaHashtag(searchValue, pageable).map(ArticleResponse::from);
         List<Integer> barNumbers = paginationService.getPaginationBarNumbers(pageable.getPageNumber(), articles.getTotalPages());
         List<String> hashtags = articleService.getHashtags();
@@ -84,7 +150,7 @@ public class ArticleController {
 
     @PostMapping("/form")
     public String postNewArticle(
-            @PathVariable BoardPrincipal boardPrincipal,
+            @AuthenticationPrincipal BoardPrincipal boardPrincipal,
             ArticleRequest articleRequest){
 
         articleService.saveArticle(articleRequest.toDto(boardPrincipal.toDto()));
@@ -107,7 +173,11 @@ public class ArticleController {
             @AuthenticationPrincipal BoardPrincipal boardPrincipal,
             @PathVariable Long articleId,
             ArticleRequest articleRequest) {
-        articleService.updateArticle(articleId, articleRequest.toDto(boardPrincipal.toDto()));
+        try {
+            articleService.updateArticle(articleId, articleRequest.toDto(boardPrincipal.toDto()));
+        } catch (OptimisticLockingFailureException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "다른 요청이 먼저 게시글을 수정했습니다. 다시 시도해 주세요.", e);
+        }
 
         return "redirect:/articles/" + articleId;
     }
@@ -121,4 +191,12 @@ public class ArticleController {
 
         return "redirect:/articles";
     }
+
+    private String nextCommentCursor(Slice<ArticleCommentResponse> articleComments) {
+        if(!articleComments.hasNext()){
+            return null;
+        }
+        ArticleCommentResponse last = articleComments.getContent().get(articleComments.getNumberOfElements() - 1);
+        return ArticleCommentCursor.after(last.createdAt(), last.id()).encode();
+    }
 }
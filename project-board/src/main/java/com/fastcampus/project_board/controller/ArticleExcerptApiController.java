@@ -0,0 +1,71 @@
+package com.fastcampus.project_board.controller;
+
+import com.fastcampus.project_board.DTO.response.ArticleExcerptResponse;
+import com.fastcampus.project_board.domain.Article;
+import com.fastcampus.project_board.repository.ArticleRepository;
+import com.querydsl.core.types.Predicate;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.querydsl.binding.QuerydslBindingsFactory;
+import org.springframework.data.querydsl.binding.QuerydslPredicateBuilder;
+import org.springframework.data.rest.webmvc.RepositoryRestController;
+import org.springframework.data.rest.webmvc.support.RepositoryEntityLinks;
+import org.springframework.data.util.ClassTypeInformation;
+import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+/**
+ * Data REST의 게시글 목록({@code /api/articles})을 요약으로 대신 내보낸다.
+ * <p>
+ * 목록에서는 본문(최대 10,000자)과 댓글을 읽지 않고, 요약 컬럼과 작성자 닉네임, 댓글 수만 SQL에서 DTO로 바로 읽는다.
+ * 검색 조건({@code ?title=...} 등)은 {@link ArticleRepository#customize}의 Querydsl 바인딩을 그대로 따른다.
+ * 본문까지 담은 게시글은 단건 리소스({@code /api/articles/{id}})로 조회한다.
+ */
+@RepositoryRestController
+public class ArticleExcerptApiController {
+
+    private final ArticleRepository articleRepository;
+    private final QuerydslBindingsFactory querydslBindingsFactory;
+    private final QuerydslPredicateBuilder querydslPredicateBuilder;
+    private final RepositoryEntityLinks entityLinks;
+
+    public ArticleExcerptApiController(
+            ArticleRepository articleRepository,
+            QuerydslBindingsFactory querydslBindingsFactory,
+            @Qualifier("mvcConversionService") ConversionService conversionService,
+            RepositoryEntityLinks entityLinks
+    ) {
+        this.articleRepository = articleRepository;
+        this.querydslBindingsFactory = querydslBindingsFactory;
+        this.querydslPredicateBuilder = new QuerydslPredicateBuilder(conversionService, querydslBindingsFactory.getEntityPathResolver());
+        this.entityLinks = entityLinks;
+    }
+
+    @GetMapping("/articles")
+    public ResponseEntity<PagedModel<?>> articles(
+            @RequestParam MultiValueMap<String, String> parameters,
+            Pageable pageable,
+            PagedResourcesAssembler<ArticleExcerptResponse> pagedResourcesAssembler
+    ) {
+        Predicate predicate = querydslPredicateBuilder.getPredicate(
+                ClassTypeInformation.from(Article.class),
+                parameters,
+                querydslBindingsFactory.createBindingsFor(ClassTypeInformation.from(Article.class))
+        );
+        Page<ArticleExcerptResponse> articles = articleRepository.findExcerpts(predicate, pageable).map(ArticleExcerptResponse::from);
+        if (articles.isEmpty()) {
+            return ResponseEntity.ok(pagedResourcesAssembler.toEmptyModel(articles, ArticleExcerptResponse.class));
+        }
+
+        return ResponseEntity.ok(pagedResourcesAssembler.toModel(articles, article ->
+                EntityModel.of(article, entityLinks.linkToItemResource(Article.class, article.id()).withSelfRel())
+        ));
+    }
+}
@@ -0,0 +1,75 @@
+package com.fastcampus.project_board.controller;
+
+import com.fastcampus.project_board.domain.Article;
+import com.fastcampus.project_board.repository.ArticleRepository;
+import com.fastcampus.project_board.repository.index.ArticleTimeline;
+import com.fastcampus.project_board.repository.index.HashtagIndex;
+import com.fastcampus.project_board.repository.index.HashtagQuery;
+import lombok.RequiredArgsConstructor;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.rest.webmvc.PersistentEntityResourceAssembler;
+import org.springframework.data.rest.webmvc.RepositoryRestController;
+import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
+
+/**
+ * Data REST의 게시글 검색 리소스({@code /api/articles/search/...})에 해시태그 검색식 검색을 더한다.
+ * 검색식은 {@code ?query=#java AND #spring NOT #legacy} 처럼 넘긴다.
+ */
+@RequiredArgsConstructor
+@RepositoryRestController
+public class ArticleHashtagApiController {
+
+    private final ArticleRepository articleRepository;
+    private final HashtagIndex hashtagIndex;
+    private final ArticleTimeline articleTimeline;
+
+    @GetMapping("/articles/search/hashtag")
+    public ResponseEntity<PagedModel<?>> searchArticlesViaHashtag(
+            @RequestParam String query,
+            Pageable pageable,
+            PagedResourcesAssembler<Object> pagedResourcesAssembler,
+            PersistentEntityResourceAssembler entityAssembler
+    ){
+        Page<Object> articles = findArticles(query, pageable).map(Object.class::cast);
+        if(articles.isEmpty()){
+            return ResponseEntity.ok(pagedResourcesAssembler.toEmptyModel(articles, Article.class));
+        }
+        return ResponseEntity.ok(pagedResourcesAssembler.toModel(articles, entityAssembler));
+    }
+
+    // 비트맵에서 요청한 페이지의 게시글만 읽고, 전체 개수는 비트맵의 개수로 한다.
+    // 색인이 준비되기 전(기동 직후)에는 DB에서 검색식에 걸리는 ID를 구해서, 그 ID를 청크로 나눠 DB에서 정렬한다.
+    private Page<Article> findArticles(String query, Pageable pageable) {
+        if(!hashtagIndex.isReady()){
+            List<Long> articleIds = articleRepository.findIdsByHashtagQuery(HashtagQuery.parse(query));
+            if(articleIds.isEmpty()){
+                return Page.empty(pageable);
+            }
+            return new PageImpl<>(articleRepository.findPageByIdIn(articleIds.stream().mapToLong(Long::longValue), pageable), pageable, articleIds.size());
+        }
+
+        RoaringBitmap articleIds = hashtagIndex.search(HashtagQuery.parse(query));
+        if(articleIds.isEmpty()){
+            return Page.empty(pageable);
+        }
+        return new PageImpl<>(findPage(articleIds, pageable), pageable, articleIds.getLongCardinality());
+    }
+
+    // 작성일시/ID 순서면 메모리에서 페이지의 ID만 골라서 읽고, 그 밖의 정렬은 ID를 청크로 나눠 DB에서 정렬한다.
+    private List<Article> findPage(RoaringBitmap articleIds, Pageable pageable) {
+        if(articleTimeline.supports(pageable.getSort())){
+            List<Long> pageIds = articleTimeline.page(articleIds.stream().asLongStream(), pageable.getSort(), pageable.getOffset(), pageable.getPageSize());
+            return articleRepository.findAllInOrder(pageIds);
+        }
+        return articleRepository.findPageByIdIn(articleIds.stream().asLongStream(), pageable);
+    }
+}
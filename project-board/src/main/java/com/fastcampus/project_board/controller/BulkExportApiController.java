@@ -0,0 +1,35 @@
+package com.fastcampus.project_board.controller;
+
+import com.fastcampus.project_board.service.ArticleExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 게시판 전체 내보내기 API. 모더레이터 권한({@code board.moderation.moderators})이 있어야 부를 수 있다.
+ * <p>
+ * 게시글 하나와 그 댓글을 한 줄로 하는 NDJSON을 응답에 바로 쓴다. 요청 스레드에서 끝까지 쓰므로 비동기 요청 timeout에 걸리지 않는다.
+ */
+@RequiredArgsConstructor
+@RequestMapping("/api/export")
+@RestController
+public class BulkExportApiController {
+
+    private final ArticleExportService articleExportService;
+
+    @GetMapping("/articles")
+    public void exportArticles(HttpServletResponse response) throws IOException {
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename("articles.ndjson").build().toString());
+
+        articleExportService.exportArticles(response.getOutputStream());
+    }
+}
@@ -0,0 +1,62 @@
+package com.fastcampus.project_board.controller;
+
+import com.fastcampus.project_board.DTO.request.ArticleCommentImportRow;
+import com.fastcampus.project_board.DTO.request.ArticleImportRow;
+import com.fastcampus.project_board.DTO.response.BulkImportResponse;
+import com.fastcampus.project_board.service.BulkImportService;
+import com.fastcampus.project_board.service.importer.ImportRowReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 게시글/댓글 대량 등록 API. 모더레이터 권한({@code board.moderation.moderators})이 있어야 부를 수 있다.
+ * <p>
+ * 요청 본문은 NDJSON({@code application/x-ndjson}, 한 줄에 JSON 하나) 또는 헤더가 있는 CSV({@code text/csv})로 보낸다.
+ * 본문을 버퍼에 모으지 않고 읽는 대로 청크 단위로 저장한다.
+ * <ul>
+ *     <li>게시글: {@code userId, title, content, hashtag}</li>
+ *     <li>댓글: {@code articleId, userId, content}</li>
+ * </ul>
+ */
+@RequiredArgsConstructor
+@RequestMapping("/api/import")
+@RestController
+public class BulkImportApiController {
+
+    private final BulkImportService bulkImportService;
+    private final ObjectMapper objectMapper;
+
+    @PostMapping(value = "/articles", consumes = {"application/x-ndjson", "text/csv"})
+    public BulkImportResponse importArticles(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body
+    ) throws IOException {
+        return bulkImportService.importArticles(ImportRowReader.of(contentType, reader(contentType, body), objectMapper, ArticleImportRow.class));
+    }
+
+    @PostMapping(value = "/article-comments", consumes = {"application/x-ndjson", "text/csv"})
+    public BulkImportResponse importArticleComments(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body
+    ) throws IOException {
+        return bulkImportService.importArticleComments(ImportRowReader.of(contentType, reader(contentType, body), objectMapper, ArticleCommentImportRow.class));
+    }
+
+    private static Reader reader(MediaType contentType, InputStream body) {
+        Charset charset = contentType.getCharset() == null ? StandardCharsets.UTF_8 : contentType.getCharset();
+        return new InputStreamReader(body, charset);
+    }
+}
@@ -0,0 +1,40 @@
+package com.fastcampus.project_board.controller;
+
+import com.fastcampus.project_board.DTO.ChangeFeedCursor;
+import com.fastcampus.project_board.DTO.response.ChangeFeedResponse;
+import com.fastcampus.project_board.service.ChangeFeedService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 게시글/댓글 변경 피드 API
+ * <p>
+ * 처음에는 커서 없이 부르고, 이후에는 응답의 {@code cursor}를 그대로 넘긴다. {@code hasMore}가 false가 될 때까지 이어서 부르면 된다.
+ */
+@RequiredArgsConstructor
+@RequestMapping("/api/changes")
+@RestController
+public class ChangeFeedApiController {
+
+    private final ChangeFeedService changeFeedService;
+
+    @GetMapping
+    public ChangeFeedResponse changes(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int size
+    ) {
+        ChangeFeedCursor changeFeedCursor;
+        try {
+            changeFeedCursor = ChangeFeedCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+
+        return changeFeedService.getChanges(changeFeedCursor, size);
+    }
+}
@@ -0,0 +1,25 @@
+package com.fastcampus.project_board.controller;
+
+import com.fastcampus.project_board.DTO.response.ModerationResponse;
+import com.fastcampus.project_board.service.ModerationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 모더레이터 API. 모더레이터 권한({@code board.moderation.moderators})이 있어야 부를 수 있다.
+ */
+@RequiredArgsConstructor
+@RequestMapping("/api/moderation")
+@RestController
+public class ModerationApiController {
+
+    private final ModerationService moderationService;
+
+    @DeleteMapping("/users/{userId}/contents")
+    public ModerationResponse deleteContents(@PathVariable String userId) {
+        return moderationService.deleteContentsOf(userId);
+    }
+}
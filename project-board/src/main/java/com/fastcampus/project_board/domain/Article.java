@@ -3,6 +3,10 @@ package com.fastcampus.project_board.domain;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.SQLDelete;
+import org.hibernate.annotations.Where;
 
 import javax.persistence.*;
 import java.util.LinkedHashSet;
@@ -15,22 +19,35 @@ import java.util.Set;
         @Index(columnList = "title"),
         @Index(columnList = "hashtag"),
         @Index(columnList = "createdAt"),
-        @Index(columnList = "createdBy")
+        @Index(columnList = "createdBy"),
+        @Index(columnList = "deleted, deletedAt"), // tombstone 정리
+        @Index(columnList = "modifiedAt, id") // 변경 피드
 })
+@DynamicUpdate // 바뀐 컬럼만 UPDATE 한다.
+@SQLDelete(sql = "update article set deleted = true, deleted_at = current_timestamp, modified_at = current_timestamp where id = ? and version = ?")
+@Where(clause = "deleted = false")
 @Entity
-public class Article extends AuditingFields{
+public class Article extends SoftDeletableFields {
 
+    // IDENTITY는 INSERT를 해야 ID를 알 수 있어서 JDBC batch가 꺼진다. 테이블에서 ID를 100개씩 미리 받아 쓴다. (pooled-lo)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "article_id")
+    @TableGenerator(name = "article_id", table = "id_generator", pkColumnName = "sequence_name", valueColumnName = "next_val", pkColumnValue = "article", allocationSize = 100)
     private Long id; // JPA persistence context가 영속화를 할 때 자동으로 부여하는 고유 번호
 
-    @Setter @ManyToOne(optional = false) @JoinColumn(name = "userId") private UserAccount userAccount; // 유저 정보(ID)
+    // 동시 수정은 행 잠금을 기다리지 않고, 버전이 다르면 바로 실패시킨다.
+    @Version @ColumnDefault("0") @Column(nullable = false) private long version;
+
+    @Setter @ManyToOne(optional = false, fetch = FetchType.LAZY) @JoinColumn(name = "userId") private UserAccount userAccount; // 유저 정보(ID), 목록에서는 batch fetch로 모아서 읽는다.
 
     @Setter @Column(nullable = false) private String title; // 제목
     @Setter @Column(nullable = false, length = 10000) private String content; // 본문
 
     @Setter private String hashtag; // 해시태그
 
+    // 조회수. 엔티티를 수정할 때 낡은 값으로 덮어쓰지 않도록 UPDATE 대상에서 빼고, ArticleViewCounter가 증가분만 모아서 더한다.
+    @ColumnDefault("0") @Column(nullable = false, updatable = false) private long viewCount = 0;
+
     @ToString.Exclude // 퍼포먼스나 메모리 저하 발생을 방지, 순환 참조를 방지
     @OrderBy("createdAt DESC")
     @OneToMany(mappedBy = "article", cascade = CascadeType.ALL)
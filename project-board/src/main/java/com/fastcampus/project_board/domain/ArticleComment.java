@@ -3,6 +3,10 @@ package com.fastcampus.project_board.domain;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.SQLDelete;
+import org.hibernate.annotations.Where;
 
 import javax.persistence.*;
 import java.util.Objects;
@@ -12,16 +16,25 @@ import java.util.Objects;
 @Table(indexes = {
         @Index(columnList = "content"),
         @Index(columnList = "createdAt"),
-        @Index(columnList = "createdBy")
+        @Index(columnList = "createdBy"),
+        @Index(columnList = "article_id, createdAt"), // 게시글별 댓글 keyset 페이지네이션
+        @Index(columnList = "deleted, deletedAt"), // tombstone 정리
+        @Index(columnList = "modifiedAt, id") // 변경 피드
 })
+@DynamicUpdate // 바뀐 컬럼만 UPDATE 한다.
+@SQLDelete(sql = "update article_comment set deleted = true, deleted_at = current_timestamp, modified_at = current_timestamp where id = ? and version = ?")
+@Where(clause = "deleted = false")
 @Entity
-public class ArticleComment extends AuditingFields{
+public class ArticleComment extends SoftDeletableFields {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "article_comment_id")
+    @TableGenerator(name = "article_comment_id", table = "id_generator", pkColumnName = "sequence_name", valueColumnName = "next_val", pkColumnValue = "article_comment", allocationSize = 100)
     private Long id;
 
-    @Setter @ManyToOne(optional = false) private Article article; // 게시글 (ID)
-    @Setter @ManyToOne(optional = false) @JoinColumn(name = "userId") private UserAccount userAccount; // 유저 정보(ID)
+    @Version @ColumnDefault("0") @Column(nullable = false) private long version; // 동시 수정은 버전이 다르면 바로 실패시킨다.
+
+    @Setter @ManyToOne(optional = false, fetch = FetchType.LAZY) private Article article; // 게시글 (ID)
+    @Setter @ManyToOne(optional = false, fetch = FetchType.LAZY) @JoinColumn(name = "userId") private UserAccount userAccount; // 유저 정보(ID)
     @Setter @Column(nullable = false, length = 500) private String content; // 본문
 
 
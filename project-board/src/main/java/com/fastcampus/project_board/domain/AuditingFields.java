@@ -12,7 +12,9 @@ import org.springframework.format.annotation.DateTimeFormat;
 import javax.persistence.Column;
 import javax.persistence.EntityListeners;
 import javax.persistence.MappedSuperclass;
+import javax.persistence.PrePersist;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 @Getter
 @ToString
@@ -38,4 +40,14 @@ public abstract class AuditingFields {
     @Column(nullable = false, length = 100)
     private String modifiedBy; // 수정자
 
+    // 작성일시는 DATETIME 컬럼이 확실히 담는 초 단위로 잘라서 저장한다. DB가 소수 초를 버리든 반올림하든 메모리의 값과 저장된 값이 같아서,
+    // 저장 직후의 엔티티로 채운 색인(ArticleTimeline)의 순서가 테이블에서 다시 읽은 순서와 어긋나지 않는다.
+    // 엔티티 리스너(감사 필드 채우기)가 먼저 실행되고 그다음에 실행된다.
+    @PrePersist
+    void truncateCreatedAt() {
+        if (createdAt != null) {
+            createdAt = createdAt.truncatedTo(ChronoUnit.SECONDS);
+        }
+    }
+
 }
@@ -0,0 +1,32 @@
+package com.fastcampus.project_board.domain;
+
+import lombok.Getter;
+import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
+
+import javax.persistence.Column;
+import javax.persistence.MappedSuperclass;
+import java.time.LocalDateTime;
+
+/**
+ * 삭제해도 행을 바로 지우지 않고 표시만 해 두는 엔티티의 공통 필드
+ * <p>
+ * 엔티티마다 {@code @SQLDelete}로 DELETE를 표시 UPDATE로 바꾸고, {@code @Where}로 조회에서 뺀다.
+ * 표시만 남은 행(tombstone)은 {@code TombstonePurgeService}가 한가한 시간에 조금씩 지운다.
+ * 삭제 표시할 때 수정일시도 함께 바꿔서, 변경 피드({@code ChangeFeedService})가 삭제도 변경으로 내보내게 한다.
+ * 변경 피드는 수정일시 순서로 커서를 내주므로, 삭제일시도 수정일시와 같은 애플리케이션 시계로 찍는다. (리포지토리의 {@code bulkDelete*})
+ * {@code @SQLDelete}는 값을 바인딩할 수 없어 DB 시계({@code current_timestamp})를 쓰므로, 애플리케이션의 삭제 경로에서는 쓰지 않는다.
+ */
+@Getter
+@ToString(callSuper = true)
+@MappedSuperclass
+public abstract class SoftDeletableFields extends AuditingFields {
+
+    @ColumnDefault("false")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private boolean deleted; // 삭제 여부
+
+    @Column(insertable = false, updatable = false)
+    private LocalDateTime deletedAt; // 삭제일시
+
+}
@@ -0,0 +1,15 @@
+package com.fastcampus.project_board.domain.constant;
+
+import lombok.Getter;
+
+public enum CountStrategy {
+    EXACT("매번 count 쿼리로 정확한 전체 개수를 구한다"),
+    SLICE("count 없이 페이지네이션 바에 필요한 만큼만 다음 페이지를 확인한다"),
+    APPROXIMATE("캐시에 저장된 개수를 일정 시간 동안 재사용한다");
+
+    @Getter private final String description;
+
+    CountStrategy(String description) {
+        this.description = description;
+    }
+}
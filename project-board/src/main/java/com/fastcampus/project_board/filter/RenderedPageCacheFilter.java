@@ -0,0 +1,136 @@
+package com.fastcampus.project_board.filter;
+
+import com.fastcampus.project_board.repository.index.ArticleViewCounter;
+import com.fastcampus.project_board.service.cache.RenderedPageCache;
+import com.fastcampus.project_board.service.cache.RenderedPageCache.RenderedPage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.csrf.CsrfToken;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 게시글 목록/해시태그 검색/상세 화면을 렌더링된 HTML째로 캐시한다.
+ * <p>
+ * 캐시에 있으면 컨트롤러와 템플릿 엔진을 거치지 않고 바로 내보내고, 클라이언트의 ETag/Last-Modified가 그대로면 304로 응답한다.
+ * 로그인한 사용자를 보고 키를 만들어야 하므로 Spring Security 필터 다음에 실행한다. (등록은 {@code PageCacheConfig})
+ */
+@RequiredArgsConstructor
+public class RenderedPageCacheFilter extends OncePerRequestFilter {
+
+    private static final Pattern CACHEABLE_PATH = Pattern.compile("/articles(/search-hashtag|/\\d+)?");
+    private static final Pattern DETAIL_PATH = Pattern.compile("/articles/(\\d+)");
+    private static final String CSRF_INPUT_NAME = "name=\"%s\"";
+
+    private final RenderedPageCache renderedPageCache;
+    private final ArticleViewCounter articleViewCounter;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod())
+                || !CACHEABLE_PATH.matcher(request.getRequestURI()).matches();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String username = username();
+        Long articleId = articleIdOf(request.getRequestURI());
+        RenderedPageCache.Key key = RenderedPageCache.Key.of(request.getRequestURI(), request.getQueryString(), username, articleId);
+
+        Optional<RenderedPage> cached = renderedPageCache.get(key);
+        if (cached.isPresent()) {
+            if (articleId != null) {
+                articleViewCounter.increment(articleId); // 캐시에서 내보내면 서비스를 거치지 않으므로 조회수는 여기서 센다.
+            }
+            write(request, response, cached.get(), username);
+            return;
+        }
+
+        // 렌더링 전에 검증자를 읽어두어야, 렌더링 중에 바뀐 내용을 새 버전의 화면으로 담지 않는다.
+        RenderedPageCache.Validator validator = renderedPageCache.validator(key);
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, responseWrapper);
+
+        if (responseWrapper.getStatus() != HttpServletResponse.SC_OK || !isHtml(responseWrapper.getContentType())) {
+            responseWrapper.copyBodyToResponse();
+            return;
+        }
+
+        RenderedPage page = capture(request, responseWrapper, validator);
+        renderedPageCache.put(key, page);
+        write(request, response, page, username);
+    }
+
+    private RenderedPage capture(HttpServletRequest request, ContentCachingResponseWrapper responseWrapper, RenderedPageCache.Validator validator) {
+        String contentType = responseWrapper.getContentType();
+        String html = new String(responseWrapper.getContentAsByteArray(), charsetOf(contentType));
+
+        // 토큰 값(getToken)을 읽으면 토큰이 새로 만들어질 수 있으므로, 화면에 CSRF 입력이 있을 때만 읽는다.
+        CsrfToken csrfToken = (CsrfToken) request.getAttribute(CsrfToken.class.getName());
+        boolean hasCsrfToken = csrfToken != null && html.contains(CSRF_INPUT_NAME.formatted(csrfToken.getParameterName()));
+        if (hasCsrfToken) {
+            html = html.replace(csrfToken.getToken(), RenderedPage.CSRF_TOKEN_PLACEHOLDER);
+        }
+
+        return new RenderedPage(validator.version(), validator.lastModified(), System.currentTimeMillis(), contentType, html, hasCsrfToken);
+    }
+
+    private void write(HttpServletRequest request, HttpServletResponse response, RenderedPage page, String username) throws IOException {
+        String csrfToken = page.hasCsrfToken() ? ((CsrfToken) request.getAttribute(CsrfToken.class.getName())).getToken() : "";
+
+        // 사용자와 세션(CSRF 토큰)마다 화면이 다르므로 ETag에도 넣는다.
+        // 렌더링 시각도 넣어서, TTL이 지나 다시 렌더링한 화면(조회수가 바뀐 화면)은 304로 막히지 않게 한다.
+        String etag = "\"" + page.version() + "." + page.renderedAt() + "-" + DigestUtils.md5DigestAsHex((username + ":" + csrfToken).getBytes(StandardCharsets.UTF_8)) + "\"";
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        if (new ServletWebRequest(request, response).checkNotModified(etag, page.lastModified().toEpochMilli())) {
+            return;
+        }
+
+        byte[] body = page.render(csrfToken).getBytes(charsetOf(page.contentType()));
+        response.setContentType(page.contentType());
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    // 상세 화면이면 게시글 ID, 목록 화면이면 null
+    private static Long articleIdOf(String requestUri) {
+        Matcher matcher = DETAIL_PATH.matcher(requestUri);
+        return matcher.matches() ? Long.valueOf(matcher.group(1)) : null;
+    }
+
+    private static String username() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken || !authentication.isAuthenticated()) {
+            return "";
+        }
+        return authentication.getName();
+    }
+
+    private static boolean isHtml(String contentType) {
+        return contentType != null && MediaType.TEXT_HTML.isCompatibleWith(MediaType.parseMediaType(contentType));
+    }
+
+    private static Charset charsetOf(String contentType) {
+        Charset charset = MediaType.parseMediaType(contentType).getCharset();
+        return charset == null ? StandardCharsets.UTF_8 : charset;
+    }
+}
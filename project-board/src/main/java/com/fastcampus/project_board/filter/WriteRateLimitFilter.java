@@ -0,0 +1,87 @@
+package com.fastcampus.project_board.filter;
+
+import com.fastcampus.project_board.service.ratelimit.TokenBucketRateLimiter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 게시글/댓글 작성 요청을 사용자별 토큰 버킷으로 제한한다.
+ * <p>
+ * 한도를 넘은 요청은 컨트롤러와 서비스에 닿기 전에 429와 {@code Retry-After}로 돌려보낸다.
+ * 로그인한 사용자를 보고 제한하므로 Spring Security 필터 다음에 실행한다. (등록은 {@code RateLimitConfig})
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class WriteRateLimitFilter extends OncePerRequestFilter {
+
+    private final Map<String, TokenBucketRateLimiter> limiters; // 요청 경로별 한도
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod())
+                || !limiters.containsKey(pathOf(request));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String username = username();
+        if (username == null) { // 로그인하지 않은 요청은 Spring Security가 이미 막는다.
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String path = pathOf(request);
+        Duration retryAfter = limiters.get(path).tryAcquire(username);
+        if (!retryAfter.isZero()) {
+            log.debug("작성 요청 한도 초과 - username: {}, path: {}, retryAfter: {}", username, path, retryAfter);
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, (retryAfter.toMillis() + 999) / 1000)));
+            response.sendError(HttpStatus.TOO_MANY_REQUESTS.value(), "작성 요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    @Scheduled(
+            initialDelayString = "${board.rate-limit.eviction-interval:PT1M}",
+            fixedDelayString = "${board.rate-limit.eviction-interval:PT1M}"
+    )
+    public void evictIdleBuckets() {
+        limiters.values().forEach(TokenBucketRateLimiter::evictIdle);
+    }
+
+    /**
+     * 컨트롤러가 받는 경로와 같게 맞춘다. 요청 URI를 그대로 비교하면 컨텍스트 경로, {@code ;jsessionid} 같은 경로 파라미터,
+     * 퍼센트 인코딩, 끝의 슬래시만 달리해서 한도를 피할 수 있기 때문이다.
+     */
+    private static String pathOf(HttpServletRequest request) {
+        String path = UrlPathHelper.defaultInstance.getPathWithinApplication(request);
+        return path.length() > 1 && path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+    }
+
+    private static String username() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken || !authentication.isAuthenticated()) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -2,15 +2,34 @@ package com.fastcampus.project_board.repository;
 
 import com.fastcampus.project_board.domain.ArticleComment;
 import com.fastcampus.project_board.domain.QArticleComment;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.dsl.DateTimeExpression;
 import com.querydsl.core.types.dsl.StringExpression;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.querydsl.binding.QuerydslBinderCustomizer;
 import org.springframework.data.querydsl.binding.QuerydslBindings;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.data.rest.core.annotation.RestResource;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
 
 @RepositoryRestResource
 public interface ArticleCommentRepository extends
@@ -18,8 +37,88 @@ public interface ArticleCommentRepository extends
         QuerydslPredicateExecutor<ArticleComment>, // 기본 검색 구현(부분 검색 및 대소문자 구분X)
         QuerydslBinderCustomizer<QArticleComment>   // 입맛에 맞는 검색 기능 구현을 위해 사용
 {
-    List<ArticleComment> findByArticle_Id(Long articleId);
-    void deleteByIdAndUserAccount_UserId(Long articleCommentId, String userId);
+    // 게시글은 Data REST에서 링크로만 표현되므로 지연 로딩으로 두고, 본문에 포함되는 작성자만 함께 조인해서 읽는다.
+    @Override @EntityGraph(attributePaths = "userAccount") Page<ArticleComment> findAll(Pageable pageable);
+    @Override @EntityGraph(attributePaths = "userAccount") Page<ArticleComment> findAll(Predicate predicate, Pageable pageable);
+    @Override @EntityGraph(attributePaths = "userAccount") Optional<ArticleComment> findById(Long articleCommentId);
+
+    // Data REST로는 지우지 않는다. @SQLDelete는 DB 시계로 삭제일시를 찍으므로, 삭제는 서비스에서 bulkDeleteByIdIn으로 한다.
+    @Override @RestResource(exported = false) void deleteById(Long articleCommentId);
+    @Override @RestResource(exported = false) void delete(ArticleComment articleComment);
+
+    @EntityGraph(attributePaths = "userAccount") List<ArticleComment> findByArticle_Id(Long articleId);
+
+    // 게시글 상세 페이지의 댓글 첫 페이지 / 커서 다음 페이지. (article_id, createdAt) 인덱스를 타고, Slice라서 count 쿼리는 없다.
+    @RestResource(exported = false)
+    @EntityGraph(attributePaths = "userAccount")
+    @Query("""
+            select ac from ArticleComment ac
+            where ac.article.id = :articleId
+            order by ac.createdAt desc, ac.id desc
+            """)
+    Slice<ArticleComment> findFirstPageByArticleId(@Param("articleId") Long articleId, Pageable pageable);
+
+    @RestResource(exported = false)
+    @EntityGraph(attributePaths = "userAccount")
+    @Query("""
+            select ac from ArticleComment ac
+            where ac.article.id = :articleId
+              and (ac.createdAt < :createdAt or (ac.createdAt = :createdAt and ac.id < :id))
+            order by ac.createdAt desc, ac.id desc
+            """)
+    Slice<ArticleComment> findPageByArticleIdAfter(
+            @Param("articleId") Long articleId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    // 내보내기용. 게시글 커서와 나란히 읽으면서 게시글별로 묶을 수 있도록 게시글 ID 순으로 읽는다.
+    @RestResource(exported = false)
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = HINT_READONLY, value = "true")})
+    @Query("select ac from ArticleComment ac join fetch ac.userAccount order by ac.article.id, ac.id")
+    Stream<ArticleComment> streamAllByOrderByArticleId();
+
+    // 본인 댓글인지 확인하고, 그 댓글이 달린 게시글의 화면 캐시만 무효화한다.
+    @RestResource(exported = false)
+    Optional<ArticleComment> findByIdAndUserAccount_UserId(Long articleCommentId, String userId);
+
+    // 모더레이터의 사용자 콘텐츠 삭제용. 지울 댓글 ID를 한 청크만큼 읽는다.
+    @RestResource(exported = false)
+    @Query("select ac.id from ArticleComment ac where ac.userAccount.userId = :userId order by ac.id")
+    List<Long> findIdsByUserId(@Param("userId") String userId, Pageable pageable);
+
+    // 엔티티를 읽지 않고 UPDATE 문 하나로 삭제 표시한다. (게시글 삭제 시 Article.articleComments의 cascade로 댓글을 하나씩 지우지 않도록)
+    // 삭제일시는 ArticleRepository.bulkDeleteByIdIn처럼 애플리케이션 시계로 넘겨받는다.
+    @RestResource(exported = false)
+    @Modifying
+    @Query("update versioned ArticleComment ac set ac.deleted = true, ac.deletedAt = :deletedAt, ac.modifiedAt = :deletedAt where ac.article.id in :articleIds and ac.deleted = false")
+    int bulkDeleteByArticleIdIn(@Param("articleIds") Collection<Long> articleIds, @Param("deletedAt") LocalDateTime deletedAt);
+
+    @RestResource(exported = false)
+    @Modifying
+    @Query("update versioned ArticleComment ac set ac.deleted = true, ac.deletedAt = :deletedAt, ac.modifiedAt = :deletedAt where ac.id in :articleCommentIds and ac.deleted = false")
+    int bulkDeleteByIdIn(@Param("articleCommentIds") Collection<Long> articleCommentIds, @Param("deletedAt") LocalDateTime deletedAt);
+
+    // tombstone 정리용. @Where 조건이 붙지 않도록 네이티브 쿼리로 읽고 지운다.
+    // 삭제 표시한 지 오래된 댓글과, 그런 게시글에 남은 댓글을 함께 고른다. (게시글을 지운 뒤에 달린 댓글이 게시글 정리를 막지 않도록)
+    @RestResource(exported = false)
+    @Query(nativeQuery = true, value = """
+            select ac.id from article_comment ac join article a on a.id = ac.article_id
+            where (ac.deleted = true and ac.deleted_at < :deletedBefore) or (a.deleted = true and a.deleted_at < :deletedBefore)
+            order by ac.id limit :limit
+            """)
+    List<Long> findTombstoneIds(@Param("deletedBefore") LocalDateTime deletedBefore, @Param("limit") int limit);
+
+    @RestResource(exported = false)
+    @Query(nativeQuery = true, value = "select count(*) from article_comment where deleted = true")
+    long countTombstones();
+
+    @RestResource(exported = false)
+    @Transactional
+    @Modifying
+    @Query(nativeQuery = true, value = "delete from article_comment where id in :articleCommentIds")
+    int purgeByIdIn(@Param("articleCommentIds") Collection<Long> articleCommentIds);
 
     @Override
     default void customize(QuerydslBindings bindings, QArticleComment root){
@@ -1,17 +1,39 @@
 package com.fastcampus.project_board.repository;
 
+import com.fastcampus.project_board.DTO.ArticleTextDto;
 import com.fastcampus.project_board.domain.Article;
 import com.fastcampus.project_board.domain.QArticle;
 import com.fastcampus.project_board.repository.querydsl.ArticleRepositoryCustom;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.dsl.DateTimeExpression;
 import com.querydsl.core.types.dsl.StringExpression;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.querydsl.binding.QuerydslBinderCustomizer;
 import org.springframework.data.querydsl.binding.QuerydslBindings;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.data.rest.core.annotation.RestResource;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
 
 @RepositoryRestResource
 public interface ArticleRepository extends
@@ -21,13 +43,97 @@ public interface ArticleRepository extends
         QuerydslBinderCustomizer<QArticle>  // QClass가 들어가게 설정되어 있다.
 {
 
-    Page<Article> findByTitleContaining(String title, Pageable pageable);
-    Page<Article> findByContentContaining(String content, Pageable pageable);
-    Page<Article> findByUserAccount_UserIdContaining(String userId, Pageable pageable);
-    Page<Article> findByUserAccount_NicknameContaining(String nickname, Pageable pageable);
-    Page<Article> findByHashtag(String hashtag, Pageable pageable);
+    // 작성자는 지연 로딩이지만, Data REST로도 노출되는 조회는 트랜잭션 밖에서 직렬화되므로 작성자를 함께 조인해서 읽는다.
+    @Override @EntityGraph(attributePaths = "userAccount") Page<Article> findAll(Pageable pageable);
+    @Override @EntityGraph(attributePaths = "userAccount") Page<Article> findAll(Predicate predicate, Pageable pageable);
+    @Override @EntityGraph(attributePaths = "userAccount") Optional<Article> findById(Long articleId);
+
+    // Data REST로는 지우지 않는다. @SQLDelete는 DB 시계로 삭제일시를 찍으므로, 삭제는 서비스에서 bulkDeleteByIdIn으로 한다.
+    @Override @RestResource(exported = false) void deleteById(Long articleId);
+    @Override @RestResource(exported = false) void delete(Article article);
+
+    @EntityGraph(attributePaths = "userAccount") Page<Article> findByTitleContaining(String title, Pageable pageable);
+    @EntityGraph(attributePaths = "userAccount") Page<Article> findByContentContaining(String content, Pageable pageable);
+    @EntityGraph(attributePaths = "userAccount") Page<Article> findByUserAccount_UserIdContaining(String userId, Pageable pageable);
+    @EntityGraph(attributePaths = "userAccount") Page<Article> findByUserAccount_NicknameContaining(String nickname, Pageable pageable);
+    @EntityGraph(attributePaths = "userAccount") Page<Article> findByHashtag(String hashtag, Pageable pageable);
+
+    // 대량 등록 시 댓글이 가리키는 게시글이 있는지 한 번에 확인한다.
+    @RestResource(exported = false)
+    @Query("select a.id from Article a where a.id in :articleIds")
+    List<Long> findIdsByIdIn(@Param("articleIds") Collection<Long> articleIds);
+
+    // 여러 게시글 한 번에 조회용. IN 조회 한 번으로 읽고, 작성자는 batch fetch로 모아서 읽는다.
+    @RestResource(exported = false)
+    List<Article> findAllByIdIn(Collection<Long> articleIds);
+
+    // n-gram 후보 중 실제로 포함하는 게시글만 조회. 호출하는 쪽에서 정렬한 후보를 창 단위로 나눠서 넘긴다.
+    @RestResource(exported = false) List<Article> findAllByIdInAndTitleContaining(Collection<Long> articleIds, String title);
+    @RestResource(exported = false) List<Article> findAllByIdInAndContentContaining(Collection<Long> articleIds, String content);
+
+    // 내보내기용. 전방 전용 커서로 fetch size만큼씩 나눠 읽는다. (MySQL은 useCursorFetch=true일 때 fetch size를 따른다.)
+    @RestResource(exported = false)
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = HINT_READONLY, value = "true")})
+    @Query("select a from Article a join fetch a.userAccount order by a.id")
+    Stream<Article> streamAllByOrderById();
+
+    // 검색 색인 재구성용. 엔티티와 작성자 없이 ID/제목/본문만, 직전에 읽은 ID 다음부터 한 Slice씩 읽는다. (count 쿼리 없음)
+    @RestResource(exported = false)
+    @Query("select new com.fastcampus.project_board.DTO.ArticleTextDto(a.id, a.title, a.content) from Article a where a.id > :afterId order by a.id")
+    Slice<ArticleTextDto> findTextsByIdGreaterThan(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 삭제용. 본인 글일 때만 행을 잠그고 읽는다. 잠근 동안에는 외래 키 확인에 막혀 새 댓글이 달리지 않는다.
+    // 작성자를 조인하면 FOR UPDATE가 user_account 행까지 잠그므로, 잠그는 조회는 게시글만 읽는다. (작성자 ID는 외래 키로 알 수 있다.)
+    @RestResource(exported = false)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<Article> findForDeleteByIdAndUserAccount_UserId(Long articleId, String userId);
+
+    // 조건부 UPDATE가 실패했을 때 작성자가 아닌지, 그사이 다른 수정이 있었는지 구분하는 용도
+    @RestResource(exported = false)
+    boolean existsByIdAndUserAccount_UserId(Long articleId, String userId);
+
+    // 모더레이터의 사용자 콘텐츠 삭제용. 사용자의 게시글 ID를 앞에서부터 한 청크만큼 읽는다.
+    @RestResource(exported = false)
+    @Query("select a.id from Article a where a.userAccount.userId = :userId order by a.id")
+    List<Long> findIdsByUserId(@Param("userId") String userId, Pageable pageable);
+
+    @RestResource(exported = false)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from Article a where a.id in :articleIds")
+    List<Article> findAllForDeleteByIdIn(@Param("articleIds") Collection<Long> articleIds);
+
+    // 엔티티를 읽지 않고 UPDATE 문 하나로 삭제 표시한다. 댓글도 함께 삭제 표시해야 한다.
+    // 삭제일시는 수정일시(감사 필드, 변경 피드의 until)와 같은 애플리케이션 시계로 넘겨받는다. DB 시계가 늦으면 이미 내보낸 커서보다 앞선 tombstone이 생긴다.
+    // 버전을 올려서, 그사이 게시글을 읽어 둔 수정 요청은 충돌로 실패하게 한다.
+    // 영속성 컨텍스트에 남은 게시글은 이미 지워진 것으로 보아야 하므로 비운다.
+    @RestResource(exported = false)
+    @Modifying(clearAutomatically = true)
+    @Query("update versioned Article a set a.deleted = true, a.deletedAt = :deletedAt, a.modifiedAt = :deletedAt where a.id in :articleIds and a.deleted = false")
+    int bulkDeleteByIdIn(@Param("articleIds") Collection<Long> articleIds, @Param("deletedAt") LocalDateTime deletedAt);
+
+    // tombstone 정리용. @Where 조건이 붙지 않도록 네이티브 쿼리로 읽고 지운다. 댓글이 남은 게시글은 댓글을 먼저 정리한 뒤에 지운다.
+    @RestResource(exported = false)
+    @Query(nativeQuery = true, value = """
+            select a.id from article a
+            where a.deleted = true and a.deleted_at < :deletedBefore
+              and not exists (select 1 from article_comment ac where ac.article_id = a.id)
+            order by a.id limit :limit
+            """)
+    List<Long> findTombstoneIds(@Param("deletedBefore") LocalDateTime deletedBefore, @Param("limit") int limit);
+
+    @RestResource(exported = false)
+    @Query(nativeQuery = true, value = "select count(*) from article where deleted = true")
+    long countTombstones();
 
-    void deleteByIdAndUserAccount_UserId(Long articleId, String userId);
+    @RestResource(exported = false)
+    @Transactional
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            delete from article
+            where id in :articleIds and deleted = true
+              and not exists (select 1 from article_comment ac where ac.article_id = article.id)
+            """)
+    int purgeByIdIn(@Param("articleIds") Collection<Long> articleIds);
 
     @Override
     default void customize(QuerydslBindings bindings, QArticle root){
@@ -0,0 +1,67 @@
+package com.fastcampus.project_board.repository;
+
+import com.fastcampus.project_board.DTO.ArticleChangeDto;
+import com.fastcampus.project_board.DTO.ArticleCommentChangeDto;
+import com.fastcampus.project_board.DTO.ChangeFeedCursor.Position;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 변경 피드용 조회
+ * <p>
+ * 삭제 표시한 행(tombstone)도 읽어야 하므로 엔티티의 {@code @Where} 조건이 붙지 않게 SQL로 읽는다.
+ * (modified_at, id) 인덱스를 따라 위치 다음부터 {@code until}까지, 최대 {@code limit}개를 읽는다.
+ */
+@RequiredArgsConstructor
+@Repository
+public class ChangeFeedRepository {
+
+    // (modified_at, id) > (?, ?) 를 풀어쓴 조건
+    private static final String AFTER_POSITION = " and (modified_at > ? or (modified_at = ? and id > ?))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<ArticleChangeDto> findArticleChanges(Position after, LocalDateTime until, int limit) {
+        String sql = "select id, user_id, title, content, hashtag, created_at, modified_at, deleted from article where modified_at <= ?"
+                + (after.isFirst() ? "" : AFTER_POSITION)
+                + " order by modified_at, id limit ?";
+
+        return jdbcTemplate.query(sql, (rs, rowNum) -> ArticleChangeDto.of(
+                rs.getLong("id"),
+                rs.getString("user_id"),
+                rs.getString("title"),
+                rs.getString("content"),
+                rs.getString("hashtag"),
+                rs.getObject("created_at", LocalDateTime.class),
+                rs.getObject("modified_at", LocalDateTime.class),
+                rs.getBoolean("deleted")
+        ), args(after, until, limit));
+    }
+
+    public List<ArticleCommentChangeDto> findArticleCommentChanges(Position after, LocalDateTime until, int limit) {
+        String sql = "select id, article_id, user_id, content, created_at, modified_at, deleted from article_comment where modified_at <= ?"
+                + (after.isFirst() ? "" : AFTER_POSITION)
+                + " order by modified_at, id limit ?";
+
+        return jdbcTemplate.query(sql, (rs, rowNum) -> ArticleCommentChangeDto.of(
+                rs.getLong("id"),
+                rs.getLong("article_id"),
+                rs.getString("user_id"),
+                rs.getString("content"),
+                rs.getObject("created_at", LocalDateTime.class),
+                rs.getObject("modified_at", LocalDateTime.class),
+                rs.getBoolean("deleted")
+        ), args(after, until, limit));
+    }
+
+    private static Object[] args(Position after, LocalDateTime until, int limit) {
+        if (after.isFirst()) {
+            return new Object[]{until, limit};
+        }
+        return new Object[]{until, after.modifiedAt(), after.modifiedAt(), after.id(), limit};
+    }
+}
@@ -0,0 +1,63 @@
+package com.fastcampus.project_board.repository.index;
+
+import com.fastcampus.project_board.repository.ArticleRepository;
+import com.fastcampus.project_board.util.TransactionHooks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 전체 게시글 수
+ * <p>
+ * 상세 페이지마다 {@code count(*)}를 하지 않도록 메모리에 들고, 게시글 저장/삭제가 커밋될 때만 증감한다.
+ * 커밋 후 훅이 실행되지 못하는 경우(예: 다른 인스턴스에서의 변경)에 생기는 오차는 주기적으로 테이블과 다시 맞춘다.
+ */
+@Slf4j
+@Component
+public class ArticleCounter {
+
+    private final ArticleRepository articleRepository;
+    private final AtomicLong articleCount = new AtomicLong();
+
+    private volatile boolean ready = false;
+
+    public ArticleCounter(ArticleRepository articleRepository) {
+        this.articleRepository = articleRepository;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public long get() {
+        return articleCount.get();
+    }
+
+    // 트랜잭션이 커밋된 뒤에 반영해서, 롤백된 저장/삭제가 개수에 남지 않도록 한다.
+    public void increment() {
+        TransactionHooks.afterCommit(articleCount::incrementAndGet);
+    }
+
+    public void decrement() {
+        TransactionHooks.afterCommit(articleCount::decrementAndGet);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${board.article-counter.reconcile-interval:PT5M}",
+            fixedDelayString = "${board.article-counter.reconcile-interval:PT5M}"
+    )
+    public void reconcile() {
+        long counted = articleRepository.count();
+        long previous = articleCount.getAndSet(counted);
+
+        if (ready && previous != counted) {
+            log.info("게시글 수 보정 - {} -> {}", previous, counted);
+        }
+        ready = true;
+    }
+}
@@ -0,0 +1,301 @@
+package com.fastcampus.project_board.repository.index;
+
+import com.fastcampus.project_board.DTO.ArticleTextDto;
+import com.fastcampus.project_board.config.SearchIndexConfig.SearchIndexProperties;
+import com.fastcampus.project_board.domain.Article;
+import com.fastcampus.project_board.domain.constant.SearchType;
+import com.fastcampus.project_board.repository.ArticleRepository;
+import com.fastcampus.project_board.util.TransactionHooks;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+
+/**
+ * 게시글 제목/본문에 대한 역색인(term -> 게시글 ID posting list)
+ * <p>
+ * {@code LIKE '%keyword%'} 테이블 스캔 대신 검색어의 term별 posting list를 교집합해서 후보 게시글 ID를 구한다.
+ * 게시글 저장/수정/삭제가 커밋될 때 갱신되고, 애플리케이션 기동 시 테이블로부터 재구성된다.
+ * 색인은 인스턴스마다 따로 들고 있으므로, 다른 인스턴스에서의 변경은 주기적인 재구성({@code board.search.reconcile-interval}) 때 반영된다.
+ * <p>
+ * posting list는 {@link HashtagIndex}처럼 압축 비트맵(Roaring)으로 들고, 메모리 추정치가 {@code board.search.max-size}를 넘으면
+ * 색인을 버리고 DB 조회로 검색한다. 비트맵은 int 범위의 값만 담으므로, 게시글 ID가 int 범위를 넘어도 DB 조회로 돌아간다.
+ */
+@Slf4j
+@Component
+public class ArticleSearchIndex {
+
+    private static final int REBUILD_PAGE_SIZE = 1000;
+
+    private final ArticleRepository articleRepository;
+    private final Tokenizer tokenizer;
+    private final long maxSizeInBytes;
+    private final Object lock = new Object();
+
+    private volatile Postings titlePostings = new Postings();
+    private volatile Postings contentPostings = new Postings();
+    private List<BiConsumer<Postings, Postings>> pendingChanges; // 재구성 중에 커밋된 변경. 재구성한 색인에 다시 반영한다.
+    private volatile boolean ready = false; // 처음 재구성이 끝나기 전에는 검색을 위임하지 않는다.
+    private volatile boolean overflowed = false; // int 범위를 넘는 게시글 ID를 만났는지
+    private volatile boolean tooLarge = false; // 마지막 재구성에서 메모리 상한을 넘었는지
+
+    public ArticleSearchIndex(ArticleRepository articleRepository, Tokenizer tokenizer, SearchIndexProperties searchIndexProperties) {
+        this.articleRepository = articleRepository;
+        this.tokenizer = tokenizer;
+        this.maxSizeInBytes = searchIndexProperties.getMaxSize().toBytes();
+    }
+
+    public boolean supports(SearchType searchType, String keyword) {
+        return ready && !overflowed && !tooLarge
+                && (searchType == SearchType.TITLE || searchType == SearchType.CONTENT)
+                && tokenizer.canSearch(keyword);
+    }
+
+    public boolean requiresVerification() {
+        return tokenizer.requiresVerification();
+    }
+
+    /**
+     * 검색어의 모든 term을 포함하는 게시글 ID를 반환한다.
+     * {@link #requiresVerification()}이 참이면 결과는 후보 집합이므로, 호출하는 쪽에서 원문 포함 여부를 확인해야 한다.
+     */
+    public Set<Long> search(SearchType searchType, String keyword) {
+        return postingsOf(searchType).search(tokenizer.tokenize(keyword));
+    }
+
+    // 트랜잭션이 커밋된 뒤에 반영해서, 롤백된 변경이 색인에 남지 않도록 한다.
+    public void index(Article article) {
+        Long articleId = article.getId();
+        if (!isIndexable(articleId)) {
+            TransactionHooks.afterCommit(() -> apply((title, content) -> overflow(articleId)));
+            return;
+        }
+        Set<String> titleTerms = tokenizer.tokenize(article.getTitle());
+        Set<String> contentTerms = tokenizer.tokenize(article.getContent());
+
+        TransactionHooks.afterCommit(() -> apply((title, content) -> {
+            title.put(articleId.intValue(), titleTerms);
+            content.put(articleId.intValue(), contentTerms);
+        }));
+    }
+
+    public void remove(Long articleId) {
+        if (!isIndexable(articleId)) return;
+
+        TransactionHooks.afterCommit(() -> apply((title, content) -> {
+            title.remove(articleId.intValue());
+            content.remove(articleId.intValue());
+        }));
+    }
+
+    private void apply(BiConsumer<Postings, Postings> change) {
+        synchronized (lock) {
+            change.accept(titlePostings, contentPostings);
+            if (pendingChanges != null) pendingChanges.add(change);
+        }
+    }
+
+    private void overflow(Long articleId) {
+        if (!overflowed) log.warn("게시글 ID가 검색 색인 범위를 넘어서 DB 조회로 검색합니다 - articleId: {}", articleId);
+        overflowed = true;
+    }
+
+    /**
+     * 테이블로부터 새 색인을 만들어 바꿔 끼운다. 재구성하는 동안에도 기존 색인으로 검색하고,
+     * 그사이 커밋된 변경은 새 색인에 다시 반영하므로 재구성 중의 저장/수정/삭제가 빠지지 않는다.
+     * 엔티티 대신 ID/제목/본문만 ID 순서로 한 Slice씩 읽는다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${board.search.reconcile-interval:PT10M}",
+            fixedDelayString = "${board.search.reconcile-interval:PT10M}"
+    )
+    public synchronized void rebuild() {
+        synchronized (lock) {
+            pendingChanges = new ArrayList<>();
+        }
+
+        try {
+            Postings title = new Postings();
+            Postings content = new Postings();
+            boolean idOverflow = false;
+            long articleCount = 0;
+            long afterId = 0L;
+            Slice<ArticleTextDto> slice;
+            do {
+                slice = articleRepository.findTextsByIdGreaterThan(afterId, PageRequest.of(0, REBUILD_PAGE_SIZE));
+                for (ArticleTextDto article : slice) {
+                    afterId = article.id();
+                    if (!isIndexable(article.id())) {
+                        idOverflow = true;
+                        continue;
+                    }
+                    title.put(article.id().intValue(), tokenizer.tokenize(article.title()));
+                    content.put(article.id().intValue(), tokenizer.tokenize(article.content()));
+                    articleCount++;
+                }
+
+                long estimatedSize = title.estimatedSizeInBytes() + content.estimatedSizeInBytes();
+                if (estimatedSize > maxSizeInBytes) {
+                    discard(articleCount, estimatedSize);
+                    return;
+                }
+            } while (slice.hasNext());
+            title.runOptimize();
+            content.runOptimize();
+
+            synchronized (lock) {
+                overflowed = idOverflow;
+                if (overflowed) log.warn("게시글 ID가 검색 색인 범위를 넘어서 DB 조회로 검색합니다");
+                pendingChanges.forEach(change -> change.accept(title, content));
+                titlePostings = title;
+                contentPostings = content;
+            }
+            tooLarge = false;
+            ready = true;
+            log.info("게시글 검색 색인 재구성 완료 - articles: {}, title terms: {}, content terms: {}, estimated size: {} bytes",
+                    articleCount, title.termCount(), content.termCount(), title.estimatedSizeInBytes() + content.estimatedSizeInBytes());
+        } finally {
+            synchronized (lock) {
+                pendingChanges = null;
+            }
+        }
+    }
+
+    // 상한을 넘으면 더 읽지 않고, 기존 색인도 비워서 메모리를 돌려준다. 다음 재구성 때 다시 시도한다.
+    private void discard(long articleCount, long estimatedSize) {
+        synchronized (lock) {
+            tooLarge = true;
+            titlePostings = new Postings();
+            contentPostings = new Postings();
+        }
+        log.warn("게시글 검색 색인이 메모리 상한을 넘어서 DB 조회로 검색합니다 - articles read: {}, estimated size: {} bytes, max size: {} bytes",
+                articleCount, estimatedSize, maxSizeInBytes);
+    }
+
+    private Postings postingsOf(SearchType searchType) {
+        return switch (searchType) {
+            case TITLE -> titlePostings;
+            case CONTENT -> contentPostings;
+            default -> throw new IllegalArgumentException("색인하지 않는 검색 타입입니다 - searchType: " + searchType);
+        };
+    }
+
+    private static boolean isIndexable(Long articleId) {
+        return articleId >= 0 && articleId <= Integer.MAX_VALUE;
+    }
+
+    /**
+     * term별 게시글 ID 비트맵. 게시글 하나를 반영할 때 n-gram 수백 개를 건드리므로, {@link HashtagIndex}처럼 비트맵을 복사하지 않고
+     * 읽기/쓰기 잠금으로 제자리에서 고친다. 검색끼리는 막지 않는다.
+     * <p>
+     * 게시글별 term 목록(정방향 색인)은 들고 있지 않는다. 본문 n-gram은 게시글마다 수백~수천 개라 비트맵보다 더 커지기 때문이다.
+     * 대신 이미 색인한 게시글을 수정/삭제할 때 모든 비트맵에서 그 ID를 뺀다. 처음 색인하는 게시글은 건너뛴다.
+     */
+    private static class Postings {
+        private static final int TERM_OVERHEAD_BYTES = 64; // term 문자열과 맵 엔트리의 객체 헤더/참조 추정치
+
+        private final Map<String, RoaringBitmap> articleIdsByTerm = new HashMap<>();
+        private final RoaringBitmap articleIds = new RoaringBitmap(); // 색인한 게시글
+        private final ReadWriteLock readWriteLock = new ReentrantReadWriteLock();
+
+        void put(int articleId, Set<String> terms) {
+            readWriteLock.writeLock().lock();
+            try {
+                removeExcept(articleId, terms);
+                terms.forEach(term -> articleIdsByTerm.computeIfAbsent(term, key -> new RoaringBitmap()).add(articleId));
+                articleIds.add(articleId);
+            } finally {
+                readWriteLock.writeLock().unlock();
+            }
+        }
+
+        void remove(int articleId) {
+            readWriteLock.writeLock().lock();
+            try {
+                removeExcept(articleId, Set.of());
+                articleIds.remove(articleId);
+            } finally {
+                readWriteLock.writeLock().unlock();
+            }
+        }
+
+        private void removeExcept(int articleId, Set<String> kept) {
+            if (!articleIds.contains(articleId)) return;
+
+            Iterator<Map.Entry<String, RoaringBitmap>> iterator = articleIdsByTerm.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<String, RoaringBitmap> entry = iterator.next();
+                if (kept.contains(entry.getKey())) continue;
+                if (entry.getValue().checkedRemove(articleId) && entry.getValue().isEmpty()) iterator.remove();
+            }
+        }
+
+        void runOptimize() {
+            readWriteLock.writeLock().lock();
+            try {
+                articleIdsByTerm.values().forEach(RoaringBitmap::runOptimize);
+            } finally {
+                readWriteLock.writeLock().unlock();
+            }
+        }
+
+        int termCount() {
+            readWriteLock.readLock().lock();
+            try {
+                return articleIdsByTerm.size();
+            } finally {
+                readWriteLock.readLock().unlock();
+            }
+        }
+
+        long estimatedSizeInBytes() {
+            readWriteLock.readLock().lock();
+            try {
+                long size = articleIds.getLongSizeInBytes();
+                for (Map.Entry<String, RoaringBitmap> entry : articleIdsByTerm.entrySet()) {
+                    size += TERM_OVERHEAD_BYTES + 2L * entry.getKey().length() + entry.getValue().getLongSizeInBytes();
+                }
+                return size;
+            } finally {
+                readWriteLock.readLock().unlock();
+            }
+        }
+
+        // 가장 작은 비트맵부터 교집합을 구해서 비교 횟수를 줄인다.
+        Set<Long> search(Set<String> terms) {
+            if (terms.isEmpty()) return Set.of();
+
+            readWriteLock.readLock().lock();
+            try {
+                List<RoaringBitmap> bitmaps = new ArrayList<>(terms.size());
+                for (String term : terms) {
+                    RoaringBitmap bitmap = articleIdsByTerm.get(term);
+                    if (bitmap == null) return Set.of();
+                    bitmaps.add(bitmap);
+                }
+                bitmaps.sort(Comparator.comparingInt(RoaringBitmap::getCardinality));
+
+                RoaringBitmap result = bitmaps.get(0).clone();
+                for (int i = 1; i < bitmaps.size() && !result.isEmpty(); i++) {
+                    result.and(bitmaps.get(i));
+                }
+
+                Set<Long> articleIds = new TreeSet<>();
+                result.forEach((int articleId) -> articleIds.add((long) articleId));
+                return articleIds;
+            } finally {
+                readWriteLock.readLock().unlock();
+            }
+        }
+    }
+}
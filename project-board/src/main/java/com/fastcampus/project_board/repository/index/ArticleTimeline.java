@@ -0,0 +1,177 @@
+package com.fastcampus.project_board.repository.index;
+
+import com.fastcampus.project_board.DTO.ArticleCursor;
+import com.fastcampus.project_board.domain.Article;
+import com.fastcampus.project_board.repository.ArticleRepository;
+import com.fastcampus.project_board.util.TransactionHooks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+
+/**
+ * 게시글 ID별 작성일시
+ * <p>
+ * 색인이 찾은 게시글 ID를 DB에 IN 조건으로 모두 넘기지 않고, 메모리에서 목록 순서(createdAt, id)로 정렬해서
+ * 요청한 페이지의 ID만 읽을 수 있게 한다. 게시글 저장/삭제가 커밋될 때 갱신되고,
+ * 커밋 후 훅이 실행되지 못하는 경우(예: 다른 인스턴스에서의 변경)에 생기는 오차는 주기적으로 테이블과 다시 맞춘다.
+ */
+@Slf4j
+@Component
+public class ArticleTimeline {
+
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of("createdAt", "id");
+    private static final Sort DEFAULT_SORT = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id")); // 게시글 목록 기본 순서
+
+    private final ArticleRepository articleRepository;
+    private final Object lock = new Object();
+
+    private volatile Map<Long, LocalDateTime> createdAtById = new ConcurrentHashMap<>();
+    private List<Consumer<Map<Long, LocalDateTime>>> pendingChanges; // 재구성 중에 커밋된 변경. 재구성한 맵에 다시 반영한다.
+    private volatile boolean ready = false;
+
+    public ArticleTimeline(ArticleRepository articleRepository) {
+        this.articleRepository = articleRepository;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 작성일시와 ID 외의 정렬(제목, 작성자 등)은 메모리에서 할 수 없다.
+    public boolean supports(Sort sort) {
+        return ready && sort.stream().allMatch(order -> SORTABLE_PROPERTIES.contains(order.getProperty()));
+    }
+
+    /**
+     * 게시글 ID를 정렬 순서대로 모두 반환한다.
+     */
+    public List<Long> sort(Collection<Long> articleIds, Sort sort) {
+        return articleIds.stream().sorted(comparator(sort)).toList();
+    }
+
+    /**
+     * 게시글 ID를 정렬했을 때 {@code offset}번째부터 최대 {@code limit}개를 반환한다.
+     */
+    public List<Long> page(LongStream articleIds, Sort sort, long offset, int limit) {
+        return top(articleIds, comparator(sort), offset, limit);
+    }
+
+    /**
+     * keyset 페이지네이션용. 게시글 ID 중 커서 다음(목록 순서 createdAt DESC, id DESC)의 ID를 최대 {@code limit}개 반환한다.
+     * 뒤로 가는 커서({@link ArticleCursor#isBackward()})는 커서에 가까운 것부터, 즉 오래된 순으로 반환한다.
+     */
+    public List<Long> after(LongStream articleIds, ArticleCursor cursor, int limit) {
+        Comparator<Long> newestFirst = comparator(DEFAULT_SORT);
+        if (cursor.isFirst()) {
+            return top(articleIds, newestFirst, 0, limit);
+        }
+
+        LongStream rest = articleIds.filter(articleId -> {
+            int compared = createdAtOf(articleId).compareTo(cursor.createdAt());
+            if (compared == 0) compared = Long.compare(articleId, cursor.id());
+            return cursor.isBackward() ? compared > 0 : compared < 0;
+        });
+        return top(rest, cursor.isBackward() ? newestFirst.reversed() : newestFirst, 0, limit);
+    }
+
+    // 전체를 정렬하지 않고, 앞쪽 offset + limit개만 힙으로 골라낸다.
+    private List<Long> top(LongStream articleIds, Comparator<Long> comparator, long offset, int limit) {
+        long size = offset + limit;
+        PriorityQueue<Long> heap = new PriorityQueue<>(comparator.reversed()); // 가장 뒤쪽 ID가 맨 위에 온다.
+
+        articleIds.forEach(articleId -> {
+            heap.add(articleId);
+            if (heap.size() > size) heap.poll();
+        });
+        if (heap.size() <= offset) {
+            return List.of();
+        }
+
+        return heap.stream()
+                .sorted(comparator)
+                .skip(offset)
+                .toList();
+    }
+
+    /**
+     * 정렬 순서의 비교자. 정렬이 없으면 게시글 목록 기본 순서(createdAt DESC, id DESC)를 따르고,
+     * 작성일시가 같은 게시글은 첫 정렬 방향으로 ID를 비교한다.
+     */
+    private Comparator<Long> comparator(Sort sort) {
+        Sort effective = sort.isSorted() ? sort : DEFAULT_SORT;
+        Comparator<Long> comparator = null;
+        for (Sort.Order order : effective) {
+            Comparator<Long> next = order.getProperty().equals("createdAt")
+                    ? Comparator.comparing(this::createdAtOf)
+                    : Comparator.naturalOrder();
+            if (order.isDescending()) next = next.reversed();
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+
+        Comparator<Long> byId = Comparator.naturalOrder();
+        return comparator.thenComparing(effective.iterator().next().isDescending() ? byId.reversed() : byId);
+    }
+
+    // 커밋 후 훅보다 먼저 다른 색인에 들어온 게시글은 방금 저장된 글이므로 가장 최신으로 본다.
+    private LocalDateTime createdAtOf(Long articleId) {
+        return createdAtById.getOrDefault(articleId, LocalDateTime.MAX);
+    }
+
+    // 트랜잭션이 커밋된 뒤에 반영해서, 롤백된 저장/삭제가 남지 않도록 한다. 작성일시는 수정되지 않는다.
+    // 작성일시는 저장할 때 컬럼 정밀도(초)로 잘리므로(AuditingFields), 저장된 엔티티의 값이 테이블의 값과 같다.
+    public void add(Article article) {
+        Long articleId = article.getId();
+        LocalDateTime createdAt = article.getCreatedAt();
+
+        TransactionHooks.afterCommit(() -> apply(map -> map.put(articleId, createdAt)));
+    }
+
+    public void remove(Long articleId) {
+        TransactionHooks.afterCommit(() -> apply(map -> map.remove(articleId)));
+    }
+
+    private void apply(Consumer<Map<Long, LocalDateTime>> change) {
+        synchronized (lock) {
+            change.accept(createdAtById);
+            if (pendingChanges != null) pendingChanges.add(change);
+        }
+    }
+
+    /**
+     * 테이블로부터 새 맵을 만들어 바꿔 끼운다. 재구성하는 동안에도 기존 맵으로 정렬하고,
+     * 그사이 커밋된 변경은 새 맵에 다시 반영하므로 재구성 중의 저장/삭제가 빠지지 않는다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${board.search.reconcile-interval:PT10M}",
+            fixedDelayString = "${board.search.reconcile-interval:PT10M}"
+    )
+    public synchronized void rebuild() {
+        synchronized (lock) {
+            pendingChanges = new ArrayList<>();
+        }
+
+        try {
+            Map<Long, LocalDateTime> rebuilt = new ConcurrentHashMap<>(articleRepository.findAllCreatedAt());
+            synchronized (lock) {
+                pendingChanges.forEach(change -> change.accept(rebuilt));
+                createdAtById = rebuilt;
+            }
+            ready = true;
+            log.info("게시글 작성일시 색인 재구성 완료 - articles: {}", rebuilt.size());
+        } finally {
+            synchronized (lock) {
+                pendingChanges = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.fastcampus.project_board.repository.index;
+
+import com.fastcampus.project_board.repository.ArticleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수 (write-behind)
+ * <p>
+ * 조회할 때마다 게시글 행을 UPDATE하지 않고, 게시글별 {@link LongAdder}에 모았다가 주기적으로(그리고 종료 시) 한 번에 더한다.
+ * {@link LongAdder}는 경합이 생기면 셀을 나눠서 더하므로, 한 게시글에 조회가 몰려도 스레드끼리 같은 값을 두고 다투지 않는다.
+ * 반영 전에 프로세스가 비정상 종료되면 그 사이의 조회수는 잃는다.
+ */
+@Slf4j
+@Component
+public class ArticleViewCounter {
+
+    private final ArticleRepository articleRepository;
+    private final Map<Long, LongAdder> pendingViews = new ConcurrentHashMap<>();
+
+    public ArticleViewCounter(ArticleRepository articleRepository) {
+        this.articleRepository = articleRepository;
+    }
+
+    public void increment(Long articleId) {
+        add(articleId, 1);
+    }
+
+    // flush가 조회가 없던 LongAdder를 맵에서 빼는 사이에 그 LongAdder에 더했을 수 있다. 더한 뒤에 맵에서 빠진 것을 보면,
+    // 빠진 LongAdder에 남은 값을 꺼내서 맵의 LongAdder에 다시 더한다. sumThenReset은 셀마다 값을 꺼내면서 0으로 바꾸므로,
+    // flush와 동시에 꺼내도 한 번 더한 값은 한쪽에서만 꺼낸다.
+    private void add(Long articleId, long count) {
+        while (count > 0) {
+            LongAdder views = pendingViews.get(articleId); // 대부분은 이미 있으므로, 잠금이 걸리는 computeIfAbsent는 처음에만 탄다.
+            if (views == null) {
+                views = pendingViews.computeIfAbsent(articleId, key -> new LongAdder());
+            }
+            views.add(count);
+            if (pendingViews.get(articleId) == views) return;
+            count = views.sumThenReset();
+        }
+    }
+
+    /**
+     * 아직 테이블에 반영하지 않은 조회수
+     */
+    public long pending(Long articleId) {
+        LongAdder views = pendingViews.get(articleId);
+        return views == null ? 0 : views.sum();
+    }
+
+    @PreDestroy
+    @Scheduled(
+            initialDelayString = "${board.article-view-counter.flush-interval:PT1S}",
+            fixedDelayString = "${board.article-view-counter.flush-interval:PT1S}"
+    )
+    public synchronized void flush() {
+        Map<Long, Long> viewCounts = new HashMap<>();
+        pendingViews.forEach((articleId, views) -> {
+            long count = views.sumThenReset();
+            if (count > 0) {
+                viewCounts.put(articleId, count);
+            } else {
+                evictIdle(articleId, views);
+            }
+        });
+        if (viewCounts.isEmpty()) return;
+
+        try {
+            articleRepository.addViewCounts(viewCounts);
+        } catch (RuntimeException e) {
+            // 반영하지 못한 조회수는 되돌려 두고 다음 주기에 다시 시도한다.
+            viewCounts.forEach(this::add);
+            log.warn("조회수 반영 실패 - articles: {}", viewCounts.size(), e);
+        }
+    }
+
+    // 한 주기 동안 조회가 없던 게시글은 맵에서 뺀다. 빼는 사이에 들어온 조회는 맵의 LongAdder로 옮긴다.
+    // 뺀 뒤에 이 LongAdder에 더한 스레드는 맵에서 빠진 것을 보고 스스로 옮긴다. (add 참고)
+    private void evictIdle(Long articleId, LongAdder views) {
+        if (pendingViews.remove(articleId, views)) {
+            add(articleId, views.sumThenReset());
+        }
+    }
+}
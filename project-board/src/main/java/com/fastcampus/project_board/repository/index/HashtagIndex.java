@@ -0,0 +1,203 @@
+package com.fastcampus.project_board.repository.index;
+
+import com.fastcampus.project_board.domain.Article;
+import com.fastcampus.project_board.repository.ArticleRepository;
+import com.fastcampus.project_board.util.Hashtags;
+import com.fastcampus.project_board.util.TransactionHooks;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 해시태그 비트맵 색인(해시태그 -> 게시글 ID 비트맵)
+ * <p>
+ * {@link HashtagQuery}의 AND/OR/NOT을 압축 비트맵(Roaring)의 교집합/합집합/차집합으로 계산한다.
+ * 비트맵은 한 번 공개한 뒤에는 바꾸지 않고, 갱신할 때 복사본을 고쳐서 바꿔 끼운다. 그래서 조회는 잠금 없이 읽는다.
+ * 여러 게시글의 변경은 한 번에 반영해서, 해시태그마다 복사는 한 번만 한다.
+ * 커밋 후 훅이 실행되지 못하는 경우(예: 다른 인스턴스에서의 변경)에 생기는 오차는 주기적으로 테이블과 다시 맞춘다.
+ * <p>
+ * 비트맵은 int 범위의 값만 담으므로, 게시글 ID가 int 범위를 넘으면 그 게시글은 색인하지 않고 색인을 준비되지 않은 것으로 돌린다.
+ * (검색은 DB 조회로 돌아간다)
+ */
+@Slf4j
+@Component
+public class HashtagIndex {
+
+    private final ArticleRepository articleRepository;
+    private final Object lock = new Object();
+
+    private volatile Map<String, RoaringBitmap> articleIdsByHashtag = new ConcurrentHashMap<>();
+    private Map<Long, Set<String>> hashtagsByArticleId = new HashMap<>(); // 수정/삭제 시 기존 해시태그를 빼내기 위한 정방향 색인. lock을 잡고 읽고 쓴다.
+    private List<Map<Long, Set<String>>> pendingChanges; // 재구성 중에 커밋된 변경. 재구성한 색인에 다시 반영한다.
+    private volatile boolean ready = false;
+    private volatile boolean overflowed = false; // int 범위를 넘는 게시글 ID를 만났는지
+
+    public HashtagIndex(ArticleRepository articleRepository) {
+        this.articleRepository = articleRepository;
+    }
+
+    public boolean isReady() {
+        return ready && !overflowed;
+    }
+
+    /**
+     * 검색식에 걸리는 게시글 ID 비트맵을 반환한다. 새로 만든 비트맵이므로 호출하는 쪽에서 고쳐도 색인에는 영향이 없다.
+     * 개수는 {@link RoaringBitmap#getLongCardinality()}로 바로 알 수 있고, ID는 {@link RoaringBitmap#stream()}으로 훑는다.
+     */
+    public RoaringBitmap search(HashtagQuery query) {
+        Map<String, RoaringBitmap> bitmaps = articleIdsByHashtag; // 재구성으로 바뀌어도 한 검색식은 같은 맵에서 읽는다.
+        RoaringBitmap result = new RoaringBitmap();
+        for (HashtagQuery.Clause clause : query.clauses()) {
+            result = RoaringBitmap.or(result, search(bitmaps, clause));
+        }
+        return result;
+    }
+
+    // 가장 작은 비트맵부터 교집합을 구하고, 제외할 해시태그를 뺀다.
+    private RoaringBitmap search(Map<String, RoaringBitmap> articleIdsByHashtag, HashtagQuery.Clause clause) {
+        List<RoaringBitmap> bitmaps = new ArrayList<>(clause.included().size());
+        for (String hashtag : clause.included()) {
+            RoaringBitmap bitmap = articleIdsByHashtag.get(hashtag);
+            if (bitmap == null) return new RoaringBitmap();
+            bitmaps.add(bitmap);
+        }
+        bitmaps.sort(Comparator.comparingInt(RoaringBitmap::getCardinality));
+
+        RoaringBitmap result = bitmaps.get(0);
+        for (int i = 1; i < bitmaps.size() && !result.isEmpty(); i++) {
+            result = RoaringBitmap.and(result, bitmaps.get(i));
+        }
+        for (String hashtag : clause.excluded()) {
+            RoaringBitmap bitmap = articleIdsByHashtag.get(hashtag);
+            if (bitmap != null) result = RoaringBitmap.andNot(result, bitmap);
+        }
+        return result;
+    }
+
+    // 트랜잭션이 커밋된 뒤에 반영해서, 롤백된 변경이 색인에 남지 않도록 한다.
+    public void index(Article article) {
+        index(List.of(article));
+    }
+
+    /**
+     * 대량 등록용. 청크의 게시글을 커밋 후에 한 번에 반영한다.
+     */
+    public void index(Collection<Article> articles) {
+        Map<Long, Set<String>> changes = new HashMap<>();
+        articles.forEach(article -> changes.put(article.getId(), Hashtags.parse(article.getHashtag())));
+
+        TransactionHooks.afterCommit(() -> apply(changes));
+    }
+
+    public void remove(Long articleId) {
+        TransactionHooks.afterCommit(() -> apply(Map.of(articleId, Set.of())));
+    }
+
+    private void apply(Map<Long, Set<String>> changes) {
+        synchronized (lock) {
+            applyTo(articleIdsByHashtag, hashtagsByArticleId, changes);
+            if (pendingChanges != null) pendingChanges.add(changes);
+        }
+    }
+
+    /**
+     * 테이블로부터 새 색인을 만들어 바꿔 끼운다. 재구성하는 동안에도 기존 색인으로 검색하고, 그사이 커밋된 변경은 새 색인에 다시 반영한다.
+     * 변경은 "게시글의 해시태그가 이것이 되었다"로 반영되므로, 테이블을 읽을 때 이미 들어간 변경을 다시 반영해도 결과가 같다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${board.search.reconcile-interval:PT10M}",
+            fixedDelayString = "${board.search.reconcile-interval:PT10M}"
+    )
+    public synchronized void rebuild() {
+        synchronized (lock) {
+            pendingChanges = new ArrayList<>();
+        }
+
+        try {
+            Map<String, RoaringBitmap> bitmaps = new HashMap<>();
+            Map<Long, Set<String>> forward = new HashMap<>();
+            boolean tooLarge = false;
+            for (Map.Entry<Long, String> entry : articleRepository.findAllHashtags().entrySet()) {
+                Long articleId = entry.getKey();
+                if (!isIndexable(articleId)) {
+                    tooLarge = true;
+                    continue;
+                }
+                Set<String> hashtags = Hashtags.parse(entry.getValue());
+                if (hashtags.isEmpty()) continue;
+
+                forward.put(articleId, hashtags);
+                hashtags.forEach(hashtag -> bitmaps.computeIfAbsent(hashtag, key -> new RoaringBitmap()).add(articleId.intValue()));
+            }
+            bitmaps.values().forEach(RoaringBitmap::runOptimize);
+
+            int articleCount;
+            int hashtagCount;
+            synchronized (lock) {
+                overflowed = tooLarge;
+                Map<String, RoaringBitmap> rebuilt = new ConcurrentHashMap<>(bitmaps);
+                for (Map<Long, Set<String>> changes : pendingChanges) {
+                    applyTo(rebuilt, forward, changes);
+                }
+                articleIdsByHashtag = rebuilt;
+                hashtagsByArticleId = forward;
+                articleCount = forward.size();
+                hashtagCount = rebuilt.size();
+            }
+            ready = true;
+            log.info("해시태그 색인 재구성 완료 - articles: {}, hashtags: {}", articleCount, hashtagCount);
+        } finally {
+            synchronized (lock) {
+                pendingChanges = null;
+            }
+        }
+    }
+
+    /**
+     * 게시글별 해시태그 변경(빈 집합이면 삭제)을 반영한다. 바뀌는 해시태그의 비트맵만 변경 전체에 대해 한 번씩 복사해서 고친 뒤 바꿔 끼운다.
+     */
+    private void applyTo(Map<String, RoaringBitmap> articleIdsByHashtag, Map<Long, Set<String>> hashtagsByArticleId, Map<Long, Set<String>> changes) {
+        Map<String, RoaringBitmap> copies = new HashMap<>();
+        changes.forEach((articleId, hashtags) -> {
+            if (!isIndexable(articleId)) {
+                if (!overflowed) log.warn("게시글 ID가 해시태그 색인 범위를 넘어서 DB 조회로 검색합니다 - articleId: {}", articleId);
+                overflowed = true;
+                return;
+            }
+
+            Set<String> previous = hashtags.isEmpty() ? hashtagsByArticleId.remove(articleId) : hashtagsByArticleId.put(articleId, hashtags);
+            Set<String> before = previous == null ? Set.of() : previous;
+            before.stream()
+                    .filter(hashtag -> !hashtags.contains(hashtag))
+                    .forEach(hashtag -> copyOf(articleIdsByHashtag, copies, hashtag).remove(articleId.intValue()));
+            hashtags.stream()
+                    .filter(hashtag -> !before.contains(hashtag))
+                    .forEach(hashtag -> copyOf(articleIdsByHashtag, copies, hashtag).add(articleId.intValue()));
+        });
+        copies.forEach((hashtag, bitmap) -> {
+            if (bitmap.isEmpty()) {
+                articleIdsByHashtag.remove(hashtag);
+            } else {
+                articleIdsByHashtag.put(hashtag, bitmap);
+            }
+        });
+    }
+
+    private static RoaringBitmap copyOf(Map<String, RoaringBitmap> articleIdsByHashtag, Map<String, RoaringBitmap> copies, String hashtag) {
+        return copies.computeIfAbsent(hashtag, key -> {
+            RoaringBitmap bitmap = articleIdsByHashtag.get(key);
+            return bitmap == null ? new RoaringBitmap() : bitmap.clone();
+        });
+    }
+
+    private static boolean isIndexable(Long articleId) {
+        return articleId >= 0 && articleId <= Integer.MAX_VALUE;
+    }
+}
@@ -0,0 +1,63 @@
+package com.fastcampus.project_board.repository.index;
+
+import com.fastcampus.project_board.util.Hashtags;
+
+import java.util.*;
+
+/**
+ * 해시태그 검색식. {@code OR}로 나뉜 절(clause)의 합집합이고, 각 절은 포함할 해시태그의 교집합에서 제외할 해시태그를 뺀 것이다.
+ * <p>
+ * {@code AND}는 생략할 수 있고, {@code AND}가 {@code OR}보다 먼저 묶인다. 포함할 해시태그가 없는 절(예: {@code NOT #legacy}만 있는 경우)은 무시한다.
+ * <pre>"#java AND #spring NOT #legacy OR #kotlin" -> (#java ∩ #spring - #legacy) ∪ (#kotlin)</pre>
+ */
+public record HashtagQuery(List<Clause> clauses) {
+
+    public static HashtagQuery parse(String query) {
+        if (query == null || query.isBlank()) return new HashtagQuery(List.of());
+
+        List<Clause> clauses = new ArrayList<>();
+        Set<String> included = new LinkedHashSet<>();
+        Set<String> excluded = new LinkedHashSet<>();
+        boolean negate = false;
+
+        for (String token : query.trim().split("\\s+")) {
+            switch (token.toUpperCase(Locale.ROOT)) {
+                case "AND" -> {}
+                case "NOT" -> negate = true;
+                case "OR" -> {
+                    addClause(clauses, included, excluded);
+                    included = new LinkedHashSet<>();
+                    excluded = new LinkedHashSet<>();
+                    negate = false;
+                }
+                default -> {
+                    (negate ? excluded : included).add(Hashtags.normalize(token));
+                    negate = false;
+                }
+            }
+        }
+        addClause(clauses, included, excluded);
+
+        return new HashtagQuery(List.copyOf(clauses));
+    }
+
+    public boolean isEmpty() {
+        return clauses.isEmpty();
+    }
+
+    /**
+     * 해시태그 집합이 이 검색식에 걸리는지 확인한다.
+     */
+    public boolean matches(Set<String> hashtags) {
+        return clauses.stream().anyMatch(clause ->
+                hashtags.containsAll(clause.included()) && Collections.disjoint(hashtags, clause.excluded()));
+    }
+
+    private static void addClause(List<Clause> clauses, Set<String> included, Set<String> excluded) {
+        if (!included.isEmpty()) {
+            clauses.add(new Clause(Set.copyOf(included), Set.copyOf(excluded)));
+        }
+    }
+
+    public record Clause(Set<String> included, Set<String> excluded) {}
+}
@@ -0,0 +1,178 @@
+package com.fastcampus.project_board.repository.index;
+
+import com.fastcampus.project_board.domain.Article;
+import com.fastcampus.project_board.repository.ArticleRepository;
+import com.fastcampus.project_board.util.Hashtags;
+import com.fastcampus.project_board.util.TransactionHooks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * 해시태그별 게시글 수
+ * <p>
+ * 매 요청마다 {@code SELECT DISTINCT hashtag}로 테이블 전체를 읽지 않도록, 기동 시 한 번 집계한 뒤 게시글 저장/수정/삭제가 커밋될 때마다 증감한다.
+ * 인기순 정렬은 증감할 때 함께 맞춰 두므로, 조회할 때 해시태그 전체를 정렬하지 않는다.
+ * 커밋 후 훅이 실행되지 못하는 경우(예: 다른 인스턴스에서의 변경)에 생기는 오차는 주기적으로 테이블과 다시 맞춘다.
+ */
+@Slf4j
+@Component
+public class HashtagStatistics {
+
+    private static final Comparator<Ranked> POPULARITY =
+            Comparator.comparingLong(Ranked::articleCount).reversed().thenComparing(Ranked::hashtag);
+
+    private final ArticleRepository articleRepository;
+    private final Object lock = new Object();
+
+    private Counts counts = new Counts(); // lock을 잡고 읽고 쓴다.
+    private List<Consumer<Counts>> pendingChanges; // 재구성 중에 커밋된 변경. 재구성한 통계에 다시 반영한다.
+    private volatile List<String> ranking; // 인기순 해시태그. 통계가 바뀌면 비우고, 다음 조회 때 정렬된 집합에서 그대로 옮겨 담는다.
+    private volatile boolean ready = false;
+
+    public HashtagStatistics(ArticleRepository articleRepository) {
+        this.articleRepository = articleRepository;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 게시글이 많은 순(같으면 가나다순)으로 해시태그를 반환한다.
+     */
+    public List<String> getHashtags() {
+        return getHashtags(Integer.MAX_VALUE);
+    }
+
+    /**
+     * 게시글이 많은 상위 {@code limit}개의 해시태그를 반환한다. 해시태그 클라우드처럼 일부만 보여줄 때 쓴다.
+     */
+    public List<String> getHashtags(int limit) {
+        List<String> hashtags = ranking;
+        if (hashtags == null) {
+            synchronized (lock) {
+                hashtags = counts.ranking();
+                ranking = hashtags;
+            }
+        }
+        return hashtags.size() <= limit ? hashtags : hashtags.subList(0, limit);
+    }
+
+    public long getArticleCount(String hashtag) {
+        synchronized (lock) {
+            return counts.articleCount(hashtag);
+        }
+    }
+
+    /**
+     * 게시글의 해시태그 컬럼을 커밋 후에 반영한다. 새 글과 수정한 글 모두 이것으로 반영하고,
+     * 이전 값은 통계가 게시글별로 기억하고 있는 것과 비교해서 바뀐 해시태그만 증감한다.
+     */
+    public void index(Article article) {
+        Long articleId = article.getId();
+        String hashtag = article.getHashtag();
+
+        TransactionHooks.afterCommit(() -> apply(statistics -> statistics.put(articleId, hashtag)));
+    }
+
+    public void remove(Long articleId) {
+        TransactionHooks.afterCommit(() -> apply(statistics -> statistics.put(articleId, null)));
+    }
+
+    private void apply(Consumer<Counts> change) {
+        synchronized (lock) {
+            change.accept(counts);
+            if (pendingChanges != null) pendingChanges.add(change);
+            ranking = null;
+        }
+    }
+
+    /**
+     * 테이블로부터 새 통계를 만들어 바꿔 끼운다. 재구성하는 동안에도 기존 통계로 응답하고, 그사이 커밋된 변경은 새 통계에 다시 반영한다.
+     * 변경은 "게시글의 해시태그가 이 값이 되었다"로 반영되므로, 테이블을 읽을 때 이미 들어간 변경을 다시 반영해도 두 번 세지 않는다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${board.hashtag-statistics.reconcile-interval:PT10M}",
+            fixedDelayString = "${board.hashtag-statistics.reconcile-interval:PT10M}"
+    )
+    public synchronized void rebuild() {
+        synchronized (lock) {
+            pendingChanges = new ArrayList<>();
+        }
+
+        try {
+            Counts rebuilt = new Counts();
+            articleRepository.findAllHashtags().forEach(rebuilt::put);
+            int hashtagCount;
+            synchronized (lock) {
+                pendingChanges.forEach(change -> change.accept(rebuilt));
+                counts = rebuilt;
+                ranking = null;
+                hashtagCount = rebuilt.size();
+            }
+            ready = true;
+            log.info("해시태그 통계 재구성 완료 - hashtags: {}", hashtagCount);
+        } finally {
+            synchronized (lock) {
+                pendingChanges = null;
+            }
+        }
+    }
+
+    private record Ranked(String hashtag, long articleCount) {}
+
+    /**
+     * 게시글별 해시태그 컬럼과, 그로부터 센 해시태그별 게시글 수. 인기순으로 정렬된 집합을 함께 고친다.
+     */
+    private static final class Counts {
+
+        private final Map<Long, String> hashtagByArticleId = new HashMap<>();
+        private final Map<String, Long> articleCounts = new HashMap<>();
+        private final NavigableSet<Ranked> ranked = new TreeSet<>(POPULARITY);
+
+        // 게시글의 해시태그 컬럼을 덮어쓴다. null이면 지운 글이다. 같은 값을 다시 넣으면 아무것도 바뀌지 않는다.
+        private void put(Long articleId, String hashtag) {
+            String previous = hashtag == null ? hashtagByArticleId.remove(articleId) : hashtagByArticleId.put(articleId, hashtag);
+            if (Objects.equals(previous, hashtag)) return;
+
+            Set<String> removed = new HashSet<>(Hashtags.parse(previous));
+            Set<String> added = new HashSet<>(Hashtags.parse(hashtag));
+            removed.removeAll(Hashtags.parse(hashtag));
+            added.removeAll(Hashtags.parse(previous));
+            removed.forEach(tag -> add(tag, -1));
+            added.forEach(tag -> add(tag, 1));
+        }
+
+        // 0이 되면 해시태그를 지운다.
+        private void add(String hashtag, long delta) {
+            long before = articleCounts.getOrDefault(hashtag, 0L);
+            long after = before + delta;
+            if (before > 0) ranked.remove(new Ranked(hashtag, before));
+            if (after > 0) {
+                articleCounts.put(hashtag, after);
+                ranked.add(new Ranked(hashtag, after));
+            } else {
+                articleCounts.remove(hashtag);
+            }
+        }
+
+        private long articleCount(String hashtag) {
+            return articleCounts.getOrDefault(hashtag, 0L);
+        }
+
+        private List<String> ranking() {
+            return ranked.stream().map(Ranked::hashtag).toList();
+        }
+
+        private int size() {
+            return articleCounts.size();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.fastcampus.project_board.repository.index;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 글자 단위 n-gram tokenizer
+ * <p>
+ * 띄어쓰기로 단어를 나누기 어려운 한글, 혼합 문자열에서도 부분 일치를 찾기 위해 사용한다.
+ * 원문이 검색어를 포함하면 검색어의 모든 n-gram은 원문의 n-gram에 들어있으므로, 색인 결과는 "포함" 검색 결과의 상위 집합이 된다.
+ */
+public class NGramTokenizer implements Tokenizer {
+
+    private final int gramSize;
+
+    public NGramTokenizer(int gramSize) {
+        if (gramSize < 1) {
+            throw new IllegalArgumentException("n-gram 크기는 1 이상이어야 합니다 - gramSize: " + gramSize);
+        }
+        this.gramSize = gramSize;
+    }
+
+    @Override
+    public Set<String> tokenize(String text) {
+        if (text == null || text.length() < gramSize) {
+            return Set.of();
+        }
+
+        String normalized = text.toLowerCase(Locale.ROOT);
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + gramSize <= normalized.length(); i++) {
+            grams.add(normalized.substring(i, i + gramSize));
+        }
+        return grams;
+    }
+
+    // n보다 짧은 검색어는 만들 수 있는 gram이 없다.
+    @Override
+    public boolean canSearch(String keyword) {
+        return keyword != null && keyword.length() >= gramSize;
+    }
+
+    @Override
+    public boolean requiresVerification() {
+        return true;
+    }
+}
@@ -0,0 +1,21 @@
+package com.fastcampus.project_board.repository.index;
+
+import java.util.Set;
+
+/**
+ * 검색 색인에 넣을 term을 만드는 규칙
+ */
+public interface Tokenizer {
+
+    Set<String> tokenize(String text);
+
+    /**
+     * 검색어를 색인만으로 처리할 수 있는지 여부. 처리할 수 없으면 기존 {@code Containing} 조회로 넘긴다.
+     */
+    boolean canSearch(String keyword);
+
+    /**
+     * 색인 결과가 "포함" 검색의 후보일 뿐이라, 원문에 검색어가 실제로 들어있는지 확인이 필요한지 여부
+     */
+    boolean requiresVerification();
+}
@@ -0,0 +1,34 @@
+package com.fastcampus.project_board.repository.index;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 공백, 문장부호 기준으로 단어를 자르는 tokenizer. 대소문자를 구분하지 않는다.
+ */
+public class WordTokenizer implements Tokenizer {
+
+    @Override
+    public Set<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return Set.of();
+        }
+
+        Set<String> terms = new HashSet<>();
+        for (String term : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!term.isEmpty()) terms.add(term);
+        }
+        return terms;
+    }
+
+    @Override
+    public boolean canSearch(String keyword) {
+        return !tokenize(keyword).isEmpty();
+    }
+
+    @Override
+    public boolean requiresVerification() {
+        return false;
+    }
+}
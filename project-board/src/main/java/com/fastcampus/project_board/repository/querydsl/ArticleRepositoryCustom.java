@@ -1,7 +1,85 @@
 package com.fastcampus.project_board.repository.querydsl;
 
+import com.fastcampus.project_board.DTO.ArticleCursor;
+import com.fastcampus.project_board.DTO.ArticleExcerptDto;
+import com.fastcampus.project_board.domain.Article;
+import com.fastcampus.project_board.repository.index.HashtagQuery;
+import com.querydsl.core.types.Predicate;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
 
 public interface ArticleRepositoryCustom {
     List<String> findAllDistinctHashtags();
+
+    /**
+     * 게시글 ID별 해시태그 컬럼 값 (해시태그가 없는 게시글은 제외)
+     */
+    Map<Long, String> findAllHashtags();
+
+    /**
+     * 해시태그 검색식에 걸리는 게시글 ID를 ID 순으로 조회한다. 해시태그 색인이 준비되기 전에 쓴다.
+     * 컬럼 값 하나에 해시태그가 여러 개 있을 수 있으므로, 포함할 해시태그가 들어 있는 행만 LIKE로 추린 뒤 해시태그 단위로 나눠서 확인한다.
+     */
+    List<Long> findIdsByHashtagQuery(HashtagQuery query);
+
+    /**
+     * 게시글 ID별 작성일시
+     */
+    Map<Long, LocalDateTime> findAllCreatedAt();
+
+    /**
+     * 커서 위치부터 (createdAt, id) 순서로 최대 {@code limit}개의 게시글을 조회한다.
+     * offset을 쓰지 않으므로 깊은 페이지에서도 createdAt 인덱스를 타고 바로 이어서 읽는다.
+     * 뒤로 가는 커서({@link ArticleCursor#isBackward()})는 오래된 순으로 반환한다.
+     */
+    List<Article> findAllByKeyset(Predicate predicate, ArticleCursor cursor, int limit);
+
+    /**
+     * 게시글 목록 API용 요약을 페이지로 조회한다. 엔티티를 읽지 않고, 요약 컬럼과 작성자 닉네임, 댓글 수만 DTO로 바로 SELECT 한다.
+     */
+    Page<ArticleExcerptDto> findExcerpts(Predicate predicate, Pageable pageable);
+
+    /**
+     * 게시글을 {@code articleIds} 순서대로 조회한다. IN 조회 한 번으로 읽고, 없는(지워진) 게시글은 빠진다.
+     * 호출하는 쪽에서 한 페이지만큼의 ID만 넘긴다.
+     */
+    List<Article> findAllInOrder(List<Long> articleIds);
+
+    /**
+     * 게시글 ID 집합을 {@code pageable}의 정렬로 나열했을 때 한 페이지를 조회한다.
+     * ID를 IN 조건 하나로 모두 넘기지 않고 청크로 나눠서, 청크마다 정렬한 앞부분만 읽고 합친다.
+     */
+    List<Article> findPageByIdIn(LongStream articleIds, Pageable pageable);
+
+    /**
+     * count 쿼리 없이 페이지 내용만 조회한다.
+     */
+    List<Article> findContent(Predicate predicate, Pageable pageable);
+
+    /**
+     * {@code offset} 이후의 게시글 수를 최대 {@code limit}까지만 센다. ID만 읽으므로 전체 count보다 훨씬 싸다.
+     */
+    long countUpTo(Predicate predicate, long offset, long limit);
+
+    /**
+     * 게시글마다 조회수 증가분을 더한다. 엔티티를 읽지 않고 {@code view_count = view_count + ?} UPDATE를 JDBC batch로 보낸다.
+     */
+    void addViewCounts(Map<Long, Long> viewCounts);
+
+    /**
+     * 작성자와 버전이 모두 맞을 때만, 바뀐 컬럼만 조건부 UPDATE 한 번으로 수정한다. 작성자 엔티티는 읽지 않는다.
+     * 수정하면 {@code entity}를 다시 읽어서 바뀐 값과 버전을 반영한다.
+     *
+     * @param entity 수정 전에 읽어 둔 게시글
+     * @param expectedVersion 사용자가 수정 폼을 열 때 읽은 버전. 이 버전일 때만 수정한다.
+     * @param title 새 제목. null이면 그대로 둔다.
+     * @param content 새 본문. null이면 그대로 둔다.
+     * @return 수정한 행 수. 0이면 작성자가 아니거나, 그사이 다른 수정/삭제가 있었던 것이다.
+     */
+    long updateIfOwned(Article entity, long expectedVersion, String userId, String title, String content, String hashtag);
 }
@@ -1,16 +1,53 @@
 package com.fastcampus.project_board.repository.querydsl;
 
+import com.fastcampus.project_board.DTO.ArticleCursor;
+import com.fastcampus.project_board.DTO.ArticleExcerptDto;
 import com.fastcampus.project_board.domain.Article;
 import com.fastcampus.project_board.domain.QArticle;
+import com.fastcampus.project_board.domain.QArticleComment;
+import com.fastcampus.project_board.domain.QUserAccount;
+import com.fastcampus.project_board.repository.index.HashtagQuery;
+import com.fastcampus.project_board.util.Hashtags;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
+import com.querydsl.core.dml.UpdateClause;
 import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAUpdateClause;
+import org.springframework.beans.support.PropertyComparator;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 public class ArticleRepositoryCustomImpl extends QuerydslRepositorySupport implements ArticleRepositoryCustom {
 
-    public ArticleRepositoryCustomImpl() {
+    private static final int ID_CHUNK_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ArticleRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
         super(Article.class);
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -23,4 +60,225 @@ public class ArticleRepositoryCustomImpl extends QuerydslRepositorySupport imple
                 .where(article.hashtag.isNotNull())
                 .fetch();
     }
+
+    @Override
+    public Map<Long, String> findAllHashtags() {
+        QArticle article = QArticle.article;
+
+        return from(article)
+                .select(article.id, article.hashtag)
+                .where(article.hashtag.isNotNull())
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(tuple -> tuple.get(article.id), tuple -> tuple.get(article.hashtag)));
+    }
+
+    // 컬럼에는 '#'이 빠진 해시태그도 있으므로 '#'을 뗀 이름으로 추린다. 추린 행은 Hashtags.parse로 나눠서 색인과 같은 기준으로 확인한다.
+    @Override
+    public List<Long> findIdsByHashtagQuery(HashtagQuery query) {
+        if (query.isEmpty()) {
+            return List.of();
+        }
+
+        QArticle article = QArticle.article;
+        BooleanBuilder candidates = new BooleanBuilder();
+        query.clauses().stream()
+                .flatMap(clause -> clause.included().stream())
+                .distinct()
+                .forEach(hashtag -> candidates.or(article.hashtag.contains(hashtag.substring(1))));
+
+        return from(article)
+                .select(article.id, article.hashtag)
+                .where(article.hashtag.isNotNull(), candidates)
+                .orderBy(article.id.asc())
+                .fetch()
+                .stream()
+                .filter(tuple -> query.matches(Hashtags.parse(tuple.get(article.hashtag))))
+                .map(tuple -> tuple.get(article.id))
+                .toList();
+    }
+
+    @Override
+    public Map<Long, LocalDateTime> findAllCreatedAt() {
+        QArticle article = QArticle.article;
+
+        return from(article)
+                .select(article.id, article.createdAt)
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(tuple -> tuple.get(article.id), tuple -> tuple.get(article.createdAt)));
+    }
+
+    @Override
+    public List<Article> findAllByKeyset(Predicate predicate, ArticleCursor cursor, int limit) {
+        QArticle article = QArticle.article;
+        boolean backward = cursor.isBackward();
+
+        return from(article)
+                .where(predicate, keysetCondition(article, cursor))
+                .orderBy(
+                        backward ? article.createdAt.asc() : article.createdAt.desc(),
+                        backward ? article.id.asc() : article.id.desc()
+                )
+                .limit(limit)
+                .fetch();
+    }
+
+    // 댓글 수는 상관 서브쿼리로 센다. (article_comment의 article_id 인덱스를 탄다.) 개수는 작성자 조인 없이 센다.
+    @Override
+    public Page<ArticleExcerptDto> findExcerpts(Predicate predicate, Pageable pageable) {
+        QArticle article = QArticle.article;
+        QUserAccount userAccount = QUserAccount.userAccount;
+        QArticleComment articleComment = QArticleComment.articleComment;
+
+        JPQLQuery<ArticleExcerptDto> query = from(article)
+                .join(article.userAccount, userAccount)
+                .select(Projections.constructor(ArticleExcerptDto.class,
+                        article.id,
+                        article.title,
+                        article.hashtag,
+                        article.createdAt,
+                        userAccount.userId,
+                        userAccount.nickname,
+                        JPAExpressions.select(articleComment.count())
+                                .from(articleComment)
+                                .where(articleComment.article.eq(article))
+                ))
+                .where(predicate);
+        List<ArticleExcerptDto> content = getQuerydsl().applyPagination(pageable, query).fetch();
+
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> from(article).select(article.count()).where(predicate).fetchOne());
+    }
+
+    // Data REST 응답은 트랜잭션 밖에서 직렬화되므로 작성자를 함께 조인해서 읽는다.
+    @Override
+    public List<Article> findAllInOrder(List<Long> articleIds) {
+        if (articleIds.isEmpty()) {
+            return List.of();
+        }
+
+        QArticle article = QArticle.article;
+        Map<Long, Article> articlesById = from(article)
+                .join(article.userAccount).fetchJoin()
+                .where(article.id.in(articleIds))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(Article::getId, Function.identity()));
+
+        return articleIds.stream()
+                .map(articlesById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    // 청크마다 앞쪽 offset + size개까지만 남기며 합친다. 합친 목록은 같은 정렬 속성으로 메모리에서 다시 정렬한다.
+    // 작성자는 findAllInOrder와 같은 이유로 함께 조인해서 읽는다.
+    @Override
+    public List<Article> findPageByIdIn(LongStream articleIds, Pageable pageable) {
+        QArticle article = QArticle.article;
+        int needed = Math.toIntExact(pageable.getOffset() + pageable.getPageSize());
+        Pageable head = PageRequest.of(0, needed, pageable.getSort());
+        Comparator<Article> comparator = comparatorOf(pageable.getSort());
+
+        List<Article> merged = new ArrayList<>();
+        List<Long> chunk = new ArrayList<>(ID_CHUNK_SIZE);
+        PrimitiveIterator.OfLong iterator = articleIds.iterator();
+        while (iterator.hasNext()) {
+            chunk.add(iterator.next());
+            if (chunk.size() < ID_CHUNK_SIZE && iterator.hasNext()) continue;
+
+            JPQLQuery<Article> query = from(article).join(article.userAccount).fetchJoin().where(article.id.in(chunk));
+            merged.addAll(getQuerydsl().applyPagination(head, query).fetch());
+            merged.sort(comparator);
+            if (merged.size() > needed) merged.subList(needed, merged.size()).clear();
+            chunk = new ArrayList<>(ID_CHUNK_SIZE);
+        }
+
+        return merged.stream()
+                .skip(pageable.getOffset())
+                .toList();
+    }
+
+    // 정렬 속성 경로(예: userAccount.userId)를 그대로 따라가서 비교한다. 같으면 ID 순서로 둔다.
+    private Comparator<Article> comparatorOf(Sort sort) {
+        Comparator<Article> comparator = (left, right) -> 0;
+        for (Sort.Order order : sort) {
+            comparator = comparator.thenComparing(new PropertyComparator<Article>(order.getProperty(), order.isIgnoreCase(), order.isAscending()));
+        }
+        return comparator.thenComparing(Article::getId);
+    }
+
+    @Override
+    public List<Article> findContent(Predicate predicate, Pageable pageable) {
+        QArticle article = QArticle.article;
+        JPQLQuery<Article> query = from(article).where(predicate);
+
+        return getQuerydsl().applyPagination(pageable, query).fetch();
+    }
+
+    // 개수만 알면 되므로 정렬하지 않는다.
+    @Override
+    public long countUpTo(Predicate predicate, long offset, long limit) {
+        QArticle article = QArticle.article;
+
+        return from(article)
+                .select(article.id)
+                .where(predicate)
+                .offset(offset)
+                .limit(limit)
+                .fetch()
+                .size();
+    }
+
+    // 여러 인스턴스가 동시에 반영해도 행 잠금 순서가 같도록 게시글 ID 순으로 보낸다.
+    @Transactional
+    @Override
+    public void addViewCounts(Map<Long, Long> viewCounts) {
+        List<Object[]> batchArgs = new TreeMap<>(viewCounts).entrySet().stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .toList();
+
+        jdbcTemplate.batchUpdate("update article set view_count = view_count + ? where id = ?", batchArgs);
+    }
+
+    // 엔티티 리스너를 거치지 않으므로 감사 필드와 버전을 직접 채운다. 수정자는 작성자 본인이다.
+    @Transactional
+    @Override
+    public long updateIfOwned(Article entity, long expectedVersion, String userId, String title, String content, String hashtag) {
+        QArticle article = QArticle.article;
+        UpdateClause<JPAUpdateClause> update = update(article)
+                .set(article.version, expectedVersion + 1)
+                .set(article.modifiedAt, LocalDateTime.now())
+                .set(article.modifiedBy, userId)
+                .where(
+                        article.id.eq(entity.getId()),
+                        article.userAccount.userId.eq(userId),
+                        article.version.eq(expectedVersion),
+                        article.deleted.isFalse()
+                );
+        if (title != null && !title.equals(entity.getTitle())) update.set(article.title, title);
+        if (content != null && !content.equals(entity.getContent())) update.set(article.content, content);
+        if (!Objects.equals(hashtag, entity.getHashtag())) update.set(article.hashtag, hashtag);
+
+        long updated = update.execute();
+        if (updated > 0) {
+            getEntityManager().refresh(entity);
+        }
+        return updated;
+    }
+
+    // (createdAt, id) < (커서 createdAt, 커서 id) 를 풀어쓴 조건. 첫 페이지면 조건이 없다(null은 where에서 무시된다).
+    private BooleanExpression keysetCondition(QArticle article, ArticleCursor cursor) {
+        if (cursor.isFirst()) {
+            return null;
+        }
+
+        if (cursor.isBackward()) {
+            return article.createdAt.gt(cursor.createdAt())
+                    .or(article.createdAt.eq(cursor.createdAt()).and(article.id.gt(cursor.id())));
+        }
+        return article.createdAt.lt(cursor.createdAt())
+                .or(article.createdAt.eq(cursor.createdAt()).and(article.id.lt(cursor.id())));
+    }
 }
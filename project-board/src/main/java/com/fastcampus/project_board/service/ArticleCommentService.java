@@ -1,5 +1,6 @@
 package com.fastcampus.project_board.service;
 
+import com.fastcampus.project_board.DTO.ArticleCommentCursor;
 import com.fastcampus.project_board.DTO.ArticleCommentDto;
 import com.fastcampus.project_board.DTO.UserAccountDto;
 import com.fastcampus.project_board.domain.Article;
@@ -8,13 +9,17 @@ import com.fastcampus.project_board.domain.UserAccount;
 import com.fastcampus.project_board.repository.ArticleCommentRepository;
 import com.fastcampus.project_board.repository.ArticleRepository;
 import com.fastcampus.project_board.repository.UserAccountRepository;
+import com.fastcampus.project_board.service.cache.RenderedPageCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityNotFoundException;
-import javax.swing.text.html.parser.Entity;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Slf4j
@@ -25,32 +30,84 @@ public class ArticleCommentService {
     private final ArticleRepository articleRepository;
     private final ArticleCommentRepository articleCommentRepository;
     private final UserAccountRepository userAccountRepository;
+    private final RenderedPageCache renderedPageCache;
 
+    /**
+     * 게시글의 댓글을 최신순으로 커서 다음부터 {@code size}개 반환한다. 반환하는 Slice의 {@code hasNext()}로 더보기 여부를 판단한다.
+     */
     @Transactional(readOnly = true)
-    public List<ArticleCommentDto> searchArticleComments(long articleId) {
-        return List.of();
+    public Slice<ArticleCommentDto> searchArticleComments(long articleId, ArticleCommentCursor cursor, int size) {
+        Pageable pageable = Pageable.ofSize(size);
+        Slice<ArticleComment> articleComments = cursor.isFirst()
+                ? articleCommentRepository.findFirstPageByArticleId(articleId, pageable)
+                : articleCommentRepository.findPageByArticleIdAfter(articleId, cursor.createdAt(), cursor.id(), pageable);
+
+        return articleComments.map(ArticleCommentDto::from);
     }
 
     public void saveArticleComment(ArticleCommentDto dto) {
         try{
             Article article = articleRepository.getReferenceById(dto.articleId());
             UserAccount userAccount = userAccountRepository.getReferenceById(dto.userAccountDto().userId());
-            articleCommentRepository.save(dto.toEntity(article, userAccount));
+            ArticleComment articleComment = articleCommentRepository.save(dto.toEntity(article, userAccount));
+            renderedPageCache.invalidate(articleComment.getArticle().getId(), articleComment);
         } catch (EntityNotFoundException e){
             log.warn("댓글 저장 실패. 댓글 작성에 필요한 정보를 찾을 수 없습니다. - {}", e.getLocalizedMessage());
         }
     }
 
+    /**
+     * 대량 등록용. 호출 한 번이 트랜잭션 하나이므로, 호출하는 쪽에서 청크 단위로 나눠서 부른다.
+     * 게시글과 작성자는 이미 있는지 확인했다고 보고 참조만 건다.
+     */
+    public int saveArticleComments(List<ArticleCommentDto> dtos) {
+        List<ArticleComment> articleComments = articleCommentRepository.saveAll(dtos.stream()
+                .map(dto -> dto.toEntity(
+                        articleRepository.getReferenceById(dto.articleId()),
+                        userAccountRepository.getReferenceById(dto.userAccountDto().userId())
+                ))
+                .toList());
+        renderedPageCache.invalidateAll();
+
+        return articleComments.size();
+    }
+
     public void updateArticleComment(ArticleCommentDto dto){
         try {
             ArticleComment articleComment = articleCommentRepository.getReferenceById(dto.id());
-            if(dto.content() != null) articleComment.setContent(dto.content());
+            if(dto.content() != null){
+                articleComment.setContent(dto.content());
+                renderedPageCache.invalidate(articleComment.getArticle().getId(), articleComment); // 프록시가 초기화된 경우에만 커밋 후 modifiedAt을 읽을 수 있다.
+            }
         } catch (EntityNotFoundException e){
             log.warn("댓글 업데이트 실패. 댓글을 찾을 수 없습니다 - dto: {}", dto);
         }
     }
 
     public void deleteArticleComment(Long articleCommentId, String userId){
-        articleCommentRepository.deleteByIdAndUserAccount_UserId(articleCommentId, userId);
+        articleCommentRepository.findByIdAndUserAccount_UserId(articleCommentId, userId)
+                .ifPresent(deleted -> {
+                    articleCommentRepository.bulkDeleteByIdIn(List.of(articleCommentId), LocalDateTime.now());
+                    renderedPageCache.invalidate(deleted.getArticle().getId());
+                });
+    }
+
+    /**
+     * 모더레이터의 사용자 콘텐츠 삭제용. 사용자가 단 댓글 ID를 앞에서부터 {@code limit}개 반환한다.
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findArticleCommentIdsOf(String userId, int limit) {
+        return articleCommentRepository.findIdsByUserId(userId, Pageable.ofSize(limit));
+    }
+
+    /**
+     * 모더레이터의 사용자 콘텐츠 삭제용. 엔티티를 읽지 않고 UPDATE 문 하나로 삭제 표시한다.
+     * 호출 한 번이 트랜잭션 하나이므로, 호출하는 쪽에서 청크 단위로 나눠서 부른다.
+     */
+    public int deleteArticleComments(Collection<Long> articleCommentIds) {
+        int deleted = articleCommentRepository.bulkDeleteByIdIn(articleCommentIds, LocalDateTime.now());
+        renderedPageCache.invalidateAll();
+
+        return deleted;
     }
 }
@@ -0,0 +1,87 @@
+package com.fastcampus.project_board.service;
+
+import com.fastcampus.project_board.DTO.ArticleCommentDto;
+import com.fastcampus.project_board.DTO.ArticleDto;
+import com.fastcampus.project_board.DTO.response.ArticleExportResponse;
+import com.fastcampus.project_board.domain.Article;
+import com.fastcampus.project_board.domain.ArticleComment;
+import com.fastcampus.project_board.repository.ArticleCommentRepository;
+import com.fastcampus.project_board.repository.ArticleRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 게시판 전체를 NDJSON(게시글 하나와 그 댓글이 한 줄)으로 내보낸다.
+ * <p>
+ * 게시글과 댓글을 각각 게시글 ID 순의 전방 전용 커서로 읽으면서 나란히 맞춰 묶으므로, 게시글마다 댓글을 따로 조회하지 않는다.
+ * 읽은 엔티티는 바로 DTO로 바꿔서 쓰고, 일정 건수마다 영속성 컨텍스트를 비워서 테이블 크기와 상관없이 메모리를 일정하게 쓴다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ArticleExportService {
+
+    private static final int CLEAR_INTERVAL = 1_000;
+
+    private final ArticleRepository articleRepository;
+    private final ArticleCommentRepository articleCommentRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @return 내보낸 게시글 수
+     */
+    @Transactional(readOnly = true)
+    public long exportArticles(OutputStream out) throws IOException {
+        ObjectWriter rowWriter = objectMapper.writerFor(ArticleExportResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        long exported = 0;
+
+        try (Stream<Article> articles = articleRepository.streamAllByOrderById();
+             Stream<ArticleComment> articleComments = articleCommentRepository.streamAllByOrderByArticleId();
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET); // 응답 스트림은 컨테이너가 닫는다.
+            generator.setRootValueSeparator(null); // 줄 구분은 직접 쓴다.
+
+            Iterator<ArticleComment> commentIterator = articleComments.iterator();
+            ArticleComment pending = commentIterator.hasNext() ? commentIterator.next() : null;
+
+            for (Iterator<Article> articleIterator = articles.iterator(); articleIterator.hasNext(); ) {
+                Article article = articleIterator.next();
+
+                // 두 커서 모두 게시글 ID 순이므로, 현재 게시글까지의 댓글만 꺼낸다. (게시글이 먼저 지워진 댓글은 건너뛴다.)
+                List<ArticleCommentDto> articleCommentDtos = new ArrayList<>();
+                while (pending != null && pending.getArticle().getId() <= article.getId()) {
+                    if (pending.getArticle().getId().equals(article.getId())) {
+                        articleCommentDtos.add(ArticleCommentDto.from(pending));
+                    }
+                    pending = commentIterator.hasNext() ? commentIterator.next() : null;
+                }
+
+                rowWriter.writeValue(generator, ArticleExportResponse.from(ArticleDto.from(article), articleCommentDtos));
+                generator.writeRaw('\n');
+
+                if (++exported % CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+
+        log.info("게시글 내보내기 완료 - articles: {}", exported);
+        return exported;
+    }
+}
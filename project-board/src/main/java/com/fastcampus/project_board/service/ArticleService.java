@@ -1,21 +1,58 @@
 package com.fastcampus.project_board.service;
 
+import com.fastcampus.project_board.DTO.ArticleCommentCursor;
+import com.fastcampus.project_board.DTO.ArticleCursor;
+import com.fastcampus.project_board.DTO.ArticleDetailDto;
 import com.fastcampus.project_board.DTO.ArticleDto;
-import com.fastcampus.project_board.DTO.ArticleWithCommentsDto;
+import com.fastcampus.project_board.DTO.UserAccountDto;
+import com.fastcampus.project_board.config.PaginationConfig.PaginationProperties;
 import com.fastcampus.project_board.domain.Article;
+import com.fastcampus.project_board.domain.QArticle;
 import com.fastcampus.project_board.domain.UserAccount;
+import com.fastcampus.project_board.domain.constant.CountStrategy;
 import com.fastcampus.project_board.domain.constant.SearchType;
+import com.fastcampus.project_board.repository.ArticleCommentRepository;
 import com.fastcampus.project_board.repository.ArticleRepository;
 import com.fastcampus.project_board.repository.UserAccountRepository;
+import com.fastcampus.project_board.repository.index.ArticleCounter;
+import com.fastcampus.project_board.repository.index.ArticleSearchIndex;
+import com.fastcampus.project_board.repository.index.ArticleTimeline;
+import com.fastcampus.project_board.repository.index.ArticleViewCounter;
+import com.fastcampus.project_board.repository.index.HashtagIndex;
+import com.fastcampus.project_board.repository.index.HashtagQuery;
+import com.fastcampus.project_board.repository.index.HashtagStatistics;
+import com.fastcampus.project_board.service.cache.ArticleCountCache;
+import com.fastcampus.project_board.service.cache.ArticleSearchCache;
+import com.fastcampus.project_board.service.cache.RenderedPageCache;
+import com.fastcampus.project_board.util.Hashtags;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityNotFoundException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 @Slf4j
 @RequiredArgsConstructor    // 필수 생성자를 만들어주는 Lombok의 기능
@@ -23,12 +60,47 @@ import java.util.List;
 @Service
 public class ArticleService {
 
+    private static final int VERIFICATION_WINDOW_SIZE = 200;
+
     private final ArticleRepository articleRepository;
+    private final ArticleCommentRepository articleCommentRepository;
     private final UserAccountRepository userAccountRepository;
+    private final ArticleSearchIndex articleSearchIndex;
+    private final ArticleTimeline articleTimeline;
+    private final HashtagIndex hashtagIndex;
+    private final HashtagStatistics hashtagStatistics;
+    private final ArticleCountCache articleCountCache;
+    private final ArticleSearchCache articleSearchCache;
+    private final PaginationProperties paginationProperties;
+    private final ArticleCounter articleCounter;
+    private final ArticleViewCounter articleViewCounter;
+    private final ArticleCommentService articleCommentService;
+    private final RenderedPageCache renderedPageCache;
 
     @Transactional(readOnly = true)
     public Page<ArticleDto> searchArticles(SearchType searchType, String search_keyword, Pageable pageable) {
-        if(search_keyword == null || search_keyword.isBlank()){
+        return articleSearchCache.get(
+                ArticleSearchCache.Key.search(searchType, search_keyword, pageable),
+                () -> loadArticles(searchType, search_keyword, pageable)
+        );
+    }
+
+    private Page<ArticleDto> loadArticles(SearchType searchType, String search_keyword, Pageable pageable) {
+        boolean noKeyword = search_keyword == null || search_keyword.isBlank();
+        // 색인 검색은 후보 수를 이미 알고 있으므로 count 전략과 상관없이 색인으로 페이지를 만든다.
+        if(!noKeyword && articleSearchIndex.supports(searchType, search_keyword) && articleTimeline.supports(pageable.getSort())){
+            return searchArticlesViaIndex(searchType, search_keyword, pageable);
+        }
+        if(!noKeyword && searchType == SearchType.HASHTAG && hashtagIndex.isReady()){
+            return findArticlesByHashtagQuery(search_keyword, pageable);
+        }
+
+        CountStrategy countStrategy = paginationProperties.countStrategyOf(noKeyword ? null : searchType);
+        if(countStrategy != CountStrategy.EXACT){
+            return searchArticlesWithoutExactCount(countStrategy, noKeyword ? null : searchType, search_keyword, pageable);
+        }
+
+        if(noKeyword){
             return articleRepository.findAll(pageable)
                     .map(ArticleDto::from);
         }
@@ -38,16 +110,179 @@ public class ArticleService {
             case CONTENT -> articleRepository.findByContentContaining(search_keyword,pageable).map(ArticleDto::from);
             case ID -> articleRepository.findByUserAccount_UserIdContaining(search_keyword,pageable).map(ArticleDto::from);
             case NICKNAME -> articleRepository.findByUserAccount_NicknameContaining(search_keyword,pageable).map(ArticleDto::from);
-            case HASHTAG -> articleRepository.findByHashtag("#" + search_keyword,pageable).map(ArticleDto::from);
+            case HASHTAG -> findArticlesByHashtagQuery(search_keyword, pageable);
+        };
+    }
+
+    // 역색인에서 후보 ID를 찾고, 메모리에서 목록 순서대로 정렬해서 요청한 페이지의 게시글만 PK로 읽는다.
+    private Page<ArticleDto> searchArticlesViaIndex(SearchType searchType, String search_keyword, Pageable pageable) {
+        Set<Long> candidateIds = articleSearchIndex.search(searchType, search_keyword);
+        if(candidateIds.isEmpty()){
+            return Page.empty(pageable);
+        }
+        if(articleSearchIndex.requiresVerification()){
+            return searchCandidatesWithVerification(searchType, search_keyword, candidateIds, pageable);
+        }
 
+        List<Long> pageIds = articleTimeline.page(candidateIds.stream().mapToLong(Long::longValue), pageable.getSort(), pageable.getOffset(), pageable.getPageSize());
+        return new PageImpl<>(articleRepository.findAllInOrder(pageIds), pageable, candidateIds.size()).map(ArticleDto::from);
+    }
+
+    // n-gram 색인은 후보만 좁혀주므로, 정렬한 후보를 앞에서부터 창 단위로 Containing 조건으로 확인한다.
+    // 후보를 끝까지 확인하지는 않으므로, 전체 개수는 SLICE 전략처럼 페이지네이션 바에 보일 페이지까지만 센다.
+    private Page<ArticleDto> searchCandidatesWithVerification(SearchType searchType, String search_keyword, Set<Long> candidateIds, Pageable pageable) {
+        List<Long> sortedIds = articleTimeline.sort(candidateIds, pageable.getSort());
+        long needed = pageable.getOffset() + (long) pageable.getPageSize() * (paginationProperties.getLookaheadPages() + 1);
+
+        List<Article> verified = new ArrayList<>();
+        for(int from = 0; from < sortedIds.size() && verified.size() < needed; from += VERIFICATION_WINDOW_SIZE){
+            List<Long> window = sortedIds.subList(from, Math.min(from + VERIFICATION_WINDOW_SIZE, sortedIds.size()));
+            verified.addAll(inOrder(window, findContaining(searchType, window, search_keyword)));
+        }
+
+        int fromIndex = (int) Math.min(pageable.getOffset(), verified.size());
+        int toIndex = Math.min(fromIndex + pageable.getPageSize(), verified.size());
+        return new PageImpl<>(verified.subList(fromIndex, toIndex), pageable, verified.size()).map(ArticleDto::from);
+    }
+
+    private List<Article> findContaining(SearchType searchType, List<Long> candidateIds, String search_keyword) {
+        return switch (searchType){
+            case TITLE -> articleRepository.findAllByIdInAndTitleContaining(candidateIds, search_keyword);
+            case CONTENT -> articleRepository.findAllByIdInAndContentContaining(candidateIds, search_keyword);
+            default -> throw new IllegalArgumentException("색인 검색을 지원하지 않는 검색 타입입니다 - searchType: " + searchType);
         };
     }
 
+    // IN 조회 결과는 순서가 없으므로, 요청한 ID 순서로 되돌린다. 그사이 지워진 게시글은 빠진다.
+    private List<Article> inOrder(List<Long> articleIds, List<Article> articles) {
+        Map<Long, Article> articlesById = articles.stream().collect(Collectors.toMap(Article::getId, Function.identity()));
+        return articleIds.stream()
+                .map(articlesById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    // 전체 count 쿼리 대신, 바를 그릴 만큼만 앞을 확인(SLICE)하거나 캐시한 개수(APPROXIMATE)로 페이지를 만든다.
+    private Page<ArticleDto> searchArticlesWithoutExactCount(CountStrategy countStrategy, SearchType searchType, String search_keyword, Pageable pageable) {
+        Predicate predicate = searchCondition(searchType, search_keyword);
+        List<Article> articles = articleRepository.findContent(predicate, pageable);
+        long total = countStrategy == CountStrategy.SLICE
+                ? lookaheadTotal(predicate, pageable, articles.size())
+                : articleCountCache.get(searchType, search_keyword, () -> articleRepository.count(predicate));
+
+        return new PageImpl<>(articles, pageable, total).map(ArticleDto::from);
+    }
+
+    // 현재 페이지 뒤로 페이지네이션 바에 보일 페이지 수만큼만 센다. 그 너머는 모르지만 바와 next 버튼을 그리기엔 충분하다.
+    private long lookaheadTotal(Predicate predicate, Pageable pageable, int contentSize) {
+        long total = pageable.getOffset() + contentSize;
+        if(contentSize < pageable.getPageSize()){
+            return total;
+        }
+        return total + articleRepository.countUpTo(predicate, total, (long) pageable.getPageSize() * paginationProperties.getLookaheadPages());
+    }
+
+    /**
+     * keyset 페이지네이션 검색. 모든 검색 타입에서 (createdAt DESC, id DESC) 순서로 커서 다음의 게시글을 반환한다.
+     * 반환하는 Slice의 {@code hasNext()}는 커서가 진행하는 방향으로 더 읽을 게시글이 있는지를 뜻한다.
+     */
     @Transactional(readOnly = true)
-    public ArticleWithCommentsDto getArticleWithComments(Long articleId) {
-        return articleRepository.findById(articleId)
-                .map(ArticleWithCommentsDto::from)
-                .orElseThrow(() -> new EntityNotFoundException("게시글이 없습니다 - articleId: " + articleId));
+    public Slice<ArticleDto> searchArticles(SearchType searchType, String search_keyword, ArticleCursor cursor, int size) {
+        if(search_keyword != null && !search_keyword.isBlank() && articleTimeline.isReady()){
+            if(searchType == SearchType.HASHTAG && hashtagIndex.isReady()){
+                return findArticlesByKeyset(hashtagIndex.search(HashtagQuery.parse(search_keyword)).stream().asLongStream(), cursor, size);
+            }
+            if(articleSearchIndex.supports(searchType, search_keyword)){
+                return searchArticlesViaIndex(searchType, search_keyword, cursor, size);
+            }
+        }
+
+        return findArticlesByKeyset(searchCondition(searchType, search_keyword), cursor, size);
+    }
+
+    // 커서 다음의 후보를 목록 순서로 골라서 그 게시글만 읽는다. n-gram 후보는 앞에서부터 창 단위로 확인한다.
+    private Slice<ArticleDto> searchArticlesViaIndex(SearchType searchType, String search_keyword, ArticleCursor cursor, int size) {
+        Set<Long> candidateIds = articleSearchIndex.search(searchType, search_keyword);
+        if(!articleSearchIndex.requiresVerification()){
+            return findArticlesByKeyset(candidateIds.stream().mapToLong(Long::longValue), cursor, size);
+        }
+
+        List<Long> orderedIds = articleTimeline.after(candidateIds.stream().mapToLong(Long::longValue), cursor, candidateIds.size());
+        List<Article> verified = new ArrayList<>();
+        for(int from = 0; from < orderedIds.size() && verified.size() <= size; from += VERIFICATION_WINDOW_SIZE){
+            List<Long> window = orderedIds.subList(from, Math.min(from + VERIFICATION_WINDOW_SIZE, orderedIds.size()));
+            verified.addAll(inOrder(window, findContaining(searchType, window, search_keyword)));
+        }
+        return toSlice(verified, cursor, size);
+    }
+
+    // 검색 조건. 검색어가 없으면 빈 조건이다.
+    private Predicate searchCondition(SearchType searchType, String search_keyword) {
+        if(search_keyword == null || search_keyword.isBlank()){
+            return new BooleanBuilder();
+        }
+        return searchPredicate(searchType, search_keyword);
+    }
+
+    // 기존 Containing 조회와 같은 조건을 querydsl로 표현한 것
+    private BooleanExpression searchPredicate(SearchType searchType, String search_keyword) {
+        QArticle article = QArticle.article;
+
+        return switch (searchType){
+            case TITLE -> article.title.contains(search_keyword);
+            case CONTENT -> article.content.contains(search_keyword);
+            case ID -> article.userAccount.userId.contains(search_keyword);
+            case NICKNAME -> article.userAccount.nickname.contains(search_keyword);
+            case HASHTAG -> hashtagPredicate(search_keyword);
+        };
+    }
+
+    // 해시태그 색인 없이 검색식에 걸리는 게시글 ID를 구해서 조건으로 만든다. 색인이 준비되기 전(기동 직후)에만 쓰인다.
+    // 컬럼에 해시태그가 여러 개("#java #spring")일 수 있으므로, 컬럼 값 전체와 일치 비교하지 않는다.
+    private BooleanExpression hashtagPredicate(String query) {
+        QArticle article = QArticle.article;
+        List<Long> articleIds = articleRepository.findIdsByHashtagQuery(HashtagQuery.parse(query));
+
+        return articleIds.isEmpty() ? article.id.isNull() : article.id.in(articleIds); // ID는 null이 아니므로 걸리는 게시글이 없다.
+    }
+
+    // 한 건을 더 읽어서 다음 페이지 존재 여부를 판단한다.
+    private Slice<ArticleDto> findArticlesByKeyset(Predicate predicate, ArticleCursor cursor, int size) {
+        return toSlice(articleRepository.findAllByKeyset(predicate, cursor, size + 1), cursor, size);
+    }
+
+    // 색인이 찾은 게시글 ID 중 커서 다음의 ID를 메모리에서 한 건 더 골라서, 그 게시글만 읽는다.
+    private Slice<ArticleDto> findArticlesByKeyset(LongStream articleIds, ArticleCursor cursor, int size) {
+        return toSlice(articleRepository.findAllInOrder(articleTimeline.after(articleIds, cursor, size + 1)), cursor, size);
+    }
+
+    // 뒤로 가는 커서는 화면 순서(최신순)로 되돌린다.
+    private Slice<ArticleDto> toSlice(List<Article> found, ArticleCursor cursor, int size) {
+        List<Article> articles = new ArrayList<>(found);
+        boolean hasMore = articles.size() > size;
+        if(hasMore){
+            articles.subList(size, articles.size()).clear();
+        }
+        if(cursor.isBackward()){
+            Collections.reverse(articles);
+        }
+
+        return new SliceImpl<>(articles.stream().map(ArticleDto::from).toList(), Pageable.ofSize(size), hasMore);
+    }
+
+    /**
+     * 상세 페이지용. 게시글, 댓글 한 페이지, 전체 게시글 수를 하나의 읽기 전용 트랜잭션에서 읽는다.
+     */
+    @Transactional(readOnly = true)
+    public ArticleDetailDto getArticleDetail(Long articleId, ArticleCommentCursor commentCursor, int commentSize) {
+        ArticleDto article = getArticle(articleId);
+        articleViewCounter.increment(articleId);
+
+        return ArticleDetailDto.of(
+                article,
+                articleCommentService.searchArticleComments(articleId, commentCursor, commentSize),
+                getArticleCount()
+        );
     }
 
     @Transactional(readOnly = true)
@@ -57,32 +292,162 @@ public class ArticleService {
                 .orElseThrow(() -> new EntityNotFoundException("게시글이 없습니다 - articleId: " + articleId));
     }
 
+    /**
+     * 여러 게시글을 한 번에 조회한다. 없는(지워진) 게시글은 결과에서 빠진다.
+     *
+     * @return 게시글 ID별 게시글
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, ArticleDto> getArticles(Collection<Long> articleIds) {
+        if (articleIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return articleRepository.findAllByIdIn(articleIds).stream()
+                .map(ArticleDto::from)
+                .collect(Collectors.toMap(ArticleDto::id, Function.identity()));
+    }
+
     public void saveArticle(ArticleDto dto) {
         UserAccount userAccount = userAccountRepository.getReferenceById(dto.userAccountDto().userId());
-        articleRepository.save(dto.toEntity(userAccount));
+        Article article = articleRepository.save(dto.toEntity(userAccount));
+        articleSearchIndex.index(article);
+        articleTimeline.add(article);
+        hashtagIndex.index(article);
+        hashtagStatistics.index(article);
+        articleCounter.increment();
+        renderedPageCache.invalidate(article.getId(), article);
+        articleSearchCache.evict(null, ArticleDto.from(article));
+    }
+
+    /**
+     * 대량 등록용. 호출 한 번이 트랜잭션 하나이므로, 호출하는 쪽에서 청크 단위로 나눠서 부른다.
+     * 작성자는 이미 있는지 확인했다고 보고 참조만 건다.
+     */
+    public int saveArticles(List<ArticleDto> dtos) {
+        List<Article> articles = articleRepository.saveAll(dtos.stream()
+                .map(dto -> dto.toEntity(userAccountRepository.getReferenceById(dto.userAccountDto().userId())))
+                .toList());
+
+        hashtagIndex.index(articles); // 해시태그 비트맵은 청크 단위로 한 번만 복사한다.
+        articles.forEach(article -> {
+            articleSearchIndex.index(article);
+            articleTimeline.add(article);
+            hashtagStatistics.index(article);
+            articleCounter.increment();
+        });
+        renderedPageCache.invalidateAll();
+        articleSearchCache.evictAll(); // 청크마다 게시글 수백 건의 검색 조건을 대조하기보다 한 번에 비운다.
+
+        return articles.size();
     }
 
+    /**
+     * 작성자 확인과 수정을 조건부 UPDATE 한 번으로 한다. 사용자가 수정 폼을 연 뒤({@code dto.version()}) 다른 요청이 먼저 수정했으면,
+     * 행 잠금을 기다렸다가 덮어쓰지 않고 {@link ObjectOptimisticLockingFailureException}으로 바로 실패한다.
+     * 버전을 보내지 않은 요청은 여기서 게시글을 읽은 시점의 버전을 쓴다.
+     */
     public void updateArticle(Long articleId, ArticleDto dto) {
-        try {
-            Article article = articleRepository.getReferenceById(articleId);
-            UserAccount userAccount = userAccountRepository.getReferenceById(dto.userAccountDto().userId());
-
-            if(article.getUserAccount().equals(userAccount)){
-                if(dto.title() != null) article.setTitle(dto.title());
-                if(dto.content() != null) article.setContent(dto.content());
-                article.setHashtag(dto.hashtag());
+        Optional<Article> found = articleRepository.findById(articleId);
+        if(found.isEmpty()){
+            log.warn("게시글 업데이트 실패. 게시글을 찾을 수 없습니다 - articleId: {}", articleId);
+            return;
+        }
+
+        Article article = found.get();
+        if(isUnchanged(article, dto)){
+            return;
+        }
+
+        // 수정에 성공했다면 작성자는 요청한 사용자 본인이므로, 작성자를 따로 읽지 않는다.
+        UserAccountDto userAccountDto = dto.userAccountDto();
+        ArticleDto before = ArticleDto.from(article, userAccountDto);
+        long expectedVersion = dto.version() == null ? article.getVersion() : dto.version();
+        if(articleRepository.updateIfOwned(article, expectedVersion, userAccountDto.userId(), dto.title(), dto.content(), dto.hashtag()) == 0){
+            if(articleRepository.existsByIdAndUserAccount_UserId(articleId, userAccountDto.userId())){
+                throw new ObjectOptimisticLockingFailureException(Article.class, articleId);
             }
-        } catch (EntityNotFoundException e){
-            log.warn("게시글 업데이트 실패. 게시글을 수정하는 데 필요한 정보를 찾을 수 없습니다 - dto: {}", e.getLocalizedMessage());
+            log.warn("게시글 업데이트 실패. 작성자가 아닙니다 - articleId: {}, userId: {}", articleId, userAccountDto.userId());
+            return;
         }
 
+        articleSearchIndex.index(article);
+        hashtagIndex.index(article);
+        hashtagStatistics.index(article);
+        articleSearchCache.evict(before, ArticleDto.from(article, userAccountDto));
+        renderedPageCache.invalidate(article.getId(), article);
+    }
+
+    // 제목/본문은 null이면 그대로 두고, 해시태그는 null이면 지운다.
+    private boolean isUnchanged(Article article, ArticleDto dto) {
+        return (dto.title() == null || dto.title().equals(article.getTitle()))
+                && (dto.content() == null || dto.content().equals(article.getContent()))
+                && Objects.equals(dto.hashtag(), article.getHashtag());
     }
 
+    /**
+     * 본인 글일 때만 지운다. 댓글을 엔티티로 읽어 하나씩 지우지 않고, 댓글과 게시글을 각각 UPDATE 문 하나로 삭제 표시한다.
+     */
     public void deleteArticle(long articleId, String userId) {
-        articleRepository.deleteByIdAndUserAccount_UserId(articleId, userId);
+        // 본인 글인지 확인하면서 행을 잠가 두므로, 댓글을 지운 뒤 게시글을 지우기 전에 새 댓글이 끼어들지 않는다.
+        // 작성자는 읽지 않는다. 작성자 ID는 조건으로 넘긴 값이고, 닉네임을 모르는 게시글은 검색 캐시가 닉네임 검색 페이지를 모두 지운다.
+        articleRepository.findForDeleteByIdAndUserAccount_UserId(articleId, userId)
+                .map(article -> ArticleDto.from(article, UserAccountDto.of(userId, null, null, null, null)))
+                .ifPresent(deleted -> {
+                    LocalDateTime deletedAt = LocalDateTime.now();
+                    articleCommentRepository.bulkDeleteByArticleIdIn(List.of(articleId), deletedAt);
+                    articleRepository.bulkDeleteByIdIn(List.of(articleId), deletedAt);
+                    removeFromIndexes(articleId);
+                    articleSearchCache.evict(deleted, null);
+                    renderedPageCache.invalidate(articleId);
+                });
+    }
+
+    /**
+     * 모더레이터의 사용자 콘텐츠 삭제용. 사용자의 게시글 ID를 앞에서부터 {@code limit}개 반환한다.
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findArticleIdsOf(String userId, int limit) {
+        return articleRepository.findIdsByUserId(userId, Pageable.ofSize(limit));
+    }
+
+    /**
+     * 모더레이터의 사용자 콘텐츠 삭제용. 작성자를 확인하지 않고, 다른 사용자가 단 댓글까지 함께 지운다.
+     * 호출 한 번이 트랜잭션 하나이므로, 호출하는 쪽에서 청크 단위로 나눠서 부른다.
+     */
+    public int deleteArticles(Collection<Long> articleIds) {
+        // 검색 캐시는 통째로 지우므로 잠근 게시글의 ID만 쓴다. 작성자 프록시는 초기화하지 않는다.
+        List<Long> lockedIds = articleRepository.findAllForDeleteByIdIn(articleIds).stream()
+                .map(Article::getId)
+                .toList();
+        if(lockedIds.isEmpty()){
+            return 0;
+        }
+
+        LocalDateTime deletedAt = LocalDateTime.now();
+        articleCommentRepository.bulkDeleteByArticleIdIn(lockedIds, deletedAt);
+        int deleted = articleRepository.bulkDeleteByIdIn(lockedIds, deletedAt);
+        lockedIds.forEach(this::removeFromIndexes);
+        articleSearchCache.evictAll();
+        renderedPageCache.invalidateAll();
+
+        return deleted;
     }
 
+    private void removeFromIndexes(Long articleId) {
+        articleSearchIndex.remove(articleId);
+        articleTimeline.remove(articleId);
+        hashtagIndex.remove(articleId);
+        hashtagStatistics.remove(articleId);
+        articleCounter.decrement();
+    }
+
+    // 게시글 수는 저장/삭제 때마다 증감하는 카운터에서 읽는다. 카운터가 준비되기 전(기동 직후)에만 count 쿼리를 한다.
+    @Transactional(readOnly = true)
     public long getArticleCount() {
+        if(articleCounter.isReady()){
+            return articleCounter.get();
+        }
         return articleRepository.count();
     }
 
@@ -91,10 +456,74 @@ public class ArticleService {
         if(hashtag == null || hashtag.isBlank()){
             return Page.empty(pageable);
         }
-        return articleRepository.findByHashtag(hashtag, pageable).map(ArticleDto::from);
+        return articleSearchCache.get(
+                ArticleSearchCache.Key.hashtag(hashtag, pageable),
+                () -> findArticlesByHashtagQuery(hashtag, pageable)
+        );
+    }
+
+    // 해시태그 비트맵 색인으로 검색식(예: "#java AND #spring NOT #legacy")에 걸리는 ID를 구한 뒤, 그중 요청한 페이지의 게시글만 읽는다.
+    // 전체 개수는 비트맵의 개수다. 색인이 준비되기 전(기동 직후)에는 DB에서 검색식에 걸리는 ID를 구해서 같은 방식으로 페이지를 만든다.
+    private Page<ArticleDto> findArticlesByHashtagQuery(String query, Pageable pageable) {
+        if(!hashtagIndex.isReady()){
+            List<Long> articleIds = articleRepository.findIdsByHashtagQuery(HashtagQuery.parse(query));
+            if(articleIds.isEmpty()){
+                return Page.empty(pageable);
+            }
+            return new PageImpl<>(articleRepository.findPageByIdIn(articleIds.stream().mapToLong(Long::longValue), pageable), pageable, articleIds.size())
+                    .map(ArticleDto::from);
+        }
+
+        RoaringBitmap articleIds = hashtagIndex.search(HashtagQuery.parse(query));
+        if(articleIds.isEmpty()){
+            return Page.empty(pageable);
+        }
+        return new PageImpl<>(findPage(articleIds, pageable), pageable, articleIds.getLongCardinality()).map(ArticleDto::from);
+    }
+
+    // 작성일시/ID 순서면 메모리에서 페이지의 ID만 골라서 읽고, 그 밖의 정렬(제목, 작성자 등)은 ID를 청크로 나눠 DB에서 정렬한다.
+    private List<Article> findPage(RoaringBitmap articleIds, Pageable pageable) {
+        if(articleTimeline.supports(pageable.getSort())){
+            List<Long> pageIds = articleTimeline.page(articleIds.stream().asLongStream(), pageable.getSort(), pageable.getOffset(), pageable.getPageSize());
+            return articleRepository.findAllInOrder(pageIds);
+        }
+        return articleRepository.findPageByIdIn(articleIds.stream().asLongStream(), pageable);
     }
 
+    @Transactional(readOnly = true)
+    public Slice<ArticleDto> searchArticlesViaHashtag(String hashtag, ArticleCursor cursor, int size) {
+        if(hashtag == null || hashtag.isBlank()){
+            return new SliceImpl<>(List.of(), Pageable.ofSize(size), false);
+        }
+        if(!hashtagIndex.isReady() || !articleTimeline.isReady()){
+            return findArticlesByKeyset(hashtagPredicate(hashtag), cursor, size);
+        }
+
+        return findArticlesByKeyset(hashtagIndex.search(HashtagQuery.parse(hashtag)).stream().asLongStream(), cursor, size);
+    }
+
+    // 게시글이 많은 해시태그부터 반환한다. 통계가 준비되기 전(기동 직후)에만 DB에서 직접 읽는다.
+    @Transactional(readOnly = true)
     public List<String> getHashtags() {
-        return articleRepository.findAllDistinctHashtags();
+        if(hashtagStatistics.isReady()){
+            return hashtagStatistics.getHashtags();
+        }
+        return distinctHashtags();
+    }
+
+    @Transactional(readOnly = true)
+    public List<String> getPopularHashtags(int limit) {
+        if(hashtagStatistics.isReady()){
+            return hashtagStatistics.getHashtags(limit);
+        }
+        return distinctHashtags().stream().limit(limit).toList();
+    }
+
+    // 컬럼 값 하나에 해시태그가 여러 개 있을 수 있으므로 나눠서 중복을 없앤다.
+    private List<String> distinctHashtags() {
+        return articleRepository.findAllDistinctHashtags().stream()
+                .flatMap(column -> Hashtags.parse(column).stream())
+                .distinct()
+                .toList();
     }
 }
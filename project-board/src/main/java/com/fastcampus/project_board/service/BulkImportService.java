@@ -0,0 +1,231 @@
+package com.fastcampus.project_board.service;
+
+import com.fastcampus.project_board.DTO.ArticleCommentDto;
+import com.fastcampus.project_board.DTO.ArticleDto;
+import com.fastcampus.project_board.DTO.request.ArticleCommentImportRow;
+import com.fastcampus.project_board.DTO.request.ArticleImportRow;
+import com.fastcampus.project_board.DTO.response.BulkImportResponse;
+import com.fastcampus.project_board.DTO.response.BulkImportResponse.Rejection;
+import com.fastcampus.project_board.config.BulkImportConfig.BulkImportProperties;
+import com.fastcampus.project_board.domain.UserAccount;
+import com.fastcampus.project_board.repository.ArticleRepository;
+import com.fastcampus.project_board.repository.UserAccountRepository;
+import com.fastcampus.project_board.service.importer.ImportRowReader;
+import com.fastcampus.project_board.service.importer.ImportRowReader.ImportRow;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * 게시글/댓글 대량 등록
+ * <p>
+ * 요청 본문을 한 행씩 읽어서 청크 크기만큼 모이면 검증하고, 청크 하나를 트랜잭션 하나로 저장한다.
+ * 트랜잭션이 끝나면 영속성 컨텍스트도 닫히므로, 청크 사이에 엔티티가 쌓이지 않는다.
+ * 작성자/게시글이 있는지는 등록 한 번 동안 캐시해서, 청크마다 처음 보는 ID만 한 번의 IN 조회로 확인한다.
+ * 잘못된 행은 건너뛰고 줄 번호와 이유를 모아서 돌려준다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class BulkImportService {
+
+    private static final int ENTITY_CACHE_SIZE = 10_000;
+    private static final int TITLE_MAX_LENGTH = 255;
+    private static final int ARTICLE_CONTENT_MAX_LENGTH = 10_000;
+    private static final int COMMENT_CONTENT_MAX_LENGTH = 500;
+
+    private final ArticleService articleService;
+    private final ArticleCommentService articleCommentService;
+    private final ArticleRepository articleRepository;
+    private final UserAccountRepository userAccountRepository;
+    private final BulkImportProperties bulkImportProperties;
+    private final MeterRegistry meterRegistry;
+
+    public BulkImportResponse importArticles(ImportRowReader<ArticleImportRow> reader) throws IOException {
+        ExistenceCache<String> users = userCache();
+
+        return importRows("article", reader, (chunk, progress) -> {
+            Set<String> existingUsers = users.existing(chunk.stream().map(row -> row.value().userId()).toList());
+
+            List<ArticleDto> articles = new ArrayList<>(chunk.size());
+            List<Long> lines = new ArrayList<>(chunk.size());
+            for (ImportRow<ArticleImportRow> row : chunk) {
+                String error = validate(row.value(), existingUsers);
+                if (error != null) {
+                    progress.reject(row.line(), error);
+                } else {
+                    articles.add(row.value().toDto());
+                    lines.add(row.line());
+                }
+            }
+            save(articles, lines, articleService::saveArticles, progress);
+        });
+    }
+
+    public BulkImportResponse importArticleComments(ImportRowReader<ArticleCommentImportRow> reader) throws IOException {
+        ExistenceCache<String> users = userCache();
+        ExistenceCache<Long> articles = new ExistenceCache<>(articleRepository::findIdsByIdIn);
+
+        return importRows("articleComment", reader, (chunk, progress) -> {
+            Set<String> existingUsers = users.existing(chunk.stream().map(row -> row.value().userId()).toList());
+            Set<Long> existingArticles = articles.existing(chunk.stream().map(row -> row.value().articleId()).toList());
+
+            List<ArticleCommentDto> articleComments = new ArrayList<>(chunk.size());
+            List<Long> lines = new ArrayList<>(chunk.size());
+            for (ImportRow<ArticleCommentImportRow> row : chunk) {
+                String error = validate(row.value(), existingUsers, existingArticles);
+                if (error != null) {
+                    progress.reject(row.line(), error);
+                } else {
+                    articleComments.add(row.value().toDto());
+                    lines.add(row.line());
+                }
+            }
+            save(articleComments, lines, articleCommentService::saveArticleComments, progress);
+        });
+    }
+
+    private <T> BulkImportResponse importRows(String type, ImportRowReader<T> reader, ChunkImporter<T> importer) throws IOException {
+        Progress progress = new Progress(type);
+        List<ImportRow<T>> chunk = new ArrayList<>(bulkImportProperties.getChunkSize());
+
+        ImportRow<T> row;
+        while ((row = reader.next()) != null) {
+            if (row.error() != null) {
+                progress.reject(row.line(), row.error());
+                continue;
+            }
+            chunk.add(row);
+            if (chunk.size() == bulkImportProperties.getChunkSize()) {
+                importer.importChunk(chunk, progress);
+                progress.logProgress();
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importer.importChunk(chunk, progress);
+        }
+
+        progress.logProgress();
+        return progress.toResponse();
+    }
+
+    // 청크 저장이 실패하면(제약 조건 위반 등) 그 청크는 통째로 롤백되므로, 청크의 행을 모두 거절로 본다.
+    private <D> void save(List<D> dtos, List<Long> lines, Function<List<D>, Integer> saver, Progress progress) {
+        if (dtos.isEmpty()) return;
+
+        try {
+            progress.imported(saver.apply(dtos));
+        } catch (DataAccessException e) {
+            log.warn("대량 등록 청크 저장 실패 - rows: {}", dtos.size(), e);
+            lines.forEach(line -> progress.reject(line, "저장하지 못했습니다 - " + e.getMostSpecificCause().getMessage()));
+        }
+    }
+
+    private String validate(ArticleImportRow row, Set<String> existingUsers) {
+        if (row.userId() == null || !existingUsers.contains(row.userId())) return "작성자가 없습니다 - userId: " + row.userId();
+        if (row.title() == null || row.title().isBlank()) return "제목이 없습니다.";
+        if (row.title().length() > TITLE_MAX_LENGTH) return "제목이 너무 깁니다 - length: " + row.title().length();
+        if (row.content() == null || row.content().isBlank()) return "본문이 없습니다.";
+        if (row.content().length() > ARTICLE_CONTENT_MAX_LENGTH) return "본문이 너무 깁니다 - length: " + row.content().length();
+        return null;
+    }
+
+    private String validate(ArticleCommentImportRow row, Set<String> existingUsers, Set<Long> existingArticles) {
+        if (row.articleId() == null || !existingArticles.contains(row.articleId())) return "게시글이 없습니다 - articleId: " + row.articleId();
+        if (row.userId() == null || !existingUsers.contains(row.userId())) return "작성자가 없습니다 - userId: " + row.userId();
+        if (row.content() == null || row.content().isBlank()) return "본문이 없습니다.";
+        if (row.content().length() > COMMENT_CONTENT_MAX_LENGTH) return "본문이 너무 깁니다 - length: " + row.content().length();
+        return null;
+    }
+
+    private ExistenceCache<String> userCache() {
+        return new ExistenceCache<>(userIds -> userAccountRepository.findAllById(userIds).stream()
+                .map(UserAccount::getUserId)
+                .toList());
+    }
+
+    @FunctionalInterface
+    private interface ChunkImporter<T> {
+        void importChunk(List<ImportRow<T>> chunk, Progress progress);
+    }
+
+    /**
+     * 등록 한 번 동안 쓰는 ID 존재 여부 캐시. 가장 오래 쓰지 않은 ID부터 지워서 크기를 제한한다.
+     */
+    private static class ExistenceCache<K> {
+        private final Function<Collection<K>, Collection<K>> finder; // 주어진 ID 중 실제로 있는 ID를 반환
+        private final Map<K, Boolean> known = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Boolean> eldest) {
+                return size() > ENTITY_CACHE_SIZE;
+            }
+        };
+
+        ExistenceCache(Function<Collection<K>, Collection<K>> finder) {
+            this.finder = finder;
+        }
+
+        Set<K> existing(Collection<K> ids) {
+            Set<K> existing = new HashSet<>();
+            Set<K> unknown = new HashSet<>();
+            for (K id : ids) {
+                if (id == null) continue;
+                Boolean exists = known.get(id);
+                if (exists == null) unknown.add(id);
+                else if (exists) existing.add(id);
+            }
+
+            if (!unknown.isEmpty()) {
+                Set<K> found = new HashSet<>(finder.apply(unknown));
+                unknown.forEach(id -> known.put(id, found.contains(id)));
+                existing.addAll(found);
+            }
+            return existing;
+        }
+    }
+
+    // 진행 상황은 청크마다 로그로 남기고, board.bulk-import.rows 지표(type, result 태그)로도 노출한다.
+    private class Progress {
+        private final String type;
+        private final Counter importedRows;
+        private final Counter rejectedRows;
+        private final List<Rejection> rejections = new ArrayList<>();
+        private long imported = 0;
+        private long rejected = 0;
+
+        Progress(String type) {
+            this.type = type;
+            this.importedRows = Counter.builder("board.bulk-import.rows").tag("type", type).tag("result", "imported").register(meterRegistry);
+            this.rejectedRows = Counter.builder("board.bulk-import.rows").tag("type", type).tag("result", "rejected").register(meterRegistry);
+        }
+
+        void imported(int count) {
+            imported += count;
+            importedRows.increment(count);
+        }
+
+        void reject(long line, String reason) {
+            rejected++;
+            rejectedRows.increment();
+            if (rejections.size() < bulkImportProperties.getMaxReportedRejections()) {
+                rejections.add(new Rejection(line, reason));
+            }
+        }
+
+        void logProgress() {
+            log.info("대량 등록 진행 - type: {}, imported: {}, rejected: {}", type, imported, rejected);
+        }
+
+        BulkImportResponse toResponse() {
+            return BulkImportResponse.of(imported, rejected, rejections);
+        }
+    }
+}
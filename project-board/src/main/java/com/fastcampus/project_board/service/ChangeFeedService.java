@@ -0,0 +1,59 @@
+package com.fastcampus.project_board.service;
+
+import com.fastcampus.project_board.DTO.ArticleChangeDto;
+import com.fastcampus.project_board.DTO.ArticleCommentChangeDto;
+import com.fastcampus.project_board.DTO.ChangeFeedCursor;
+import com.fastcampus.project_board.DTO.ChangeFeedCursor.Position;
+import com.fastcampus.project_board.DTO.response.ChangeFeedResponse;
+import com.fastcampus.project_board.config.ChangeFeedConfig.ChangeFeedProperties;
+import com.fastcampus.project_board.repository.ChangeFeedRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 게시글/댓글 변경 피드
+ * <p>
+ * 미러나 검색 색인이 전체를 다시 훑지 않고, 커서 이후에 바뀐 게시글과 댓글만 이어서 가져가게 한다.
+ * 요청 한 번은 테이블마다 (modifiedAt, id) 인덱스 범위 조회 한 번이다.
+ * 삭제는 tombstone({@code deleted = true})으로 내보낸다. tombstone은 {@code board.tombstone-purge.retention}이 지나면 지워지므로,
+ * 그보다 자주 가져가야 삭제를 놓치지 않는다.
+ */
+@RequiredArgsConstructor
+@Service
+public class ChangeFeedService {
+
+    private final ChangeFeedRepository changeFeedRepository;
+    private final ChangeFeedProperties changeFeedProperties;
+
+    // 두 조회가 같은 스냅샷을 보도록 트랜잭션 하나로 읽는다.
+    @Transactional(readOnly = true)
+    public ChangeFeedResponse getChanges(ChangeFeedCursor cursor, int size) {
+        int limit = Math.min(Math.max(size, 1), changeFeedProperties.getMaxPageSize());
+        LocalDateTime until = LocalDateTime.now().minus(changeFeedProperties.getSettleTime());
+
+        // 하나 더 읽어서 이어서 읽을 변경이 있는지 안다.
+        List<ArticleChangeDto> articles = changeFeedRepository.findArticleChanges(cursor.article(), until, limit + 1);
+        List<ArticleCommentChangeDto> articleComments = changeFeedRepository.findArticleCommentChanges(cursor.articleComment(), until, limit + 1);
+        boolean hasMore = articles.size() > limit || articleComments.size() > limit;
+        articles = articles.subList(0, Math.min(articles.size(), limit));
+        articleComments = articleComments.subList(0, Math.min(articleComments.size(), limit));
+
+        ChangeFeedCursor next = ChangeFeedCursor.of(
+                articles.isEmpty() ? cursor.article() : lastPosition(articles.get(articles.size() - 1)),
+                articleComments.isEmpty() ? cursor.articleComment() : lastPosition(articleComments.get(articleComments.size() - 1))
+        );
+        return ChangeFeedResponse.of(articles, articleComments, next.encode(), hasMore);
+    }
+
+    private static Position lastPosition(ArticleChangeDto change) {
+        return Position.of(change.modifiedAt(), change.id());
+    }
+
+    private static Position lastPosition(ArticleCommentChangeDto change) {
+        return Position.of(change.modifiedAt(), change.id());
+    }
+}
@@ -0,0 +1,46 @@
+package com.fastcampus.project_board.service;
+
+import com.fastcampus.project_board.DTO.response.ModerationResponse;
+import com.fastcampus.project_board.config.ModerationConfig.ModerationProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 모더레이터의 사용자 콘텐츠 삭제
+ * <p>
+ * 사용자의 댓글, 게시글 순서로 청크 크기만큼 ID를 읽어서 쿼리 하나로 삭제 표시하고, 남은 것이 없을 때까지 반복한다.
+ * 청크 하나가 트랜잭션 하나이므로, 콘텐츠가 많은 사용자도 잠금과 언두 로그가 한 청크 크기를 넘지 않는다.
+ * 중간에 실패하면 그때까지 지운 청크는 남으므로, 다시 부르면 이어서 지운다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ModerationService {
+
+    private final ArticleService articleService;
+    private final ArticleCommentService articleCommentService;
+    private final ModerationProperties moderationProperties;
+
+    public ModerationResponse deleteContentsOf(String userId) {
+        int chunkSize = moderationProperties.getChunkSize();
+
+        // 사용자의 게시글에 달린 댓글은 게시글과 함께 지워지므로, 사용자가 단 댓글을 먼저 세어 둔다.
+        long deletedArticleComments = 0;
+        List<Long> articleCommentIds;
+        while (!(articleCommentIds = articleCommentService.findArticleCommentIdsOf(userId, chunkSize)).isEmpty()) {
+            deletedArticleComments += articleCommentService.deleteArticleComments(articleCommentIds);
+        }
+
+        long deletedArticles = 0;
+        List<Long> articleIds;
+        while (!(articleIds = articleService.findArticleIdsOf(userId, chunkSize)).isEmpty()) {
+            deletedArticles += articleService.deleteArticles(articleIds);
+        }
+
+        log.info("사용자 콘텐츠 삭제 완료 - userId: {}, articles: {}, articleComments: {}", userId, deletedArticles, deletedArticleComments);
+        return ModerationResponse.of(userId, deletedArticles, deletedArticleComments);
+    }
+}
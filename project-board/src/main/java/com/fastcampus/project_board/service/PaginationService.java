@@ -1,5 +1,9 @@
 package com.fastcampus.project_board.service;
 
+import com.fastcampus.project_board.DTO.ArticleCursor;
+import com.fastcampus.project_board.DTO.response.ArticleResponse;
+import com.fastcampus.project_board.DTO.response.CursorNavigation;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -20,4 +24,26 @@ public class PaginationService {
     public int currentBarLength(){
         return BAR_LENGTH;
     }
+
+    /**
+     * keyset 페이지의 이전/다음 커서를 만든다.
+     * {@code articles}는 화면 순서(최신순)이고, {@code hasNext()}는 요청한 커서 방향으로 더 읽을 게시글이 있는지를 뜻한다.
+     */
+    public CursorNavigation getCursorNavigation(ArticleCursor cursor, Slice<ArticleResponse> articles){
+        if(articles.isEmpty()){
+            return CursorNavigation.of(null, null);
+        }
+
+        List<ArticleResponse> content = articles.getContent();
+        ArticleResponse newest = content.get(0);
+        ArticleResponse oldest = content.get(content.size() - 1);
+
+        boolean hasNewer = cursor.isBackward() ? articles.hasNext() : !cursor.isFirst();
+        boolean hasOlder = cursor.isBackward() || articles.hasNext();
+
+        return CursorNavigation.of(
+                hasNewer ? ArticleCursor.before(newest.createdAt(), newest.id()).encode() : null,
+                hasOlder ? ArticleCursor.after(oldest.createdAt(), oldest.id()).encode() : null
+        );
+    }
 }
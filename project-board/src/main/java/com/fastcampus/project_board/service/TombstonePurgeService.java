@@ -0,0 +1,104 @@
+package com.fastcampus.project_board.service;
+
+import com.fastcampus.project_board.config.TombstonePurgeConfig.TombstonePurgeProperties;
+import com.fastcampus.project_board.repository.ArticleCommentRepository;
+import com.fastcampus.project_board.repository.ArticleRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * 삭제 표시만 남은 게시글/댓글(tombstone) 정리
+ * <p>
+ * 삭제는 표시 UPDATE로 끝내서 바쁜 시간에 행 삭제와 인덱스 정리를 하지 않고, 한가한 시간대(cron)에 작은 배치로 나눠서 지운다.
+ * 배치 하나가 트랜잭션 하나이고, 게시글은 댓글이 모두 지워진 뒤에 지운다.
+ * 남은 tombstone 수는 {@code board.tombstone.backlog} 지표(table 태그)로, 지운 행 수는 {@code board.tombstone.purged} 지표로 노출한다.
+ */
+@Slf4j
+@Service
+public class TombstonePurgeService {
+
+    private final ArticleRepository articleRepository;
+    private final ArticleCommentRepository articleCommentRepository;
+    private final TombstonePurgeProperties tombstonePurgeProperties;
+
+    private final AtomicLong articleBacklog = new AtomicLong();
+    private final AtomicLong articleCommentBacklog = new AtomicLong();
+    private final Counter purgedArticles;
+    private final Counter purgedArticleComments;
+
+    public TombstonePurgeService(
+            ArticleRepository articleRepository,
+            ArticleCommentRepository articleCommentRepository,
+            TombstonePurgeProperties tombstonePurgeProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.articleRepository = articleRepository;
+        this.articleCommentRepository = articleCommentRepository;
+        this.tombstonePurgeProperties = tombstonePurgeProperties;
+
+        // 스크레이프마다 count 쿼리를 하지 않도록, 주기적으로 센 값을 노출한다.
+        Gauge.builder("board.tombstone.backlog", articleBacklog, AtomicLong::get).tag("table", "article").register(meterRegistry);
+        Gauge.builder("board.tombstone.backlog", articleCommentBacklog, AtomicLong::get).tag("table", "article_comment").register(meterRegistry);
+        this.purgedArticles = Counter.builder("board.tombstone.purged").tag("table", "article").register(meterRegistry);
+        this.purgedArticleComments = Counter.builder("board.tombstone.purged").tag("table", "article_comment").register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${board.tombstone-purge.cron:0 */10 2-5 * * *}")
+    public void purge() {
+        LocalDateTime deletedBefore = LocalDateTime.now().minus(tombstonePurgeProperties.getRetention());
+
+        long articleComments = purgeInBatches(
+                limit -> articleCommentRepository.findTombstoneIds(deletedBefore, limit),
+                articleCommentRepository::purgeByIdIn,
+                purgedArticleComments
+        );
+        long articles = purgeInBatches(
+                limit -> articleRepository.findTombstoneIds(deletedBefore, limit),
+                articleRepository::purgeByIdIn,
+                purgedArticles
+        );
+        refreshBacklog();
+
+        log.info("tombstone 정리 - articles: {}, articleComments: {}, backlog: {}/{}",
+                articles, articleComments, articleBacklog.get(), articleCommentBacklog.get());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${board.tombstone-purge.backlog-refresh-interval:PT5M}",
+            fixedDelayString = "${board.tombstone-purge.backlog-refresh-interval:PT5M}"
+    )
+    public void refreshBacklog() {
+        articleBacklog.set(articleRepository.countTombstones());
+        articleCommentBacklog.set(articleCommentRepository.countTombstones());
+    }
+
+    private long purgeInBatches(Function<Integer, List<Long>> finder, ToIntFunction<Collection<Long>> purger, Counter purged) {
+        int batchSize = tombstonePurgeProperties.getBatchSize();
+        long total = 0;
+
+        for (int batch = 0; batch < tombstonePurgeProperties.getMaxBatchesPerRun(); batch++) {
+            List<Long> ids = finder.apply(batchSize);
+            if (ids.isEmpty()) break;
+
+            int deleted = purger.applyAsInt(ids);
+            purged.increment(deleted);
+            total += deleted;
+            if (ids.size() < batchSize) break;
+        }
+        return total;
+    }
+}
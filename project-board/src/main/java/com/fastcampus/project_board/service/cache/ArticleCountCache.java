@@ -0,0 +1,52 @@
+package com.fastcampus.project_board.service.cache;
+
+import com.fastcampus.project_board.config.PaginationConfig.PaginationProperties;
+import com.fastcampus.project_board.domain.constant.SearchType;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * 검색 결과 전체 개수의 근사값 캐시
+ * <p>
+ * 일정 시간 동안 같은 (검색 타입, 검색어)의 count 결과를 재사용한다. 그 사이에 생긴 글/지운 글만큼 오차가 있을 수 있다.
+ * 가장 오래 쓰지 않은 항목부터 지워서 크기를 제한한다.
+ */
+@Component
+public class ArticleCountCache {
+
+    private static final int MAX_ENTRIES = 1_000;
+
+    private final long ttlNanos;
+    private final Map<Key, Entry> counts = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    });
+
+    public ArticleCountCache(PaginationProperties paginationProperties) {
+        this.ttlNanos = paginationProperties.getApproximateCountTtl().toNanos();
+    }
+
+    public long get(SearchType searchType, String keyword, LongSupplier counter) {
+        Key key = new Key(searchType, keyword);
+        long now = System.nanoTime();
+
+        Entry entry = counts.get(key);
+        if (entry != null && now - entry.countedAt() < ttlNanos) {
+            return entry.count();
+        }
+
+        long count = counter.getAsLong();
+        counts.put(key, new Entry(count, now));
+        return count;
+    }
+
+    private record Key(SearchType searchType, String keyword) {}
+
+    private record Entry(long count, long countedAt) {}
+}
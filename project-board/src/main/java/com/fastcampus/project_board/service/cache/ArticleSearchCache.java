@@ -0,0 +1,150 @@
+package com.fastcampus.project_board.service.cache;
+
+import com.fastcampus.project_board.DTO.ArticleDto;
+import com.fastcampus.project_board.config.PageCacheConfig.PageCacheProperties;
+import com.fastcampus.project_board.domain.constant.SearchType;
+import com.fastcampus.project_board.repository.index.HashtagQuery;
+import com.fastcampus.project_board.util.Hashtags;
+import com.fastcampus.project_board.util.TransactionHooks;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 검색 결과(페이지) 캐시
+ * <p>
+ * (검색 타입, 검색어, Pageable)을 키로 쓰고, 가장 오래 쓰지 않은 페이지부터 지워서 크기를 제한한다.
+ * 게시글이 저장/수정/삭제되면 변경 전후의 게시글이 검색 조건에 걸리는 페이지만 지운다.
+ * 조회수는 게시글을 바꾸지 않아 무효화하지 않으므로, 렌더링한 화면 캐시와 같은 TTL이 지난 페이지는 다시 읽는다.
+ * hit/miss/eviction은 Micrometer의 {@code cache.*} 지표로 actuator에 노출된다.
+ */
+@Component
+public class ArticleSearchCache {
+
+    private static final String CACHE_NAME = "articleSearch";
+    private static final int MAX_ENTRIES = 500;
+
+    private final long ttlNanos;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+    private final AtomicLong version = new AtomicLong(); // 무효화가 일어날 때마다 증가
+    private final Map<Key, Entry> pages = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+            boolean full = size() > MAX_ENTRIES;
+            if (full) evictions.increment();
+            return full;
+        }
+    });
+
+    public ArticleSearchCache(PageCacheProperties pageCacheProperties, MeterRegistry meterRegistry) {
+        this.ttlNanos = pageCacheProperties.getTtl().toNanos();
+        this.hits = Counter.builder("cache.gets").tag("cache", CACHE_NAME).tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("cache.gets").tag("cache", CACHE_NAME).tag("result", "miss").register(meterRegistry);
+        this.evictions = Counter.builder("cache.evictions").tag("cache", CACHE_NAME).register(meterRegistry);
+        Gauge.builder("cache.size", pages, Map::size).tag("cache", CACHE_NAME).register(meterRegistry);
+    }
+
+    public Page<ArticleDto> get(Key key, Supplier<Page<ArticleDto>> loader) {
+        long now = System.nanoTime();
+        Entry cached = pages.get(key);
+        if (cached != null && now - cached.loadedAt() < ttlNanos) {
+            hits.increment();
+            return cached.page();
+        }
+
+        misses.increment();
+        long loadedVersion = version.get();
+        Page<ArticleDto> page = loader.get();
+
+        // 조회하는 사이에 무효화가 있었다면, 이미 낡았을 수 있는 결과이므로 담지 않는다.
+        synchronized (pages) {
+            if (version.get() == loadedVersion) {
+                pages.put(key, new Entry(page, now));
+            }
+        }
+        return page;
+    }
+
+    /**
+     * 변경 전후의 게시글 중 하나라도 검색 조건에 걸리는 페이지를 커밋 후에 지운다. 새 글이면 변경 전은 null이다.
+     */
+    public void evict(ArticleDto before, ArticleDto after) {
+        List<ArticleDto> touched = new ArrayList<>(2);
+        if (before != null) touched.add(before);
+        if (after != null) touched.add(after);
+
+        TransactionHooks.afterCommit(() -> {
+            synchronized (pages) {
+                version.incrementAndGet();
+                pages.keySet().removeIf(key -> touched.stream().anyMatch(key::matches));
+            }
+        });
+    }
+
+    /**
+     * 모든 페이지를 커밋 후에 지운다. 대량 등록처럼 한 번에 많은 게시글이 바뀔 때 쓴다.
+     */
+    public void evictAll() {
+        TransactionHooks.afterCommit(() -> {
+            synchronized (pages) {
+                version.incrementAndGet();
+                pages.clear();
+            }
+        });
+    }
+
+    private record Entry(Page<ArticleDto> page, long loadedAt) {}
+
+    /**
+     * @param hashtagPage 해시태그 검색 페이지(검색어가 '#'을 포함한 해시태그 그대로)인지 여부
+     */
+    public record Key(boolean hashtagPage, SearchType searchType, String keyword, Pageable pageable) {
+
+        public static Key search(SearchType searchType, String keyword, Pageable pageable) {
+            if (keyword == null || keyword.isBlank()) {
+                return new Key(false, null, "", pageable); // 검색어가 없으면 검색 타입과 상관없이 전체 목록이다.
+            }
+            return new Key(false, searchType, keyword, pageable);
+        }
+
+        /**
+         * @param hashtag 해시태그 하나 또는 해시태그 검색식 (예: {@code #java AND #spring})
+         */
+        public static Key hashtag(String hashtag, Pageable pageable) {
+            return new Key(true, SearchType.HASHTAG, hashtag, pageable);
+        }
+
+        // DB의 collation에 따라 대소문자를 구분하지 않을 수 있으므로, 넉넉하게 대소문자 무시로 비교한다.
+        boolean matches(ArticleDto article) {
+            if (keyword.isEmpty()) return true;
+            if (hashtagPage) return matchesHashtags(article.hashtag(), keyword);
+
+            return switch (searchType) {
+                case TITLE -> containsIgnoreCase(article.title(), keyword);
+                case CONTENT -> containsIgnoreCase(article.content(), keyword);
+                case ID -> containsIgnoreCase(article.userAccountDto().userId(), keyword);
+                case NICKNAME -> article.userAccountDto().nickname() == null // 작성자를 읽지 않은 게시글(예: 삭제)은 닉네임을 모르므로 모두 지운다.
+                        || containsIgnoreCase(article.userAccountDto().nickname(), keyword);
+                case HASHTAG -> matchesHashtags(article.hashtag(), keyword);
+            };
+        }
+
+        private static boolean matchesHashtags(String hashtags, String query) {
+            if (hashtags == null) return false;
+            return HashtagQuery.parse(query.toLowerCase(Locale.ROOT)).matches(Hashtags.parse(hashtags.toLowerCase(Locale.ROOT)));
+        }
+
+        private static boolean containsIgnoreCase(String text, String keyword) {
+            return text != null && text.toLowerCase(Locale.ROOT).contains(keyword.toLowerCase(Locale.ROOT));
+        }
+    }
+}
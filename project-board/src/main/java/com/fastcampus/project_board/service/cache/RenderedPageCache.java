@@ -0,0 +1,193 @@
+package com.fastcampus.project_board.service.cache;
+
+import com.fastcampus.project_board.config.PageCacheConfig.PageCacheProperties;
+import com.fastcampus.project_board.domain.AuditingFields;
+import com.fastcampus.project_board.util.TransactionHooks;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 렌더링이 끝난 게시판 화면(HTML) 캐시
+ * <p>
+ * (요청 URI + 쿼리, 로그인한 사용자)를 키로 쓰고, 화면마다 검증자(버전, 마지막 수정 시각)를 따로 둔다.
+ * 상세 화면은 그 게시글과 댓글이 바뀔 때만, 목록 화면은 게시글/댓글이 하나라도 바뀔 때 무효화된다.
+ * 검증자는 ETag/Last-Modified 검증에도 쓰인다.
+ * <p>
+ * 조회수는 게시글을 바꾸지 않으므로 무효화하지 않는다. 대신 담은 지 TTL이 지난 화면은 다시 렌더링한다.
+ * 다시 렌더링할 때 읽는 검색 결과도 {@link ArticleSearchCache}에 같은 TTL만큼 담겨 있을 수 있으므로,
+ * 목록 화면의 조회수는 최대 TTL의 두 배와 조회수를 테이블에 반영하는 주기를 더한 만큼 늦게 보인다.
+ * 상세 화면의 다음 글 링크에 쓰는 전체 게시글 수도 다른 게시글이 등록/삭제될 때 무효화하지 않으므로, 최대 TTL만큼 늦게 보인다.
+ */
+@Component
+public class RenderedPageCache {
+
+    private static final String CACHE_NAME = "renderedPage";
+    private static final int MAX_TRACKED_ARTICLES = 10_000;
+
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final Counter hits;
+    private final Counter misses;
+    private final AtomicLong sequence = new AtomicLong(System.currentTimeMillis()); // 재기동 전의 ETag와 겹치지 않도록 기동 시각에서 시작한다.
+    private final Map<Key, RenderedPage> pages = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, RenderedPage> eldest) {
+            return size() > maxEntries;
+        }
+    });
+
+    // 아래 검증자는 모두 pages를 잠그고 바꾼다.
+    private volatile Validator listValidator;
+    private volatile Validator defaultValidator; // 기동 후 바뀐 적이 없거나, 기록에서 밀려난 게시글의 검증자
+    private final Map<Long, Validator> articleValidators = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Validator> eldest) {
+            if (size() <= MAX_TRACKED_ARTICLES) {
+                return false;
+            }
+            // 밀려난 게시글의 예전 ETag가 다시 맞지 않도록, 기본 검증자를 밀려난 것보다 뒤로 올린다.
+            defaultValidator = defaultValidator.max(eldest.getValue());
+            return true;
+        }
+    };
+
+    public RenderedPageCache(PageCacheProperties pageCacheProperties, MeterRegistry meterRegistry) {
+        this.ttlMillis = pageCacheProperties.getTtl().toMillis();
+        this.maxEntries = pageCacheProperties.getMaxEntries();
+        this.hits = Counter.builder("cache.gets").tag("cache", CACHE_NAME).tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("cache.gets").tag("cache", CACHE_NAME).tag("result", "miss").register(meterRegistry);
+        Gauge.builder("cache.size", pages, Map::size).tag("cache", CACHE_NAME).register(meterRegistry);
+
+        Validator initial = new Validator(sequence.get(), Instant.now().truncatedTo(ChronoUnit.SECONDS));
+        this.listValidator = initial;
+        this.defaultValidator = initial;
+    }
+
+    /**
+     * 화면의 현재 검증자. 상세 화면은 그 게시글의 것을, 목록 화면은 목록 전체의 것을 쓴다.
+     */
+    public Validator validator(Key key) {
+        if (key.articleId() == null) {
+            return listValidator;
+        }
+        synchronized (pages) {
+            return articleValidators.getOrDefault(key.articleId(), defaultValidator);
+        }
+    }
+
+    public Optional<RenderedPage> get(Key key) {
+        RenderedPage page = pages.get(key);
+        if (page == null || page.version() != validator(key).version() || System.currentTimeMillis() - page.renderedAt() >= ttlMillis) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(page);
+    }
+
+    // 렌더링하는 사이에 무효화가 있었다면, 이미 낡았을 수 있는 화면이므로 담지 않는다.
+    public void put(Key key, RenderedPage page) {
+        synchronized (pages) {
+            if (page.version() == validator(key).version()) {
+                pages.put(key, page);
+            }
+        }
+    }
+
+    /**
+     * 게시글이나 그 댓글의 저장·수정이 커밋되면 그 게시글의 상세 화면과 목록 화면만 무효화하고,
+     * 마지막 수정 시각을 바뀐 엔티티의 {@code modifiedAt}으로 올린다. {@code modifiedAt}은 flush 때 채워지므로 커밋 후에 읽는다.
+     */
+    public void invalidate(Long articleId, AuditingFields changed) {
+        TransactionHooks.afterCommit(() -> bump(articleId, changed.getModifiedAt()));
+    }
+
+    /**
+     * 삭제처럼 남는 엔티티가 없는 변경은 커밋 시각을 마지막 수정 시각으로 쓴다.
+     */
+    public void invalidate(Long articleId) {
+        TransactionHooks.afterCommit(() -> bump(articleId, LocalDateTime.now()));
+    }
+
+    /**
+     * 대량 등록/삭제처럼 바뀐 게시글을 하나하나 짚기 어려운 변경은 모든 화면을 무효화한다.
+     */
+    public void invalidateAll() {
+        TransactionHooks.afterCommit(() -> {
+            synchronized (pages) {
+                Validator next = next(listValidator.max(defaultValidator), LocalDateTime.now());
+                listValidator = next;
+                defaultValidator = next;
+                articleValidators.clear();
+                pages.clear();
+            }
+        });
+    }
+
+    private void bump(Long articleId, LocalDateTime modifiedAt) {
+        synchronized (pages) {
+            listValidator = next(listValidator, modifiedAt);
+            articleValidators.put(articleId, next(articleValidators.getOrDefault(articleId, defaultValidator), modifiedAt));
+            pages.keySet().removeIf(key -> key.articleId() == null || key.articleId().equals(articleId));
+        }
+    }
+
+    // Last-Modified는 초 단위라서, 같은 초 안의 변경도 이전 값보다 커지도록 최소 1초씩 올린다.
+    private Validator next(Validator previous, LocalDateTime modifiedAt) {
+        Instant modified = (modifiedAt == null ? LocalDateTime.now() : modifiedAt)
+                .atZone(ZoneId.systemDefault())
+                .toInstant()
+                .truncatedTo(ChronoUnit.SECONDS);
+
+        return new Validator(
+                sequence.incrementAndGet(),
+                modified.isAfter(previous.lastModified()) ? modified : previous.lastModified().plusSeconds(1)
+        );
+    }
+
+    public record Validator(long version, Instant lastModified) {
+
+        private Validator max(Validator other) {
+            return new Validator(
+                    Math.max(version, other.version),
+                    lastModified.isAfter(other.lastModified) ? lastModified : other.lastModified
+            );
+        }
+    }
+
+    /**
+     * @param username 로그인한 사용자 ID. 비로그인이면 빈 문자열이다. 화면에 작성자 전용 버튼이 있어서 사용자마다 따로 담는다.
+     * @param articleId 상세 화면의 게시글 ID. 목록 화면이면 {@code null}이다.
+     */
+    public record Key(String uri, String username, Long articleId) {
+
+        public static Key of(String requestUri, String queryString, String username, Long articleId) {
+            return new Key(queryString == null ? requestUri : requestUri + "?" + queryString, username, articleId);
+        }
+    }
+
+    /**
+     * @param renderedAt 렌더링한 시각(epoch millis). TTL을 재고, 같은 버전이라도 다시 렌더링한 화면은 ETag가 달라지게 한다.
+     * @param html CSRF 토큰 자리를 {@link #CSRF_TOKEN_PLACEHOLDER}로 바꿔둔 HTML. 토큰은 세션마다 다르므로 내보낼 때 채운다.
+     */
+    public record RenderedPage(long version, Instant lastModified, long renderedAt, String contentType, String html, boolean hasCsrfToken) {
+
+        public static final String CSRF_TOKEN_PLACEHOLDER = "__RENDERED_PAGE_CSRF_TOKEN__";
+
+        public String render(String csrfToken) {
+            return hasCsrfToken ? html.replace(CSRF_TOKEN_PLACEHOLDER, csrfToken) : html;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.fastcampus.project_board.service.cache;
+
+import com.fastcampus.project_board.DTO.UserAccountDto;
+import com.fastcampus.project_board.config.UserCacheConfig.UserCacheProperties;
+import com.fastcampus.project_board.util.TransactionHooks;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 인증에 쓰는 사용자 정보 캐시
+ * <p>
+ * {@code UserDetailsService}가 인증할 때마다(HTTP Basic이면 요청마다) user_account를 읽지 않도록, userId별로 사용자 정보를 담아 둔다.
+ * 담은 지 TTL이 지난 항목은 다시 읽고, 주기적으로도 쓸어낸다. 가장 오래 쓰지 않은 항목부터 지워서 크기를 제한한다.
+ * 사용자가 수정/삭제되면 커밋 후에 그 사용자 항목을 지운다. ({@link com.fastcampus.project_board.config.UserAccountCacheInvalidator})
+ * 다른 인스턴스에서의 변경은 알 수 없으므로, 그 인스턴스들은 TTL이 지나야 바뀐 사용자 정보를 읽는다.
+ * hit/miss/eviction은 Micrometer의 {@code cache.*} 지표로, 적중률은 {@code cache.hit.ratio}로 노출한다.
+ */
+@Component
+public class UserAccountCache implements MeterBinder {
+
+    private static final String CACHE_NAME = "userAccount";
+
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final AtomicLong version = new AtomicLong(); // 무효화가 일어날 때마다 증가
+    private final Map<String, Entry> users = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            boolean full = size() > maxEntries;
+            if (full) evictions.increment();
+            return full;
+        }
+    });
+
+    public UserAccountCache(UserCacheProperties userCacheProperties) {
+        this.ttlNanos = userCacheProperties.getTtl().toNanos();
+        this.maxEntries = userCacheProperties.getMaxEntries();
+    }
+
+    /**
+     * 없는 사용자는 담지 않는다.
+     */
+    public Optional<UserAccountDto> get(String userId, Function<String, Optional<UserAccountDto>> loader) {
+        long now = System.nanoTime();
+        Entry entry = users.get(userId);
+        if (entry != null && now - entry.loadedAt() < ttlNanos) {
+            hits.increment();
+            return Optional.of(entry.user());
+        }
+
+        misses.increment();
+        long loadedVersion = version.get();
+        Optional<UserAccountDto> loaded = loader.apply(userId);
+
+        // 읽는 사이에 무효화가 있었다면, 이미 낡았을 수 있는 값이므로 담지 않는다.
+        synchronized (users) {
+            if (version.get() == loadedVersion) {
+                loaded.ifPresentOrElse(user -> users.put(userId, new Entry(user, now)), () -> users.remove(userId));
+            }
+        }
+        return loaded;
+    }
+
+    public void invalidate(String userId) {
+        TransactionHooks.afterCommit(() -> {
+            synchronized (users) {
+                version.incrementAndGet();
+                users.remove(userId);
+            }
+        });
+    }
+
+    @Scheduled(
+            initialDelayString = "${board.user-cache.ttl:PT5M}",
+            fixedDelayString = "${board.user-cache.ttl:PT5M}"
+    )
+    public void evictExpired() {
+        long now = System.nanoTime();
+        synchronized (users) {
+            int before = users.size();
+            users.values().removeIf(entry -> now - entry.loadedAt() >= ttlNanos);
+            evictions.add(before - users.size());
+        }
+    }
+
+    public double hitRatio() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    // 레지스트리가 있을 때만(애플리케이션, actuator) 지표를 등록한다.
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", hits, LongAdder::sum).tag("cache", CACHE_NAME).tag("result", "hit").register(registry);
+        FunctionCounter.builder("cache.gets", misses, LongAdder::sum).tag("cache", CACHE_NAME).tag("result", "miss").register(registry);
+        FunctionCounter.builder("cache.evictions", evictions, LongAdder::sum).tag("cache", CACHE_NAME).register(registry);
+        Gauge.builder("cache.size", users, Map::size).tag("cache", CACHE_NAME).register(registry);
+        Gauge.builder("cache.hit.ratio", this, UserAccountCache::hitRatio).tag("cache", CACHE_NAME).register(registry);
+    }
+
+    private record Entry(UserAccountDto user, long loadedAt) {}
+}
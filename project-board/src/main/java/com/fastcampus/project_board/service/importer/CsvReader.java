@@ -0,0 +1,103 @@
+package com.fastcampus.project_board.service.importer;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RFC 4180 형식의 CSV를 레코드 단위로 읽는다.
+ * <p>
+ * 따옴표로 감싼 필드 안의 쉼표, 줄바꿈, 이스케이프된 따옴표({@code ""})를 지원하고, 한 번에 한 레코드만 메모리에 둔다.
+ * 형식이 잘못된 레코드도 예외를 던지지 않고 읽은 데까지 돌려주며, 그 이유는 {@link #getRecordError()}로 알려준다.
+ */
+public class CsvReader {
+
+    private final Reader reader;
+    private long line = 1;         // 지금 읽고 있는 줄
+    private long recordLine = 1;   // 마지막으로 읽은 레코드가 시작한 줄
+    private String recordError;    // 마지막으로 읽은 레코드의 형식 오류
+    private int pushedBack = -1;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * 다음 레코드의 필드들을 반환한다. 더 읽을 레코드가 없으면 null이다.
+     */
+    public List<String> readRecord() throws IOException {
+        int c = read();
+        while (c == '\r' || c == '\n') { // 빈 줄은 건너뛴다.
+            c = read();
+        }
+        if (c == -1) return null;
+        recordLine = line;
+        recordError = null;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    // 닫는 따옴표를 찾느라 끝까지 읽었으므로, 이 레코드 뒤의 줄은 모두 이 필드에 들어가 있다.
+                    recordError = "따옴표가 닫히지 않았습니다. 이 줄부터 끝까지 읽지 않았습니다.";
+                    fields.add(field.toString());
+                    return fields;
+                }
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    int next = read();
+                    if (next != '\n') pushedBack = next;
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    public long getRecordLine() {
+        return recordLine;
+    }
+
+    /**
+     * 마지막으로 읽은 레코드의 형식이 잘못되었으면 그 이유, 아니면 null
+     */
+    public String getRecordError() {
+        return recordError;
+    }
+
+    private int read() throws IOException {
+        int c;
+        if (pushedBack != -1) {
+            c = pushedBack;
+            pushedBack = -1;
+        } else {
+            c = reader.read();
+        }
+        if (c == '\n') line++;
+        return c;
+    }
+}
@@ -0,0 +1,122 @@
+package com.fastcampus.project_board.service.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 대량 등록 요청 본문(NDJSON 또는 CSV)을 한 행씩 읽어서 {@code T}로 바꾼다. 본문 전체를 메모리에 올리지 않는다.
+ * <p>
+ * 형식이 잘못된 행은 예외를 던지지 않고 {@link ImportRow#error()}에 이유를 담아서 돌려주므로, 나머지 행은 계속 읽을 수 있다.
+ */
+public abstract class ImportRowReader<T> {
+
+    public static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    public static final MediaType CSV = MediaType.parseMediaType("text/csv");
+
+    protected final ObjectMapper objectMapper;
+    protected final Class<T> rowType;
+
+    protected ImportRowReader(ObjectMapper objectMapper, Class<T> rowType) {
+        this.objectMapper = objectMapper;
+        this.rowType = rowType;
+    }
+
+    public static <T> ImportRowReader<T> of(MediaType format, Reader reader, ObjectMapper objectMapper, Class<T> rowType) {
+        if (NDJSON.includes(format)) return new NdjsonRowReader<>(reader, objectMapper, rowType);
+        if (CSV.includes(format)) return new CsvRowReader<>(reader, objectMapper, rowType);
+        throw new IllegalArgumentException("지원하지 않는 형식입니다 - format: " + format);
+    }
+
+    /**
+     * 다음 행을 반환한다. 더 읽을 행이 없으면 null이다.
+     */
+    public abstract ImportRow<T> next() throws IOException;
+
+    /**
+     * @param line  행이 시작하는 줄 번호 (1부터)
+     * @param error 형식이 잘못된 경우 그 이유, 아니면 null
+     */
+    public record ImportRow<T>(long line, T value, String error) {
+        static <T> ImportRow<T> of(long line, T value) {
+            return new ImportRow<>(line, value, null);
+        }
+
+        static <T> ImportRow<T> rejected(long line, String error) {
+            return new ImportRow<>(line, null, error);
+        }
+    }
+
+    private static class NdjsonRowReader<T> extends ImportRowReader<T> {
+        private final BufferedReader reader;
+        private long line = 0;
+
+        NdjsonRowReader(Reader reader, ObjectMapper objectMapper, Class<T> rowType) {
+            super(objectMapper, rowType);
+            this.reader = new BufferedReader(reader);
+        }
+
+        @Override
+        public ImportRow<T> next() throws IOException {
+            String json;
+            do {
+                json = reader.readLine();
+                line++;
+                if (json == null) return null;
+            } while (json.isBlank());
+
+            try {
+                return ImportRow.of(line, objectMapper.readValue(json, rowType));
+            } catch (JsonProcessingException e) {
+                return ImportRow.rejected(line, "JSON 형식이 잘못되었습니다 - " + e.getOriginalMessage());
+            }
+        }
+    }
+
+    // 첫 레코드는 헤더(컬럼 이름)이고, 컬럼 이름으로 필드를 찾으므로 컬럼 순서는 상관없다.
+    private static class CsvRowReader<T> extends ImportRowReader<T> {
+        private final CsvReader reader;
+        private List<String> header;
+
+        CsvRowReader(Reader reader, ObjectMapper objectMapper, Class<T> rowType) {
+            super(objectMapper, rowType);
+            this.reader = new CsvReader(reader);
+        }
+
+        @Override
+        public ImportRow<T> next() throws IOException {
+            if (header == null) {
+                header = reader.readRecord();
+                if (header == null) return null;
+            }
+
+            List<String> fields = reader.readRecord();
+            if (fields == null) return null;
+
+            long line = reader.getRecordLine();
+            if (reader.getRecordError() != null) {
+                return ImportRow.rejected(line, reader.getRecordError());
+            }
+            if (fields.size() != header.size()) {
+                return ImportRow.rejected(line, "컬럼 수가 헤더와 다릅니다 - expected: " + header.size() + ", actual: " + fields.size());
+            }
+
+            Map<String, String> values = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                values.put(header.get(i).trim(), fields.get(i).isEmpty() ? null : fields.get(i));
+            }
+            try {
+                return ImportRow.of(line, objectMapper.convertValue(values, rowType));
+            } catch (IllegalArgumentException e) {
+                return ImportRow.rejected(line, "값을 변환할 수 없습니다 - " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.fastcampus.project_board.service.ratelimit;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 키(사용자)별 토큰 버킷
+ * <p>
+ * 버킷마다 토큰 수와 마지막 충전 시각을 따로 두지 않고, "버킷이 다시 꽉 차는 시각" 하나만 {@link AtomicLong}에 두고 CAS로 바꾼다. (GCRA)
+ * 요청 하나는 그 시각을 충전 간격만큼 미루고, 미룬 시각이 지금보다 {@code 버킷 크기 × 충전 간격} 넘게 앞서면 거절한다.
+ * 락 없이 동작하고, 꽉 찬 버킷은 없는 버킷과 같으므로 지워도 한도가 바뀌지 않는다.
+ * 버킷 수가 최대에 이르면 꽉 찬 버킷부터 쓸어내고, 그래도 넘치면 새 키는 버킷 없이 통과시킨다.
+ */
+public class TokenBucketRateLimiter {
+
+    private final long refillIntervalNanos;
+    private final long burstNanos;
+    private final int maxBuckets;
+    private final LongSupplier clock;
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder overflowed = new LongAdder();
+
+    public TokenBucketRateLimiter(int capacity, Duration refillInterval, int maxBuckets) {
+        this(capacity, refillInterval, maxBuckets, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(int capacity, Duration refillInterval, int maxBuckets, LongSupplier clock) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("버킷 크기는 1 이상이어야 합니다 - capacity: " + capacity);
+        }
+        this.refillIntervalNanos = refillInterval.toNanos();
+        this.burstNanos = refillIntervalNanos * capacity;
+        this.maxBuckets = maxBuckets;
+        this.clock = clock;
+    }
+
+    /**
+     * @return 통과하면 {@link Duration#ZERO}, 거절하면 토큰이 다시 찰 때까지 기다려야 하는 시간
+     */
+    public Duration tryAcquire(String key) {
+        long now = clock.getAsLong();
+        AtomicLong bucket = bucket(key, now);
+        if (bucket == null) {
+            overflowed.increment();
+            allowed.increment();
+            return Duration.ZERO;
+        }
+
+        while (true) {
+            long fullAt = bucket.get();
+            long next = Math.max(fullAt, now) + refillIntervalNanos;
+            long ahead = next - now;
+            if (ahead > burstNanos) {
+                rejected.increment();
+                return Duration.ofNanos(ahead - burstNanos);
+            }
+            if (bucket.compareAndSet(fullAt, next)) {
+                allowed.increment();
+                return Duration.ZERO;
+            }
+        }
+    }
+
+    /**
+     * 다시 꽉 찬 버킷을 지운다. 지우는 사이에 그 버킷에서 꺼낸 토큰 하나쯤은 잊을 수 있지만, 한도를 크게 넘기지는 않는다.
+     */
+    public int evictIdle() {
+        long now = clock.getAsLong();
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> bucket.get() - now <= 0);
+        return before - buckets.size();
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    public void bindTo(MeterRegistry registry, String name) {
+        FunctionCounter.builder("board.rate-limit.requests", allowed, LongAdder::sum).tag("limit", name).tag("result", "allowed").register(registry);
+        FunctionCounter.builder("board.rate-limit.requests", rejected, LongAdder::sum).tag("limit", name).tag("result", "rejected").register(registry);
+        FunctionCounter.builder("board.rate-limit.overflow", overflowed, LongAdder::sum).tag("limit", name).register(registry);
+        Gauge.builder("board.rate-limit.buckets", buckets, Map::size).tag("limit", name).register(registry);
+    }
+
+    private AtomicLong bucket(String key, long now) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket != null) return bucket;
+
+        if (buckets.size() >= maxBuckets && evictIdle() == 0) {
+            return null;
+        }
+        return buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+    }
+}
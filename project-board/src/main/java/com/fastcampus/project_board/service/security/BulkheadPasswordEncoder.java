@@ -0,0 +1,172 @@
+package com.fastcampus.project_board.service.security;
+
+import com.fastcampus.project_board.config.PasswordHashingConfig.PasswordHashingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해시 계산을 전용 스레드 풀(bulkhead)에서만 하는 {@link PasswordEncoder}
+ * <p>
+ * 로그인이 몰려도 bcrypt 계산이 CPU와 Tomcat 스레드를 모두 차지해서 게시글 요청이 밀리지 않도록, 동시에 계산하는 수와 대기열 길이를 제한한다.
+ * 대기열이 차면 기다리지 않고 바로 {@link AuthenticationServiceException}으로 거절한다.
+ * HTTP Basic처럼 요청마다 인증하는 경우에는 같은 (비밀번호, 해시) 조합을 다시 계산하지 않도록, 확인에 성공한 조합을 잠시 기억한다.
+ * 조합은 기동할 때마다 새로 만드는 비밀 키의 HMAC으로만 담으므로, 힙 덤프가 새어도 키 없이는 비밀번호를 빠르게 대입해 볼 수 없다.
+ * 해시가 바뀌면(비밀번호 변경) 조합도 달라지므로 이전 결과는 쓰이지 않는다.
+ * 계산 시간은 {@code board.password.hash}, 대기열 길이는 {@code board.password.hash.queue} 지표로 노출한다.
+ */
+@Slf4j
+public class BulkheadPasswordEncoder implements PasswordEncoder, MeterBinder, DisposableBean {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutNanos;
+    private final long verifiedTtlNanos;
+    private final SecretKeySpec verifiedKeySecret = new SecretKeySpec(randomSecret(), HMAC_ALGORITHM); // 프로세스마다 새로 만들고 밖에 두지 않는다.
+    private final Map<String, Long> verified; // (비밀번호, 해시) 조합의 HMAC -> 확인한 시각
+
+    private volatile Timer matchesTimer;
+    private volatile Timer encodeTimer;
+    private volatile Counter rejections;
+    private volatile Counter verifiedHits;
+
+    public BulkheadPasswordEncoder(PasswordEncoder delegate, PasswordHashingProperties properties) {
+        this.delegate = delegate;
+        this.timeoutNanos = properties.getTimeout().toNanos();
+        this.verifiedTtlNanos = properties.getVerifiedTtl().toNanos();
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                properties.getThreads(),
+                properties.getThreads(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        int maxEntries = properties.getVerifiedMaxEntries();
+        this.verified = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return hash(() -> delegate.encode(rawPassword), encodeTimer);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (rawPassword == null || encodedPassword == null) {
+            return delegate.matches(rawPassword, encodedPassword);
+        }
+
+        String key = verifiedKey(rawPassword, encodedPassword);
+        long now = System.nanoTime();
+        Long verifiedAt = verified.get(key);
+        if (verifiedAt != null && now - verifiedAt < verifiedTtlNanos) {
+            if (verifiedHits != null) verifiedHits.increment();
+            return true;
+        }
+
+        boolean matches = hash(() -> delegate.matches(rawPassword, encodedPassword), matchesTimer);
+        if (matches) {
+            verified.put(key, now);
+        }
+        return matches;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    // 호출한 스레드는 결과만 기다린다. 대기열이 차 있으면 기다리지 않고 바로 거절한다.
+    private <T> T hash(Supplier<T> task, Timer timer) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timer == null ? task.get() : timer.record(task));
+        } catch (RejectedExecutionException e) {
+            if (rejections != null) rejections.increment();
+            throw new AuthenticationServiceException("로그인 요청이 많습니다. 잠시 후 다시 시도해 주세요.", e);
+        }
+
+        try {
+            return future.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            if (rejections != null) rejections.increment();
+            throw new AuthenticationServiceException("로그인 요청이 많습니다. 잠시 후 다시 시도해 주세요.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AuthenticationServiceException("비밀번호 확인이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new AuthenticationServiceException("비밀번호를 확인하지 못했습니다.", e.getCause());
+        }
+    }
+
+    // 해시와 비밀번호를 합친 값의 HMAC. 메모리에만 두고, 평문은 담지 않는다.
+    private String verifiedKey(CharSequence rawPassword, String encodedPassword) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(verifiedKeySecret);
+            mac.update(encodedPassword.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            mac.update(rawPassword.toString().getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(mac.doFinal());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] randomSecret() {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        return secret;
+    }
+
+    // 레지스트리가 있을 때만(애플리케이션, actuator) 지표를 등록한다.
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.matchesTimer = Timer.builder("board.password.hash").tag("operation", "matches").publishPercentiles(0.5, 0.99).register(registry);
+        this.encodeTimer = Timer.builder("board.password.hash").tag("operation", "encode").register(registry);
+        this.rejections = Counter.builder("board.password.hash.rejected").register(registry);
+        this.verifiedHits = Counter.builder("board.password.hash.verified-hits").register(registry);
+        Gauge.builder("board.password.hash.queue", executor, e -> e.getQueue().size()).register(registry);
+        Gauge.builder("board.password.hash.active", executor, ThreadPoolExecutor::getActiveCount).register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,28 @@
+package com.fastcampus.project_board.util;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public final class Hashtags {
+
+    private Hashtags() {}
+
+    /**
+     * 게시글의 해시태그 컬럼을 해시태그 집합으로 나눈다. 공백이나 쉼표로 구분하고, '#'이 빠진 해시태그에는 붙여준다.
+     * <pre>"#java #spring" -> [#java, #spring]</pre>
+     */
+    public static Set<String> parse(String hashtags) {
+        if (hashtags == null || hashtags.isBlank()) return Set.of();
+
+        return Arrays.stream(hashtags.trim().split("[\\s,]+"))
+                .map(Hashtags::normalize)
+                .filter(hashtag -> hashtag.length() > 1)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    public static String normalize(String hashtag) {
+        return hashtag.startsWith("#") ? hashtag : "#" + hashtag;
+    }
+}
@@ -8,556 +8,559 @@ insert into user_account (user_id, user_password, nickname, email, memo, created
 ;
 
 -- 123 게시글
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor2', 'Etiam vel augue.', 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', '#Purple', 'Corissa', '2022-11-25 23:06:00', 'Corissa', '2022-07-01 04:38:42');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor2', 'Pellentesque viverra pede ac diam.', 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (1, 'vartyor2', 'Etiam vel augue.', 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', '#Purple', 'Corissa', '2022-11-25 23:06:00', 'Corissa', '2022-07-01 04:38:42');
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (2, 'vartyor2', 'Pellentesque viverra pede ac diam.', 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.
 
 Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', '#Mauv', 'Rance', '2023-03-16 10:37:10', 'Rance', '2022-07-08 13:12:13');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Vestibulum sed magna at nunc commodo placerat.', 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (3, 'vartyor', 'Vestibulum sed magna at nunc commodo placerat.', 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.
 
 In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.', '#Orange', 'Perceval', '2023-02-13 01:47:16', 'Perceval', '2023-03-03 07:39:06');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor2', 'Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl.', 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.', '#Khaki', 'Erhard', '2022-05-25 18:03:23', 'Erhard', '2022-12-19 02:01:38');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Donec posuere metus vitae ipsum.', 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', '#Red', 'Emlen', '2022-07-08 14:23:18', 'Emlen', '2022-09-17 00:12:17');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Nulla justo.', 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (4, 'vartyor2', 'Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl.', 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.', '#Khaki', 'Erhard', '2022-05-25 18:03:23', 'Erhard', '2022-12-19 02:01:38');
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (5, 'vartyor', 'Donec posuere metus vitae ipsum.', 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', '#Red', 'Emlen', '2022-07-08 14:23:18', 'Emlen', '2022-09-17 00:12:17');
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (6, 'vartyor', 'Nulla justo.', 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.
 
 Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.
 
 Sed ante. Vivamus tortor. Duis mattis egestas metus.', '#Turquoise', 'Margarette', '2023-01-08 02:17:20', 'Margarette', '2022-04-07 21:45:51');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor2', 'Morbi porttitor lorem id ligula.', 'Sed ante. Vivamus tortor. Duis mattis egestas metus.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (7, 'vartyor2', 'Morbi porttitor lorem id ligula.', 'Sed ante. Vivamus tortor. Duis mattis egestas metus.
 
 Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.
 
 Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', '#Fuscia', 'Dannie', '2022-05-13 22:19:52', 'Dannie', '2022-12-18 21:58:05');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Maecenas ut massa quis augue luctus tincidunt.', 'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (8, 'vartyor', 'Maecenas ut massa quis augue luctus tincidunt.', 'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.
 
 Aenean lectus. Pellentesque eget nunc. Donec quis orci eget orci vehicula condimentum.
 
 Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '#Orange', 'Elsa', '2022-04-04 14:37:49', 'Elsa', '2022-10-22 16:07:18');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Nulla justo.', 'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (9, 'vartyor', 'Nulla justo.', 'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.
 
 Phasellus in felis. Donec semper sapien a libero. Nam dui.', '#Pink', 'Padget', '2023-03-07 16:37:57', 'Padget', '2022-05-10 21:32:02');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Aenean lectus.', 'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (10, 'vartyor', 'Aenean lectus.', 'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.
 
 Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.
 
 In congue. Etiam justo. Etiam pretium iaculis justo.', '#Yellow', 'Renault', '2023-02-20 00:07:04', 'Renault', '2023-01-06 11:27:29');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Cras in purus eu magna vulputate luctus.', 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (11, 'vartyor', 'Cras in purus eu magna vulputate luctus.', 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.
 
 Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.', '#Teal', 'Pennie', '2023-02-03 22:32:55', 'Pennie', '2022-08-04 09:37:30');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor2', 'Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', '#Violet', 'Hallsy', '2022-05-24 17:29:34', 'Hallsy', '2022-12-31 04:09:57');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Maecenas rhoncus aliquam lacus.', 'In congue. Etiam justo. Etiam pretium iaculis justo.', '#Indigo', 'Annalise', '2023-03-01 01:38:53', 'Annalise', '2023-01-29 11:55:44');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Phasellus sit amet erat.', 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', '#Goldenrod', 'Fanny', '2022-11-09 13:08:40', 'Fanny', '2022-08-30 05:04:35');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor2', 'Nulla nisl.', 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (12, 'vartyor2', 'Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', '#Violet', 'Hallsy', '2022-05-24 17:29:34', 'Hallsy', '2022-12-31 04:09:57');
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (13, 'vartyor', 'Maecenas rhoncus aliquam lacus.', 'In congue. Etiam justo. Etiam pretium iaculis justo.', '#Indigo', 'Annalise', '2023-03-01 01:38:53', 'Annalise', '2023-01-29 11:55:44');
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (14, 'vartyor', 'Phasellus sit amet erat.', 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', '#Goldenrod', 'Fanny', '2022-11-09 13:08:40', 'Fanny', '2022-08-30 05:04:35');
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (15, 'vartyor2', 'Nulla nisl.', 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.
 
 Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.', '#Purple', 'Juliana', '2022-11-25 19:49:42', 'Juliana', '2023-01-22 18:54:51');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor2', 'Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla.', 'Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.', '#Yellow', 'Claudelle', '2023-03-27 09:09:07', 'Claudelle', '2022-07-26 14:14:57');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl.', 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (16, 'vartyor2', 'Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla.', 'Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.', '#Yellow', 'Claudelle', '2023-03-27 09:09:07', 'Claudelle', '2022-07-26 14:14:57');
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (17, 'vartyor', 'Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl.', 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.
 
 Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.', '#Aquamarine', 'Worthy', '2022-06-01 20:36:07', 'Worthy', '2023-03-12 19:12:34');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Phasellus sit amet erat.', 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (18, 'vartyor', 'Phasellus sit amet erat.', 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.
 
 Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.', '#Turquoise', 'Lionel', '2023-01-06 16:08:04', 'Lionel', '2022-12-31 14:45:37');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor2', 'Proin interdum mauris non ligula pellentesque ultrices.', 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (19, 'vartyor2', 'Proin interdum mauris non ligula pellentesque ultrices.', 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.
 
 Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', '#Indigo', 'Merill', '2022-05-29 09:26:50', 'Merill', '2022-07-18 02:37:43');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla.', 'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (20, 'vartyor', 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla.', 'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.
 
 Aenean lectus. Pellentesque eget nunc. Donec quis orci eget orci vehicula condimentum.', '#Violet', 'Lilias', '2022-04-23 01:56:48', 'Lilias', '2023-02-04 08:04:59');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor2', 'Morbi ut odio.', 'Phasellus in felis. Donec semper sapien a libero. Nam dui.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (21, 'vartyor2', 'Morbi ut odio.', 'Phasellus in felis. Donec semper sapien a libero. Nam dui.
 
 Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', '#Pink', 'Andrus', '2022-12-14 20:08:00', 'Andrus', '2022-08-11 10:13:43');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Nulla justo.', 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (22, 'vartyor', 'Nulla justo.', 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.
 
 Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.
 
 Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '#Maroon', 'Durand', '2023-02-09 16:17:53', 'Durand', '2023-02-20 06:02:38');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', '#Aquamarine', 'Frannie', '2022-10-14 07:45:35', 'Frannie', '2022-05-25 08:02:51');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Suspendisse potenti.', 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (23, 'vartyor', 'Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', '#Aquamarine', 'Frannie', '2022-10-14 07:45:35', 'Frannie', '2022-05-25 08:02:51');
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (24, 'vartyor', 'Suspendisse potenti.', 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.
 
 In congue. Etiam justo. Etiam pretium iaculis justo.', '#Mauv', 'Hilde', '2022-05-22 01:10:36', 'Hilde', '2022-12-07 05:24:30');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Nunc purus.', 'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (25, 'vartyor', 'Nunc purus.', 'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.
 
 Phasellus in felis. Donec semper sapien a libero. Nam dui.
 
 Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', '#Green', 'Reidar', '2023-01-28 19:37:52', 'Reidar', '2022-11-26 12:41:20');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor2', 'Duis ac nibh.', 'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (26, 'vartyor2', 'Duis ac nibh.', 'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.
 
 Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.
 
 Pellentesque at nulla. Suspendisse potenti. Cras in purus eu magna vulputate luctus.', '#Puce', 'Adrea', '2022-06-06 11:09:20', 'Adrea', '2022-06-27 10:45:14');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor2', 'Quisque ut erat.', 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (27, 'vartyor2', 'Quisque ut erat.', 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.
 
 Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', '#Puce', 'Melitta', '2022-12-01 00:05:47', 'Melitta', '2022-09-13 04:51:21');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor2', 'Suspendisse potenti.', 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (28, 'vartyor2', 'Suspendisse potenti.', 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.
 
 Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', '#Khaki', 'Danya', '2023-01-17 03:42:49', 'Danya', '2022-07-07 19:20:14');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Nam nulla.', 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (29, 'vartyor', 'Nam nulla.', 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.
 
 Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '#Khaki', 'Abbott', '2022-04-16 16:15:34', 'Abbott', '2022-06-10 09:03:35');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Donec semper sapien a libero.', 'Praesent id massa id nisl venenatis lacinia. Aenean sit amet justo. Morbi ut odio.', '#Yellow', 'Mignonne', '2022-11-21 22:40:00', 'Mignonne', '2022-09-16 21:50:48');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor2', 'Curabitur gravida nisi at nibh.', 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (30, 'vartyor', 'Donec semper sapien a libero.', 'Praesent id massa id nisl venenatis lacinia. Aenean sit amet justo. Morbi ut odio.', '#Yellow', 'Mignonne', '2022-11-21 22:40:00', 'Mignonne', '2022-09-16 21:50:48');
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (31, 'vartyor2', 'Curabitur gravida nisi at nibh.', 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.
 
 Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.', '#Fuscia', 'Tallia', '2022-05-01 14:03:02', 'Tallia', '2022-10-24 05:44:31');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Donec posuere metus vitae ipsum.', 'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (32, 'vartyor', 'Donec posuere metus vitae ipsum.', 'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.
 
 Phasellus in felis. Donec semper sapien a libero. Nam dui.', '#Yellow', 'Luis', '2022-11-22 18:06:20', 'Luis', '2022-05-15 08:33:56');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc.', 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', '#Puce', 'Pearla', '2022-12-05 04:45:38', 'Pearla', '2022-04-27 13:41:50');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Morbi a ipsum.', 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (33, 'vartyor', 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc.', 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', '#Puce', 'Pearla', '2022-12-05 04:45:38', 'Pearla', '2022-04-27 13:41:50');
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (34, 'vartyor', 'Morbi a ipsum.', 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.
 
 Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.
 
 Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '#Orange', 'Daniella', '2022-11-24 02:22:06', 'Daniella', '2022-11-25 15:53:39');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.', 'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.', '#Maroon', 'Atlanta', '2023-02-09 18:49:41', 'Atlanta', '2022-11-24 17:06:28');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor2', 'Phasellus sit amet erat.', 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', '#Turquoise', 'Adaline', '2022-11-08 09:25:18', 'Adaline', '2022-12-30 13:16:31');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor2', 'Suspendisse accumsan tortor quis turpis.', 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (35, 'vartyor', 'Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.', 'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.', '#Maroon', 'Atlanta', '2023-02-09 18:49:41', 'Atlanta', '2022-11-24 17:06:28');
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (36, 'vartyor2', 'Phasellus sit amet erat.', 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', '#Turquoise', 'Adaline', '2022-11-08 09:25:18', 'Adaline', '2022-12-30 13:16:31');
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (37, 'vartyor2', 'Suspendisse accumsan tortor quis turpis.', 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.
 
 In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.', '#Teal', 'Vivyanne', '2022-05-04 06:45:36', 'Vivyanne', '2022-05-29 15:03:45');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (38, 'vartyor', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.
 
 Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.', '#Yellow', 'Mikey', '2022-10-13 02:53:44', 'Mikey', '2022-08-05 00:14:46');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Praesent blandit lacinia erat.', 'In congue. Etiam justo. Etiam pretium iaculis justo.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (39, 'vartyor', 'Praesent blandit lacinia erat.', 'In congue. Etiam justo. Etiam pretium iaculis justo.
 
 In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '#Crimson', 'Fredia', '2022-04-12 21:27:46', 'Fredia', '2022-10-04 05:58:19');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', 'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (40, 'vartyor', 'In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', 'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.
 
 Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '#Purple', 'Lianna', '2022-08-02 18:14:34', 'Lianna', '2022-06-03 08:37:35');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor2', 'In sagittis dui vel nisl.', 'Phasellus in felis. Donec semper sapien a libero. Nam dui.', '#Turquoise', 'Caroline', '2023-03-19 01:31:16', 'Caroline', '2022-04-18 13:33:21');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Donec vitae nisi.', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (41, 'vartyor2', 'In sagittis dui vel nisl.', 'Phasellus in felis. Donec semper sapien a libero. Nam dui.', '#Turquoise', 'Caroline', '2023-03-19 01:31:16', 'Caroline', '2022-04-18 13:33:21');
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (42, 'vartyor', 'Donec vitae nisi.', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.
 
 Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.
 
 Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', '#Puce', 'Blondy', '2022-08-31 23:25:27', 'Blondy', '2022-07-04 17:55:21');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante.', 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (43, 'vartyor', 'Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante.', 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.
 
 Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.
 
 Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '#Goldenrod', 'Nico', '2022-08-21 00:27:20', 'Nico', '2022-12-29 20:27:09');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Integer tincidunt ante vel ipsum.', 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (44, 'vartyor', 'Integer tincidunt ante vel ipsum.', 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.
 
 Morbi porttitor lorem id ligula. Suspendisse ornare consequat lectus. In est risus, auctor sed, tristique in, tempus sit amet, sem.
 
 Fusce consequat. Nulla nisl. Nunc nisl.', '#Purple', 'Joannes', '2022-12-06 23:08:47', 'Joannes', '2022-09-18 13:17:57');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor2', 'Praesent lectus.', 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (45, 'vartyor2', 'Praesent lectus.', 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.
 
 Praesent id massa id nisl venenatis lacinia. Aenean sit amet justo. Morbi ut odio.
 
 Cras mi pede, malesuada in, imperdiet et, commodo vulputate, justo. In blandit ultrices enim. Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', '#Goldenrod', 'Philomena', '2023-03-13 17:24:05', 'Philomena', '2022-08-14 00:02:27');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor2', 'Quisque porta volutpat erat.', 'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.', '#Red', 'Guendolen', '2022-06-23 06:22:37', 'Guendolen', '2023-01-10 18:53:22');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor2', 'In quis justo.', 'Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.', '#Maroon', 'Elspeth', '2023-04-01 01:02:03', 'Elspeth', '2022-08-31 05:22:25');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', 'In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (46, 'vartyor2', 'Quisque porta volutpat erat.', 'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.', '#Red', 'Guendolen', '2022-06-23 06:22:37', 'Guendolen', '2023-01-10 18:53:22');
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (47, 'vartyor2', 'In quis justo.', 'Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.', '#Maroon', 'Elspeth', '2023-04-01 01:02:03', 'Elspeth', '2022-08-31 05:22:25');
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (48, 'vartyor', 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', 'In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.
 
 Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', '#Crimson', 'Debi', '2022-07-02 20:47:24', 'Debi', '2023-03-15 08:32:16');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor2', 'Donec dapibus.', 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (49, 'vartyor2', 'Donec dapibus.', 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.
 
 Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.
 
 In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.', '#Crimson', 'Carlyn', '2023-03-11 05:28:30', 'Carlyn', '2022-10-26 03:36:21');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Maecenas rhoncus aliquam lacus.', 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '#Goldenrod', 'Shaina', '2023-03-12 08:40:10', 'Shaina', '2022-04-19 01:10:04');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', 'Praesent id massa id nisl venenatis lacinia. Aenean sit amet justo. Morbi ut odio.', '#Indigo', 'Joaquin', '2022-06-29 04:06:24', 'Joaquin', '2022-06-02 16:08:24');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor2', 'Donec posuere metus vitae ipsum.', 'Praesent id massa id nisl venenatis lacinia. Aenean sit amet justo. Morbi ut odio.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (50, 'vartyor', 'Maecenas rhoncus aliquam lacus.', 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '#Goldenrod', 'Shaina', '2023-03-12 08:40:10', 'Shaina', '2022-04-19 01:10:04');
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (51, 'vartyor', 'Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', 'Praesent id massa id nisl venenatis lacinia. Aenean sit amet justo. Morbi ut odio.', '#Indigo', 'Joaquin', '2022-06-29 04:06:24', 'Joaquin', '2022-06-02 16:08:24');
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (52, 'vartyor2', 'Donec posuere metus vitae ipsum.', 'Praesent id massa id nisl venenatis lacinia. Aenean sit amet justo. Morbi ut odio.
 
 Cras mi pede, malesuada in, imperdiet et, commodo vulputate, justo. In blandit ultrices enim. Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', '#Aquamarine', 'Pearla', '2023-02-23 10:23:11', 'Pearla', '2022-05-25 18:18:50');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor2', 'Proin eu mi.', 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', '#Red', 'Hannis', '2022-11-17 22:46:45', 'Hannis', '2022-04-21 13:19:06');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor2', 'Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.', 'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', '#Fuscia', 'Modesty', '2022-06-21 03:07:45', 'Modesty', '2022-11-07 00:41:53');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Proin risus.', 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (53, 'vartyor2', 'Proin eu mi.', 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', '#Red', 'Hannis', '2022-11-17 22:46:45', 'Hannis', '2022-04-21 13:19:06');
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (54, 'vartyor2', 'Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.', 'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', '#Fuscia', 'Modesty', '2022-06-21 03:07:45', 'Modesty', '2022-11-07 00:41:53');
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (55, 'vartyor', 'Proin risus.', 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.
 
 In congue. Etiam justo. Etiam pretium iaculis justo.', '#Orange', 'Callida', '2023-01-29 00:02:08', 'Callida', '2022-04-30 08:04:08');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor2', 'In hac habitasse platea dictumst.', 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (56, 'vartyor2', 'In hac habitasse platea dictumst.', 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.
 
 Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.
 
 Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', '#Crimson', 'Happy', '2022-06-21 22:33:24', 'Happy', '2022-10-07 00:22:58');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Duis at velit eu est congue elementum.', 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', '#Maroon', 'Rory', '2022-09-25 10:51:26', 'Rory', '2022-08-21 07:01:06');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla.', 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (57, 'vartyor', 'Duis at velit eu est congue elementum.', 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', '#Maroon', 'Rory', '2022-09-25 10:51:26', 'Rory', '2022-08-21 07:01:06');
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (58, 'vartyor', 'Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla.', 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.
 
 Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.
 
 Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', '#Turquoise', 'Rani', '2022-06-20 06:11:56', 'Rani', '2022-05-25 06:47:59');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor2', 'In hac habitasse platea dictumst.', 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (59, 'vartyor2', 'In hac habitasse platea dictumst.', 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.
 
 Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.', '#Maroon', 'Dara', '2022-09-16 10:35:07', 'Dara', '2022-06-03 20:26:57');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Integer ac leo.', 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (60, 'vartyor', 'Integer ac leo.', 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.
 
 Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.', '#Purple', 'Rikki', '2022-11-12 08:12:29', 'Rikki', '2023-01-19 23:57:42');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa.', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Proin risus. Praesent lectus.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (61, 'vartyor', 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa.', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Proin risus. Praesent lectus.
 
 Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.
 
 Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.', '#Crimson', 'Irena', '2022-11-22 19:50:23', 'Irena', '2022-06-16 03:49:37');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci.', 'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.', '#Aquamarine', 'Ulberto', '2022-10-09 11:16:18', 'Ulberto', '2022-11-09 11:13:01');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor2', 'Phasellus in felis.', 'Praesent id massa id nisl venenatis lacinia. Aenean sit amet justo. Morbi ut odio.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (62, 'vartyor', 'Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci.', 'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.', '#Aquamarine', 'Ulberto', '2022-10-09 11:16:18', 'Ulberto', '2022-11-09 11:13:01');
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (63, 'vartyor2', 'Phasellus in felis.', 'Praesent id massa id nisl venenatis lacinia. Aenean sit amet justo. Morbi ut odio.
 
 Cras mi pede, malesuada in, imperdiet et, commodo vulputate, justo. In blandit ultrices enim. Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', '#Crimson', 'Vaclav', '2022-04-23 15:18:29', 'Vaclav', '2022-10-20 12:32:02');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Nulla ut erat id mauris vulputate elementum.', 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (64, 'vartyor', 'Nulla ut erat id mauris vulputate elementum.', 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.
 
 Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.
 
 Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', '#Purple', 'Danita', '2022-08-29 23:01:10', 'Danita', '2022-06-28 04:21:42');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor2', 'Nulla justo.', 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.', '#Indigo', 'Jazmin', '2022-08-31 13:14:19', 'Jazmin', '2023-02-27 20:07:13');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor2', 'Integer a nibh.', 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (65, 'vartyor2', 'Nulla justo.', 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.', '#Indigo', 'Jazmin', '2022-08-31 13:14:19', 'Jazmin', '2023-02-27 20:07:13');
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (66, 'vartyor2', 'Integer a nibh.', 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.
 
 Morbi porttitor lorem id ligula. Suspendisse ornare consequat lectus. In est risus, auctor sed, tristique in, tempus sit amet, sem.
 
 Fusce consequat. Nulla nisl. Nunc nisl.', '#Goldenrod', 'Agnesse', '2022-10-05 21:52:34', 'Agnesse', '2022-05-29 20:59:06');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Integer non velit.', 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', '#Maroon', 'Chrotoem', '2022-05-09 22:48:42', 'Chrotoem', '2023-01-06 10:31:35');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor2', 'Duis ac nibh.', 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (67, 'vartyor', 'Integer non velit.', 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', '#Maroon', 'Chrotoem', '2022-05-09 22:48:42', 'Chrotoem', '2023-01-06 10:31:35');
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (68, 'vartyor2', 'Duis ac nibh.', 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.
 
 Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', '#Khaki', 'Alair', '2023-03-28 05:47:03', 'Alair', '2022-07-02 11:36:57');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Proin at turpis a pede posuere nonummy.', 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', '#Orange', 'Morrie', '2023-03-21 16:28:36', 'Morrie', '2022-09-25 13:19:33');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Vestibulum rutrum rutrum neque.', 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '#Aquamarine', 'Reid', '2022-10-20 15:18:12', 'Reid', '2022-08-04 13:03:42');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Duis at velit eu est congue elementum.', 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (69, 'vartyor', 'Proin at turpis a pede posuere nonummy.', 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', '#Orange', 'Morrie', '2023-03-21 16:28:36', 'Morrie', '2022-09-25 13:19:33');
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (70, 'vartyor', 'Vestibulum rutrum rutrum neque.', 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '#Aquamarine', 'Reid', '2022-10-20 15:18:12', 'Reid', '2022-08-04 13:03:42');
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (71, 'vartyor', 'Duis at velit eu est congue elementum.', 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.
 
 Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.
 
 In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.', '#Mauv', 'Terri', '2022-07-12 22:48:33', 'Terri', '2022-08-06 06:47:59');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor2', 'Maecenas rhoncus aliquam lacus.', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', '#Fuscia', 'Juliette', '2022-06-14 17:29:28', 'Juliette', '2023-02-18 05:39:48');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', '#Goldenrod', 'Brooke', '2023-03-01 14:41:48', 'Brooke', '2023-01-24 06:33:19');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor2', 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc.', 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (72, 'vartyor2', 'Maecenas rhoncus aliquam lacus.', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', '#Fuscia', 'Juliette', '2022-06-14 17:29:28', 'Juliette', '2023-02-18 05:39:48');
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (73, 'vartyor', 'Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', '#Goldenrod', 'Brooke', '2023-03-01 14:41:48', 'Brooke', '2023-01-24 06:33:19');
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (74, 'vartyor2', 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc.', 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.
 
 Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.
 
 Phasellus in felis. Donec semper sapien a libero. Nam dui.', '#Fuscia', 'Sasha', '2022-07-06 08:56:52', 'Sasha', '2022-07-14 11:34:01');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Sed accumsan felis.', 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (75, 'vartyor', 'Sed accumsan felis.', 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.
 
 Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', '#Crimson', 'Avril', '2022-09-11 13:24:01', 'Avril', '2022-08-11 18:54:44');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', 'In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.', '#Red', 'Gaspar', '2022-06-09 10:41:25', 'Gaspar', '2023-01-25 03:55:19');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Ut tellus.', 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (76, 'vartyor', 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', 'In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.', '#Red', 'Gaspar', '2022-06-09 10:41:25', 'Gaspar', '2023-01-25 03:55:19');
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (77, 'vartyor', 'Ut tellus.', 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.
 
 Sed ante. Vivamus tortor. Duis mattis egestas metus.
 
 Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', '#Goldenrod', 'Creigh', '2022-10-30 02:31:31', 'Creigh', '2022-11-28 09:10:52');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Sed accumsan felis.', 'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (78, 'vartyor', 'Sed accumsan felis.', 'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.
 
 Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.', '#Aquamarine', 'Ken', '2023-03-27 15:36:26', 'Ken', '2023-02-05 08:10:17');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo.', 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (79, 'vartyor', 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo.', 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.
 
 Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.', '#Turquoise', 'Page', '2022-10-03 11:15:27', 'Page', '2022-07-21 04:59:48');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Donec vitae nisi.', 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (80, 'vartyor', 'Donec vitae nisi.', 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.
 
 Morbi porttitor lorem id ligula. Suspendisse ornare consequat lectus. In est risus, auctor sed, tristique in, tempus sit amet, sem.
 
 Fusce consequat. Nulla nisl. Nunc nisl.', '#Blue', 'Willette', '2022-12-22 06:30:42', 'Willette', '2022-10-04 14:04:28');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor2', 'Sed accumsan felis.', 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', '#Aquamarine', 'Rourke', '2022-09-03 02:35:52', 'Rourke', '2022-08-30 09:30:39');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Morbi ut odio.', 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', '#Teal', 'Karlan', '2022-10-21 09:12:06', 'Karlan', '2023-01-05 12:59:06');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Pellentesque at nulla.', 'In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.', '#Khaki', 'Brannon', '2022-12-26 14:15:00', 'Brannon', '2023-01-31 03:58:21');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor2', 'Praesent lectus.', 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (81, 'vartyor2', 'Sed accumsan felis.', 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', '#Aquamarine', 'Rourke', '2022-09-03 02:35:52', 'Rourke', '2022-08-30 09:30:39');
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (82, 'vartyor', 'Morbi ut odio.', 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', '#Teal', 'Karlan', '2022-10-21 09:12:06', 'Karlan', '2023-01-05 12:59:06');
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (83, 'vartyor', 'Pellentesque at nulla.', 'In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.', '#Khaki', 'Brannon', '2022-12-26 14:15:00', 'Brannon', '2023-01-31 03:58:21');
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (84, 'vartyor2', 'Praesent lectus.', 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.
 
 Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.
 
 Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '#Green', 'Yurik', '2023-01-09 21:47:45', 'Yurik', '2022-10-25 21:23:22');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Nulla justo.', 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.', '#Indigo', 'Aguste', '2022-05-14 10:15:42', 'Aguste', '2023-01-28 16:41:24');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor2', 'Nullam sit amet turpis elementum ligula vehicula consequat.', 'Fusce consequat. Nulla nisl. Nunc nisl.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (85, 'vartyor', 'Nulla justo.', 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.', '#Indigo', 'Aguste', '2022-05-14 10:15:42', 'Aguste', '2023-01-28 16:41:24');
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (86, 'vartyor2', 'Nullam sit amet turpis elementum ligula vehicula consequat.', 'Fusce consequat. Nulla nisl. Nunc nisl.
 
 Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.
 
 In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.', '#Puce', 'Gerri', '2022-07-26 04:20:25', 'Gerri', '2022-11-18 04:09:25');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Suspendisse potenti.', 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (87, 'vartyor', 'Suspendisse potenti.', 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.
 
 Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.
 
 Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '#Crimson', 'Selma', '2022-09-25 02:55:16', 'Selma', '2022-11-10 07:39:23');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Donec vitae nisi.', 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (88, 'vartyor', 'Donec vitae nisi.', 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.
 
 Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', '#Aquamarine', 'Werner', '2022-05-13 20:25:08', 'Werner', '2023-02-04 16:57:29');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Etiam vel augue.', 'Morbi porttitor lorem id ligula. Suspendisse ornare consequat lectus. In est risus, auctor sed, tristique in, tempus sit amet, sem.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (89, 'vartyor', 'Etiam vel augue.', 'Morbi porttitor lorem id ligula. Suspendisse ornare consequat lectus. In est risus, auctor sed, tristique in, tempus sit amet, sem.
 
 Fusce consequat. Nulla nisl. Nunc nisl.', '#Violet', 'Viva', '2022-11-14 16:17:08', 'Viva', '2022-05-03 23:35:55');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla.', 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '#Goldenrod', 'Jaine', '2022-05-08 16:36:11', 'Jaine', '2022-05-22 16:43:38');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor2', 'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante.', 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (90, 'vartyor', 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla.', 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '#Goldenrod', 'Jaine', '2022-05-08 16:36:11', 'Jaine', '2022-05-22 16:43:38');
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (91, 'vartyor2', 'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante.', 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.
 
 In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.
 
 Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', '#Green', 'Liane', '2022-07-15 03:19:48', 'Liane', '2022-04-11 14:14:58');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam.', 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.', '#Purple', 'Virgie', '2022-05-17 01:01:07', 'Virgie', '2022-12-03 21:36:54');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Vestibulum rutrum rutrum neque.', 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '#Aquamarine', 'Philis', '2022-09-28 23:58:57', 'Philis', '2022-06-25 06:35:12');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue.', 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', '#Turquoise', 'Willette', '2023-01-21 09:23:21', 'Willette', '2022-12-21 16:05:41');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Donec posuere metus vitae ipsum.', 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '#Yellow', 'Cary', '2023-01-20 17:00:48', 'Cary', '2022-09-03 17:15:18');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor2', 'Cras pellentesque volutpat dui.', 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (92, 'vartyor', 'Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam.', 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.', '#Purple', 'Virgie', '2022-05-17 01:01:07', 'Virgie', '2022-12-03 21:36:54');
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (93, 'vartyor', 'Vestibulum rutrum rutrum neque.', 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', '#Aquamarine', 'Philis', '2022-09-28 23:58:57', 'Philis', '2022-06-25 06:35:12');
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (94, 'vartyor', 'Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue.', 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', '#Turquoise', 'Willette', '2023-01-21 09:23:21', 'Willette', '2022-12-21 16:05:41');
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (95, 'vartyor', 'Donec posuere metus vitae ipsum.', 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '#Yellow', 'Cary', '2023-01-20 17:00:48', 'Cary', '2022-09-03 17:15:18');
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (96, 'vartyor2', 'Cras pellentesque volutpat dui.', 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.
 
 Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.
 
 Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.', '#Mauv', 'Kameko', '2022-06-08 07:32:31', 'Kameko', '2022-07-25 18:49:22');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl.', 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (97, 'vartyor', 'Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl.', 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.
 
 Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.
 
 Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', '#Mauv', 'Kayne', '2022-12-27 22:17:23', 'Kayne', '2022-12-02 15:48:37');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor2', 'In hac habitasse platea dictumst.', 'Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (98, 'vartyor2', 'In hac habitasse platea dictumst.', 'Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.
 
 Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', '#Khaki', 'Reinaldo', '2022-05-22 05:42:04', 'Reinaldo', '2023-02-19 06:56:25');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.', 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (99, 'vartyor', 'Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.', 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.
 
 Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.', '#Violet', 'Meaghan', '2022-06-27 15:53:11', 'Meaghan', '2022-08-20 05:47:33');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor2', 'Nullam molestie nibh in lectus.', 'Sed ante. Vivamus tortor. Duis mattis egestas metus.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (100, 'vartyor2', 'Nullam molestie nibh in lectus.', 'Sed ante. Vivamus tortor. Duis mattis egestas metus.
 
 Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', '#Orange', 'Gordie', '2023-03-05 14:26:41', 'Gordie', '2022-08-16 20:07:59');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Nulla suscipit ligula in lacus.', 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (101, 'vartyor', 'Nulla suscipit ligula in lacus.', 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.
 
 Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.
 
 Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '#Fuscia', 'Nev', '2022-09-07 06:55:06', 'Nev', '2022-12-05 15:51:17');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Suspendisse potenti.', 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.', '#Green', 'Claudine', '2023-02-05 03:20:53', 'Claudine', '2022-06-30 11:05:28');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor2', 'Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (102, 'vartyor', 'Suspendisse potenti.', 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.', '#Green', 'Claudine', '2023-02-05 03:20:53', 'Claudine', '2022-06-30 11:05:28');
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (103, 'vartyor2', 'Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.
 
 Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.', '#Turquoise', 'Rolland', '2022-05-06 15:01:00', 'Rolland', '2022-06-26 17:18:05');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Duis consequat dui nec nisi volutpat eleifend.', 'Fusce consequat. Nulla nisl. Nunc nisl.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (104, 'vartyor', 'Duis consequat dui nec nisi volutpat eleifend.', 'Fusce consequat. Nulla nisl. Nunc nisl.
 
 Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.', '#Pink', 'Phedra', '2022-04-20 22:42:08', 'Phedra', '2023-04-03 17:21:02');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor2', 'Etiam faucibus cursus urna.', 'Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (105, 'vartyor2', 'Etiam faucibus cursus urna.', 'Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.
 
 Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.
 
 Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.', '#Khaki', 'Willyt', '2023-01-28 10:27:57', 'Willyt', '2022-12-24 14:44:53');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Integer ac neque.', 'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (106, 'vartyor', 'Integer ac neque.', 'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.
 
 Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '#Fuscia', 'Dian', '2022-05-28 05:59:18', 'Dian', '2023-03-28 11:51:17');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor2', 'Aenean auctor gravida sem.', 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (107, 'vartyor2', 'Aenean auctor gravida sem.', 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.
 
 Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.
 
 Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', '#Mauv', 'Kesley', '2022-05-24 15:22:01', 'Kesley', '2022-11-09 01:24:16');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor2', 'Quisque id justo sit amet sapien dignissim vestibulum.', 'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.', '#Aquamarine', 'Cosmo', '2022-05-08 09:04:49', 'Cosmo', '2022-10-06 13:40:01');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Vivamus vestibulum sagittis sapien.', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Proin risus. Praesent lectus.', '#Mauv', 'Philippine', '2023-03-15 05:36:12', 'Philippine', '2022-07-23 23:20:06');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante.', 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (108, 'vartyor2', 'Quisque id justo sit amet sapien dignissim vestibulum.', 'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.', '#Aquamarine', 'Cosmo', '2022-05-08 09:04:49', 'Cosmo', '2022-10-06 13:40:01');
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (109, 'vartyor', 'Vivamus vestibulum sagittis sapien.', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Proin risus. Praesent lectus.', '#Mauv', 'Philippine', '2023-03-15 05:36:12', 'Philippine', '2022-07-23 23:20:06');
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (110, 'vartyor', 'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante.', 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.
 
 Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', '#Green', 'Gardy', '2023-02-08 11:45:50', 'Gardy', '2022-05-25 23:40:03');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor2', 'Curabitur gravida nisi at nibh.', 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '#Puce', 'Allys', '2022-11-17 22:16:55', 'Allys', '2022-04-06 20:08:27');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (111, 'vartyor2', 'Curabitur gravida nisi at nibh.', 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '#Puce', 'Allys', '2022-11-17 22:16:55', 'Allys', '2022-04-06 20:08:27');
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (112, 'vartyor', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.
 
 Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.
 
 Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.', '#Turquoise', 'Gallagher', '2022-05-05 09:40:05', 'Gallagher', '2022-08-06 02:40:16');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Nulla tempus.', 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (113, 'vartyor', 'Nulla tempus.', 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.
 
 In congue. Etiam justo. Etiam pretium iaculis justo.', '#Puce', 'Demetria', '2022-07-14 15:57:48', 'Demetria', '2022-09-10 20:32:14');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor2', 'Fusce consequat.', 'Aenean lectus. Pellentesque eget nunc. Donec quis orci eget orci vehicula condimentum.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (114, 'vartyor2', 'Fusce consequat.', 'Aenean lectus. Pellentesque eget nunc. Donec quis orci eget orci vehicula condimentum.
 
 Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.
 
 Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', '#Indigo', 'Charissa', '2022-05-04 16:08:36', 'Charissa', '2022-06-08 01:48:58');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio.', 'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.', '#Pink', 'Sondra', '2023-04-01 02:47:36', 'Sondra', '2022-09-16 05:58:52');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo.', 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', '#Indigo', 'Axe', '2022-04-21 17:37:06', 'Axe', '2022-12-23 11:36:36');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Morbi a ipsum.', 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (115, 'vartyor', 'Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio.', 'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.', '#Pink', 'Sondra', '2023-04-01 02:47:36', 'Sondra', '2022-09-16 05:58:52');
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (116, 'vartyor', 'Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo.', 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', '#Indigo', 'Axe', '2022-04-21 17:37:06', 'Axe', '2022-12-23 11:36:36');
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (117, 'vartyor', 'Morbi a ipsum.', 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.
 
 Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.', '#Red', 'Brandy', '2022-05-18 19:07:10', 'Brandy', '2022-10-15 01:44:49');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Donec ut mauris eget massa tempor convallis.', 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.', '#Yellow', 'Orly', '2022-06-11 21:57:52', 'Orly', '2022-04-07 19:58:33');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue.', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Proin risus. Praesent lectus.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (118, 'vartyor', 'Donec ut mauris eget massa tempor convallis.', 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.', '#Yellow', 'Orly', '2022-06-11 21:57:52', 'Orly', '2022-04-07 19:58:33');
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (119, 'vartyor', 'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue.', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Proin risus. Praesent lectus.
 
 Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.
 
 Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.', '#Mauv', 'Wood', '2023-02-06 07:01:25', 'Wood', '2023-01-11 21:08:14');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor2', 'Aliquam sit amet diam in magna bibendum imperdiet.', 'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (120, 'vartyor2', 'Aliquam sit amet diam in magna bibendum imperdiet.', 'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.
 
 Phasellus in felis. Donec semper sapien a libero. Nam dui.
 
 Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', '#Violet', 'Ansel', '2022-08-18 03:31:52', 'Ansel', '2022-11-16 07:27:21');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Etiam vel augue.', 'Aenean lectus. Pellentesque eget nunc. Donec quis orci eget orci vehicula condimentum.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (121, 'vartyor', 'Etiam vel augue.', 'Aenean lectus. Pellentesque eget nunc. Donec quis orci eget orci vehicula condimentum.
 
 Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', '#Teal', 'Cordelie', '2022-10-17 20:51:56', 'Cordelie', '2022-11-18 21:37:37');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor2', 'Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est.', 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (122, 'vartyor2', 'Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est.', 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.
 
 Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', '#Violet', 'Lyon', '2022-04-05 20:40:27', 'Lyon', '2022-08-31 19:50:54');
-insert into article (user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values ('vartyor', 'Aenean auctor gravida sem.', 'Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.', '#Crimson', 'Demetris', '2022-09-04 19:28:05', 'Demetris', '2022-11-05 08:36:52');
+insert into article (id, user_id, title, content, hashtag, created_by, created_at, modified_by, modified_at) values (123, 'vartyor', 'Aenean auctor gravida sem.', 'Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.', '#Crimson', 'Demetris', '2022-09-04 19:28:05', 'Demetris', '2022-11-05 08:36:52');
 
 
 -- 300 댓글
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (34, 'vartyor', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', 'Reece', '2022-11-27 13:47:12', 'Reece', '2022-09-14 10:43:09');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (93, 'vartyor', 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', 'Saxon', '2023-04-01 01:06:46', 'Saxon', '2023-03-04 21:47:30');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (105, 'vartyor', 'In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.', 'Leigh', '2023-01-23 16:49:36', 'Leigh', '2022-06-16 20:04:03');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (48, 'vartyor', 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', 'Erwin', '2023-03-20 07:34:47', 'Erwin', '2022-10-10 17:17:05');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (80, 'vartyor', 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', 'Ambrose', '2022-10-29 08:42:53', 'Ambrose', '2022-06-16 06:44:01');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (36, 'vartyor', 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', 'Brita', '2023-01-16 19:40:56', 'Brita', '2022-07-28 17:56:54');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (30, 'vartyor', 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', 'Karola', '2023-03-16 14:38:46', 'Karola', '2022-04-23 17:18:14');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (30, 'vartyor', 'Fusce consequat. Nulla nisl. Nunc nisl.', 'Nancey', '2023-02-04 08:50:47', 'Nancey', '2023-01-26 16:58:37');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (73, 'vartyor', 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.', 'Lennie', '2022-09-12 09:14:19', 'Lennie', '2023-01-04 13:27:54');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (68, 'vartyor', 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', 'Inessa', '2023-01-18 11:03:00', 'Inessa', '2022-11-12 12:56:45');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (89, 'vartyor', 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', 'Yvonne', '2022-05-08 11:19:34', 'Yvonne', '2022-07-31 02:27:53');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (29, 'vartyor', 'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', 'Heath', '2023-01-13 23:54:33', 'Heath', '2022-04-23 12:45:02');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (9, 'vartyor', 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', 'Donnajean', '2022-06-06 13:30:00', 'Donnajean', '2022-04-28 01:41:06');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (112, 'vartyor', 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', 'Hinda', '2022-07-28 04:21:19', 'Hinda', '2023-03-26 14:28:08');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (50, 'vartyor', 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', 'Stanislas', '2022-10-27 02:03:15', 'Stanislas', '2022-10-02 04:43:53');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (16, 'vartyor', 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', 'Eleonore', '2022-12-11 22:17:29', 'Eleonore', '2023-02-16 23:53:39');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (88, 'vartyor', 'Morbi porttitor lorem id ligula. Suspendisse ornare consequat lectus. In est risus, auctor sed, tristique in, tempus sit amet, sem.', 'Justus', '2022-05-03 07:19:24', 'Justus', '2022-08-29 03:09:52');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (8, 'vartyor', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', 'Spense', '2022-12-21 11:53:29', 'Spense', '2023-03-21 03:33:48');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (87, 'vartyor', 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', 'Burgess', '2022-11-14 01:41:17', 'Burgess', '2022-10-19 22:57:03');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (121, 'vartyor', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', 'Nancee', '2023-02-27 02:04:35', 'Nancee', '2023-02-02 18:15:11');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (55, 'vartyor', 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', 'Abbot', '2023-02-23 21:33:13', 'Abbot', '2023-03-29 06:06:56');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (73, 'vartyor', 'Cras mi pede, malesuada in, imperdiet et, commodo vulputate, justo. In blandit ultrices enim. Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', 'Eldridge', '2022-05-17 11:04:41', 'Eldridge', '2022-09-01 15:18:41');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (6, 'vartyor', 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.', 'Marius', '2022-06-13 07:18:12', 'Marius', '2022-05-29 08:50:05');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (43, 'vartyor', 'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.', 'Doralynne', '2022-11-02 17:04:55', 'Doralynne', '2023-03-03 09:53:29');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (41, 'vartyor', 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', 'Giulio', '2022-04-30 04:15:52', 'Giulio', '2023-02-05 02:45:35');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (31, 'vartyor', 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.', 'Shena', '2022-05-30 18:53:20', 'Shena', '2022-10-11 10:14:47');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (32, 'vartyor', 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.', 'Heddi', '2022-07-28 14:20:48', 'Heddi', '2022-08-08 23:26:25');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (78, 'vartyor', 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', 'Biddie', '2022-04-30 21:06:19', 'Biddie', '2022-08-06 14:06:48');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (59, 'vartyor', 'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.', 'Nikola', '2022-07-19 13:42:39', 'Nikola', '2022-05-17 05:46:58');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (42, 'vartyor', 'In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.', 'Anatol', '2022-11-11 04:21:19', 'Anatol', '2022-07-10 05:38:29');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (32, 'vartyor', 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', 'Lincoln', '2022-06-03 20:53:04', 'Lincoln', '2022-12-22 23:02:27');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (115, 'vartyor', 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.', 'Barnebas', '2023-02-10 13:55:48', 'Barnebas', '2023-01-27 19:35:39');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (36, 'vartyor', 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.', 'Celene', '2023-01-28 09:31:03', 'Celene', '2023-03-21 13:40:14');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (35, 'vartyor', 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.', 'Kerk', '2022-04-27 10:29:43', 'Kerk', '2022-10-10 09:59:02');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (71, 'vartyor', 'Fusce consequat. Nulla nisl. Nunc nisl.', 'Cole', '2022-09-11 20:06:01', 'Cole', '2022-11-14 23:18:28');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (40, 'vartyor', 'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.', 'Con', '2023-03-08 13:05:42', 'Con', '2023-02-24 10:19:45');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (40, 'vartyor', 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', 'Marv', '2022-08-20 12:00:26', 'Marv', '2023-01-03 17:15:05');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (51, 'vartyor', 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', 'Ollie', '2022-06-23 19:14:10', 'Ollie', '2022-11-08 04:29:31');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (15, 'vartyor', 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', 'Kitty', '2022-06-25 15:47:20', 'Kitty', '2023-02-21 16:20:49');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (70, 'vartyor', 'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.', 'Torr', '2023-03-12 21:35:33', 'Torr', '2023-03-11 13:35:57');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (98, 'vartyor', 'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', 'Sloan', '2022-07-05 23:38:46', 'Sloan', '2022-07-12 07:43:13');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (111, 'vartyor', 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', 'Saree', '2022-06-06 11:00:43', 'Saree', '2023-01-05 02:22:16');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (100, 'vartyor', 'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', 'Modestia', '2022-04-19 23:07:41', 'Modestia', '2022-07-10 23:37:29');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (50, 'vartyor', 'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.', 'Danie', '2022-07-22 05:19:59', 'Danie', '2022-07-13 04:01:59');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (77, 'vartyor', 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', 'Edmund', '2022-06-15 09:21:11', 'Edmund', '2022-12-25 03:43:51');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (18, 'vartyor', 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.', 'Creight', '2022-12-07 13:05:06', 'Creight', '2022-10-08 14:22:01');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (72, 'vartyor', 'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.', 'Fletcher', '2023-01-12 06:08:39', 'Fletcher', '2022-04-20 19:13:17');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (62, 'vartyor', 'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.', 'Natalee', '2022-04-27 00:21:51', 'Natalee', '2022-08-05 05:35:33');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (89, 'vartyor', 'Fusce consequat. Nulla nisl. Nunc nisl.', 'Estella', '2022-05-11 21:45:15', 'Estella', '2022-06-24 14:41:28');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (78, 'vartyor', 'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.', 'Brit', '2023-02-03 01:21:19', 'Brit', '2022-08-18 22:34:18');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (7, 'vartyor', 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.', 'Nathan', '2022-06-24 06:54:54', 'Nathan', '2023-02-25 12:46:32');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (77, 'vartyor', 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', 'Putnem', '2022-06-25 17:15:00', 'Putnem', '2022-10-30 18:51:02');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (29, 'vartyor', 'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.', 'Pammie', '2022-08-18 17:13:57', 'Pammie', '2022-09-11 10:31:34');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (21, 'vartyor', 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', 'Zechariah', '2022-11-10 12:50:06', 'Zechariah', '2023-03-20 04:17:38');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (117, 'vartyor', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', 'Tucky', '2022-12-06 10:48:26', 'Tucky', '2023-03-28 11:31:08');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (72, 'vartyor', 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', 'Theodora', '2022-07-18 15:02:49', 'Theodora', '2022-04-19 17:06:54');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (89, 'vartyor', 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', 'Dorothee', '2022-04-15 07:52:32', 'Dorothee', '2022-12-02 01:24:29');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (11, 'vartyor', 'Cras mi pede, malesuada in, imperdiet et, commodo vulputate, justo. In blandit ultrices enim. Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', 'Hakeem', '2022-08-12 18:29:48', 'Hakeem', '2022-04-05 11:37:05');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (107, 'vartyor', 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', 'Carmelita', '2022-07-27 08:16:31', 'Carmelita', '2022-09-12 04:43:52');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (18, 'vartyor', 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.', 'Karen', '2022-07-26 04:14:53', 'Karen', '2022-10-13 09:06:42');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (82, 'vartyor', 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', 'Cal', '2022-08-04 18:40:36', 'Cal', '2023-02-11 01:30:14');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (4, 'vartyor', 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', 'Demetris', '2022-09-21 01:43:02', 'Demetris', '2022-08-28 17:18:58');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (49, 'vartyor', 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', 'Elnore', '2023-02-09 00:45:13', 'Elnore', '2022-04-20 20:31:56');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (13, 'vartyor', 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.', 'Bobbi', '2022-07-27 19:36:09', 'Bobbi', '2023-01-11 21:36:17');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (44, 'vartyor', 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', 'Kristan', '2022-08-15 08:34:42', 'Kristan', '2022-07-10 12:26:45');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (93, 'vartyor', 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', 'Benny', '2022-06-02 02:11:24', 'Benny', '2023-02-21 06:56:55');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (32, 'vartyor', 'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.', 'Reeva', '2022-10-14 05:49:00', 'Reeva', '2022-10-06 01:28:22');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (16, 'vartyor', 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', 'Lars', '2022-11-06 17:12:02', 'Lars', '2022-11-28 00:27:12');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (32, 'vartyor', 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', 'Cary', '2022-05-19 07:56:04', 'Cary', '2022-10-01 07:30:26');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (12, 'vartyor', 'Morbi porttitor lorem id ligula. Suspendisse ornare consequat lectus. In est risus, auctor sed, tristique in, tempus sit amet, sem.', 'Erasmus', '2022-04-26 06:11:40', 'Erasmus', '2023-02-08 09:47:38');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (108, 'vartyor', 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', 'Julio', '2022-08-16 13:04:10', 'Julio', '2022-05-24 13:35:43');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (60, 'vartyor', 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', 'Lou', '2023-02-27 05:12:03', 'Lou', '2022-05-24 12:29:36');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (41, 'vartyor', 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.', 'Hoyt', '2022-09-05 04:40:22', 'Hoyt', '2022-11-23 14:48:44');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (22, 'vartyor', 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.', 'Winnifred', '2022-12-31 11:19:34', 'Winnifred', '2022-12-07 10:28:33');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (63, 'vartyor', 'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.', 'Orazio', '2023-02-02 11:54:29', 'Orazio', '2022-06-04 03:36:13');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (57, 'vartyor', 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', 'Alleen', '2022-04-12 13:26:27', 'Alleen', '2022-12-02 03:10:12');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (89, 'vartyor', 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', 'Alexis', '2022-12-08 00:33:11', 'Alexis', '2022-06-07 03:27:07');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (96, 'vartyor', 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', 'Brenden', '2022-05-15 23:43:20', 'Brenden', '2023-02-25 14:54:43');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (104, 'vartyor', 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', 'Merissa', '2022-12-12 11:13:53', 'Merissa', '2023-01-03 10:13:39');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (4, 'vartyor', 'Phasellus in felis. Donec semper sapien a libero. Nam dui.', 'Tracy', '2022-07-26 08:42:04', 'Tracy', '2022-12-06 19:19:21');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (64, 'vartyor', 'Fusce consequat. Nulla nisl. Nunc nisl.', 'Coralie', '2022-11-01 18:34:24', 'Coralie', '2022-08-30 16:02:04');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (49, 'vartyor', 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', 'Karil', '2022-05-22 10:37:44', 'Karil', '2022-06-02 11:33:32');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (24, 'vartyor', 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', 'Hashim', '2023-02-28 10:48:33', 'Hashim', '2022-11-17 04:37:40');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (25, 'vartyor', 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', 'Germaine', '2022-09-11 08:35:51', 'Germaine', '2022-09-28 05:29:36');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (89, 'vartyor', 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', 'Giustino', '2022-07-20 11:15:56', 'Giustino', '2023-01-30 15:06:43');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (75, 'vartyor', 'In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.', 'Minerva', '2022-11-08 21:13:15', 'Minerva', '2022-08-24 16:10:18');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (113, 'vartyor', 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', 'Letty', '2023-01-04 22:15:18', 'Letty', '2022-09-07 11:25:12');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (39, 'vartyor', 'Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.', 'Eddie', '2022-06-21 13:00:08', 'Eddie', '2022-07-06 21:30:03');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (69, 'vartyor', 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', 'Torrin', '2022-09-12 11:32:37', 'Torrin', '2022-08-02 01:56:03');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (94, 'vartyor', 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', 'Davidson', '2023-04-01 11:22:22', 'Davidson', '2022-09-06 00:19:16');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (100, 'vartyor', 'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.', 'Noby', '2022-09-27 11:41:10', 'Noby', '2023-01-26 00:26:22');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (43, 'vartyor', 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', 'Philippe', '2022-12-01 19:54:57', 'Philippe', '2022-06-07 10:56:22');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (103, 'vartyor', 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', 'Natal', '2022-11-14 04:19:44', 'Natal', '2022-10-21 00:47:37');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (41, 'vartyor', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', 'Elbert', '2023-03-04 17:12:09', 'Elbert', '2022-06-01 19:17:00');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (112, 'vartyor', 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', 'Penelopa', '2022-07-18 13:13:35', 'Penelopa', '2022-12-18 17:07:07');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (29, 'vartyor', 'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.', 'Lurleen', '2023-02-12 03:51:17', 'Lurleen', '2022-07-02 05:24:20');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (100, 'vartyor', 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', 'Anissa', '2022-04-26 08:02:22', 'Anissa', '2023-04-03 02:01:31');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (12, 'vartyor', 'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.', 'Tuesday', '2022-11-29 01:31:40', 'Tuesday', '2022-11-16 09:04:20');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (29, 'vartyor', 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', 'Jacob', '2022-10-27 10:20:10', 'Jacob', '2022-06-25 10:33:28');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (89, 'vartyor', 'In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.', 'Dillie', '2022-05-19 13:34:03', 'Dillie', '2022-05-29 04:58:26');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (61, 'vartyor', 'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.', 'Daren', '2023-01-27 04:09:46', 'Daren', '2022-07-30 06:09:58');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (27, 'vartyor', 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', 'Trevor', '2022-11-28 08:46:50', 'Trevor', '2022-12-19 19:56:19');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (43, 'vartyor', 'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.', 'Stephi', '2022-11-06 19:16:28', 'Stephi', '2023-01-28 16:58:38');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (70, 'vartyor', 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.', 'Adrianna', '2022-09-04 02:39:36', 'Adrianna', '2022-12-16 19:00:09');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (42, 'vartyor', 'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.', 'Nollie', '2022-09-29 23:42:39', 'Nollie', '2022-11-20 17:50:28');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (10, 'vartyor', 'Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.', 'Kirstin', '2022-10-23 06:06:47', 'Kirstin', '2022-10-08 18:05:22');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (41, 'vartyor', 'In congue. Etiam justo. Etiam pretium iaculis justo.', 'Fidel', '2022-05-12 22:55:09', 'Fidel', '2023-01-13 14:44:47');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (114, 'vartyor', 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', 'Bertrand', '2022-08-21 03:58:52', 'Bertrand', '2023-02-09 09:01:03');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (97, 'vartyor', 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', 'Bree', '2022-07-08 18:08:17', 'Bree', '2023-03-18 08:34:51');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (64, 'vartyor', 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.', 'Kyle', '2022-09-14 18:36:55', 'Kyle', '2022-08-02 03:32:17');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (107, 'vartyor', 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', 'Janella', '2022-08-18 08:38:48', 'Janella', '2023-02-16 06:15:43');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (108, 'vartyor', 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.', 'Priscella', '2022-07-26 15:53:40', 'Priscella', '2022-11-18 12:09:59');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (65, 'vartyor', 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', 'Ddene', '2022-11-28 09:28:18', 'Ddene', '2022-11-09 09:06:38');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (88, 'vartyor', 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.', 'Helenka', '2022-06-07 04:28:34', 'Helenka', '2022-09-10 20:32:38');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (82, 'vartyor', 'Aenean lectus. Pellentesque eget nunc. Donec quis orci eget orci vehicula condimentum.', 'Griswold', '2023-04-01 11:55:17', 'Griswold', '2022-09-20 14:09:38');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (91, 'vartyor', 'Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.', 'Vanni', '2022-09-06 07:34:35', 'Vanni', '2022-09-11 14:04:50');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (68, 'vartyor', 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', 'Lynelle', '2022-06-06 05:55:12', 'Lynelle', '2022-08-15 12:08:59');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (58, 'vartyor', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Proin risus. Praesent lectus.', 'Elmira', '2023-02-06 04:00:43', 'Elmira', '2022-07-10 20:28:44');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (107, 'vartyor', 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', 'Kale', '2023-02-03 21:11:12', 'Kale', '2022-10-28 05:29:47');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (43, 'vartyor', 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', 'Robb', '2022-05-22 12:27:06', 'Robb', '2022-10-27 00:05:54');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (2, 'vartyor', 'Aenean lectus. Pellentesque eget nunc. Donec quis orci eget orci vehicula condimentum.', 'Steffane', '2023-01-15 17:33:52', 'Steffane', '2023-02-09 05:27:44');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (120, 'vartyor', 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', 'Evelyn', '2022-05-14 03:09:31', 'Evelyn', '2022-12-16 02:14:04');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (76, 'vartyor', 'Cras mi pede, malesuada in, imperdiet et, commodo vulputate, justo. In blandit ultrices enim. Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', 'Baryram', '2022-08-26 06:13:13', 'Baryram', '2022-10-02 08:43:43');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (77, 'vartyor', 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', 'Dalt', '2022-06-22 17:45:42', 'Dalt', '2022-04-05 21:23:26');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (49, 'vartyor', 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.', 'Buffy', '2023-01-08 02:17:03', 'Buffy', '2022-05-27 11:03:17');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (79, 'vartyor', 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.', 'Murvyn', '2023-03-07 07:05:58', 'Murvyn', '2022-09-20 08:15:51');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (93, 'vartyor', 'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.', 'Davine', '2022-08-31 18:29:02', 'Davine', '2023-01-11 11:16:52');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (122, 'vartyor', 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', 'Katya', '2022-09-06 07:40:55', 'Katya', '2022-10-09 07:55:27');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (79, 'vartyor', 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.', 'Eugenia', '2022-06-01 23:07:42', 'Eugenia', '2022-11-25 06:35:19');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (81, 'vartyor', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', 'Becca', '2022-05-30 17:31:27', 'Becca', '2022-04-09 12:12:24');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (84, 'vartyor', 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', 'Kristos', '2022-11-16 23:40:46', 'Kristos', '2022-10-12 06:15:55');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (110, 'vartyor', 'Fusce consequat. Nulla nisl. Nunc nisl.', 'Suzanne', '2022-07-15 02:13:50', 'Suzanne', '2023-01-29 20:57:47');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (84, 'vartyor', 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', 'Sigfrid', '2022-11-21 02:28:10', 'Sigfrid', '2022-08-02 20:53:15');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (52, 'vartyor', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', 'Bradan', '2022-11-29 05:03:05', 'Bradan', '2023-03-15 10:50:37');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (120, 'vartyor', 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', 'Fletcher', '2022-09-01 16:22:02', 'Fletcher', '2022-04-26 16:41:20');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (6, 'vartyor', 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', 'Adolphe', '2023-03-26 03:15:56', 'Adolphe', '2022-12-30 10:11:57');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (101, 'vartyor', 'Cras mi pede, malesuada in, imperdiet et, commodo vulputate, justo. In blandit ultrices enim. Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', 'Cherish', '2023-03-02 14:21:55', 'Cherish', '2023-02-26 16:27:19');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (45, 'vartyor', 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', 'Ellerey', '2022-12-22 01:34:16', 'Ellerey', '2022-05-24 18:52:02');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (84, 'vartyor', 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', 'Natalina', '2022-12-15 15:40:58', 'Natalina', '2023-02-11 17:42:45');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (113, 'vartyor', 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.', 'Mandy', '2022-07-17 22:00:31', 'Mandy', '2022-06-13 14:49:58');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (107, 'vartyor', 'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.', 'Hildegaard', '2023-01-15 22:55:01', 'Hildegaard', '2023-01-28 02:06:38');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (90, 'vartyor', 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.', 'Gothart', '2022-09-11 14:29:56', 'Gothart', '2022-08-14 11:01:57');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (100, 'vartyor', 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', 'Dorris', '2023-01-23 13:48:50', 'Dorris', '2022-12-06 07:43:51');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (53, 'vartyor', 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', 'Randi', '2022-10-08 11:41:47', 'Randi', '2022-12-18 07:07:34');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (3, 'vartyor', 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', 'Hewe', '2022-06-18 18:55:06', 'Hewe', '2022-10-27 17:18:39');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (12, 'vartyor', 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', 'Alphonse', '2022-09-15 20:21:21', 'Alphonse', '2023-01-17 12:46:20');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (30, 'vartyor', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', 'Wiatt', '2023-03-02 23:57:46', 'Wiatt', '2022-12-01 05:06:11');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (95, 'vartyor', 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', 'Trista', '2022-12-13 02:09:57', 'Trista', '2022-05-06 23:29:37');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (15, 'vartyor', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', 'Silas', '2022-12-20 21:21:05', 'Silas', '2022-08-16 18:32:59');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (62, 'vartyor', 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', 'Alla', '2022-12-10 00:34:43', 'Alla', '2022-08-04 02:33:44');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (59, 'vartyor', 'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', 'Emmett', '2023-01-26 10:27:44', 'Emmett', '2022-11-08 21:31:28');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (59, 'vartyor', 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', 'Bethina', '2022-08-13 18:07:39', 'Bethina', '2023-03-20 00:21:31');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (88, 'vartyor', 'Phasellus in felis. Donec semper sapien a libero. Nam dui.', 'Joelie', '2023-02-21 05:22:02', 'Joelie', '2023-01-10 18:58:32');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (101, 'vartyor', 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', 'Halsey', '2022-05-24 13:03:25', 'Halsey', '2022-06-11 12:02:07');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (121, 'vartyor', 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', 'Elizabeth', '2022-06-09 15:14:53', 'Elizabeth', '2023-02-01 17:36:27');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (97, 'vartyor', 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.', 'Denise', '2022-09-11 22:19:53', 'Denise', '2023-03-18 03:40:48');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (53, 'vartyor', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', 'Dede', '2022-08-18 20:11:29', 'Dede', '2022-07-28 00:35:31');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (4, 'vartyor', 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', 'Der', '2022-07-28 10:56:50', 'Der', '2022-11-01 22:18:10');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (89, 'vartyor', 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', 'Radcliffe', '2022-08-13 14:04:21', 'Radcliffe', '2023-01-29 16:04:49');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (16, 'vartyor', 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', 'Bern', '2022-11-22 13:16:22', 'Bern', '2023-02-14 08:24:34');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (60, 'vartyor', 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', 'Birk', '2022-04-11 22:50:46', 'Birk', '2023-03-22 16:03:38');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (20, 'vartyor', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', 'Vikky', '2023-03-08 07:04:36', 'Vikky', '2022-10-29 17:51:36');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (119, 'vartyor', 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', 'Whitman', '2022-07-12 05:39:16', 'Whitman', '2022-04-26 03:17:25');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (52, 'vartyor', 'Praesent id massa id nisl venenatis lacinia. Aenean sit amet justo. Morbi ut odio.', 'Daron', '2022-05-07 13:48:29', 'Daron', '2022-11-01 14:16:42');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (106, 'vartyor', 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', 'Yancey', '2022-08-22 21:36:34', 'Yancey', '2022-10-28 11:24:50');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (27, 'vartyor', 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.', 'Gunner', '2022-11-10 01:03:14', 'Gunner', '2022-06-15 02:24:45');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (88, 'vartyor', 'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.', 'Isidro', '2022-08-16 13:05:45', 'Isidro', '2022-11-21 16:20:06');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (82, 'vartyor', 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.', 'Grace', '2023-03-17 10:24:16', 'Grace', '2022-08-03 15:03:06');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (65, 'vartyor', 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', 'Effie', '2023-02-18 04:03:43', 'Effie', '2022-05-14 15:22:52');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (83, 'vartyor', 'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.', 'Ivette', '2022-08-09 01:42:59', 'Ivette', '2022-08-21 16:28:23');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (53, 'vartyor', 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', 'Raynell', '2022-11-18 16:35:40', 'Raynell', '2022-12-14 23:31:54');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (105, 'vartyor', 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', 'Krissy', '2022-06-24 23:52:25', 'Krissy', '2022-10-16 14:13:59');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (10, 'vartyor', 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', 'Ezechiel', '2023-03-13 05:50:07', 'Ezechiel', '2022-06-12 10:00:12');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (23, 'vartyor', 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', 'Karola', '2022-10-15 10:48:21', 'Karola', '2022-12-06 03:56:17');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (91, 'vartyor', 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.', 'Ashla', '2022-12-21 22:02:20', 'Ashla', '2022-10-31 16:25:46');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (57, 'vartyor', 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', 'Andrea', '2022-10-07 21:16:30', 'Andrea', '2022-06-10 00:32:05');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (123, 'vartyor', 'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.', 'Florinda', '2022-06-14 18:26:16', 'Florinda', '2022-10-19 17:21:48');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (44, 'vartyor', 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', 'Lilias', '2022-09-13 09:07:04', 'Lilias', '2023-01-03 08:27:27');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (60, 'vartyor', 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.', 'Chloe', '2023-03-23 13:33:20', 'Chloe', '2022-07-09 06:13:45');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (75, 'vartyor', 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', 'Dyann', '2022-04-12 13:30:03', 'Dyann', '2022-04-07 06:01:09');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (81, 'vartyor', 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', 'Minni', '2022-05-29 06:07:26', 'Minni', '2022-12-10 14:29:09');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (84, 'vartyor', 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', 'Elicia', '2023-02-10 00:07:37', 'Elicia', '2022-09-19 10:40:52');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (96, 'vartyor', 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', 'Kory', '2023-01-18 09:07:21', 'Kory', '2022-09-06 00:26:52');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (1, 'vartyor', 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.', 'Tybalt', '2023-01-18 13:15:57', 'Tybalt', '2022-07-07 01:50:53');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (29, 'vartyor', 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', 'Katy', '2023-01-01 08:52:47', 'Katy', '2022-07-31 04:40:26');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (15, 'vartyor', 'Morbi porttitor lorem id ligula. Suspendisse ornare consequat lectus. In est risus, auctor sed, tristique in, tempus sit amet, sem.', 'Yalonda', '2022-09-03 06:15:26', 'Yalonda', '2022-11-22 02:55:11');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (44, 'vartyor', 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', 'Yehudi', '2022-04-07 23:31:16', 'Yehudi', '2022-07-05 10:17:18');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (26, 'vartyor', 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', 'Vidovic', '2023-03-12 02:47:18', 'Vidovic', '2023-01-17 19:07:11');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (44, 'vartyor', 'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.', 'Geno', '2022-07-23 18:35:36', 'Geno', '2022-04-08 14:20:10');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (89, 'vartyor', 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.', 'Andie', '2022-07-23 16:01:50', 'Andie', '2022-09-18 15:57:32');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (53, 'vartyor', 'Morbi porttitor lorem id ligula. Suspendisse ornare consequat lectus. In est risus, auctor sed, tristique in, tempus sit amet, sem.', 'Morten', '2023-01-16 08:19:42', 'Morten', '2022-09-24 15:18:37');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (81, 'vartyor', 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', 'Eleonore', '2023-03-06 23:27:46', 'Eleonore', '2022-10-31 04:08:49');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (66, 'vartyor', 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.', 'Karleen', '2022-05-15 21:33:44', 'Karleen', '2023-03-02 16:53:35');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (104, 'vartyor', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Proin risus. Praesent lectus.', 'Corabel', '2022-09-18 21:57:57', 'Corabel', '2022-12-07 13:22:20');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (23, 'vartyor', 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', 'Elysha', '2023-01-14 14:05:52', 'Elysha', '2023-03-21 11:41:24');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (49, 'vartyor', 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.', 'Fernandina', '2023-02-05 11:07:02', 'Fernandina', '2022-06-02 06:21:49');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (67, 'vartyor', 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', 'Nari', '2022-05-06 23:25:13', 'Nari', '2023-01-07 08:53:58');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (49, 'vartyor', 'In congue. Etiam justo. Etiam pretium iaculis justo.', 'Renato', '2023-03-19 14:59:34', 'Renato', '2023-02-09 15:32:35');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (65, 'vartyor', 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.', 'Jackelyn', '2022-04-24 12:42:44', 'Jackelyn', '2023-01-03 19:42:46');
-insert into article_comment (article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (102, 'vartyor', 'Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.', 'Kimbell', '2022-09-25 11:06:42', 'Kimbell', '2023-02-17 21:19:12');
-
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (1, 34, 'vartyor', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', 'Reece', '2022-11-27 13:47:12', 'Reece', '2022-09-14 10:43:09');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (2, 93, 'vartyor', 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', 'Saxon', '2023-04-01 01:06:46', 'Saxon', '2023-03-04 21:47:30');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (3, 105, 'vartyor', 'In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.', 'Leigh', '2023-01-23 16:49:36', 'Leigh', '2022-06-16 20:04:03');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (4, 48, 'vartyor', 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', 'Erwin', '2023-03-20 07:34:47', 'Erwin', '2022-10-10 17:17:05');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (5, 80, 'vartyor', 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', 'Ambrose', '2022-10-29 08:42:53', 'Ambrose', '2022-06-16 06:44:01');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (6, 36, 'vartyor', 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', 'Brita', '2023-01-16 19:40:56', 'Brita', '2022-07-28 17:56:54');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (7, 30, 'vartyor', 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', 'Karola', '2023-03-16 14:38:46', 'Karola', '2022-04-23 17:18:14');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (8, 30, 'vartyor', 'Fusce consequat. Nulla nisl. Nunc nisl.', 'Nancey', '2023-02-04 08:50:47', 'Nancey', '2023-01-26 16:58:37');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (9, 73, 'vartyor', 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.', 'Lennie', '2022-09-12 09:14:19', 'Lennie', '2023-01-04 13:27:54');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (10, 68, 'vartyor', 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', 'Inessa', '2023-01-18 11:03:00', 'Inessa', '2022-11-12 12:56:45');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (11, 89, 'vartyor', 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', 'Yvonne', '2022-05-08 11:19:34', 'Yvonne', '2022-07-31 02:27:53');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (12, 29, 'vartyor', 'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', 'Heath', '2023-01-13 23:54:33', 'Heath', '2022-04-23 12:45:02');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (13, 9, 'vartyor', 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', 'Donnajean', '2022-06-06 13:30:00', 'Donnajean', '2022-04-28 01:41:06');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (14, 112, 'vartyor', 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', 'Hinda', '2022-07-28 04:21:19', 'Hinda', '2023-03-26 14:28:08');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (15, 50, 'vartyor', 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', 'Stanislas', '2022-10-27 02:03:15', 'Stanislas', '2022-10-02 04:43:53');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (16, 16, 'vartyor', 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', 'Eleonore', '2022-12-11 22:17:29', 'Eleonore', '2023-02-16 23:53:39');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (17, 88, 'vartyor', 'Morbi porttitor lorem id ligula. Suspendisse ornare consequat lectus. In est risus, auctor sed, tristique in, tempus sit amet, sem.', 'Justus', '2022-05-03 07:19:24', 'Justus', '2022-08-29 03:09:52');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (18, 8, 'vartyor', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', 'Spense', '2022-12-21 11:53:29', 'Spense', '2023-03-21 03:33:48');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (19, 87, 'vartyor', 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', 'Burgess', '2022-11-14 01:41:17', 'Burgess', '2022-10-19 22:57:03');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (20, 121, 'vartyor', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', 'Nancee', '2023-02-27 02:04:35', 'Nancee', '2023-02-02 18:15:11');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (21, 55, 'vartyor', 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', 'Abbot', '2023-02-23 21:33:13', 'Abbot', '2023-03-29 06:06:56');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (22, 73, 'vartyor', 'Cras mi pede, malesuada in, imperdiet et, commodo vulputate, justo. In blandit ultrices enim. Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', 'Eldridge', '2022-05-17 11:04:41', 'Eldridge', '2022-09-01 15:18:41');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (23, 6, 'vartyor', 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.', 'Marius', '2022-06-13 07:18:12', 'Marius', '2022-05-29 08:50:05');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (24, 43, 'vartyor', 'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.', 'Doralynne', '2022-11-02 17:04:55', 'Doralynne', '2023-03-03 09:53:29');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (25, 41, 'vartyor', 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', 'Giulio', '2022-04-30 04:15:52', 'Giulio', '2023-02-05 02:45:35');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (26, 31, 'vartyor', 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.', 'Shena', '2022-05-30 18:53:20', 'Shena', '2022-10-11 10:14:47');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (27, 32, 'vartyor', 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.', 'Heddi', '2022-07-28 14:20:48', 'Heddi', '2022-08-08 23:26:25');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (28, 78, 'vartyor', 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', 'Biddie', '2022-04-30 21:06:19', 'Biddie', '2022-08-06 14:06:48');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (29, 59, 'vartyor', 'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.', 'Nikola', '2022-07-19 13:42:39', 'Nikola', '2022-05-17 05:46:58');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (30, 42, 'vartyor', 'In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.', 'Anatol', '2022-11-11 04:21:19', 'Anatol', '2022-07-10 05:38:29');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (31, 32, 'vartyor', 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', 'Lincoln', '2022-06-03 20:53:04', 'Lincoln', '2022-12-22 23:02:27');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (32, 115, 'vartyor', 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.', 'Barnebas', '2023-02-10 13:55:48', 'Barnebas', '2023-01-27 19:35:39');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (33, 36, 'vartyor', 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.', 'Celene', '2023-01-28 09:31:03', 'Celene', '2023-03-21 13:40:14');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (34, 35, 'vartyor', 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.', 'Kerk', '2022-04-27 10:29:43', 'Kerk', '2022-10-10 09:59:02');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (35, 71, 'vartyor', 'Fusce consequat. Nulla nisl. Nunc nisl.', 'Cole', '2022-09-11 20:06:01', 'Cole', '2022-11-14 23:18:28');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (36, 40, 'vartyor', 'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.', 'Con', '2023-03-08 13:05:42', 'Con', '2023-02-24 10:19:45');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (37, 40, 'vartyor', 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', 'Marv', '2022-08-20 12:00:26', 'Marv', '2023-01-03 17:15:05');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (38, 51, 'vartyor', 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', 'Ollie', '2022-06-23 19:14:10', 'Ollie', '2022-11-08 04:29:31');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (39, 15, 'vartyor', 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', 'Kitty', '2022-06-25 15:47:20', 'Kitty', '2023-02-21 16:20:49');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (40, 70, 'vartyor', 'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.', 'Torr', '2023-03-12 21:35:33', 'Torr', '2023-03-11 13:35:57');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (41, 98, 'vartyor', 'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', 'Sloan', '2022-07-05 23:38:46', 'Sloan', '2022-07-12 07:43:13');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (42, 111, 'vartyor', 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', 'Saree', '2022-06-06 11:00:43', 'Saree', '2023-01-05 02:22:16');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (43, 100, 'vartyor', 'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', 'Modestia', '2022-04-19 23:07:41', 'Modestia', '2022-07-10 23:37:29');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (44, 50, 'vartyor', 'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.', 'Danie', '2022-07-22 05:19:59', 'Danie', '2022-07-13 04:01:59');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (45, 77, 'vartyor', 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', 'Edmund', '2022-06-15 09:21:11', 'Edmund', '2022-12-25 03:43:51');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (46, 18, 'vartyor', 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.', 'Creight', '2022-12-07 13:05:06', 'Creight', '2022-10-08 14:22:01');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (47, 72, 'vartyor', 'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.', 'Fletcher', '2023-01-12 06:08:39', 'Fletcher', '2022-04-20 19:13:17');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (48, 62, 'vartyor', 'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.', 'Natalee', '2022-04-27 00:21:51', 'Natalee', '2022-08-05 05:35:33');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (49, 89, 'vartyor', 'Fusce consequat. Nulla nisl. Nunc nisl.', 'Estella', '2022-05-11 21:45:15', 'Estella', '2022-06-24 14:41:28');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (50, 78, 'vartyor', 'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.', 'Brit', '2023-02-03 01:21:19', 'Brit', '2022-08-18 22:34:18');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (51, 7, 'vartyor', 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.', 'Nathan', '2022-06-24 06:54:54', 'Nathan', '2023-02-25 12:46:32');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (52, 77, 'vartyor', 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', 'Putnem', '2022-06-25 17:15:00', 'Putnem', '2022-10-30 18:51:02');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (53, 29, 'vartyor', 'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.', 'Pammie', '2022-08-18 17:13:57', 'Pammie', '2022-09-11 10:31:34');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (54, 21, 'vartyor', 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', 'Zechariah', '2022-11-10 12:50:06', 'Zechariah', '2023-03-20 04:17:38');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (55, 117, 'vartyor', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', 'Tucky', '2022-12-06 10:48:26', 'Tucky', '2023-03-28 11:31:08');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (56, 72, 'vartyor', 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', 'Theodora', '2022-07-18 15:02:49', 'Theodora', '2022-04-19 17:06:54');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (57, 89, 'vartyor', 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', 'Dorothee', '2022-04-15 07:52:32', 'Dorothee', '2022-12-02 01:24:29');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (58, 11, 'vartyor', 'Cras mi pede, malesuada in, imperdiet et, commodo vulputate, justo. In blandit ultrices enim. Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', 'Hakeem', '2022-08-12 18:29:48', 'Hakeem', '2022-04-05 11:37:05');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (59, 107, 'vartyor', 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', 'Carmelita', '2022-07-27 08:16:31', 'Carmelita', '2022-09-12 04:43:52');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (60, 18, 'vartyor', 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.', 'Karen', '2022-07-26 04:14:53', 'Karen', '2022-10-13 09:06:42');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (61, 82, 'vartyor', 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', 'Cal', '2022-08-04 18:40:36', 'Cal', '2023-02-11 01:30:14');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (62, 4, 'vartyor', 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', 'Demetris', '2022-09-21 01:43:02', 'Demetris', '2022-08-28 17:18:58');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (63, 49, 'vartyor', 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', 'Elnore', '2023-02-09 00:45:13', 'Elnore', '2022-04-20 20:31:56');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (64, 13, 'vartyor', 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.', 'Bobbi', '2022-07-27 19:36:09', 'Bobbi', '2023-01-11 21:36:17');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (65, 44, 'vartyor', 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', 'Kristan', '2022-08-15 08:34:42', 'Kristan', '2022-07-10 12:26:45');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (66, 93, 'vartyor', 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', 'Benny', '2022-06-02 02:11:24', 'Benny', '2023-02-21 06:56:55');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (67, 32, 'vartyor', 'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.', 'Reeva', '2022-10-14 05:49:00', 'Reeva', '2022-10-06 01:28:22');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (68, 16, 'vartyor', 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', 'Lars', '2022-11-06 17:12:02', 'Lars', '2022-11-28 00:27:12');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (69, 32, 'vartyor', 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', 'Cary', '2022-05-19 07:56:04', 'Cary', '2022-10-01 07:30:26');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (70, 12, 'vartyor', 'Morbi porttitor lorem id ligula. Suspendisse ornare consequat lectus. In est risus, auctor sed, tristique in, tempus sit amet, sem.', 'Erasmus', '2022-04-26 06:11:40', 'Erasmus', '2023-02-08 09:47:38');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (71, 108, 'vartyor', 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', 'Julio', '2022-08-16 13:04:10', 'Julio', '2022-05-24 13:35:43');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (72, 60, 'vartyor', 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', 'Lou', '2023-02-27 05:12:03', 'Lou', '2022-05-24 12:29:36');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (73, 41, 'vartyor', 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.', 'Hoyt', '2022-09-05 04:40:22', 'Hoyt', '2022-11-23 14:48:44');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (74, 22, 'vartyor', 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.', 'Winnifred', '2022-12-31 11:19:34', 'Winnifred', '2022-12-07 10:28:33');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (75, 63, 'vartyor', 'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.', 'Orazio', '2023-02-02 11:54:29', 'Orazio', '2022-06-04 03:36:13');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (76, 57, 'vartyor', 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', 'Alleen', '2022-04-12 13:26:27', 'Alleen', '2022-12-02 03:10:12');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (77, 89, 'vartyor', 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', 'Alexis', '2022-12-08 00:33:11', 'Alexis', '2022-06-07 03:27:07');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (78, 96, 'vartyor', 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', 'Brenden', '2022-05-15 23:43:20', 'Brenden', '2023-02-25 14:54:43');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (79, 104, 'vartyor', 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', 'Merissa', '2022-12-12 11:13:53', 'Merissa', '2023-01-03 10:13:39');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (80, 4, 'vartyor', 'Phasellus in felis. Donec semper sapien a libero. Nam dui.', 'Tracy', '2022-07-26 08:42:04', 'Tracy', '2022-12-06 19:19:21');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (81, 64, 'vartyor', 'Fusce consequat. Nulla nisl. Nunc nisl.', 'Coralie', '2022-11-01 18:34:24', 'Coralie', '2022-08-30 16:02:04');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (82, 49, 'vartyor', 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', 'Karil', '2022-05-22 10:37:44', 'Karil', '2022-06-02 11:33:32');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (83, 24, 'vartyor', 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', 'Hashim', '2023-02-28 10:48:33', 'Hashim', '2022-11-17 04:37:40');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (84, 25, 'vartyor', 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', 'Germaine', '2022-09-11 08:35:51', 'Germaine', '2022-09-28 05:29:36');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (85, 89, 'vartyor', 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', 'Giustino', '2022-07-20 11:15:56', 'Giustino', '2023-01-30 15:06:43');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (86, 75, 'vartyor', 'In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.', 'Minerva', '2022-11-08 21:13:15', 'Minerva', '2022-08-24 16:10:18');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (87, 113, 'vartyor', 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', 'Letty', '2023-01-04 22:15:18', 'Letty', '2022-09-07 11:25:12');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (88, 39, 'vartyor', 'Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.', 'Eddie', '2022-06-21 13:00:08', 'Eddie', '2022-07-06 21:30:03');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (89, 69, 'vartyor', 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', 'Torrin', '2022-09-12 11:32:37', 'Torrin', '2022-08-02 01:56:03');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (90, 94, 'vartyor', 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', 'Davidson', '2023-04-01 11:22:22', 'Davidson', '2022-09-06 00:19:16');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (91, 100, 'vartyor', 'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.', 'Noby', '2022-09-27 11:41:10', 'Noby', '2023-01-26 00:26:22');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (92, 43, 'vartyor', 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', 'Philippe', '2022-12-01 19:54:57', 'Philippe', '2022-06-07 10:56:22');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (93, 103, 'vartyor', 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', 'Natal', '2022-11-14 04:19:44', 'Natal', '2022-10-21 00:47:37');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (94, 41, 'vartyor', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', 'Elbert', '2023-03-04 17:12:09', 'Elbert', '2022-06-01 19:17:00');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (95, 112, 'vartyor', 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', 'Penelopa', '2022-07-18 13:13:35', 'Penelopa', '2022-12-18 17:07:07');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (96, 29, 'vartyor', 'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.', 'Lurleen', '2023-02-12 03:51:17', 'Lurleen', '2022-07-02 05:24:20');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (97, 100, 'vartyor', 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', 'Anissa', '2022-04-26 08:02:22', 'Anissa', '2023-04-03 02:01:31');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (98, 12, 'vartyor', 'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.', 'Tuesday', '2022-11-29 01:31:40', 'Tuesday', '2022-11-16 09:04:20');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (99, 29, 'vartyor', 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', 'Jacob', '2022-10-27 10:20:10', 'Jacob', '2022-06-25 10:33:28');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (100, 89, 'vartyor', 'In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.', 'Dillie', '2022-05-19 13:34:03', 'Dillie', '2022-05-29 04:58:26');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (101, 61, 'vartyor', 'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.', 'Daren', '2023-01-27 04:09:46', 'Daren', '2022-07-30 06:09:58');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (102, 27, 'vartyor', 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', 'Trevor', '2022-11-28 08:46:50', 'Trevor', '2022-12-19 19:56:19');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (103, 43, 'vartyor', 'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.', 'Stephi', '2022-11-06 19:16:28', 'Stephi', '2023-01-28 16:58:38');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (104, 70, 'vartyor', 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.', 'Adrianna', '2022-09-04 02:39:36', 'Adrianna', '2022-12-16 19:00:09');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (105, 42, 'vartyor', 'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.', 'Nollie', '2022-09-29 23:42:39', 'Nollie', '2022-11-20 17:50:28');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (106, 10, 'vartyor', 'Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.', 'Kirstin', '2022-10-23 06:06:47', 'Kirstin', '2022-10-08 18:05:22');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (107, 41, 'vartyor', 'In congue. Etiam justo. Etiam pretium iaculis justo.', 'Fidel', '2022-05-12 22:55:09', 'Fidel', '2023-01-13 14:44:47');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (108, 114, 'vartyor', 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', 'Bertrand', '2022-08-21 03:58:52', 'Bertrand', '2023-02-09 09:01:03');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (109, 97, 'vartyor', 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', 'Bree', '2022-07-08 18:08:17', 'Bree', '2023-03-18 08:34:51');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (110, 64, 'vartyor', 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.', 'Kyle', '2022-09-14 18:36:55', 'Kyle', '2022-08-02 03:32:17');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (111, 107, 'vartyor', 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', 'Janella', '2022-08-18 08:38:48', 'Janella', '2023-02-16 06:15:43');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (112, 108, 'vartyor', 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.', 'Priscella', '2022-07-26 15:53:40', 'Priscella', '2022-11-18 12:09:59');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (113, 65, 'vartyor', 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', 'Ddene', '2022-11-28 09:28:18', 'Ddene', '2022-11-09 09:06:38');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (114, 88, 'vartyor', 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.', 'Helenka', '2022-06-07 04:28:34', 'Helenka', '2022-09-10 20:32:38');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (115, 82, 'vartyor', 'Aenean lectus. Pellentesque eget nunc. Donec quis orci eget orci vehicula condimentum.', 'Griswold', '2023-04-01 11:55:17', 'Griswold', '2022-09-20 14:09:38');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (116, 91, 'vartyor', 'Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.', 'Vanni', '2022-09-06 07:34:35', 'Vanni', '2022-09-11 14:04:50');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (117, 68, 'vartyor', 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.', 'Lynelle', '2022-06-06 05:55:12', 'Lynelle', '2022-08-15 12:08:59');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (118, 58, 'vartyor', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Proin risus. Praesent lectus.', 'Elmira', '2023-02-06 04:00:43', 'Elmira', '2022-07-10 20:28:44');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (119, 107, 'vartyor', 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', 'Kale', '2023-02-03 21:11:12', 'Kale', '2022-10-28 05:29:47');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (120, 43, 'vartyor', 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', 'Robb', '2022-05-22 12:27:06', 'Robb', '2022-10-27 00:05:54');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (121, 2, 'vartyor', 'Aenean lectus. Pellentesque eget nunc. Donec quis orci eget orci vehicula condimentum.', 'Steffane', '2023-01-15 17:33:52', 'Steffane', '2023-02-09 05:27:44');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (122, 120, 'vartyor', 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', 'Evelyn', '2022-05-14 03:09:31', 'Evelyn', '2022-12-16 02:14:04');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (123, 76, 'vartyor', 'Cras mi pede, malesuada in, imperdiet et, commodo vulputate, justo. In blandit ultrices enim. Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', 'Baryram', '2022-08-26 06:13:13', 'Baryram', '2022-10-02 08:43:43');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (124, 77, 'vartyor', 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', 'Dalt', '2022-06-22 17:45:42', 'Dalt', '2022-04-05 21:23:26');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (125, 49, 'vartyor', 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.', 'Buffy', '2023-01-08 02:17:03', 'Buffy', '2022-05-27 11:03:17');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (126, 79, 'vartyor', 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.', 'Murvyn', '2023-03-07 07:05:58', 'Murvyn', '2022-09-20 08:15:51');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (127, 93, 'vartyor', 'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.', 'Davine', '2022-08-31 18:29:02', 'Davine', '2023-01-11 11:16:52');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (128, 122, 'vartyor', 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', 'Katya', '2022-09-06 07:40:55', 'Katya', '2022-10-09 07:55:27');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (129, 79, 'vartyor', 'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.', 'Eugenia', '2022-06-01 23:07:42', 'Eugenia', '2022-11-25 06:35:19');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (130, 81, 'vartyor', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', 'Becca', '2022-05-30 17:31:27', 'Becca', '2022-04-09 12:12:24');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (131, 84, 'vartyor', 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', 'Kristos', '2022-11-16 23:40:46', 'Kristos', '2022-10-12 06:15:55');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (132, 110, 'vartyor', 'Fusce consequat. Nulla nisl. Nunc nisl.', 'Suzanne', '2022-07-15 02:13:50', 'Suzanne', '2023-01-29 20:57:47');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (133, 84, 'vartyor', 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.', 'Sigfrid', '2022-11-21 02:28:10', 'Sigfrid', '2022-08-02 20:53:15');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (134, 52, 'vartyor', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', 'Bradan', '2022-11-29 05:03:05', 'Bradan', '2023-03-15 10:50:37');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (135, 120, 'vartyor', 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.', 'Fletcher', '2022-09-01 16:22:02', 'Fletcher', '2022-04-26 16:41:20');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (136, 6, 'vartyor', 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', 'Adolphe', '2023-03-26 03:15:56', 'Adolphe', '2022-12-30 10:11:57');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (137, 101, 'vartyor', 'Cras mi pede, malesuada in, imperdiet et, commodo vulputate, justo. In blandit ultrices enim. Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', 'Cherish', '2023-03-02 14:21:55', 'Cherish', '2023-02-26 16:27:19');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (138, 45, 'vartyor', 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', 'Ellerey', '2022-12-22 01:34:16', 'Ellerey', '2022-05-24 18:52:02');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (139, 84, 'vartyor', 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', 'Natalina', '2022-12-15 15:40:58', 'Natalina', '2023-02-11 17:42:45');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (140, 113, 'vartyor', 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.', 'Mandy', '2022-07-17 22:00:31', 'Mandy', '2022-06-13 14:49:58');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (141, 107, 'vartyor', 'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.', 'Hildegaard', '2023-01-15 22:55:01', 'Hildegaard', '2023-01-28 02:06:38');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (142, 90, 'vartyor', 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.', 'Gothart', '2022-09-11 14:29:56', 'Gothart', '2022-08-14 11:01:57');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (143, 100, 'vartyor', 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', 'Dorris', '2023-01-23 13:48:50', 'Dorris', '2022-12-06 07:43:51');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (144, 53, 'vartyor', 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', 'Randi', '2022-10-08 11:41:47', 'Randi', '2022-12-18 07:07:34');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (145, 3, 'vartyor', 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.', 'Hewe', '2022-06-18 18:55:06', 'Hewe', '2022-10-27 17:18:39');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (146, 12, 'vartyor', 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', 'Alphonse', '2022-09-15 20:21:21', 'Alphonse', '2023-01-17 12:46:20');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (147, 30, 'vartyor', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', 'Wiatt', '2023-03-02 23:57:46', 'Wiatt', '2022-12-01 05:06:11');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (148, 95, 'vartyor', 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', 'Trista', '2022-12-13 02:09:57', 'Trista', '2022-05-06 23:29:37');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (149, 15, 'vartyor', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', 'Silas', '2022-12-20 21:21:05', 'Silas', '2022-08-16 18:32:59');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (150, 62, 'vartyor', 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', 'Alla', '2022-12-10 00:34:43', 'Alla', '2022-08-04 02:33:44');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (151, 59, 'vartyor', 'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', 'Emmett', '2023-01-26 10:27:44', 'Emmett', '2022-11-08 21:31:28');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (152, 59, 'vartyor', 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', 'Bethina', '2022-08-13 18:07:39', 'Bethina', '2023-03-20 00:21:31');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (153, 88, 'vartyor', 'Phasellus in felis. Donec semper sapien a libero. Nam dui.', 'Joelie', '2023-02-21 05:22:02', 'Joelie', '2023-01-10 18:58:32');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (154, 101, 'vartyor', 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', 'Halsey', '2022-05-24 13:03:25', 'Halsey', '2022-06-11 12:02:07');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (155, 121, 'vartyor', 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', 'Elizabeth', '2022-06-09 15:14:53', 'Elizabeth', '2023-02-01 17:36:27');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (156, 97, 'vartyor', 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.', 'Denise', '2022-09-11 22:19:53', 'Denise', '2023-03-18 03:40:48');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (157, 53, 'vartyor', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', 'Dede', '2022-08-18 20:11:29', 'Dede', '2022-07-28 00:35:31');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (158, 4, 'vartyor', 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', 'Der', '2022-07-28 10:56:50', 'Der', '2022-11-01 22:18:10');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (159, 89, 'vartyor', 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', 'Radcliffe', '2022-08-13 14:04:21', 'Radcliffe', '2023-01-29 16:04:49');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (160, 16, 'vartyor', 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.', 'Bern', '2022-11-22 13:16:22', 'Bern', '2023-02-14 08:24:34');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (161, 60, 'vartyor', 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', 'Birk', '2022-04-11 22:50:46', 'Birk', '2023-03-22 16:03:38');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (162, 20, 'vartyor', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', 'Vikky', '2023-03-08 07:04:36', 'Vikky', '2022-10-29 17:51:36');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (163, 119, 'vartyor', 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', 'Whitman', '2022-07-12 05:39:16', 'Whitman', '2022-04-26 03:17:25');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (164, 52, 'vartyor', 'Praesent id massa id nisl venenatis lacinia. Aenean sit amet justo. Morbi ut odio.', 'Daron', '2022-05-07 13:48:29', 'Daron', '2022-11-01 14:16:42');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (165, 106, 'vartyor', 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', 'Yancey', '2022-08-22 21:36:34', 'Yancey', '2022-10-28 11:24:50');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (166, 27, 'vartyor', 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.', 'Gunner', '2022-11-10 01:03:14', 'Gunner', '2022-06-15 02:24:45');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (167, 88, 'vartyor', 'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.', 'Isidro', '2022-08-16 13:05:45', 'Isidro', '2022-11-21 16:20:06');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (168, 82, 'vartyor', 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.', 'Grace', '2023-03-17 10:24:16', 'Grace', '2022-08-03 15:03:06');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (169, 65, 'vartyor', 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', 'Effie', '2023-02-18 04:03:43', 'Effie', '2022-05-14 15:22:52');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (170, 83, 'vartyor', 'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.', 'Ivette', '2022-08-09 01:42:59', 'Ivette', '2022-08-21 16:28:23');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (171, 53, 'vartyor', 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', 'Raynell', '2022-11-18 16:35:40', 'Raynell', '2022-12-14 23:31:54');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (172, 105, 'vartyor', 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', 'Krissy', '2022-06-24 23:52:25', 'Krissy', '2022-10-16 14:13:59');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (173, 10, 'vartyor', 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', 'Ezechiel', '2023-03-13 05:50:07', 'Ezechiel', '2022-06-12 10:00:12');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (174, 23, 'vartyor', 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', 'Karola', '2022-10-15 10:48:21', 'Karola', '2022-12-06 03:56:17');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (175, 91, 'vartyor', 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.', 'Ashla', '2022-12-21 22:02:20', 'Ashla', '2022-10-31 16:25:46');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (176, 57, 'vartyor', 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', 'Andrea', '2022-10-07 21:16:30', 'Andrea', '2022-06-10 00:32:05');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (177, 123, 'vartyor', 'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.', 'Florinda', '2022-06-14 18:26:16', 'Florinda', '2022-10-19 17:21:48');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (178, 44, 'vartyor', 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', 'Lilias', '2022-09-13 09:07:04', 'Lilias', '2023-01-03 08:27:27');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (179, 60, 'vartyor', 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.', 'Chloe', '2023-03-23 13:33:20', 'Chloe', '2022-07-09 06:13:45');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (180, 75, 'vartyor', 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', 'Dyann', '2022-04-12 13:30:03', 'Dyann', '2022-04-07 06:01:09');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (181, 81, 'vartyor', 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', 'Minni', '2022-05-29 06:07:26', 'Minni', '2022-12-10 14:29:09');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (182, 84, 'vartyor', 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', 'Elicia', '2023-02-10 00:07:37', 'Elicia', '2022-09-19 10:40:52');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (183, 96, 'vartyor', 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.', 'Kory', '2023-01-18 09:07:21', 'Kory', '2022-09-06 00:26:52');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (184, 1, 'vartyor', 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.', 'Tybalt', '2023-01-18 13:15:57', 'Tybalt', '2022-07-07 01:50:53');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (185, 29, 'vartyor', 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.', 'Katy', '2023-01-01 08:52:47', 'Katy', '2022-07-31 04:40:26');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (186, 15, 'vartyor', 'Morbi porttitor lorem id ligula. Suspendisse ornare consequat lectus. In est risus, auctor sed, tristique in, tempus sit amet, sem.', 'Yalonda', '2022-09-03 06:15:26', 'Yalonda', '2022-11-22 02:55:11');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (187, 44, 'vartyor', 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.', 'Yehudi', '2022-04-07 23:31:16', 'Yehudi', '2022-07-05 10:17:18');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (188, 26, 'vartyor', 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', 'Vidovic', '2023-03-12 02:47:18', 'Vidovic', '2023-01-17 19:07:11');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (189, 44, 'vartyor', 'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.', 'Geno', '2022-07-23 18:35:36', 'Geno', '2022-04-08 14:20:10');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (190, 89, 'vartyor', 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.', 'Andie', '2022-07-23 16:01:50', 'Andie', '2022-09-18 15:57:32');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (191, 53, 'vartyor', 'Morbi porttitor lorem id ligula. Suspendisse ornare consequat lectus. In est risus, auctor sed, tristique in, tempus sit amet, sem.', 'Morten', '2023-01-16 08:19:42', 'Morten', '2022-09-24 15:18:37');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (192, 81, 'vartyor', 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', 'Eleonore', '2023-03-06 23:27:46', 'Eleonore', '2022-10-31 04:08:49');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (193, 66, 'vartyor', 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.', 'Karleen', '2022-05-15 21:33:44', 'Karleen', '2023-03-02 16:53:35');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (194, 104, 'vartyor', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Proin risus. Praesent lectus.', 'Corabel', '2022-09-18 21:57:57', 'Corabel', '2022-12-07 13:22:20');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (195, 23, 'vartyor', 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.', 'Elysha', '2023-01-14 14:05:52', 'Elysha', '2023-03-21 11:41:24');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (196, 49, 'vartyor', 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.', 'Fernandina', '2023-02-05 11:07:02', 'Fernandina', '2022-06-02 06:21:49');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (197, 67, 'vartyor', 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', 'Nari', '2022-05-06 23:25:13', 'Nari', '2023-01-07 08:53:58');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (198, 49, 'vartyor', 'In congue. Etiam justo. Etiam pretium iaculis justo.', 'Renato', '2023-03-19 14:59:34', 'Renato', '2023-02-09 15:32:35');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (199, 65, 'vartyor', 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.', 'Jackelyn', '2022-04-24 12:42:44', 'Jackelyn', '2023-01-03 19:42:46');
+insert into article_comment (id, article_id, user_id, content, created_by, created_at, modified_by, modified_at) values (200, 102, 'vartyor', 'Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.', 'Kimbell', '2022-09-25 11:06:42', 'Kimbell', '2023-02-17 21:19:12');
+
+-- ID 생성기 (pooled-lo). 위에서 ID를 직접 넣었으므로 그 다음 값부터 할당하게 한다.
+insert into id_generator (sequence_name, next_val) values ('article', 124);
+insert into id_generator (sequence_name, next_val) values ('article_comment', 201);
@@ -0,0 +1,110 @@
+package com.fastcampus.project_board.benchmark;
+
+import com.fastcampus.project_board.domain.Article;
+import com.fastcampus.project_board.domain.ArticleComment;
+import com.fastcampus.project_board.domain.UserAccount;
+import com.fastcampus.project_board.repository.ArticleCommentRepository;
+import com.fastcampus.project_board.repository.ArticleRepository;
+import com.fastcampus.project_board.repository.JpaRepositoryTest;
+import com.fastcampus.project_board.repository.UserAccountRepository;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글/댓글 대량 INSERT 처리량 비교 - JDBC batch 없이(IDENTITY를 쓰던 때처럼 한 건씩) vs pooled-lo ID + JDBC batch
+ * <p>
+ * {@code ./gradlew benchmark} 로 실행한다.
+ */
+@Tag("benchmark")
+@DisplayName("벤치마크 - 게시글/댓글 대량 저장")
+@Import(JpaRepositoryTest.TestJpaConfig.class)
+@DataJpaTest
+class ArticleInsertBenchmark {
+
+    private static final int ARTICLE_COUNT = 2_000;
+    private static final int COMMENTS_PER_ARTICLE = 5;
+    private static final int BATCH_SIZE = 100;
+
+    private final ArticleRepository articleRepository;
+    private final ArticleCommentRepository articleCommentRepository;
+    private final UserAccountRepository userAccountRepository;
+    private final EntityManager entityManager;
+
+    public ArticleInsertBenchmark(
+            @Autowired ArticleRepository articleRepository,
+            @Autowired ArticleCommentRepository articleCommentRepository,
+            @Autowired UserAccountRepository userAccountRepository,
+            @Autowired EntityManager entityManager
+    ) {
+        this.articleRepository = articleRepository;
+        this.articleCommentRepository = articleCommentRepository;
+        this.userAccountRepository = userAccountRepository;
+        this.entityManager = entityManager;
+    }
+
+    @DisplayName("JDBC batch로 보내면, 한 건씩 보낼 때보다 적은 statement로 더 빠르게 저장한다.")
+    @Test
+    void compareRowByRowInsertWithJdbcBatch() {
+        UserAccount userAccount = userAccountRepository.save(UserAccount.of("benchmark", "pw", null, "benchmark", null));
+        entityManager.flush();
+
+        insert(userAccount, 1); // warm-up
+        Result rowByRow = insert(userAccount, 1);
+        Result batched = insert(userAccount, BATCH_SIZE);
+
+        System.out.printf("row-by-row: statements=%6d elapsed=%8.3fms (%8.0f rows/s)%n", rowByRow.statements(), rowByRow.millis(), rowByRow.rowsPerSecond());
+        System.out.printf("batched   : statements=%6d elapsed=%8.3fms (%8.0f rows/s)%n", batched.statements(), batched.millis(), batched.rowsPerSecond());
+        assertThat(batched.statements()).isLessThan(rowByRow.statements() / 10);
+    }
+
+    private Result insert(UserAccount userAccount, int jdbcBatchSize) {
+        Session session = entityManager.unwrap(Session.class);
+        session.setJdbcBatchSize(jdbcBatchSize);
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        List<Article> articles = new ArrayList<>(ARTICLE_COUNT);
+        List<ArticleComment> articleComments = new ArrayList<>(ARTICLE_COUNT * COMMENTS_PER_ARTICLE);
+        for (int i = 0; i < ARTICLE_COUNT; i++) {
+            Article article = Article.of(userAccount, "title " + i, "content " + i, "#benchmark");
+            articles.add(article);
+            for (int j = 0; j < COMMENTS_PER_ARTICLE; j++) {
+                articleComments.add(ArticleComment.of(article, userAccount, "comment " + j));
+            }
+        }
+
+        long started = System.nanoTime();
+        articleRepository.saveAll(articles);
+        articleCommentRepository.saveAll(articleComments);
+        entityManager.flush();
+        long elapsed = System.nanoTime() - started;
+
+        entityManager.clear();
+        session.setJdbcBatchSize(null);
+        return new Result(statistics.getPrepareStatementCount(), elapsed, articles.size() + articleComments.size());
+    }
+
+    private record Result(long statements, long nanos, int rows) {
+        double millis() {
+            return nanos / 1e6;
+        }
+
+        double rowsPerSecond() {
+            return rows / (nanos / 1e9);
+        }
+    }
+}
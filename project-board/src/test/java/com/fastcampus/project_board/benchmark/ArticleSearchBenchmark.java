@@ -0,0 +1,157 @@
+package com.fastcampus.project_board.benchmark;
+
+import com.fastcampus.project_board.DTO.ArticleDto;
+import com.fastcampus.project_board.domain.Article;
+import com.fastcampus.project_board.domain.UserAccount;
+import com.fastcampus.project_board.domain.constant.SearchType;
+import com.fastcampus.project_board.repository.ArticleRepository;
+import com.fastcampus.project_board.repository.UserAccountRepository;
+import com.fastcampus.project_board.repository.index.ArticleSearchIndex;
+import com.fastcampus.project_board.repository.index.ArticleTimeline;
+import com.fastcampus.project_board.service.ArticleService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.*;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기존 {@code Containing}(LIKE '%keyword%') 조회와 n-gram 색인을 거치는 {@link ArticleService#searchArticles} 검색의 정확도, 지연 시간 비교
+ * <p>
+ * 색인 후보에는 검색어의 gram이 모두 있지만 이어져 있지는 않은 게시글(예: "부트스프링"에 대한 "부트스트랩 스프링")이 섞이도록 데이터를 만든다.
+ * 서비스가 그런 거짓 후보를 걸러내는지 보려고, 서비스가 돌려준 모든 페이지를 LIKE 결과와 비교한다.
+ * 검색 결과 캐시를 건너뛰도록 TTL은 0으로 둔다.
+ * <p>
+ * {@code ./gradlew benchmark} 로 실행한다.
+ */
+@Tag("benchmark")
+@DisplayName("벤치마크 - 게시글 제목/본문 검색")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {"board.search.tokenizer=ngram", "board.search.ngram-size=2", "board.page-cache.ttl=PT0S"}
+)
+class ArticleSearchBenchmark {
+
+    private static final int ARTICLE_COUNT = 5_000;
+    private static final int ITERATIONS = 20;
+    private static final int PAGE_SIZE = 10;
+    private static final List<String> WORDS = List.of(
+            "스프링", "부트", "부트스트랩", "게시판", "댓글", "해시태그", "검색", "페이징", "성능", "색인", "데이터베이스",
+            "자바", "코틀린", "트랜잭션", "영속성", "컨텍스트", "쿼리", "spring", "jpa", "querydsl", "thymeleaf"
+    );
+
+    private final ArticleService articleService;
+    private final ArticleRepository articleRepository;
+    private final UserAccountRepository userAccountRepository;
+    private final ArticleSearchIndex articleSearchIndex;
+    private final ArticleTimeline articleTimeline;
+
+    public ArticleSearchBenchmark(
+            @Autowired ArticleService articleService,
+            @Autowired ArticleRepository articleRepository,
+            @Autowired UserAccountRepository userAccountRepository,
+            @Autowired ArticleSearchIndex articleSearchIndex,
+            @Autowired ArticleTimeline articleTimeline
+    ) {
+        this.articleService = articleService;
+        this.articleRepository = articleRepository;
+        this.userAccountRepository = userAccountRepository;
+        this.articleSearchIndex = articleSearchIndex;
+        this.articleTimeline = articleTimeline;
+    }
+
+    @DisplayName("n-gram 색인을 거친 서비스 검색은 거짓 후보를 걸러내고, Containing 검색과 같은 결과를 더 빠르게 반환한다.")
+    @Test
+    void compareContainingQueryWithServiceSearch() {
+        seedArticles();
+        articleSearchIndex.rebuild();
+        articleTimeline.rebuild();
+        Pageable firstPage = PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        for (String keyword : List.of("부트스프링", "스프링", "링부", "게시판 댓글", "색인", "query")) {
+            for (SearchType searchType : List.of(SearchType.TITLE, SearchType.CONTENT)) {
+                assertThat(articleSearchIndex.supports(searchType, keyword)).isTrue();
+
+                Set<Long> expected = containing(searchType, keyword, Pageable.unpaged()).stream().map(Article::getId).collect(Collectors.toSet());
+                Set<Long> actual = allPages(searchType, keyword, firstPage).stream().map(ArticleDto::id).collect(Collectors.toSet());
+                int candidates = articleSearchIndex.search(searchType, keyword).size();
+
+                long containingNanos = measure(() -> containing(searchType, keyword, firstPage));
+                long serviceNanos = measure(() -> articleService.searchArticles(searchType, keyword, firstPage));
+                double recall = expected.isEmpty() ? 1.0 : (double) intersect(expected, actual).size() / expected.size();
+                double precision = actual.isEmpty() ? 1.0 : (double) intersect(expected, actual).size() / actual.size();
+
+                System.out.printf("[%s] %-8s hits=%5d candidates=%5d false-positives=%5d recall=%.3f precision=%.3f containing=%8.3fms service=%8.3fms%n",
+                        searchType, keyword, expected.size(), candidates, candidates - expected.size(), recall, precision,
+                        containingNanos / 1e6, serviceNanos / 1e6);
+                assertThat(actual).isEqualTo(expected);
+            }
+        }
+    }
+
+    private Page<Article> containing(SearchType searchType, String keyword, Pageable pageable) {
+        return switch (searchType) {
+            case TITLE -> articleRepository.findByTitleContaining(keyword, pageable);
+            case CONTENT -> articleRepository.findByContentContaining(keyword, pageable);
+            default -> throw new IllegalArgumentException();
+        };
+    }
+
+    // 서비스가 다음 페이지가 있다고 하는 동안 끝까지 넘겨서, 걸러낸 결과 전체를 모은다.
+    private List<ArticleDto> allPages(SearchType searchType, String keyword, Pageable pageable) {
+        List<ArticleDto> articles = new ArrayList<>();
+        Page<ArticleDto> page;
+        do {
+            page = articleService.searchArticles(searchType, keyword, pageable);
+            articles.addAll(page.getContent());
+            pageable = pageable.next();
+        } while (page.hasNext());
+        return articles;
+    }
+
+    private long measure(Supplier<?> query) {
+        query.get(); // warm-up
+        long started = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            query.get();
+        }
+        return (System.nanoTime() - started) / ITERATIONS;
+    }
+
+    private void seedArticles() {
+        UserAccount userAccount = userAccountRepository.save(UserAccount.of("benchmark", "pw", null, "benchmark", null));
+        Random random = new Random(42);
+
+        List<Article> articles = new ArrayList<>();
+        for (int i = 0; i < ARTICLE_COUNT; i++) {
+            articles.add(Article.of(userAccount, sentence(random, 4), sentence(random, 60), "#benchmark"));
+        }
+        articleRepository.saveAll(articles);
+    }
+
+    // 띄어쓰기를 가끔 빼서 "스프링부트" 같은 붙여 쓴 단어도 만든다.
+    private static String sentence(Random random, int wordCount) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < wordCount; i++) {
+            sb.append(WORDS.get(random.nextInt(WORDS.size())));
+            if (random.nextInt(4) != 0) sb.append(' ');
+        }
+        return sb.toString().trim();
+    }
+
+    private static Set<Long> intersect(Set<Long> a, Set<Long> b) {
+        Set<Long> result = new HashSet<>(a);
+        result.retainAll(b);
+        return result;
+    }
+}
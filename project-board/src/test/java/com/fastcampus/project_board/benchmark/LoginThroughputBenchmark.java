@@ -0,0 +1,116 @@
+package com.fastcampus.project_board.benchmark;
+
+import com.fastcampus.project_board.config.PasswordHashingConfig.PasswordHashingProperties;
+import com.fastcampus.project_board.service.security.BulkheadPasswordEncoder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로그인 폭주 중 처리량 비교 - 요청 스레드에서 바로 bcrypt 확인 vs bulkhead 스레드 풀에서 확인
+ * <p>
+ * Tomcat 워커를 흉내 낸 스레드들이 로그인(bcrypt 확인)과 가벼운 게시글 요청(짧은 CPU 작업)을 섞어서 보낸다.
+ * bulkhead가 있으면 로그인 일부는 바로 거절되지만, 게시글 요청의 지연이 로그인 폭주에 덜 끌려간다.
+ * <p>
+ * {@code ./gradlew benchmark} 로 실행한다.
+ */
+@Tag("benchmark")
+@DisplayName("벤치마크 - 로그인 처리량")
+class LoginThroughputBenchmark {
+
+    private static final int WORKERS = 200; // Tomcat 기본 max-threads
+    private static final int LOGINS = 400;
+    private static final int PAGE_REQUESTS = 2_000;
+
+    private final PasswordEncoder bcrypt = PasswordEncoderFactories.createDelegatingPasswordEncoder();
+    private final String encoded = bcrypt.encode("asdf1234");
+
+    @DisplayName("bulkhead로 bcrypt 동시 계산을 제한하면, 로그인 폭주 중에도 게시글 요청 지연이 줄어든다.")
+    @Test
+    void compareDirectHashingWithBulkhead() throws Exception {
+        BulkheadPasswordEncoder bulkhead = new BulkheadPasswordEncoder(
+                bcrypt,
+                new PasswordHashingProperties(Math.max(1, Runtime.getRuntime().availableProcessors() / 2), 64, Duration.ofSeconds(30), Duration.ZERO, 1)
+        );
+
+        try {
+            run("warm-up", bcrypt);
+            Result direct = run("direct", bcrypt);
+            Result bulkheaded = run("bulkhead", bulkhead);
+
+            assertThat(bulkheaded.pageP99Millis()).isLessThanOrEqualTo(direct.pageP99Millis());
+        } finally {
+            bulkhead.destroy();
+        }
+    }
+
+    private Result run(String name, PasswordEncoder encoder) throws Exception {
+        ExecutorService workers = Executors.newFixedThreadPool(WORKERS);
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        LongAdder loginNanos = new LongAdder();
+        List<Long> pageNanos = new CopyOnWriteArrayList<>();
+        List<Callable<Void>> requests = new ArrayList<>(LOGINS + PAGE_REQUESTS);
+
+        for (int i = 0; i < LOGINS; i++) {
+            requests.add(() -> {
+                long started = System.nanoTime();
+                try {
+                    encoder.matches("asdf1234", encoded);
+                    accepted.incrementAndGet();
+                } catch (AuthenticationServiceException e) {
+                    rejected.incrementAndGet();
+                }
+                loginNanos.add(System.nanoTime() - started);
+                return null;
+            });
+        }
+        for (int i = 0; i < PAGE_REQUESTS; i++) {
+            requests.add(() -> {
+                long started = System.nanoTime();
+                renderPage();
+                pageNanos.add(System.nanoTime() - started);
+                return null;
+            });
+        }
+        Collections.shuffle(requests);
+
+        long started = System.nanoTime();
+        workers.invokeAll(requests);
+        double elapsedSeconds = (System.nanoTime() - started) / 1e9;
+        workers.shutdown();
+
+        List<Long> sorted = pageNanos.stream().sorted().toList();
+        Result result = new Result(
+                accepted.get() / elapsedSeconds,
+                rejected.get(),
+                sorted.get((int) (sorted.size() * 0.99) - 1) / 1e6
+        );
+        System.out.printf("%-8s: logins=%7.1f/s rejected=%4d page p99=%8.3fms%n", name, result.loginsPerSecond(), result.rejected(), result.pageP99Millis());
+        return result;
+    }
+
+    // 게시글 목록 렌더링 정도의 짧은 CPU 작업
+    private static long renderPage() {
+        long hash = 17;
+        for (int i = 0; i < 50_000; i++) {
+            hash = hash * 31 + i;
+        }
+        return hash;
+    }
+
+    private record Result(double loginsPerSecond, int rejected, double pageP99Millis) {}
+}
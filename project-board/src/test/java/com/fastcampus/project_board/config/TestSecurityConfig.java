@@ -2,6 +2,7 @@ package com.fastcampus.project_board.config;
 
 import com.fastcampus.project_board.domain.UserAccount;
 import com.fastcampus.project_board.repository.UserAccountRepository;
+import com.fastcampus.project_board.service.cache.UserAccountCache;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.event.annotation.BeforeTestMethod;
@@ -11,7 +12,7 @@ import java.util.Optional;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 
-@Import(SecurityConfig.class)
+@Import({SecurityConfig.class, UserAccountCache.class})
 public class TestSecurityConfig {
 
     @MockBean private UserAccountRepository userAccountRepository;
@@ -0,0 +1,46 @@
+package com.fastcampus.project_board.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("actuator 접근 제한 테스트")
+@AutoConfigureMockMvc
+@SpringBootTest
+class ActuatorSecurityTest {
+
+    private final MockMvc mvc;
+
+    public ActuatorSecurityTest(@Autowired MockMvc mvc) {
+        this.mvc = mvc;
+    }
+
+    @WithMockUser
+    @DisplayName("[actuator] 일반 사용자는 지표를 볼 수 없다.")
+    @Test
+    void givenUser_whenRequestingMetrics_thenReturnsForbidden() throws Exception {
+        mvc.perform(get("/actuator/metrics")).andExpect(status().isForbidden());
+    }
+
+    @WithMockUser(roles = "MODERATOR")
+    @DisplayName("[actuator] 모더레이터는 지표를 볼 수 있다.")
+    @Test
+    void givenModerator_whenRequestingMetrics_thenReturnsMetrics() throws Exception {
+        mvc.perform(get("/actuator/metrics")).andExpect(status().isOk());
+    }
+
+    @WithMockUser(roles = "MODERATOR")
+    @DisplayName("[actuator] heapdump, env 같은 엔드포인트는 열지 않는다.")
+    @Test
+    void givenModerator_whenRequestingHeapDump_thenReturnsNotFound() throws Exception {
+        mvc.perform(get("/actuator/heapdump")).andExpect(status().isNotFound());
+        mvc.perform(get("/actuator/env")).andExpect(status().isNotFound());
+    }
+}
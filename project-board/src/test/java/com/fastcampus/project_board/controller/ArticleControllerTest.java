@@ -1,13 +1,19 @@
 package com.fastcampus.project_board.controller;
 
+import com.fastcampus.project_board.DTO.ArticleCommentCursor;
+import com.fastcampus.project_board.DTO.ArticleCommentDto;
+import com.fastcampus.project_board.DTO.ArticleCursor;
+import com.fastcampus.project_board.DTO.ArticleDetailDto;
 import com.fastcampus.project_board.DTO.ArticleDto;
-import com.fastcampus.project_board.DTO.ArticleWithCommentsDto;
 import com.fastcampus.project_board.DTO.UserAccountDto;
 import com.fastcampus.project_board.DTO.request.ArticleRequest;
 import com.fastcampus.project_board.DTO.response.ArticleResponse;
+import com.fastcampus.project_board.DTO.response.CursorNavigation;
 import com.fastcampus.project_board.config.TestSecurityConfig;
+import com.fastcampus.project_board.domain.Article;
 import com.fastcampus.project_board.domain.constant.FormStatus;
 import com.fastcampus.project_board.domain.constant.SearchType;
+import com.fastcampus.project_board.service.ArticleCommentService;
 import com.fastcampus.project_board.service.ArticleService;
 import com.fastcampus.project_board.service.PaginationService;
 import com.fastcampus.project_board.util.FormDataEncoder;
@@ -21,8 +27,10 @@ import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.test.context.support.TestExecutionEvent;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.security.test.context.support.WithUserDetails;
@@ -30,8 +38,9 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Set;
 
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
@@ -48,6 +57,7 @@ class ArticleControllerTest {
     private final FormDataEncoder formDataEncoder;
 
     @MockBean private ArticleService articleService;
+    @MockBean private ArticleCommentService articleCommentService;
     @MockBean private PaginationService paginationService;
     public ArticleControllerTest(
             @Autowired MockMvc mvc,
@@ -131,6 +141,31 @@ class ArticleControllerTest {
         then(paginationService).should().getPaginationBarNumbers(pageable.getPageNumber(), Page.empty().getTotalPages());
     }
 
+    @DisplayName("[View][GET] 게시글 리스트 (게시판) 페이지 - 커서 페이지네이션")
+    @Test
+    void givenCursor_whenSearchingArticlesPage_thenReturnsArticlesViewWithCursorNavigation() throws Exception {
+        //given
+        ArticleCursor cursor = ArticleCursor.after(LocalDateTime.of(2023, 1, 1, 0, 0), 10L);
+        CursorNavigation cursorNavigation = CursorNavigation.of("prev", "next");
+        given(articleService.searchArticles(null, null, cursor, 10)).willReturn(new SliceImpl<>(List.of()));
+        given(paginationService.getCursorNavigation(eq(cursor), any())).willReturn(cursorNavigation);
+
+        //when & then
+        mvc.perform(
+                get("/articles")
+                        .queryParam("cursor", cursor.encode())
+        )
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_HTML))
+                .andExpect(view().name("articles/index"))
+                .andExpect(model().attributeExists("articles"))
+                .andExpect(model().attribute("cursorNavigation", cursorNavigation))
+                .andExpect(model().attributeDoesNotExist("paginationBarNumbers"));
+        then(articleService).should().searchArticles(null, null, cursor, 10);
+        then(paginationService).should().getCursorNavigation(eq(cursor), any());
+        then(paginationService).shouldHaveNoMoreInteractions();
+    }
+
     @DisplayName("[View][GET] 게시글 페이지 - 인증이 없을 땐 로그인 페이지로 이동")
     @Test
     public void givenNothing_whenRequestingArticlePage_thenRedirectsToLoginPage() throws Exception {
@@ -151,8 +186,8 @@ class ArticleControllerTest {
         // Given
         Long articleId = 1L;
         long totalCount = 1L;
-        given(articleService.getArticleWithComments(articleId)).willReturn(createArticleWithCommentsDto());
-        given(articleService.getArticleCount()).willReturn(totalCount);
+        given(articleService.getArticleDetail(eq(articleId), eq(ArticleCommentCursor.first()), anyInt()))
+                .willReturn(ArticleDetailDto.of(createArticleDto(), new SliceImpl<>(List.of()), totalCount));
 
         // When & Then
         mvc.perform(get("/articles/1"))
@@ -163,8 +198,52 @@ class ArticleControllerTest {
                 .andExpect(model().attributeExists("articleComments"))
                 .andExpect(model().attributeExists("articleComments"))
                 .andExpect(model().attribute("totalCount", totalCount));
-        then(articleService).should().getArticleWithComments(articleId);
-        then(articleService).should().getArticleCount();
+        then(articleService).should().getArticleDetail(eq(articleId), eq(ArticleCommentCursor.first()), anyInt());
+    }
+
+    @WithMockUser
+    @DisplayName("[View][GET] 게시글 페이지 - 댓글이 더 있으면, 마지막 댓글 다음부터 읽는 커서를 내려준다.")
+    @Test
+    public void givenMoreComments_whenRequestingArticleView_thenReturnsNextCommentCursor() throws Exception {
+        // Given
+        Long articleId = 1L;
+        LocalDateTime createdAt = LocalDateTime.of(2023, 1, 1, 0, 0);
+        ArticleCommentCursor cursor = ArticleCommentCursor.after(createdAt.plusDays(1), 10L);
+        ArticleCommentDto last = ArticleCommentDto.of(9L, articleId, createUserAccountDto(), "content", createdAt, "vartyor", createdAt, "vartyor");
+        given(articleService.getArticleDetail(articleId, cursor, 20))
+                .willReturn(ArticleDetailDto.of(createArticleDto(), new SliceImpl<>(List.of(last), Pageable.ofSize(20), true), 1L));
+
+        // When & Then
+        mvc.perform(get("/articles/1").queryParam("commentCursor", cursor.encode()))
+                .andExpect(status().isOk())
+                .andExpect(view().name("articles/detail"))
+                .andExpect(model().attribute("nextCommentCursor", ArticleCommentCursor.after(createdAt, 9L).encode()));
+        then(articleService).should().getArticleDetail(articleId, cursor, 20);
+    }
+
+    @WithMockUser
+    @DisplayName("[View][GET] 댓글 더보기 - 상세 화면 전체가 아니라, 다음 댓글 목록 조각만 내려준다.")
+    @Test
+    public void givenCommentCursor_whenRequestingMoreComments_thenReturnsCommentListFragment() throws Exception {
+        // Given
+        Long articleId = 1L;
+        LocalDateTime createdAt = LocalDateTime.of(2023, 1, 1, 0, 0);
+        ArticleCommentCursor cursor = ArticleCommentCursor.after(createdAt.plusDays(1), 10L);
+        ArticleCommentDto last = ArticleCommentDto.of(9L, articleId, createUserAccountDto(), "next comment", createdAt, "vartyor", createdAt, "vartyor");
+        given(articleCommentService.searchArticleComments(articleId, cursor, 20))
+                .willReturn(new SliceImpl<>(List.of(last), Pageable.ofSize(20), true));
+
+        // When & Then
+        mvc.perform(get("/articles/1/comments").queryParam("commentCursor", cursor.encode()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_HTML))
+                .andExpect(view().name("articles/detail :: #article-comment-list"))
+                .andExpect(model().attribute("articleId", articleId))
+                .andExpect(model().attribute("nextCommentCursor", ArticleCommentCursor.after(createdAt, 9L).encode()))
+                .andExpect(content().string(containsString("next comment")))
+                .andExpect(content().string(not(containsString("article-main"))));
+        then(articleCommentService).should().searchArticleComments(articleId, cursor, 20);
+        then(articleService).shouldHaveNoInteractions();
     }
 
     @Disabled("구현 중")
@@ -287,8 +366,8 @@ class ArticleControllerTest {
         Long articleId = 1L;
         long totalCount = 1L;
 
-        given(articleService.getArticleWithComments(articleId)).willReturn(createArticleWithCommentsDto());
-        given(articleService.getArticleCount()).willReturn(totalCount);
+        given(articleService.getArticleDetail(eq(articleId), eq(ArticleCommentCursor.first()), anyInt()))
+                .willReturn(ArticleDetailDto.of(createArticleDto(), new SliceImpl<>(List.of()), totalCount));
 
         //When&Then
         mvc.perform(get("/articles/" + articleId))
@@ -299,8 +378,7 @@ class ArticleControllerTest {
                 .andExpect(model().attributeExists("articleComments"))
                 .andExpect(model().attributeExists("articleComments"))
                 .andExpect(model().attribute("totalCount", totalCount));
-        then(articleService).should().getArticleWithComments(articleId);
-        then(articleService).should().getArticleCount();
+        then(articleService).should().getArticleDetail(eq(articleId), eq(ArticleCommentCursor.first()), anyInt());
 
     }
 
@@ -310,7 +388,7 @@ class ArticleControllerTest {
     void givenUpdatedArticleInfo_whenRequesting_thenUpdatesNewArticle() throws Exception {
         //Given
         long articleId = 1L;
-        ArticleRequest articleRequest = ArticleRequest.of("new title", "new content", "#new");
+        ArticleRequest articleRequest = ArticleRequest.of("new title", "new content", "#new", 2L);
         willDoNothing().given(articleService).updateArticle(eq(articleId), any(ArticleDto.class));
 
         //When&Then
@@ -323,7 +401,27 @@ class ArticleControllerTest {
                 .andExpect(status().is3xxRedirection())
                 .andExpect(view().name("redirect:/articles/" + articleId))
                 .andExpect(redirectedUrl("/articles/" + articleId));
-        then(articleService).should().updateArticle(eq(articleId), any(ArticleDto.class));
+        then(articleService).should().updateArticle(eq(articleId), argThat(dto -> Long.valueOf(2L).equals(dto.version())));
+    }
+
+    @WithUserDetails(value = "vartyor", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("[view][POST] 게시글 수정 - 다른 수정과 충돌하면 409")
+    @Test
+    void givenConcurrentlyUpdatedArticle_whenRequesting_thenReturnsConflict() throws Exception {
+        //Given
+        long articleId = 1L;
+        ArticleRequest articleRequest = ArticleRequest.of("new title", "new content", "#new");
+        willThrow(new ObjectOptimisticLockingFailureException(Article.class, articleId))
+                .given(articleService).updateArticle(eq(articleId), any(ArticleDto.class));
+
+        //When&Then
+        mvc.perform(
+                        post("/articles/" + articleId + "/form")
+                                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                                .content(formDataEncoder.encode(articleRequest))
+                                .with(csrf())
+                )
+                .andExpect(status().isConflict());
     }
 
     @WithUserDetails(value = "vartyor", setupBefore = TestExecutionEvent.TEST_EXECUTION)
@@ -356,21 +454,6 @@ class ArticleControllerTest {
         );
     }
 
-    private ArticleWithCommentsDto createArticleWithCommentsDto() {
-        return ArticleWithCommentsDto.of(
-                1L,
-                createUserAccountDto(),
-                Set.of(),
-                "title",
-                "content",
-                "#java",
-                LocalDateTime.now(),
-                "vartyor",
-                LocalDateTime.now(),
-                "vartyor"
-        );
-    }
-
     private UserAccountDto createUserAccountDto() {
         return UserAccountDto.of(
                 "vartyor",
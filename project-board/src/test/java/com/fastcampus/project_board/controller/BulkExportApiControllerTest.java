@@ -0,0 +1,55 @@
+package com.fastcampus.project_board.controller;
+
+import com.fastcampus.project_board.config.TestSecurityConfig;
+import com.fastcampus.project_board.service.ArticleExportService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@DisplayName("API 컨트롤러 - 내보내기")
+@Import(TestSecurityConfig.class)
+@WebMvcTest(BulkExportApiController.class)
+class BulkExportApiControllerTest {
+
+    private final MockMvc mvc;
+
+    @MockBean private ArticleExportService articleExportService;
+
+    public BulkExportApiControllerTest(@Autowired MockMvc mvc) {
+        this.mvc = mvc;
+    }
+
+    @WithMockUser(roles = "MODERATOR")
+    @DisplayName("[API][GET] 게시글 내보내기 - 모더레이터, 정상 호출")
+    @Test
+    void givenModerator_whenExportingArticles_thenStreamsNdjson() throws Exception {
+        // Given
+        given(articleExportService.exportArticles(any())).willReturn(0L);
+
+        // When & Then
+        mvc.perform(get("/api/export/articles"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"));
+        then(articleExportService).should().exportArticles(any());
+    }
+
+    @WithMockUser
+    @DisplayName("[API][GET] 게시글 내보내기 - 모더레이터가 아니면 403")
+    @Test
+    void givenUser_whenExportingArticles_thenReturnsForbidden() throws Exception {
+        // When & Then
+        mvc.perform(get("/api/export/articles"))
+                .andExpect(status().isForbidden());
+        then(articleExportService).shouldHaveNoInteractions();
+    }
+}
@@ -0,0 +1,77 @@
+package com.fastcampus.project_board.controller;
+
+import com.fastcampus.project_board.DTO.response.BulkImportResponse;
+import com.fastcampus.project_board.config.TestSecurityConfig;
+import com.fastcampus.project_board.service.BulkImportService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@DisplayName("API 컨트롤러 - 대량 등록")
+@Import(TestSecurityConfig.class)
+@WebMvcTest(BulkImportApiController.class)
+class BulkImportApiControllerTest {
+
+    private final MockMvc mvc;
+
+    @MockBean private BulkImportService bulkImportService;
+
+    public BulkImportApiControllerTest(@Autowired MockMvc mvc) {
+        this.mvc = mvc;
+    }
+
+    @WithMockUser(roles = "MODERATOR")
+    @DisplayName("[API][POST] 게시글 대량 등록 - NDJSON, 정상 호출")
+    @Test
+    void givenNdjson_whenImportingArticles_thenReturnsImportResult() throws Exception {
+        // Given
+        given(bulkImportService.importArticles(any())).willReturn(BulkImportResponse.of(1, 1, List.of(new BulkImportResponse.Rejection(2, "제목이 없습니다."))));
+
+        // When & Then
+        mvc.perform(post("/api/import/articles")
+                        .contentType("application/x-ndjson")
+                        .content("{\"userId\":\"vartyor\",\"title\":\"t\",\"content\":\"c\"}\n{\"userId\":\"vartyor\"}\n"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.rejections[0].line").value(2));
+        then(bulkImportService).should().importArticles(any());
+    }
+
+    @WithMockUser(roles = "MODERATOR")
+    @DisplayName("[API][POST] 댓글 대량 등록 - 지원하지 않는 형식이면 415")
+    @Test
+    void givenUnsupportedContentType_whenImportingComments_thenReturnsUnsupportedMediaType() throws Exception {
+        // When & Then
+        mvc.perform(post("/api/import/article-comments")
+                        .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                        .content("articleId=1"))
+                .andExpect(status().isUnsupportedMediaType());
+        then(bulkImportService).shouldHaveNoInteractions();
+    }
+
+    @WithMockUser
+    @DisplayName("[API][POST] 게시글 대량 등록 - 모더레이터가 아니면 403")
+    @Test
+    void givenUser_whenImportingArticles_thenReturnsForbidden() throws Exception {
+        // When & Then
+        mvc.perform(post("/api/import/articles")
+                        .contentType("application/x-ndjson")
+                        .content("{\"userId\":\"vartyor\",\"title\":\"t\",\"content\":\"c\"}\n"))
+                .andExpect(status().isForbidden());
+        then(bulkImportService).shouldHaveNoInteractions();
+    }
+}
@@ -0,0 +1,60 @@
+package com.fastcampus.project_board.controller;
+
+import com.fastcampus.project_board.DTO.ChangeFeedCursor;
+import com.fastcampus.project_board.DTO.response.ChangeFeedResponse;
+import com.fastcampus.project_board.config.TestSecurityConfig;
+import com.fastcampus.project_board.service.ChangeFeedService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.BDDMockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@DisplayName("API 컨트롤러 - 변경 피드")
+@Import(TestSecurityConfig.class)
+@WebMvcTest(ChangeFeedApiController.class)
+class ChangeFeedApiControllerTest {
+
+    private final MockMvc mvc;
+
+    @MockBean private ChangeFeedService changeFeedService;
+
+    public ChangeFeedApiControllerTest(@Autowired MockMvc mvc) {
+        this.mvc = mvc;
+    }
+
+    @WithMockUser
+    @DisplayName("[API][GET] 변경 피드 - 커서 없이 부르면, 처음부터 읽는다.")
+    @Test
+    void givenNoCursor_whenRequestingChanges_thenReadsFromBeginning() throws Exception {
+        // Given
+        String nextCursor = ChangeFeedCursor.first().encode();
+        given(changeFeedService.getChanges(ChangeFeedCursor.first(), 100)).willReturn(ChangeFeedResponse.of(List.of(), List.of(), nextCursor, false));
+
+        // When & Then
+        mvc.perform(get("/api/changes"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.cursor").value(nextCursor))
+                .andExpect(jsonPath("$.hasMore").value(false));
+        then(changeFeedService).should().getChanges(ChangeFeedCursor.first(), 100);
+    }
+
+    @WithMockUser
+    @DisplayName("[API][GET] 변경 피드 - 해석할 수 없는 커서면 400")
+    @Test
+    void givenMalformedCursor_whenRequestingChanges_thenReturnsBadRequest() throws Exception {
+        // When & Then
+        mvc.perform(get("/api/changes").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+        then(changeFeedService).shouldHaveNoInteractions();
+    }
+}
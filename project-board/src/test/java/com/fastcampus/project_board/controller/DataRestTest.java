@@ -12,6 +12,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 //@Disabled("Spring Data TEST 통합테스트는 불필요하므로 제외시킴")
@@ -39,6 +40,35 @@ public class DataRestTest {
                 // endopoint가 존재하는 지를 확인하는 검사식
     }
 
+    @DisplayName("[api] 게시글 리스트 조회 - 본문 없이 요약(작성자 닉네임, 댓글 수)만 내보낸다.")
+    @Test
+    void givenNothing_whenRequestingArticles_thenReturnsArticleExcerpts() throws Exception {
+        // Given
+
+        //When & Then
+        mvc.perform(get("/api/articles").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded.articles[0].title").exists())
+                .andExpect(jsonPath("$._embedded.articles[0].nickname").exists())
+                .andExpect(jsonPath("$._embedded.articles[0].commentCount").isNumber())
+                .andExpect(jsonPath("$._embedded.articles[0].content").doesNotExist())
+                .andExpect(jsonPath("$._embedded.articles[0]._links.self.href").exists());
+    }
+
+    @DisplayName("[api] 게시글 여러 개 한 번에 조회 - 요청한 순서대로 담고, 없는 게시글 ID는 따로 알려준다.")
+    @Test
+    void givenArticleIds_whenRequestingArticlesInBatch_thenReturnsArticlesInRequestOrder() throws Exception {
+        // Given
+
+        //When & Then
+        mvc.perform(get("/api/articles/batch").param("ids", "2", "1", "0", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.articles[0].id").value(2))
+                .andExpect(jsonPath("$.articles[1].id").value(1))
+                .andExpect(jsonPath("$.articles.length()").value(2))
+                .andExpect(jsonPath("$.notFound[0]").value(0));
+    }
+
     @DisplayName("[api] 게시글 단건 조회")
     @Test
     void givenNothing_whenRequestingArticle_thenReturnsArticleJsonResponse() throws Exception {
@@ -61,6 +91,17 @@ public class DataRestTest {
                 .andExpect(content().contentType(MediaType.valueOf("application/hal+json")));
     }
 
+    @DisplayName("[api] 해시태그 검색식으로 게시글 리스트 조회")
+    @Test
+    void givenHashtagQuery_whenSearchingArticles_thenReturnsArticlesJsonResponse() throws Exception {
+        // Given
+
+        //When & Then
+        mvc.perform(get("/api/articles/search/hashtag").param("query", "#java AND #spring NOT #legacy"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.valueOf("application/hal+json")));
+    }
+
     @DisplayName("[api] 댓글 리스트 조회")
     @Test
     void givenNothing_whenRequestingArticleComments_thenReturnsArticleCommentsJsonResponse() throws Exception {
@@ -0,0 +1,57 @@
+package com.fastcampus.project_board.controller;
+
+import com.fastcampus.project_board.DTO.response.ModerationResponse;
+import com.fastcampus.project_board.config.TestSecurityConfig;
+import com.fastcampus.project_board.service.ModerationService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.BDDMockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@DisplayName("API 컨트롤러 - 모더레이션")
+@Import(TestSecurityConfig.class)
+@WebMvcTest(ModerationApiController.class)
+class ModerationApiControllerTest {
+
+    private final MockMvc mvc;
+
+    @MockBean private ModerationService moderationService;
+
+    public ModerationApiControllerTest(@Autowired MockMvc mvc) {
+        this.mvc = mvc;
+    }
+
+    @WithMockUser(roles = "MODERATOR")
+    @DisplayName("[API][DELETE] 사용자 콘텐츠 삭제 - 모더레이터, 정상 호출")
+    @Test
+    void givenModerator_whenDeletingContentsOfUser_thenReturnsDeletedCounts() throws Exception {
+        // Given
+        String userId = "spammer";
+        given(moderationService.deleteContentsOf(userId)).willReturn(ModerationResponse.of(userId, 3, 10));
+
+        // When & Then
+        mvc.perform(delete("/api/moderation/users/" + userId + "/contents"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deletedArticles").value(3))
+                .andExpect(jsonPath("$.deletedArticleComments").value(10));
+        then(moderationService).should().deleteContentsOf(userId);
+    }
+
+    @WithMockUser
+    @DisplayName("[API][DELETE] 사용자 콘텐츠 삭제 - 모더레이터가 아니면 403")
+    @Test
+    void givenUser_whenDeletingContentsOfUser_thenReturnsForbidden() throws Exception {
+        // When & Then
+        mvc.perform(delete("/api/moderation/users/spammer/contents"))
+                .andExpect(status().isForbidden());
+        then(moderationService).shouldHaveNoInteractions();
+    }
+}
@@ -0,0 +1,213 @@
+package com.fastcampus.project_board.filter;
+
+import com.fastcampus.project_board.DTO.ArticleDto;
+import com.fastcampus.project_board.config.PageCacheConfig.PageCacheProperties;
+import com.fastcampus.project_board.repository.index.ArticleViewCounter;
+import com.fastcampus.project_board.service.cache.ArticleSearchCache;
+import com.fastcampus.project_board.service.cache.RenderedPageCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.web.csrf.CsrfToken;
+import org.springframework.security.web.csrf.DefaultCsrfToken;
+
+import javax.servlet.FilterChain;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("필터 - 렌더링된 화면 캐시")
+class RenderedPageCacheFilterTest {
+
+    private RenderedPageCache renderedPageCache;
+    private ArticleViewCounter articleViewCounter;
+    private RenderedPageCacheFilter sut;
+    private final AtomicInteger renders = new AtomicInteger();
+
+    // 컨트롤러와 템플릿 엔진 대신, 렌더링 횟수를 세면서 CSRF 입력이 있는 HTML을 쓴다.
+    private final FilterChain render = (request, response) -> {
+        renders.incrementAndGet();
+        CsrfToken csrfToken = (CsrfToken) request.getAttribute(CsrfToken.class.getName());
+        response.setContentType("text/html;charset=UTF-8");
+        response.getWriter().write("<form><input type=\"hidden\" name=\"_csrf\" value=\"" + csrfToken.getToken() + "\"/></form>");
+        response.getWriter().flush();
+    };
+
+    @BeforeEach
+    void setUp() {
+        renderedPageCache = new RenderedPageCache(new PageCacheProperties(Duration.ofMinutes(5), 200), new SimpleMeterRegistry());
+        articleViewCounter = mock(ArticleViewCounter.class);
+        sut = new RenderedPageCacheFilter(renderedPageCache, articleViewCounter);
+    }
+
+    @DisplayName("같은 화면을 다시 요청하면, 렌더링하지 않고 캐시한 HTML에 요청의 CSRF 토큰을 채워 보낸다.")
+    @Test
+    void givenCachedPage_whenRequestingAgain_thenSkipsRenderingAndFillsCsrfToken() throws Exception {
+        //Given
+        sut.doFilter(request("token-a"), new MockHttpServletResponse(), render);
+
+        //When
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        sut.doFilter(request("token-b"), response, render);
+
+        //Then
+        assertThat(renders).hasValue(1);
+        assertThat(response.getContentAsString()).contains("value=\"token-b\"").doesNotContain("token-a");
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNotBlank();
+        then(articleViewCounter).should().increment(1L); // 캐시에서 내보낸 조회도 조회수에 들어간다.
+    }
+
+    @DisplayName("ETag가 그대로면, 304로 응답한다.")
+    @Test
+    void givenMatchingETag_whenRequesting_thenReturnsNotModified() throws Exception {
+        //Given
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        sut.doFilter(request("token-a"), first, render);
+        MockHttpServletRequest request = request("token-a");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, first.getHeader(HttpHeaders.ETAG));
+
+        //When
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        sut.doFilter(request, response, render);
+
+        //Then
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentLength()).isZero();
+        assertThat(renders).hasValue(1);
+    }
+
+    @DisplayName("게시글/댓글이 바뀌어 캐시가 무효화되면, 다시 렌더링하고 ETag도 바뀐다.")
+    @Test
+    void givenInvalidatedCache_whenRequesting_thenRendersAgainWithNewETag() throws Exception {
+        //Given
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        sut.doFilter(request("token-a"), first, render);
+        renderedPageCache.invalidate(1L);
+        MockHttpServletRequest request = request("token-a");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, first.getHeader(HttpHeaders.ETAG));
+
+        //When
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        sut.doFilter(request, response, render);
+
+        //Then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNotEqualTo(first.getHeader(HttpHeaders.ETAG));
+        assertThat(renders).hasValue(2);
+    }
+
+    @DisplayName("다른 게시글이 바뀌면, 이 게시글의 상세 화면은 캐시에서 그대로 보내고 목록 화면만 다시 렌더링한다.")
+    @Test
+    void givenOtherArticleChanged_whenRequesting_thenKeepsDetailPageAndRendersListAgain() throws Exception {
+        //Given
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        sut.doFilter(request("token-a"), first, render);
+        sut.doFilter(request("/articles", "token-a"), new MockHttpServletResponse(), render);
+        renderedPageCache.invalidate(2L);
+
+        //When
+        MockHttpServletResponse detail = new MockHttpServletResponse();
+        sut.doFilter(request("token-a"), detail, render);
+        sut.doFilter(request("/articles", "token-a"), new MockHttpServletResponse(), render);
+
+        //Then
+        assertThat(detail.getHeader(HttpHeaders.ETAG)).isEqualTo(first.getHeader(HttpHeaders.ETAG));
+        assertThat(renders).hasValue(3);
+    }
+
+    @DisplayName("모든 화면을 무효화하면, 상세 화면도 다시 렌더링한다.")
+    @Test
+    void givenAllInvalidated_whenRequesting_thenRendersDetailPageAgain() throws Exception {
+        //Given
+        sut.doFilter(request("token-a"), new MockHttpServletResponse(), render);
+        renderedPageCache.invalidateAll();
+
+        //When
+        sut.doFilter(request("token-a"), new MockHttpServletResponse(), render);
+
+        //Then
+        assertThat(renders).hasValue(2);
+    }
+
+    @DisplayName("담은 지 TTL이 지난 화면은, 바뀐 게시글이 없어도 다시 렌더링한다. (조회수 반영)")
+    @Test
+    void givenExpiredPage_whenRequesting_thenRendersAgain() throws Exception {
+        //Given
+        renderedPageCache = new RenderedPageCache(new PageCacheProperties(Duration.ZERO, 200), new SimpleMeterRegistry());
+        sut = new RenderedPageCacheFilter(renderedPageCache, articleViewCounter);
+        sut.doFilter(request("/articles", "token-a"), new MockHttpServletResponse(), render);
+
+        //When
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        sut.doFilter(request("/articles", "token-a"), response, render);
+
+        //Then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(renders).hasValue(2);
+    }
+
+    @DisplayName("최대 화면 수를 넘으면, 가장 오래 쓰지 않은 화면을 내보내고 그 화면은 다시 렌더링한다.")
+    @Test
+    void givenMaxEntriesExceeded_whenRequestingEvictedPage_thenRendersAgain() throws Exception {
+        //Given
+        renderedPageCache = new RenderedPageCache(new PageCacheProperties(Duration.ofMinutes(5), 1), new SimpleMeterRegistry());
+        sut = new RenderedPageCacheFilter(renderedPageCache, articleViewCounter);
+        sut.doFilter(request("token-a"), new MockHttpServletResponse(), render);
+        sut.doFilter(request("/articles", "token-a"), new MockHttpServletResponse(), render);
+
+        //When
+        sut.doFilter(request("token-a"), new MockHttpServletResponse(), render);
+
+        //Then
+        assertThat(renders).hasValue(3);
+    }
+
+    @DisplayName("화면과 검색 결과의 TTL이 모두 지나면, 다시 렌더링한 목록 화면에 테이블의 조회수가 보인다.")
+    @Test
+    void givenExpiredPageAndSearchResult_whenRequestingList_thenShowsCurrentViewCount() throws Exception {
+        //Given
+        PageCacheProperties properties = new PageCacheProperties(Duration.ZERO, 200);
+        ArticleSearchCache articleSearchCache = new ArticleSearchCache(properties, new SimpleMeterRegistry());
+        sut = new RenderedPageCacheFilter(new RenderedPageCache(properties, new SimpleMeterRegistry()), articleViewCounter);
+        AtomicLong storedViewCount = new AtomicLong(1); // 테이블의 조회수
+        FilterChain renderList = (request, response) -> {
+            Page<ArticleDto> articles = articleSearchCache.get(
+                    ArticleSearchCache.Key.search(null, null, Pageable.ofSize(10)),
+                    () -> new PageImpl<>(List.of(new ArticleDto(1L, null, "title", "content", "#java", null, null, null, null, storedViewCount.get(), 0L)))
+            );
+            response.setContentType("text/html;charset=UTF-8");
+            response.getWriter().write("<td class=\"view-count\">" + articles.getContent().get(0).viewCount() + "</td>");
+            response.getWriter().flush();
+        };
+        sut.doFilter(request("/articles", "token-a"), new MockHttpServletResponse(), renderList);
+        storedViewCount.set(2); // 조회수는 게시글을 바꾸지 않으므로 아무 캐시도 무효화하지 않는다.
+
+        //When
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        sut.doFilter(request("/articles", "token-a"), response, renderList);
+
+        //Then
+        assertThat(response.getContentAsString()).contains(">2<");
+    }
+
+    private MockHttpServletRequest request(String csrfToken) {
+        return request("/articles/1", csrfToken);
+    }
+
+    private MockHttpServletRequest request(String requestUri, String csrfToken) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", requestUri);
+        request.setAttribute(CsrfToken.class.getName(), new DefaultCsrfToken("X-CSRF-TOKEN", "_csrf", csrfToken));
+        return request;
+    }
+}
@@ -0,0 +1,112 @@
+package com.fastcampus.project_board.filter;
+
+import com.fastcampus.project_board.service.ratelimit.TokenBucketRateLimiter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.servlet.FilterChain;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("필터 - 작성 요청 제한")
+class WriteRateLimitFilterTest {
+
+    private WriteRateLimitFilter sut;
+    private final AtomicInteger handled = new AtomicInteger();
+    private final FilterChain controller = (request, response) -> handled.incrementAndGet();
+
+    @BeforeEach
+    void setUp() {
+        sut = new WriteRateLimitFilter(Map.of("/comments/new", new TokenBucketRateLimiter(1, Duration.ofMinutes(1), 100)));
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated("vartyor", null, AuthorityUtils.createAuthorityList("ROLE_USER"))
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @DisplayName("한도를 넘은 작성 요청은, 컨트롤러에 넘기지 않고 429와 Retry-After로 응답한다.")
+    @Test
+    void givenExhaustedBucket_whenPosting_thenRejectsWithTooManyRequests() throws Exception {
+        //Given
+        sut.doFilter(post("/comments/new"), new MockHttpServletResponse(), controller);
+
+        //When
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        sut.doFilter(post("/comments/new"), response, controller);
+
+        //Then
+        assertThat(handled).hasValue(1);
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("60");
+    }
+
+    @DisplayName("제한하지 않는 요청은, 한도와 상관없이 그대로 넘긴다.")
+    @Test
+    void givenOtherRequests_whenFiltering_thenPassesThrough() throws Exception {
+        //Given
+        sut.doFilter(post("/comments/new"), new MockHttpServletResponse(), controller);
+
+        //When
+        sut.doFilter(post("/comments/1/delete"), new MockHttpServletResponse(), controller);
+        sut.doFilter(new MockHttpServletRequest("GET", "/comments/new"), new MockHttpServletResponse(), controller);
+
+        //Then
+        assertThat(handled).hasValue(3);
+    }
+
+    @DisplayName("끝에 슬래시나 경로 파라미터를 붙인 작성 요청도, 같은 한도로 제한한다.")
+    @Test
+    void givenTrailingSlashOrPathParameter_whenPosting_thenAppliesSameLimit() throws Exception {
+        //Given
+        sut.doFilter(post("/comments/new"), new MockHttpServletResponse(), controller);
+
+        //When
+        MockHttpServletResponse trailingSlash = new MockHttpServletResponse();
+        sut.doFilter(post("/comments/new/"), trailingSlash, controller);
+        MockHttpServletResponse pathParameter = new MockHttpServletResponse();
+        sut.doFilter(post("/comments/new;jsessionid=abc"), pathParameter, controller);
+
+        //Then
+        assertThat(handled).hasValue(1);
+        assertThat(trailingSlash.getStatus()).isEqualTo(429);
+        assertThat(pathParameter.getStatus()).isEqualTo(429);
+    }
+
+    @DisplayName("컨텍스트 경로 아래에서 배포되어도, 컨텍스트 경로를 뺀 경로로 제한한다.")
+    @Test
+    void givenContextPath_whenPosting_thenAppliesLimit() throws Exception {
+        //Given
+        MockHttpServletRequest first = post("/board/comments/new");
+        first.setContextPath("/board");
+        sut.doFilter(first, new MockHttpServletResponse(), controller);
+
+        //When
+        MockHttpServletRequest second = post("/board/comments/new");
+        second.setContextPath("/board");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        sut.doFilter(second, response, controller);
+
+        //Then
+        assertThat(handled).hasValue(1);
+        assertThat(response.getStatus()).isEqualTo(429);
+    }
+
+    private static MockHttpServletRequest post(String uri) {
+        return new MockHttpServletRequest("POST", uri);
+    }
+}
@@ -1,8 +1,20 @@
 package com.fastcampus.project_board.repository;
 
+import com.fastcampus.project_board.DTO.ArticleChangeDto;
+import com.fastcampus.project_board.DTO.ArticleCommentDto;
+import com.fastcampus.project_board.DTO.ArticleDto;
+import com.fastcampus.project_board.DTO.ArticleExcerptDto;
+import com.fastcampus.project_board.DTO.ChangeFeedCursor.Position;
+import com.fastcampus.project_board.DTO.UserAccountDto;
 import com.fastcampus.project_board.config.JpaConfig;
 import com.fastcampus.project_board.domain.Article;
+import com.fastcampus.project_board.domain.ArticleComment;
+import com.fastcampus.project_board.domain.QArticle;
 import com.fastcampus.project_board.domain.UserAccount;
+import com.fastcampus.project_board.repository.index.HashtagQuery;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,31 +23,46 @@ import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.AuditorAware;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.test.context.ActiveProfiles;
 
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 @DisplayName("JPA 연결 테스트")
-@Import(JpaRepositoryTest.TestJpaConfig.class)
+@Import({JpaRepositoryTest.TestJpaConfig.class, ChangeFeedRepository.class})
 @DataJpaTest    // 슬라이스 테스트, 내부에 @ExtendsWith(SpringExtension.class) 존재, SpringExtension.class에는 autowired 키워드가 존재, @Auto~Database에 의해 Test DB를 사용하지 않는다.
 class JpaRepositoryTest {
 
     private final ArticleRepository articleRepository; // autoWiring 로직 덕분에 생성자 주입 패턴으로 필드 생성 가능
     private final ArticleCommentRepository articleCommentRepository;
     private final UserAccountRepository userAccountRepository;
+    private final ChangeFeedRepository changeFeedRepository;
+    private final EntityManager entityManager;
 
     public JpaRepositoryTest(
             @Autowired ArticleRepository articleRepository,
             @Autowired ArticleCommentRepository articleCommentRepository,
-            @Autowired UserAccountRepository userAccountRepository)
+            @Autowired UserAccountRepository userAccountRepository,
+            @Autowired ChangeFeedRepository changeFeedRepository,
+            @Autowired EntityManager entityManager)
     {
         this.articleRepository = articleRepository;
         this.articleCommentRepository = articleCommentRepository;
         this.userAccountRepository = userAccountRepository;
+        this.changeFeedRepository = changeFeedRepository;
+        this.entityManager = entityManager;
     }
 
     @DisplayName("select 테스트")
@@ -70,6 +97,23 @@ class JpaRepositoryTest {
 
     }
 
+    @DisplayName("insert 테스트 - 작성일시는 초 단위로 잘라서 저장하므로, 저장한 엔티티의 값이 다시 읽은 값과 같다.")
+    @Test
+    void givenTestData_whenInserting_thenKeepsCreatedAtSameAsStored() {
+        // given
+        UserAccount userAccount = userAccountRepository.save(UserAccount.of("timeVartyor", "asdf1234", null, null, null));
+        Article article = Article.of(userAccount, "new Article", "new Content", "#spring");
+
+        // when
+        articleRepository.saveAndFlush(article);
+        entityManager.clear();
+
+        // then
+        assertThat(article.getCreatedAt().getNano()).isZero();
+        assertThat(articleRepository.findById(article.getId()))
+                .hasValueSatisfying(stored -> assertThat(stored.getCreatedAt()).isEqualTo(article.getCreatedAt()));
+    }
+
     @DisplayName("update 테스트")
     @Test
     void givenTestData_whenUpdating_thenWorksFine() {
@@ -106,6 +150,281 @@ class JpaRepositoryTest {
                 .isEqualTo(previousArticleCommentCount - deletedCommentSize);
     }
 
+    @DisplayName("상세 조회 테스트 - 댓글 작성자가 모두 달라도, 게시글과 댓글 한 페이지를 쿼리 두 번으로 읽는다.")
+    @Test
+    void givenArticleWithManyComments_whenSelectingDetail_thenExecutesTwoStatements() {
+        // given
+        UserAccount author = userAccountRepository.save(UserAccount.of("author", "asdf1234", null, null, null));
+        Article article = articleRepository.save(Article.of(author, "new Article", "new Content", "#spring"));
+        for (int i = 0; i < 30; i++) {
+            UserAccount commenter = userAccountRepository.save(UserAccount.of("commenter" + i, "asdf1234", null, null, null));
+            articleCommentRepository.save(ArticleComment.of(article, commenter, "comment " + i));
+        }
+        entityManager.flush();
+        entityManager.clear(); // 영속성 컨텍스트에 남은 엔티티를 재사용하지 않도록 비운다.
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        // ArticleService.getArticleDetail()이 읽는 것과 같이, 게시글과 댓글 첫 페이지를 읽어 DTO로 옮긴다.
+        ArticleDto articleDto = articleRepository.findById(article.getId())
+                .map(ArticleDto::from)
+                .orElseThrow();
+        Slice<ArticleCommentDto> articleComments = articleCommentRepository.findFirstPageByArticleId(article.getId(), Pageable.ofSize(20))
+                .map(ArticleCommentDto::from);
+
+        // then
+        assertThat(articleDto.userAccountDto().userId()).isEqualTo("author");
+        assertThat(articleComments.getContent())
+                .hasSize(20)
+                .extracting(articleComment -> articleComment.userAccountDto().userId())
+                .doesNotHaveDuplicates();
+        assertThat(articleComments.hasNext()).isTrue();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2); // 게시글과 작성자 1번 + 댓글과 작성자 1번
+    }
+
+    @DisplayName("목록 조회 테스트 - 작성자가 모두 달라도, 작성자는 IN 조회 한 번으로 모아서 읽는다.")
+    @Test
+    void givenArticlesOfDistinctAuthors_whenSelectingPage_thenBatchFetchesAuthors() {
+        // given
+        for (int i = 0; i < 10; i++) {
+            UserAccount author = userAccountRepository.save(UserAccount.of("author" + i, "asdf1234", null, null, null));
+            articleRepository.save(Article.of(author, "batch fetch " + i, "new Content", "#spring"));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        List<ArticleDto> articles = articleRepository.findContent(
+                        QArticle.article.title.startsWith("batch fetch"),
+                        PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"))
+                ).stream()
+                .map(ArticleDto::from)
+                .toList();
+
+        // then
+        assertThat(articles)
+                .hasSize(10)
+                .extracting(article -> article.userAccountDto().userId())
+                .doesNotHaveDuplicates();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2); // 게시글 1번 + 작성자 1번
+    }
+
+    @DisplayName("조회수 반영 테스트 - 증가분만 더하고, 게시글을 수정해도 조회수를 덮어쓰지 않는다.")
+    @Test
+    void givenViewCounts_whenAddingAndUpdatingArticle_thenKeepsViewCounts() {
+        // given
+        Article article = articleRepository.findById(1L).orElseThrow(); // 조회수 0인 상태로 영속성 컨텍스트에 올라온다.
+        article.setTitle("updated title");
+
+        // when
+        articleRepository.addViewCounts(Map.of(1L, 3L, 2L, 5L));
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(articleRepository.findById(1L).orElseThrow())
+                .hasFieldOrPropertyWithValue("title", "updated title")
+                .hasFieldOrPropertyWithValue("viewCount", 3L);
+        assertThat(articleRepository.findById(2L).orElseThrow())
+                .hasFieldOrPropertyWithValue("viewCount", 5L);
+    }
+
+    @DisplayName("대량 delete 테스트 - 댓글과 게시글을 엔티티로 읽지 않고 각각 쿼리 한 번으로 지운다.")
+    @Test
+    void givenArticleWithComments_whenBulkDeleting_thenExecutesOneStatementPerTable() {
+        // given
+        long previousArticleCount = articleRepository.count();
+        long previousArticleCommentCount = articleCommentRepository.count();
+        int deletedCommentSize = articleRepository.findById(1L).orElseThrow().getArticleComments().size();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        LocalDateTime deletedAt = LocalDateTime.now();
+        articleCommentRepository.bulkDeleteByArticleIdIn(List.of(1L), deletedAt);
+        int deleted = articleRepository.bulkDeleteByIdIn(List.of(1L), deletedAt);
+
+        // then
+        assertThat(deleted).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(articleRepository.count()).isEqualTo(previousArticleCount - 1);
+        assertThat(articleCommentRepository.count()).isEqualTo(previousArticleCommentCount - deletedCommentSize);
+    }
+
+    @DisplayName("변경 피드 테스트 - 피드를 읽은 직후에 지운 게시글은, 받은 커서 다음 변경으로 나온다.")
+    @Test
+    void givenCursorFromChangeFeed_whenDeletingArticleAfterReading_thenNextReadReturnsTombstone() {
+        // given
+        LocalDateTime until = LocalDateTime.now();
+        List<ArticleChangeDto> read = changeFeedRepository.findArticleChanges(Position.FIRST, until, 1000);
+        ArticleChangeDto last = read.get(read.size() - 1);
+        Position cursor = Position.of(last.modifiedAt(), last.id());
+
+        // when
+        LocalDateTime deletedAt = until.plusSeconds(1); // 피드를 읽은 뒤에 커밋된 삭제
+        articleCommentRepository.bulkDeleteByArticleIdIn(List.of(1L), deletedAt);
+        articleRepository.bulkDeleteByIdIn(List.of(1L), deletedAt);
+
+        // then
+        List<ArticleChangeDto> next = changeFeedRepository.findArticleChanges(cursor, deletedAt, 1000);
+        assertThat(next)
+                .extracting(ArticleChangeDto::id, ArticleChangeDto::modifiedAt, ArticleChangeDto::deleted)
+                .containsExactly(tuple(1L, deletedAt, true));
+    }
+
+    @DisplayName("soft delete 테스트 - 지운 게시글과 댓글은 조회에서 빠지고, 정리하면 행이 지워진다.")
+    @Test
+    void givenDeletedArticle_whenPurgingTombstones_thenRemovesRows() {
+        // given
+        Article article = articleRepository.findById(1L).orElseThrow();
+        int deletedCommentSize = article.getArticleComments().size();
+        articleRepository.delete(article);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(articleRepository.findById(1L)).isEmpty();
+        assertThat(articleRepository.countTombstones()).isEqualTo(1);
+        assertThat(articleCommentRepository.countTombstones()).isEqualTo(deletedCommentSize);
+
+        // when
+        LocalDateTime deletedBefore = LocalDateTime.now().plusMinutes(1);
+        List<Long> articleCommentIds = articleCommentRepository.findTombstoneIds(deletedBefore, 1000);
+        if (!articleCommentIds.isEmpty()) {
+            articleCommentRepository.purgeByIdIn(articleCommentIds);
+        }
+        int purgedArticles = articleRepository.purgeByIdIn(articleRepository.findTombstoneIds(deletedBefore, 1000));
+
+        // then
+        assertThat(articleCommentIds).hasSize(deletedCommentSize);
+        assertThat(purgedArticles).isEqualTo(1);
+        assertThat(articleRepository.countTombstones()).isZero();
+        assertThat(articleCommentRepository.countTombstones()).isZero();
+    }
+
+    @DisplayName("조건부 update 테스트 - 작성자와 버전이 모두 맞을 때만 수정하고, 버전을 올린다.")
+    @Test
+    void givenOwnerAndVersion_whenUpdatingIfOwned_thenUpdatesOnlyMatchingRow() {
+        // given
+        UserAccount author = userAccountRepository.save(UserAccount.of("author", "asdf1234", null, null, null));
+        Long articleId = articleRepository.save(Article.of(author, "title", "content", "#java")).getId();
+        entityManager.flush();
+        entityManager.clear();
+        Article article = articleRepository.findById(articleId).orElseThrow();
+        long formVersion = article.getVersion(); // 다른 사용자가 먼저 열어 둔 수정 폼의 버전
+
+        // when
+        long byOther = articleRepository.updateIfOwned(article, article.getVersion(), "other", "hacked", null, "#java");
+        long byAuthor = articleRepository.updateIfOwned(article, article.getVersion(), "author", "new title", null, "#java");
+        long byStale = articleRepository.updateIfOwned(article, formVersion, "author", "stale title", null, "#java");
+
+        // then
+        assertThat(byOther).isZero();
+        assertThat(byAuthor).isEqualTo(1);
+        assertThat(byStale).isZero();
+        assertThat(article)
+                .hasFieldOrPropertyWithValue("title", "new title")
+                .hasFieldOrPropertyWithValue("content", "content")
+                .hasFieldOrPropertyWithValue("version", formVersion + 1);
+    }
+
+    @DisplayName("요약 목록 조회 테스트 - 본문과 댓글을 읽지 않고, 작성자 닉네임과 댓글 수를 쿼리 한 번으로 DTO에 담는다.")
+    @Test
+    void givenArticlesWithComments_whenSelectingExcerpts_thenSelectsDtoInSingleStatement() {
+        // given
+        UserAccount author = userAccountRepository.save(UserAccount.of("author", "asdf1234", null, "작성자", null));
+        Article article = articleRepository.save(Article.of(author, "excerpt title", "x".repeat(10_000), "#java"));
+        for (int i = 0; i < 3; i++) {
+            articleCommentRepository.save(ArticleComment.of(article, author, "comment " + i));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        Page<ArticleExcerptDto> excerpts = articleRepository.findExcerpts(
+                QArticle.article.title.eq("excerpt title"),
+                PageRequest.of(0, 10)
+        );
+
+        // then
+        assertThat(excerpts.getContent())
+                .singleElement()
+                .hasFieldOrPropertyWithValue("id", article.getId())
+                .hasFieldOrPropertyWithValue("nickname", "작성자")
+                .hasFieldOrPropertyWithValue("commentCount", 3L);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1); // 첫 페이지가 다 차지 않으면 count 쿼리를 보내지 않는다.
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @DisplayName("ID 집합 페이지 조회 테스트 - 정렬해서 한 페이지만 읽고, 순서를 지정하면 그 순서대로 읽는다.")
+    @Test
+    void givenArticleIds_whenSelectingPage_thenReturnsSortedPage() {
+        // given
+        List<Long> articleIds = articleRepository.findAll().stream().map(Article::getId).toList();
+        Pageable pageable = PageRequest.of(1, 10, Sort.by("title"));
+        List<Long> expected = articleRepository.findAll(PageRequest.of(1, 10, Sort.by("title", "id"))).map(Article::getId).getContent();
+
+        // when
+        List<Article> page = articleRepository.findPageByIdIn(articleIds.stream().mapToLong(Long::longValue), pageable);
+        List<Article> ordered = articleRepository.findAllInOrder(List.of(articleIds.get(2), articleIds.get(0)));
+
+        // then
+        assertThat(page).extracting(Article::getId).containsExactlyElementsOf(expected);
+        assertThat(ordered).extracting(Article::getId).containsExactly(articleIds.get(2), articleIds.get(0));
+    }
+
+    @DisplayName("삭제용 잠금 조회 테스트 - 게시글 행만 읽고, 작성자는 조인하지도 초기화하지도 않는다.")
+    @Test
+    void givenArticle_whenSelectingForDelete_thenDoesNotLoadAuthor() {
+        // given
+        UserAccount author = userAccountRepository.save(UserAccount.of("lockVartyor", "asdf1234", null, null, null));
+        Article article = articleRepository.save(Article.of(author, "new Article", "new Content", "#spring"));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        // ArticleService.deleteArticle()처럼, 조건으로 넘긴 작성자 ID로 DTO를 만든다.
+        Article locked = articleRepository.findForDeleteByIdAndUserAccount_UserId(article.getId(), "lockVartyor").orElseThrow();
+        ArticleDto deleted = ArticleDto.from(locked, UserAccountDto.of("lockVartyor", null, null, null, null));
+        List<Article> lockedAll = articleRepository.findAllForDeleteByIdIn(List.of(article.getId()));
+
+        // then
+        assertThat(deleted.id()).isEqualTo(article.getId());
+        assertThat(Hibernate.isInitialized(locked.getUserAccount())).isFalse();
+        assertThat(lockedAll).allSatisfy(each -> assertThat(Hibernate.isInitialized(each.getUserAccount())).isFalse());
+    }
+
+    @DisplayName("해시태그 검색식 ID 조회 테스트 - 해시태그가 여러 개인 컬럼도 해시태그 단위로 확인한다.")
+    @Test
+    void givenArticlesWithMultipleHashtags_whenSelectingIdsByHashtagQuery_thenMatchesHashtagTokens() {
+        // given
+        UserAccount userAccount = userAccountRepository.save(UserAccount.of("hashtagVartyor", "asdf1234", null, null, null));
+        Article both = articleRepository.save(Article.of(userAccount, "title", "content", "#javaee #springboot"));
+        Article withoutHash = articleRepository.save(Article.of(userAccount, "title", "content", "javaee,springboot,legacy"));
+        Article prefixOnly = articleRepository.save(Article.of(userAccount, "title", "content", "#javaee2 #springboot"));
+
+        // when
+        List<Long> articleIds = articleRepository.findIdsByHashtagQuery(HashtagQuery.parse("#javaee AND #springboot NOT #legacy"));
+        List<Long> anyOf = articleRepository.findIdsByHashtagQuery(HashtagQuery.parse("#javaee OR #javaee2"));
+
+        // then
+        assertThat(articleIds).containsExactly(both.getId());
+        assertThat(anyOf).containsExactly(both.getId(), withoutHash.getId(), prefixOnly.getId());
+    }
+
     @EnableJpaAuditing
     @TestConfiguration
     public static class TestJpaConfig {
@@ -0,0 +1,58 @@
+package com.fastcampus.project_board.repository.index;
+
+import com.fastcampus.project_board.repository.ArticleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("카운터 - 게시글 수")
+@ExtendWith(MockitoExtension.class)
+class ArticleCounterTest {
+
+    private ArticleCounter sut;
+    @Mock private ArticleRepository articleRepository;
+
+    @BeforeEach
+    void setUp() {
+        sut = new ArticleCounter(articleRepository);
+    }
+
+    @DisplayName("게시글을 저장/삭제하면, 게시글 수가 증감한다.")
+    @Test
+    void givenReconciledCounter_whenSavingAndDeleting_thenAdjustsCount() {
+        //Given
+        given(articleRepository.count()).willReturn(10L);
+        sut.reconcile();
+
+        //When
+        sut.increment();
+        sut.increment();
+        sut.decrement();
+
+        //Then
+        assertThat(sut.isReady()).isTrue();
+        assertThat(sut.get()).isEqualTo(11L);
+    }
+
+    @DisplayName("테이블과 다시 맞추면, 그동안 쌓인 오차를 테이블의 게시글 수로 덮어쓴다.")
+    @Test
+    void givenDriftedCounter_whenReconciling_thenResetsToTableCount() {
+        //Given
+        given(articleRepository.count()).willReturn(10L, 8L);
+        sut.reconcile();
+        sut.increment();
+
+        //When
+        sut.reconcile();
+
+        //Then
+        assertThat(sut.get()).isEqualTo(8L);
+        then(articleRepository).should(times(2)).count();
+    }
+}
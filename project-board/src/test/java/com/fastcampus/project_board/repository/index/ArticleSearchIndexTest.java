@@ -0,0 +1,197 @@
+package com.fastcampus.project_board.repository.index;
+
+import com.fastcampus.project_board.DTO.ArticleTextDto;
+import com.fastcampus.project_board.config.SearchIndexConfig.SearchIndexProperties;
+import com.fastcampus.project_board.config.SearchIndexConfig.TokenizerType;
+import com.fastcampus.project_board.domain.Article;
+import com.fastcampus.project_board.domain.UserAccount;
+import com.fastcampus.project_board.domain.constant.SearchType;
+import com.fastcampus.project_board.repository.ArticleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("검색 색인 - 게시글")
+@ExtendWith(MockitoExtension.class)
+class ArticleSearchIndexTest {
+
+    private static final SearchIndexProperties PROPERTIES = new SearchIndexProperties(TokenizerType.WORD, 2, Duration.ofMinutes(10), DataSize.ofMegabytes(256));
+
+    private ArticleSearchIndex sut;
+    @Mock private ArticleRepository articleRepository;
+
+    @BeforeEach
+    void setUp() {
+        sut = new ArticleSearchIndex(articleRepository, new WordTokenizer(), PROPERTIES);
+    }
+
+    @DisplayName("테이블로부터 색인을 재구성하면, 제목/본문 검색을 지원한다.")
+    @Test
+    void givenArticles_whenRebuilding_thenSupportsTitleAndContentSearch() {
+        //Given
+        given(articleRepository.findTextsByIdGreaterThan(eq(0L), any(Pageable.class))).willReturn(new SliceImpl<>(List.of(
+                ArticleTextDto.of(1L, "Spring Boot 시작하기", "첫 번째 글"),
+                ArticleTextDto.of(2L, "spring data jpa", "두 번째 글")
+        )));
+
+        //When
+        sut.rebuild();
+
+        //Then
+        assertThat(sut.supports(SearchType.TITLE, "spring")).isTrue();
+        assertThat(sut.supports(SearchType.NICKNAME, "spring")).isFalse();
+        assertThat(sut.search(SearchType.TITLE, "SPRING")).containsExactly(1L, 2L);
+        assertThat(sut.search(SearchType.TITLE, "spring jpa")).containsExactly(2L);
+        assertThat(sut.search(SearchType.CONTENT, "두 번째")).containsExactly(2L);
+    }
+
+    @DisplayName("재구성하는 동안 커밋된 변경은, 재구성한 색인에도 반영된다.")
+    @Test
+    void givenArticleSavedDuringRebuild_whenRebuilding_thenKeepsSavedArticle() {
+        //Given
+        given(articleRepository.findTextsByIdGreaterThan(eq(0L), any(Pageable.class))).willAnswer(invocation -> {
+            sut.index(createArticle(2L, "spring during rebuild", "content"));
+            return new SliceImpl<>(List.of(ArticleTextDto.of(1L, "spring", "content")));
+        });
+
+        //When
+        sut.rebuild();
+
+        //Then
+        assertThat(sut.search(SearchType.TITLE, "spring")).containsExactly(1L, 2L);
+    }
+
+    @DisplayName("게시글을 수정하면, 기존 term은 빠지고 새 term으로 검색된다.")
+    @Test
+    void givenIndexedArticle_whenReindexing_thenReplacesTerms() {
+        //Given
+        Article article = createArticle(1L, "old title", "content");
+        sut.index(article);
+        article.setTitle("new title");
+
+        //When
+        sut.index(article);
+
+        //Then
+        assertThat(sut.search(SearchType.TITLE, "old")).isEmpty();
+        assertThat(sut.search(SearchType.TITLE, "new")).containsExactly(1L);
+    }
+
+    @DisplayName("게시글을 삭제하면, 더 이상 검색되지 않는다.")
+    @Test
+    void givenIndexedArticle_whenRemoving_thenNotSearchable() {
+        //Given
+        sut.index(createArticle(1L, "title", "content"));
+
+        //When
+        sut.remove(1L);
+
+        //Then
+        assertThat(sut.search(SearchType.TITLE, "title")).isEmpty();
+        assertThat(sut.search(SearchType.CONTENT, "content")).isEmpty();
+    }
+
+    @DisplayName("n-gram 색인은 띄어쓰기와 상관없이 한글 부분 문자열의 후보를 찾는다.")
+    @Test
+    void givenNGramTokenizer_whenSearchingPartialKoreanWord_thenReturnsCandidates() {
+        //Given
+        sut = new ArticleSearchIndex(articleRepository, new NGramTokenizer(2), PROPERTIES);
+        sut.index(createArticle(1L, "스프링부트로 게시판 만들기", "content"));
+        sut.index(createArticle(2L, "스프링 데이터 JPA", "content"));
+
+        //When & Then
+        assertThat(sut.requiresVerification()).isTrue();
+        assertThat(sut.search(SearchType.TITLE, "부트")).containsExactly(1L);
+        assertThat(sut.search(SearchType.TITLE, "스프링")).containsExactly(1L, 2L);
+        assertThat(sut.search(SearchType.TITLE, "data jpa")).isEmpty();
+        assertThat(sut.search(SearchType.TITLE, "jpa")).containsExactly(2L);
+    }
+
+    @DisplayName("n-gram 크기보다 짧은 검색어는 색인으로 처리하지 않는다.")
+    @Test
+    void givenShortKeyword_whenCheckingNGramSupport_thenNotSupported() {
+        //Given
+        given(articleRepository.findTextsByIdGreaterThan(eq(0L), any(Pageable.class))).willReturn(new SliceImpl<>(List.of()));
+        sut = new ArticleSearchIndex(articleRepository, new NGramTokenizer(2), PROPERTIES);
+        sut.rebuild();
+
+        //When & Then
+        assertThat(sut.supports(SearchType.CONTENT, "스")).isFalse();
+        assertThat(sut.supports(SearchType.CONTENT, "스프")).isTrue();
+    }
+
+    @DisplayName("테이블이 한 Slice보다 크면, 마지막으로 읽은 ID 다음부터 이어서 읽는다.")
+    @Test
+    void givenMoreArticlesThanSlice_whenRebuilding_thenReadsNextSliceAfterLastId() {
+        //Given
+        given(articleRepository.findTextsByIdGreaterThan(eq(0L), any(Pageable.class))).willReturn(
+                new SliceImpl<>(List.of(ArticleTextDto.of(1L, "spring", "content")), Pageable.ofSize(1), true));
+        given(articleRepository.findTextsByIdGreaterThan(eq(1L), any(Pageable.class))).willReturn(
+                new SliceImpl<>(List.of(ArticleTextDto.of(2L, "spring jpa", "content"))));
+
+        //When
+        sut.rebuild();
+
+        //Then
+        assertThat(sut.search(SearchType.TITLE, "spring")).containsExactly(1L, 2L);
+        then(articleRepository).should(never()).findAll(any(Pageable.class));
+    }
+
+    @DisplayName("재구성한 색인이 메모리 상한을 넘으면, 색인을 버리고 검색을 위임하지 않는다.")
+    @Test
+    void givenIndexLargerThanMaxSize_whenRebuilding_thenDiscardsIndex() {
+        //Given
+        sut = new ArticleSearchIndex(articleRepository, new WordTokenizer(), new SearchIndexProperties(TokenizerType.WORD, 2, Duration.ofMinutes(10), DataSize.ofBytes(100)));
+        given(articleRepository.findTextsByIdGreaterThan(eq(0L), any(Pageable.class))).willReturn(new SliceImpl<>(List.of(
+                ArticleTextDto.of(1L, "spring boot", "첫 번째 글"),
+                ArticleTextDto.of(2L, "spring data jpa", "두 번째 글")
+        )));
+
+        //When
+        sut.rebuild();
+
+        //Then
+        assertThat(sut.supports(SearchType.TITLE, "spring")).isFalse();
+        assertThat(sut.search(SearchType.TITLE, "spring")).isEmpty();
+    }
+
+    @DisplayName("게시글 ID가 int 범위를 넘으면, 검색을 위임하지 않는다.")
+    @Test
+    void givenArticleIdOutOfIntRange_whenIndexing_thenNotSupported() {
+        //Given
+        given(articleRepository.findTextsByIdGreaterThan(eq(0L), any(Pageable.class))).willReturn(new SliceImpl<>(List.of()));
+        sut.rebuild();
+
+        //When
+        sut.index(createArticle(Integer.MAX_VALUE + 1L, "spring", "content"));
+
+        //Then
+        assertThat(sut.supports(SearchType.TITLE, "spring")).isFalse();
+    }
+
+    private Article createArticle(Long id, String title, String content) {
+        Article article = Article.of(
+                UserAccount.of("vartyor", "password", "varute@gmail.com", "Vartyor", null),
+                title,
+                content,
+                "#java"
+        );
+        ReflectionTestUtils.setField(article, "id", id);
+
+        return article;
+    }
+}
@@ -0,0 +1,116 @@
+package com.fastcampus.project_board.repository.index;
+
+import com.fastcampus.project_board.domain.Article;
+import com.fastcampus.project_board.domain.UserAccount;
+import com.fastcampus.project_board.repository.ArticleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("색인 - 게시글 작성일시")
+@ExtendWith(MockitoExtension.class)
+class ArticleTimelineTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private ArticleTimeline sut;
+    @Mock private ArticleRepository articleRepository;
+
+    @BeforeEach
+    void setUp() {
+        sut = new ArticleTimeline(articleRepository);
+    }
+
+    @DisplayName("정렬이 없으면, 게시글 ID를 목록 기본 순서(작성일시, ID 내림차순)로 정렬한다.")
+    @Test
+    void givenUnsorted_whenSorting_thenSortsByCreatedAtAndIdDescending() {
+        //Given
+        given(articleRepository.findAllCreatedAt()).willReturn(Map.of(
+                1L, NOW.plusDays(2),
+                2L, NOW,
+                3L, NOW.plusDays(1),
+                4L, NOW
+        ));
+        sut.rebuild();
+
+        //When
+        List<Long> sorted = sut.sort(Set.of(1L, 2L, 3L, 4L), Sort.unsorted());
+
+        //Then
+        assertThat(sorted).containsExactly(1L, 3L, 4L, 2L);
+    }
+
+    @DisplayName("페이지를 요청하면, 정렬 순서로 offset부터 요청한 개수만큼만 반환한다.")
+    @Test
+    void givenOffsetAndLimit_whenPaging_thenReturnsOnlyRequestedPage() {
+        //Given
+        given(articleRepository.findAllCreatedAt()).willReturn(Map.of(
+                1L, NOW.plusDays(2),
+                2L, NOW,
+                3L, NOW.plusDays(1),
+                4L, NOW
+        ));
+        sut.rebuild();
+        Sort sort = Sort.by(Sort.Direction.ASC, "createdAt");
+
+        //When & Then
+        assertThat(sut.page(LongStream.of(1L, 2L, 3L, 4L), sort, 1, 2)).containsExactly(4L, 3L);
+        assertThat(sut.page(LongStream.of(1L, 2L, 3L, 4L), sort, 4, 2)).isEmpty();
+    }
+
+    @DisplayName("작성일시/ID 외의 정렬은 지원하지 않는다.")
+    @Test
+    void givenSortByTitle_whenCheckingSupport_thenNotSupported() {
+        //Given
+        given(articleRepository.findAllCreatedAt()).willReturn(Map.of());
+        sut.rebuild();
+
+        //When & Then
+        assertThat(sut.supports(Sort.by("createdAt").descending())).isTrue();
+        assertThat(sut.supports(Sort.unsorted())).isTrue();
+        assertThat(sut.supports(Sort.by("title"))).isFalse();
+    }
+
+    @DisplayName("재구성하는 동안 저장된 게시글은, 재구성한 뒤에도 남아 있다.")
+    @Test
+    void givenArticleSavedDuringRebuild_whenRebuilding_thenKeepsSavedArticle() {
+        //Given
+        given(articleRepository.findAllCreatedAt()).willAnswer(invocation -> {
+            sut.add(createArticle(2L, NOW.minusDays(1)));
+            return Map.of(1L, NOW);
+        });
+
+        //When
+        sut.rebuild();
+
+        //Then
+        assertThat(sut.sort(Set.of(1L, 2L), Sort.by(Sort.Direction.DESC, "createdAt"))).containsExactly(1L, 2L);
+    }
+
+    private Article createArticle(Long id, LocalDateTime createdAt) {
+        Article article = Article.of(
+                UserAccount.of("vartyor", "password", "varute@gmail.com", "Vartyor", null),
+                "title",
+                "content",
+                "#java"
+        );
+        ReflectionTestUtils.setField(article, "id", id);
+        ReflectionTestUtils.setField(article, "createdAt", createdAt);
+
+        return article;
+    }
+}
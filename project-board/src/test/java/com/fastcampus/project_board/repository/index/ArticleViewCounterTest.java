@@ -0,0 +1,111 @@
+package com.fastcampus.project_board.repository.index;
+
+import com.fastcampus.project_board.repository.ArticleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("조회수 - 게시글")
+@ExtendWith(MockitoExtension.class)
+class ArticleViewCounterTest {
+
+    private ArticleViewCounter sut;
+    @Mock private ArticleRepository articleRepository;
+
+    @BeforeEach
+    void setUp() {
+        sut = new ArticleViewCounter(articleRepository);
+    }
+
+    @DisplayName("한 게시글에 여러 스레드가 동시에 조회해도, 빠짐없이 모아서 한 번에 반영한다.")
+    @Test
+    void givenConcurrentViews_whenFlushing_thenAddsAllViewsAtOnce() throws InterruptedException {
+        //Given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 10_000; i++) {
+            executor.execute(() -> sut.increment(1L));
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        sut.increment(2L);
+
+        //When
+        sut.flush();
+
+        //Then
+        then(articleRepository).should().addViewCounts(Map.of(1L, 10_000L, 2L, 1L));
+        assertThat(sut.pending(1L)).isZero();
+    }
+
+    @DisplayName("새로 조회된 게시글이 없으면, 테이블에 반영하지 않는다.")
+    @Test
+    void givenNoViews_whenFlushing_thenDoesNothing() {
+        //Given
+        sut.increment(1L);
+        sut.flush();
+
+        //When
+        sut.flush();
+
+        //Then
+        then(articleRepository).should(times(1)).addViewCounts(any());
+    }
+
+    @DisplayName("반영에 실패하면, 조회수를 되돌려 두고 다음 주기에 다시 반영한다.")
+    @Test
+    void givenFailedFlush_whenFlushingAgain_thenRetriesViews() {
+        //Given
+        sut.increment(1L);
+        sut.increment(1L);
+        willThrow(new QueryTimeoutException("timeout")).willDoNothing().given(articleRepository).addViewCounts(any());
+        sut.flush();
+        sut.increment(1L);
+
+        //When
+        sut.flush();
+
+        //Then
+        then(articleRepository).should().addViewCounts(Map.of(1L, 3L));
+        assertThat(sut.pending(1L)).isZero();
+    }
+
+    @DisplayName("조회가 없던 게시글을 맵에서 빼는 사이에 조회가 들어와도, 잃지 않고 반영한다.")
+    @Test
+    void givenViewsDuringIdleEviction_whenFlushing_thenKeepsAllViews() throws InterruptedException {
+        //Given
+        AtomicLong flushed = new AtomicLong();
+        willAnswer(invocation -> {
+            Map<Long, Long> viewCounts = invocation.getArgument(0);
+            viewCounts.values().forEach(flushed::addAndGet);
+            return null;
+        }).given(articleRepository).addViewCounts(any());
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 100_000; i++) {
+            long articleId = i % 4;
+            executor.execute(() -> sut.increment(articleId));
+            if (i % 1_000 == 0) executor.execute(sut::flush); // 조회 사이사이에 비우면서, 그 주기에 조회가 없던 게시글은 맵에서 뺀다.
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        //When
+        sut.flush();
+
+        //Then
+        assertThat(flushed).hasValue(100_000L);
+    }
+}
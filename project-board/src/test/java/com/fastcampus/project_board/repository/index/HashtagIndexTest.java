@@ -0,0 +1,128 @@
+package com.fastcampus.project_board.repository.index;
+
+import com.fastcampus.project_board.domain.Article;
+import com.fastcampus.project_board.domain.UserAccount;
+import com.fastcampus.project_board.repository.ArticleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("검색 색인 - 해시태그")
+@ExtendWith(MockitoExtension.class)
+class HashtagIndexTest {
+
+    private HashtagIndex sut;
+    @Mock private ArticleRepository articleRepository;
+
+    @BeforeEach
+    void setUp() {
+        sut = new HashtagIndex(articleRepository);
+        given(articleRepository.findAllHashtags()).willReturn(Map.of(
+                1L, "#java #spring",
+                2L, "#java #spring #legacy",
+                3L, "#java",
+                4L, "#kotlin, #spring"
+        ));
+        sut.rebuild();
+    }
+
+    @DisplayName("해시태그 검색식으로 검색하면, AND/OR/NOT을 비트맵 연산으로 계산한 게시글 ID를 반환한다.")
+    @Test
+    void givenHashtagQuery_whenSearching_thenReturnsMatchingArticleIds() {
+        //When & Then
+        assertThat(sut.isReady()).isTrue();
+        assertThat(sut.search(HashtagQuery.parse("#java")).toArray()).containsExactly(1, 2, 3);
+        assertThat(sut.search(HashtagQuery.parse("#java AND #spring NOT #legacy")).toArray()).containsExactly(1);
+        assertThat(sut.search(HashtagQuery.parse("#legacy OR #kotlin")).toArray()).containsExactly(2, 4);
+        assertThat(sut.search(HashtagQuery.parse("#java #scala")).toArray()).isEmpty();
+    }
+
+    @DisplayName("게시글의 해시태그를 바꾸면, 기존 해시태그는 빠지고 새 해시태그로 검색된다.")
+    @Test
+    void givenIndexedArticle_whenReindexing_thenReplacesHashtags() {
+        //Given
+        Article article = createArticle(3L, "#jpa #spring");
+
+        //When
+        sut.index(article);
+
+        //Then
+        assertThat(sut.search(HashtagQuery.parse("#java")).toArray()).containsExactly(1, 2);
+        assertThat(sut.search(HashtagQuery.parse("#jpa AND #spring")).toArray()).containsExactly(3);
+    }
+
+    @DisplayName("게시글을 삭제하면, 더 이상 검색되지 않는다.")
+    @Test
+    void givenIndexedArticle_whenRemoving_thenNotSearchable() {
+        //When
+        sut.remove(4L);
+
+        //Then
+        assertThat(sut.search(HashtagQuery.parse("#kotlin")).toArray()).isEmpty();
+        assertThat(sut.search(HashtagQuery.parse("#spring")).toArray()).containsExactly(1, 2);
+    }
+
+    @DisplayName("여러 게시글을 한 번에 색인하면, 모두 검색된다.")
+    @Test
+    void givenArticles_whenIndexingAtOnce_thenAllSearchable() {
+        //When
+        sut.index(List.of(createArticle(5L, "#jpa"), createArticle(6L, "#jpa #java"), createArticle(1L, "#jpa")));
+
+        //Then
+        assertThat(sut.search(HashtagQuery.parse("#jpa")).toArray()).containsExactly(1, 5, 6);
+        assertThat(sut.search(HashtagQuery.parse("#java")).toArray()).containsExactly(2, 3, 6);
+        assertThat(sut.search(HashtagQuery.parse("#spring")).toArray()).containsExactly(2, 4);
+    }
+
+    @DisplayName("재구성하는 동안 커밋된 변경은, 테이블에서 이미 읽혔든 아니든 재구성한 뒤에도 남아 있다.")
+    @Test
+    void givenArticlesChangedDuringRebuild_whenRebuilding_thenKeepsChanges() {
+        //Given
+        given(articleRepository.findAllHashtags()).willAnswer(invocation -> {
+            sut.index(createArticle(5L, "#jpa"));  // 테이블을 읽기 전에 커밋되어 읽은 값에 들어 있다.
+            sut.index(createArticle(6L, "#jpa"));  // 테이블을 읽은 뒤에 커밋되어 읽은 값에 없다.
+            sut.remove(3L);                        // 테이블을 읽은 뒤에 커밋된 삭제
+            return Map.of(1L, "#java #spring", 2L, "#java", 3L, "#java", 5L, "#jpa");
+        });
+
+        //When
+        sut.rebuild();
+
+        //Then
+        assertThat(sut.search(HashtagQuery.parse("#jpa")).toArray()).containsExactly(5, 6);
+        assertThat(sut.search(HashtagQuery.parse("#java")).toArray()).containsExactly(1, 2);
+    }
+
+    @DisplayName("게시글 ID가 int 범위를 넘으면, 예외 없이 색인을 준비되지 않은 것으로 돌려서 DB로 검색하게 한다.")
+    @Test
+    void givenArticleIdBeyondIntRange_whenIndexing_thenMarksIndexNotReady() {
+        //When
+        sut.index(createArticle(Integer.MAX_VALUE + 1L, "#java"));
+
+        //Then
+        assertThat(sut.isReady()).isFalse();
+        assertThat(sut.search(HashtagQuery.parse("#java")).toArray()).containsExactly(1, 2, 3);
+    }
+
+    private Article createArticle(Long id, String hashtag) {
+        Article article = Article.of(
+                UserAccount.of("vartyor", "password", "varute@gmail.com", "Vartyor", null),
+                "title",
+                "content",
+                hashtag
+        );
+        ReflectionTestUtils.setField(article, "id", id);
+
+        return article;
+    }
+}
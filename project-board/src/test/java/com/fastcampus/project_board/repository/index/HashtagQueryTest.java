@@ -0,0 +1,47 @@
+package com.fastcampus.project_board.repository.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("해시태그 검색식")
+class HashtagQueryTest {
+
+    @DisplayName("검색식을 파싱하면, AND가 OR보다 먼저 묶인 절의 목록이 된다.")
+    @Test
+    void givenQuery_whenParsing_thenReturnsClauses() {
+        //When
+        HashtagQuery query = HashtagQuery.parse("#java AND spring NOT #legacy or #kotlin");
+
+        //Then
+        assertThat(query.clauses()).containsExactly(
+                new HashtagQuery.Clause(Set.of("#java", "#spring"), Set.of("#legacy")),
+                new HashtagQuery.Clause(Set.of("#kotlin"), Set.of())
+        );
+    }
+
+    @DisplayName("포함할 해시태그가 없는 절은 무시한다.")
+    @Test
+    void givenOnlyNegatedHashtag_whenParsing_thenReturnsEmptyQuery() {
+        //When & Then
+        assertThat(HashtagQuery.parse("NOT #legacy").isEmpty()).isTrue();
+        assertThat(HashtagQuery.parse(" ").clauses()).isEqualTo(List.of());
+    }
+
+    @DisplayName("해시태그 집합이 검색식에 걸리는지 확인한다.")
+    @Test
+    void givenHashtags_whenMatching_thenEvaluatesQuery() {
+        //Given
+        HashtagQuery query = HashtagQuery.parse("#java #spring NOT #legacy OR #kotlin");
+
+        //When & Then
+        assertThat(query.matches(Set.of("#java", "#spring"))).isTrue();
+        assertThat(query.matches(Set.of("#java", "#spring", "#legacy"))).isFalse();
+        assertThat(query.matches(Set.of("#kotlin", "#legacy"))).isTrue();
+        assertThat(query.matches(Set.of("#java"))).isFalse();
+    }
+}
@@ -0,0 +1,171 @@
+package com.fastcampus.project_board.repository.index;
+
+import com.fastcampus.project_board.domain.Article;
+import com.fastcampus.project_board.domain.UserAccount;
+import com.fastcampus.project_board.repository.ArticleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("통계 - 해시태그")
+@ExtendWith(MockitoExtension.class)
+class HashtagStatisticsTest {
+
+    // #java 3개, #spring 6개, #boot 3개
+    private static final Map<Long, String> HASHTAGS = Map.of(
+            1L, "#java", 2L, "#java",
+            3L, "#spring", 4L, "#spring", 5L, "#spring", 6L, "#spring",
+            7L, "#boot #java",
+            8L, "#boot #spring", 9L, "#boot #spring"
+    );
+
+    private HashtagStatistics sut;
+    @Mock private ArticleRepository articleRepository;
+
+    @BeforeEach
+    void setUp() {
+        sut = new HashtagStatistics(articleRepository);
+    }
+
+    @DisplayName("테이블로부터 통계를 재구성하면, 게시글이 많은 순(같으면 가나다순)으로 해시태그를 반환한다.")
+    @Test
+    void givenArticleCounts_whenRebuilding_thenReturnsHashtagsByPopularity() {
+        //When
+        rebuild();
+
+        //Then
+        assertThat(sut.isReady()).isTrue();
+        assertThat(sut.getHashtags()).containsExactly("#spring", "#boot", "#java");
+        assertThat(sut.getHashtags(2)).containsExactly("#spring", "#boot");
+        assertThat(sut.getArticleCount("#java")).isEqualTo(3L);
+    }
+
+    @DisplayName("게시글의 해시태그를 바꾸면, 이전 해시태그는 줄고 새 해시태그는 늘며 순위도 바로 바뀐다.")
+    @Test
+    void givenChangedHashtag_whenIndexing_thenMovesCountAndRanking() {
+        //Given
+        rebuild();
+
+        //When
+        sut.index(createArticle(1L, "#jpa"));
+        sut.index(createArticle(10L, "#java"));
+        sut.index(createArticle(11L, "#java"));
+
+        //Then
+        assertThat(sut.getArticleCount("#java")).isEqualTo(4L);
+        assertThat(sut.getArticleCount("#jpa")).isEqualTo(1L);
+        assertThat(sut.getHashtags()).containsExactly("#spring", "#java", "#boot", "#jpa");
+    }
+
+    @DisplayName("해시태그가 여러 개인 게시글을 수정하면, 바뀐 해시태그만 증감한다.")
+    @Test
+    void givenMultipleHashtags_whenIndexing_thenMovesOnlyChangedHashtags() {
+        //Given
+        rebuild();
+
+        //When
+        sut.index(createArticle(7L, "#boot #jpa"));
+
+        //Then
+        assertThat(sut.getArticleCount("#boot")).isEqualTo(3L);
+        assertThat(sut.getArticleCount("#java")).isEqualTo(2L);
+        assertThat(sut.getArticleCount("#jpa")).isEqualTo(1L);
+    }
+
+    @DisplayName("같은 게시글을 같은 해시태그로 다시 반영해도, 두 번 세지 않는다.")
+    @Test
+    void givenSameArticle_whenIndexingTwice_thenCountsOnce() {
+        //Given
+        rebuild();
+
+        //When
+        sut.index(createArticle(1L, "#java"));
+        sut.index(createArticle(10L, "#jpa"));
+        sut.index(createArticle(10L, "#jpa"));
+
+        //Then
+        assertThat(sut.getArticleCount("#java")).isEqualTo(3L);
+        assertThat(sut.getArticleCount("#jpa")).isEqualTo(1L);
+    }
+
+    @DisplayName("해시태그의 마지막 게시글을 삭제하면, 해시태그 목록에서 빠진다.")
+    @Test
+    void givenLastArticleOfHashtag_whenRemoving_thenDropsHashtag() {
+        //Given
+        rebuild();
+        sut.index(createArticle(10L, "#jpa"));
+
+        //When
+        sut.remove(10L);
+
+        //Then
+        assertThat(sut.getHashtags()).doesNotContain("#jpa");
+        assertThat(sut.getArticleCount("#jpa")).isZero();
+    }
+
+    @DisplayName("재구성하는 동안 커밋된 변경은, 테이블에서 이미 읽혔든 아니든 한 번씩만 반영된다.")
+    @Test
+    void givenArticlesSavedDuringRebuild_whenRebuilding_thenCountsEachOnce() {
+        //Given
+        given(articleRepository.findAllHashtags()).willAnswer(invocation -> {
+            sut.index(createArticle(10L, "#jpa"));    // 테이블을 읽기 전에 커밋되어 읽은 값에 들어 있다.
+            sut.index(createArticle(11L, "#kotlin")); // 테이블을 읽은 뒤에 커밋되어 읽은 값에 없다.
+            Map<Long, String> hashtags = new HashMap<>(HASHTAGS);
+            hashtags.put(10L, "#jpa");
+            return hashtags;
+        });
+
+        //When
+        sut.rebuild();
+
+        //Then
+        assertThat(sut.getArticleCount("#jpa")).isEqualTo(1L);
+        assertThat(sut.getArticleCount("#kotlin")).isEqualTo(1L);
+        assertThat(sut.getArticleCount("#java")).isEqualTo(3L);
+    }
+
+    @DisplayName("통계가 바뀌지 않았으면, 인기순 목록을 다시 만들지 않고 그대로 돌려준다.")
+    @Test
+    void givenUnchangedStatistics_whenGettingHashtagsAgain_thenReturnsSameRanking() {
+        //Given
+        rebuild();
+        List<String> first = sut.getHashtags();
+
+        //When
+        List<String> second = sut.getHashtags();
+        sut.index(createArticle(10L, "#jpa"));
+        List<String> changed = sut.getHashtags();
+
+        //Then
+        assertThat(second).isSameAs(first);
+        assertThat(changed).isNotSameAs(first).contains("#jpa");
+    }
+
+    private void rebuild() {
+        given(articleRepository.findAllHashtags()).willReturn(HASHTAGS);
+        sut.rebuild();
+    }
+
+    private Article createArticle(Long id, String hashtag) {
+        Article article = Article.of(
+                UserAccount.of("vartyor", "password", "varute@gmail.com", "Vartyor", null),
+                "title",
+                "content",
+                hashtag
+        );
+        ReflectionTestUtils.setField(article, "id", id);
+
+        return article;
+    }
+}
@@ -1,5 +1,6 @@
 package com.fastcampus.project_board.service;
 
+import com.fastcampus.project_board.DTO.ArticleCommentCursor;
 import com.fastcampus.project_board.DTO.ArticleCommentDto;
 import com.fastcampus.project_board.DTO.UserAccountDto;
 import com.fastcampus.project_board.domain.Article;
@@ -8,12 +9,17 @@ import com.fastcampus.project_board.domain.UserAccount;
 import com.fastcampus.project_board.repository.ArticleCommentRepository;
 import com.fastcampus.project_board.repository.ArticleRepository;
 import com.fastcampus.project_board.repository.UserAccountRepository;
+import com.fastcampus.project_board.service.cache.RenderedPageCache;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import javax.persistence.EntityNotFoundException;
 import java.time.LocalDateTime;
@@ -33,22 +39,43 @@ class ArticleCommentServiceTest {
     @Mock private ArticleRepository articleRepository;
     @Mock private ArticleCommentRepository articleCommentRepository;
     @Mock private UserAccountRepository userAccountRepository;
+    @Mock private RenderedPageCache renderedPageCache;
 
-    @DisplayName("게시글 ID로 조회하면 해당하는 댓글 리스트를 반환한다.")
+    @DisplayName("게시글 ID로 조회하면 해당하는 댓글의 첫 페이지를 반환한다.")
     @Test
     void givenArticleId_whenSearchingComments_thenReturnsComments() {
         //Given
         Long articleId = 1L;
         ArticleComment expected = createArticleComment("content");
-        given(articleCommentRepository.findByArticle_Id(articleId)).willReturn(List.of(expected));
+        given(articleCommentRepository.findFirstPageByArticleId(articleId, Pageable.ofSize(20)))
+                .willReturn(new SliceImpl<>(List.of(expected), Pageable.ofSize(20), true));
 
         //When
-        List<ArticleCommentDto> actual = sut.searchArticleComments(articleId);
+        Slice<ArticleCommentDto> actual = sut.searchArticleComments(articleId, ArticleCommentCursor.first(), 20);
 
         //Then
-        assertThat(actual).hasSize(1)
+        assertThat(actual.hasNext()).isTrue();
+        assertThat(actual.getContent()).hasSize(1)
                 .first().hasFieldOrPropertyWithValue("content", expected.getContent());
-        then(articleCommentRepository).should().findByArticle_Id(articleId);
+        then(articleCommentRepository).should().findFirstPageByArticleId(articleId, Pageable.ofSize(20));
+    }
+
+    @DisplayName("커서와 함께 조회하면, 커서의 댓글 다음부터 반환한다.")
+    @Test
+    void givenCursor_whenSearchingComments_thenReturnsCommentsAfterCursor() {
+        //Given
+        Long articleId = 1L;
+        LocalDateTime createdAt = LocalDateTime.of(2023, 1, 1, 0, 0);
+        ArticleCommentCursor cursor = ArticleCommentCursor.after(createdAt, 10L);
+        given(articleCommentRepository.findPageByArticleIdAfter(articleId, createdAt, 10L, Pageable.ofSize(20)))
+                .willReturn(new SliceImpl<>(List.of()));
+
+        //When
+        Slice<ArticleCommentDto> actual = sut.searchArticleComments(articleId, cursor, 20);
+
+        //Then
+        assertThat(actual).isEmpty();
+        then(articleCommentRepository).should().findPageByArticleIdAfter(articleId, createdAt, 10L, Pageable.ofSize(20));
     }
 
     @DisplayName("댓글 정보를 입력하면 댓글을 저장한다.")
@@ -58,7 +85,7 @@ class ArticleCommentServiceTest {
         ArticleCommentDto dto = createArticleCommentDto("댓글");
         given(articleRepository.getReferenceById(dto.articleId())).willReturn(createArticle());
         given(userAccountRepository.getReferenceById(dto.userAccountDto().userId())).willReturn(createUserAccount());
-        given(articleCommentRepository.save(any(ArticleComment.class))).willReturn(null);
+        given(articleCommentRepository.save(any(ArticleComment.class))).willAnswer(invocation -> invocation.getArgument(0));
 
         //When
         sut.saveArticleComment(dto);
@@ -119,19 +146,22 @@ class ArticleCommentServiceTest {
         then(articleCommentRepository).should().getReferenceById(dto.id());
     }
 
-    @DisplayName("댓글 ID를 입력하면 댓글을 삭제한다.")
+    @DisplayName("댓글 ID를 입력하면 댓글을 삭제하고, 그 댓글이 달린 게시글의 화면 캐시만 무효화한다.")
     @Test
-    void givenArticleCommentId_whenDeletingArticleComment_thenDeletesArticleComment() {
+    void givenArticleCommentId_whenDeletingArticleComment_thenDeletesArticleCommentAndInvalidatesItsArticle() {
         //Given
         Long articleCommentId = 1L;
         String userId = "vartyor";
-        willDoNothing().given(articleCommentRepository).deleteByIdAndUserAccount_UserId(articleCommentId, userId);
+        ArticleComment articleComment = createArticleComment("댓글");
+        ReflectionTestUtils.setField(articleComment.getArticle(), "id", 2L);
+        given(articleCommentRepository.findByIdAndUserAccount_UserId(articleCommentId, userId)).willReturn(Optional.of(articleComment));
 
         //When
         sut.deleteArticleComment(articleCommentId, userId);
 
         //Then
-        then(articleCommentRepository).should().deleteByIdAndUserAccount_UserId(articleCommentId, userId);
+        then(articleCommentRepository).should().bulkDeleteByIdIn(eq(List.of(articleCommentId)), any(LocalDateTime.class));
+        then(renderedPageCache).should().invalidate(2L);
     }
 
     private ArticleCommentDto createArticleCommentDto(String content) {
@@ -0,0 +1,55 @@
+package com.fastcampus.project_board.service;
+
+import com.fastcampus.project_board.repository.JpaRepositoryTest;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("비즈니스 로직 - 게시판 내보내기")
+@Import({JpaRepositoryTest.TestJpaConfig.class, ArticleExportService.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@DataJpaTest
+class ArticleExportServiceTest {
+
+    private final ArticleExportService sut;
+    private final ObjectMapper objectMapper;
+
+    public ArticleExportServiceTest(@Autowired ArticleExportService sut, @Autowired ObjectMapper objectMapper) {
+        this.sut = sut;
+        this.objectMapper = objectMapper;
+    }
+
+    @DisplayName("게시판을 내보내면, 게시글마다 그 댓글을 담아 ID 순으로 한 줄씩 쓴다.")
+    @Test
+    void givenTestData_whenExporting_thenWritesArticleWithCommentsPerLine() throws Exception {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        long exported = sut.exportArticles(out);
+
+        // then
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        assertThat(exported).isEqualTo(123);
+        assertThat(lines).hasSize(123);
+        assertThat(lines).extracting(line -> line.get("id").asLong()).isSorted();
+        assertThat(lines.stream().mapToInt(line -> line.get("articleComments").size()).sum()).isEqualTo(200);
+        assertThat(lines.get(0).has("userPassword")).isFalse();
+    }
+}
@@ -1,27 +1,58 @@
 package com.fastcampus.project_board.service;
 
+import com.fastcampus.project_board.DTO.ArticleCommentCursor;
+import com.fastcampus.project_board.DTO.ArticleCommentDto;
+import com.fastcampus.project_board.DTO.ArticleCursor;
+import com.fastcampus.project_board.DTO.ArticleDetailDto;
 import com.fastcampus.project_board.DTO.ArticleDto;
-import com.fastcampus.project_board.DTO.ArticleWithCommentsDto;
 import com.fastcampus.project_board.DTO.UserAccountDto;
+import com.fastcampus.project_board.config.PageCacheConfig.PageCacheProperties;
+import com.fastcampus.project_board.config.PaginationConfig.PaginationProperties;
 import com.fastcampus.project_board.domain.Article;
 import com.fastcampus.project_board.domain.UserAccount;
+import com.fastcampus.project_board.domain.constant.CountStrategy;
 import com.fastcampus.project_board.domain.constant.SearchType;
+import com.fastcampus.project_board.repository.ArticleCommentRepository;
 import com.fastcampus.project_board.repository.ArticleRepository;
 import com.fastcampus.project_board.repository.UserAccountRepository;
+import com.fastcampus.project_board.repository.index.ArticleCounter;
+import com.fastcampus.project_board.repository.index.ArticleSearchIndex;
+import com.fastcampus.project_board.repository.index.ArticleTimeline;
+import com.fastcampus.project_board.repository.index.ArticleViewCounter;
+import com.fastcampus.project_board.repository.index.HashtagIndex;
+import com.fastcampus.project_board.repository.index.HashtagQuery;
+import com.fastcampus.project_board.repository.index.HashtagStatistics;
+import com.fastcampus.project_board.service.cache.ArticleCountCache;
+import com.fastcampus.project_board.service.cache.ArticleSearchCache;
+import com.fastcampus.project_board.service.cache.RenderedPageCache;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Predicate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.roaringbitmap.RoaringBitmap;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import javax.persistence.EntityNotFoundException;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -33,13 +64,26 @@ class ArticleServiceTest {
 
     @InjectMocks private ArticleService sut;
     @Mock private ArticleRepository articleRepository;
+    @Mock private ArticleCommentRepository articleCommentRepository;
     @Mock private UserAccountRepository userAccountRepository;
+    @Mock private ArticleSearchIndex articleSearchIndex;
+    @Mock private ArticleTimeline articleTimeline;
+    @Mock private HashtagIndex hashtagIndex;
+    @Mock private HashtagStatistics hashtagStatistics;
+    @Mock private ArticleCountCache articleCountCache;
+    @Spy private ArticleSearchCache articleSearchCache = new ArticleSearchCache(new PageCacheProperties(Duration.ofMinutes(5), 200), new SimpleMeterRegistry());
+    @Mock private PaginationProperties paginationProperties;
+    @Mock private ArticleCounter articleCounter;
+    @Mock private ArticleCommentService articleCommentService;
+    @Mock private ArticleViewCounter articleViewCounter;
+    @Mock private RenderedPageCache renderedPageCache;
 
     @DisplayName("검색어 없이 게시글을 검색하면 게시글 페이지를 반환한다.")
     @Test
     void givenNoSearchParameters_whenSearchingArticles_thenReturnsArticlePage() {
         //given
         Pageable pageable = Pageable.ofSize(20);
+        given(paginationProperties.countStrategyOf(null)).willReturn(CountStrategy.EXACT);
         given(articleRepository.findAll(pageable)).willReturn(Page.empty());
 
         //when
@@ -50,6 +94,23 @@ class ArticleServiceTest {
         then(articleRepository).should().findAll(pageable);
     }
 
+    @DisplayName("같은 조건으로 다시 검색하면, 캐시한 게시글 페이지를 반환한다.")
+    @Test
+    void givenCachedSearch_whenSearchingArticlesAgain_thenReturnsCachedPage() {
+        //given
+        Pageable pageable = Pageable.ofSize(20);
+        given(paginationProperties.countStrategyOf(null)).willReturn(CountStrategy.EXACT);
+        given(articleRepository.findAll(pageable)).willReturn(Page.empty());
+        sut.searchArticles(null, null, pageable);
+
+        //when
+        Page<ArticleDto> articles = sut.searchArticles(SearchType.TITLE, "", pageable);
+
+        //then
+        assertThat(articles).isEmpty();
+        then(articleRepository).should(times(1)).findAll(pageable);
+    }
+
     @DisplayName("검색어와 함께 게시글을 검색하면 게시글 페이지를 반환한다.")
     @Test
     void givenSearchParameters_whenSearchingArticles_thenReturnsArticlePage() {
@@ -57,6 +118,7 @@ class ArticleServiceTest {
         SearchType searchType = SearchType.TITLE;
         String keyword = "title";
         Pageable pageable = Pageable.ofSize(20);
+        given(paginationProperties.countStrategyOf(searchType)).willReturn(CountStrategy.EXACT);
         given(articleRepository.findByTitleContaining(keyword,pageable)).willReturn(Page.empty());
 
         //when
@@ -67,70 +129,283 @@ class ArticleServiceTest {
         then(articleRepository).should().findByTitleContaining(keyword, pageable);
     }
 
-    @DisplayName("검색어 없이 해시태그를 검색하면, 빈 페이지를 반환한다.")
+    @DisplayName("검색 색인이 준비되어 있으면, 제목 검색은 색인 후보를 메모리에서 정렬해서 요청한 페이지의 게시글만 조회한다.")
     @Test
-    void givenNoSearchParameters_whenSearchingArticlesViaHashtag_thenReturnsEmptyPage() {
+    void givenSearchIndexReady_whenSearchingArticlesByTitle_thenLoadsOnlyRequestedPage() {
         //given
+        SearchType searchType = SearchType.TITLE;
+        String keyword = "title";
+        Pageable pageable = PageRequest.of(1, 2);
+        Set<Long> articleIds = Set.of(1L, 2L, 3L, 4L);
+        Article first = createArticle();
+        Article second = createArticle();
+        ReflectionTestUtils.setField(second, "id", 2L);
+        given(articleSearchIndex.supports(searchType, keyword)).willReturn(true);
+        given(articleTimeline.supports(pageable.getSort())).willReturn(true);
+        given(articleSearchIndex.search(searchType, keyword)).willReturn(articleIds);
+        given(articleSearchIndex.requiresVerification()).willReturn(false);
+        given(articleTimeline.page(any(LongStream.class), eq(pageable.getSort()), eq(2L), eq(2))).willReturn(List.of(2L, 1L));
+        given(articleRepository.findAllInOrder(List.of(2L, 1L))).willReturn(List.of(second, first));
+
+        //when
+        Page<ArticleDto> articles = sut.searchArticles(searchType, keyword, pageable);
+
+        //then
+        assertThat(articles.getContent()).extracting(ArticleDto::id).containsExactly(2L, 1L);
+        assertThat(articles.getTotalElements()).isEqualTo(4);
+        then(articleRepository).should(never()).findByTitleContaining(keyword, pageable);
+        then(paginationProperties).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("n-gram 색인으로 본문을 검색하면, 정렬한 후보를 앞에서부터 확인해서 페이지와 바에 보일 만큼만 센다.")
+    @Test
+    void givenNGramSearchIndex_whenSearchingArticlesByContent_thenVerifiesCandidatesInOrder() {
+        //given
+        SearchType searchType = SearchType.CONTENT;
+        String keyword = "스프링";
+        Pageable pageable = PageRequest.of(0, 1);
+        Set<Long> candidateIds = Set.of(1L, 2L, 3L);
+        Article first = createArticle();
+        Article third = createArticle();
+        ReflectionTestUtils.setField(third, "id", 3L);
+        given(articleSearchIndex.supports(searchType, keyword)).willReturn(true);
+        given(articleTimeline.supports(pageable.getSort())).willReturn(true);
+        given(articleSearchIndex.search(searchType, keyword)).willReturn(candidateIds);
+        given(articleSearchIndex.requiresVerification()).willReturn(true);
+        given(articleTimeline.sort(candidateIds, pageable.getSort())).willReturn(List.of(3L, 2L, 1L));
+        given(paginationProperties.getLookaheadPages()).willReturn(4);
+        given(articleRepository.findAllByIdInAndContentContaining(List.of(3L, 2L, 1L), keyword)).willReturn(List.of(first, third));
+
+        //when
+        Page<ArticleDto> articles = sut.searchArticles(searchType, keyword, pageable);
+
+        //then
+        assertThat(articles.getContent()).extracting(ArticleDto::id).containsExactly(3L);
+        assertThat(articles.getTotalElements()).isEqualTo(2);
+        then(articleRepository).should(never()).findByContentContaining(keyword, pageable);
+    }
+
+    @DisplayName("작성일시/ID 외의 정렬로 검색하면, 색인을 쓰지 않고 DB에서 검색한다.")
+    @Test
+    void givenUnsupportedSort_whenSearchingArticlesByTitle_thenSearchesDatabase() {
+        //given
+        SearchType searchType = SearchType.TITLE;
+        String keyword = "title";
+        Pageable pageable = PageRequest.of(0, 20, Sort.by("title"));
+        given(articleSearchIndex.supports(searchType, keyword)).willReturn(true);
+        given(articleTimeline.supports(pageable.getSort())).willReturn(false);
+        given(paginationProperties.countStrategyOf(searchType)).willReturn(CountStrategy.EXACT);
+        given(articleRepository.findByTitleContaining(keyword, pageable)).willReturn(Page.empty());
+
+        //when
+        Page<ArticleDto> articles = sut.searchArticles(searchType, keyword, pageable);
+
+        //then
+        assertThat(articles).isEmpty();
+        then(articleSearchIndex).should(never()).search(searchType, keyword);
+    }
+
+    @DisplayName("검색 색인에 일치하는 게시글이 없으면, DB 조회 없이 빈 페이지를 반환한다.")
+    @Test
+    void givenNoMatchInSearchIndex_whenSearchingArticlesByContent_thenReturnsEmptyPage() {
+        //given
+        SearchType searchType = SearchType.CONTENT;
+        String keyword = "nothing";
         Pageable pageable = Pageable.ofSize(20);
+        given(articleSearchIndex.supports(searchType, keyword)).willReturn(true);
+        given(articleTimeline.supports(pageable.getSort())).willReturn(true);
+        given(articleSearchIndex.search(searchType, keyword)).willReturn(Set.of());
 
         //when
-        Page<ArticleDto> articles = sut.searchArticlesViaHashtag(null, pageable); // 제목, 본문, ID, 닉네임, 해시태그
+        Page<ArticleDto> articles = sut.searchArticles(searchType, keyword, pageable);
 
         //then
         assertThat(articles).isEqualTo(Page.empty(pageable));
         then(articleRepository).shouldHaveNoInteractions();
     }
 
-    @DisplayName("게시글을 해시태그 검색하면, 게시글 페이지를 반환한다.")
+    @DisplayName("커서로 게시글을 검색하면, 한 건을 더 읽어서 다음 페이지 여부를 판단한다.")
     @Test
-    void givenHashtag_whenSearchingArticlesViaHashtag_thenReturnsArticlesPage() {
+    void givenCursor_whenSearchingArticlesByKeyset_thenReturnsSliceWithNextFlag() {
+        //given
+        ArticleCursor cursor = ArticleCursor.first();
+        given(articleRepository.findAllByKeyset(new BooleanBuilder(), cursor, 2)).willReturn(List.of(createArticle(), createArticle()));
+
+        //when
+        Slice<ArticleDto> articles = sut.searchArticles(null, null, cursor, 1);
+
+        //then
+        assertThat(articles.getContent()).hasSize(1);
+        assertThat(articles.hasNext()).isTrue();
+        then(articleRepository).should().findAllByKeyset(new BooleanBuilder(), cursor, 2);
+    }
+
+    @DisplayName("SLICE 방식으로 검색하면, count 쿼리 없이 바에 필요한 만큼만 다음 게시글 수를 확인한다.")
+    @Test
+    void givenSliceCountStrategy_whenSearchingArticles_thenCountsOnlyLookaheadPages() {
+        //given
+        SearchType searchType = SearchType.NICKNAME;
+        String keyword = "Vartyor";
+        Pageable pageable = PageRequest.of(0, 1);
+        given(paginationProperties.countStrategyOf(searchType)).willReturn(CountStrategy.SLICE);
+        given(paginationProperties.getLookaheadPages()).willReturn(4);
+        given(articleRepository.findContent(any(Predicate.class), eq(pageable))).willReturn(List.of(createArticle()));
+        given(articleRepository.countUpTo(any(Predicate.class), eq(1L), eq(4L))).willReturn(2L);
+
+        //when
+        Page<ArticleDto> articles = sut.searchArticles(searchType, keyword, pageable);
+
+        //then
+        assertThat(articles.getTotalElements()).isEqualTo(3L);
+        assertThat(articles.getTotalPages()).isEqualTo(3);
+        then(articleRepository).should(never()).count(any(Predicate.class));
+        then(articleRepository).should(never()).findByUserAccount_NicknameContaining(keyword, pageable);
+    }
+
+    @DisplayName("APPROXIMATE 방식으로 검색하면, 캐시한 전체 개수로 페이지를 만든다.")
+    @Test
+    void givenApproximateCountStrategy_whenSearchingArticles_thenUsesCachedCount() {
+        //given
+        Pageable pageable = PageRequest.of(0, 1);
+        given(paginationProperties.countStrategyOf(null)).willReturn(CountStrategy.APPROXIMATE);
+        given(articleRepository.findContent(new BooleanBuilder(), pageable)).willReturn(List.of(createArticle()));
+        given(articleCountCache.get(isNull(), isNull(), any())).willReturn(100L);
+
+        //when
+        Page<ArticleDto> articles = sut.searchArticles(null, null, pageable);
+
+        //then
+        assertThat(articles.getTotalElements()).isEqualTo(100L);
+        then(articleRepository).should(never()).findAll(pageable);
+    }
+
+    @DisplayName("해시태그 검색식으로 검색하면, 비트맵 색인이 찾은 게시글 중 요청한 페이지만 읽고 개수는 비트맵에서 센다.")
+    @Test
+    void givenHashtagQuery_whenSearchingArticlesViaHashtag_thenLoadsOnlyRequestedPageFromBitmapIndex() {
+        //given
+        String query = "#java AND #spring NOT #legacy";
+        Pageable pageable = PageRequest.of(0, 1);
+        Article third = createArticle();
+        ReflectionTestUtils.setField(third, "id", 3L);
+        given(hashtagIndex.isReady()).willReturn(true);
+        given(hashtagIndex.search(HashtagQuery.parse(query))).willReturn(RoaringBitmap.bitmapOf(1, 3));
+        given(articleTimeline.supports(pageable.getSort())).willReturn(true);
+        given(articleTimeline.page(any(LongStream.class), eq(pageable.getSort()), eq(0L), eq(1))).willReturn(List.of(3L));
+        given(articleRepository.findAllInOrder(List.of(3L))).willReturn(List.of(third));
+
+        //when
+        Page<ArticleDto> articles = sut.searchArticlesViaHashtag(query, pageable);
+
+        //then
+        assertThat(articles.getContent()).extracting(ArticleDto::id).containsExactly(3L);
+        assertThat(articles.getTotalElements()).isEqualTo(2L);
+        then(articleRepository).should(never()).findIdsByHashtagQuery(any());
+    }
+
+    @DisplayName("메모리에서 할 수 없는 정렬로 해시태그 검색식을 검색하면, 비트맵의 ID를 청크로 나눠 DB에서 정렬한다.")
+    @Test
+    void givenSortByTitle_whenSearchingArticlesViaHashtag_thenSortsInDatabaseByChunk() {
+        //given
+        String query = "#java";
+        Pageable pageable = PageRequest.of(0, 20, Sort.by("title"));
+        given(hashtagIndex.isReady()).willReturn(true);
+        given(hashtagIndex.search(HashtagQuery.parse(query))).willReturn(RoaringBitmap.bitmapOf(1));
+        given(articleTimeline.supports(pageable.getSort())).willReturn(false);
+        given(articleRepository.findPageByIdIn(any(LongStream.class), eq(pageable))).willReturn(List.of(createArticle()));
+
+        //when
+        Page<ArticleDto> articles = sut.searchArticlesViaHashtag(query, pageable);
+
+        //then
+        assertThat(articles.getContent()).hasSize(1);
+        then(articleTimeline).should(never()).page(any(), any(), anyLong(), anyInt());
+    }
+
+    @DisplayName("해시태그 검색식을 커서로 검색하면, 비트맵에서 커서 다음의 ID만 골라서 읽는다.")
+    @Test
+    void givenHashtagQueryAndCursor_whenSearchingArticlesViaHashtagByKeyset_thenLoadsOnlyNextIds() {
+        //given
+        ArticleCursor cursor = ArticleCursor.after(LocalDateTime.now(), 5L);
+        given(hashtagIndex.isReady()).willReturn(true);
+        given(articleTimeline.isReady()).willReturn(true);
+        given(hashtagIndex.search(HashtagQuery.parse("#java"))).willReturn(RoaringBitmap.bitmapOf(1, 3, 5));
+        given(articleTimeline.after(any(LongStream.class), eq(cursor), eq(2))).willReturn(List.of(3L, 1L));
+        given(articleRepository.findAllInOrder(List.of(3L, 1L))).willReturn(List.of(createArticle(), createArticle()));
+
+        //when
+        Slice<ArticleDto> articles = sut.searchArticlesViaHashtag("#java", cursor, 1);
+
+        //then
+        assertThat(articles.getContent()).hasSize(1);
+        assertThat(articles.hasNext()).isTrue();
+        then(articleRepository).should(never()).findAllByKeyset(any(), any(), anyInt());
+    }
+
+    @DisplayName("이전 커서로 게시글을 검색하면, 최신순으로 뒤집어서 반환한다.")
+    @Test
+    void givenBackwardCursor_whenSearchingArticlesViaHashtagByKeyset_thenReturnsNewestFirst() {
+        //given
+        ArticleCursor cursor = ArticleCursor.before(LocalDateTime.now(), 1L);
+        Article older = createArticle();
+        Article newer = createArticle();
+        ReflectionTestUtils.setField(newer, "id", 2L);
+        given(articleRepository.findIdsByHashtagQuery(HashtagQuery.parse("#java"))).willReturn(List.of(1L, 2L));
+        given(articleRepository.findAllByKeyset(any(), eq(cursor), eq(11))).willReturn(List.of(older, newer));
+
+        //when
+        Slice<ArticleDto> articles = sut.searchArticlesViaHashtag("#java", cursor, 10);
+
+        //then
+        assertThat(articles.getContent()).extracting(ArticleDto::id).containsExactly(2L, 1L);
+        assertThat(articles.hasNext()).isFalse();
+    }
+
+    @DisplayName("검색어 없이 해시태그를 검색하면, 빈 페이지를 반환한다.")
+    @Test
+    void givenNoSearchParameters_whenSearchingArticlesViaHashtag_thenReturnsEmptyPage() {
         //given
-        String hashtag = "#java";
         Pageable pageable = Pageable.ofSize(20);
-        given(articleRepository.findByHashtag(hashtag, pageable)).willReturn(Page.empty(pageable));
 
         //when
-        Page<ArticleDto> articles = sut.searchArticlesViaHashtag(hashtag, pageable); // 제목, 본문, ID, 닉네임, 해시태그
+        Page<ArticleDto> articles = sut.searchArticlesViaHashtag(null, pageable); // 제목, 본문, ID, 닉네임, 해시태그
 
         //then
         assertThat(articles).isEqualTo(Page.empty(pageable));
-        then(articleRepository).should().findByHashtag(hashtag, pageable);
+        then(articleRepository).shouldHaveNoInteractions();
     }
 
-    @DisplayName("게시글 ID로 조회하면 댓글 달린 게시글을 반환한다.")
+    @DisplayName("해시태그 색인이 준비되기 전에 해시태그 검색하면, DB에서 검색식에 걸리는 ID를 구해서 그 게시글의 페이지를 반환한다.")
     @Test
-    void givenArticleId_whenSearchingArticleWithComments_thenReturnsArticleWithComments() {
+    void givenIndexNotReady_whenSearchingArticlesViaHashtag_thenReturnsPageOfMatchingIds() {
         //given
-        Long articleId = 1L;
-        Article article = createArticle();
-        given(articleRepository.findById(articleId)).willReturn(Optional.of(article));
+        String hashtag = "#java";
+        Pageable pageable = Pageable.ofSize(20);
+        given(articleRepository.findIdsByHashtagQuery(HashtagQuery.parse(hashtag))).willReturn(List.of(1L, 3L));
+        given(articleRepository.findPageByIdIn(any(LongStream.class), eq(pageable))).willReturn(List.of(createArticle()));
 
         //when
-        ArticleWithCommentsDto dto = sut.getArticleWithComments(articleId); // 제목, 본문, ID, 닉네임, 해시태그
+        Page<ArticleDto> articles = sut.searchArticlesViaHashtag(hashtag, pageable); // 제목, 본문, ID, 닉네임, 해시태그
 
         //then
-        assertThat(dto)
-                .hasFieldOrPropertyWithValue("title", article.getTitle())
-                .hasFieldOrPropertyWithValue("content", article.getContent())
-                .hasFieldOrPropertyWithValue("hashtag", article.getHashtag());
-        then(articleRepository).should().findById(articleId);
+        assertThat(articles.getContent()).hasSize(1);
+        assertThat(articles.getTotalElements()).isEqualTo(2L);
+        then(articleRepository).should(never()).findByHashtag(any(), any());
     }
 
-    @DisplayName("댓글 달린 게시글이 없으면 예외를 던진다.")
+    @DisplayName("해시태그 색인이 준비되기 전에 걸리는 게시글이 없으면, 게시글을 읽지 않고 빈 페이지를 반환한다.")
     @Test
-    void givenNonexistentArticleId_whenSearchingArticleWithComments_thenThrowsException() {
+    void givenIndexNotReadyAndNoMatchingIds_whenSearchingArticlesViaHashtag_thenReturnsEmptyPage() {
         //given
-        Long articleId = 0L;
-        given(articleRepository.findById(articleId)).willReturn(Optional.empty());
+        String hashtag = "#java";
+        Pageable pageable = Pageable.ofSize(20);
+        given(articleRepository.findIdsByHashtagQuery(HashtagQuery.parse(hashtag))).willReturn(List.of());
 
         //when
-        Throwable t = catchThrowable(() -> sut.getArticleWithComments(articleId));
+        Page<ArticleDto> articles = sut.searchArticlesViaHashtag(hashtag, pageable);
 
         //then
-        assertThat(t)
-                .isInstanceOf(EntityNotFoundException.class)
-                .hasMessage("게시글이 없습니다 - articleId: " + articleId);
-        then(articleRepository).should().findById(articleId);
+        assertThat(articles).isEqualTo(Page.empty(pageable));
+        then(articleRepository).should(never()).findPageByIdIn(any(), any());
     }
 
     @DisplayName("게시글을 조회하면 게시글을 반환한다.")
@@ -169,6 +444,23 @@ class ArticleServiceTest {
         then(articleRepository).should().findById(articleId);
     }
 
+    @DisplayName("게시글 ID 여러 개로 조회하면, IN 조회 한 번으로 찾은 게시글만 ID별로 반환한다.")
+    @Test
+    void givenArticleIds_whenSearchingArticles_thenReturnsFoundArticlesById() {
+        //given
+        Article first = createArticle();
+        Article second = createArticle();
+        ReflectionTestUtils.setField(second, "id", 2L);
+        given(articleRepository.findAllByIdIn(List.of(2L, 1L, 3L))).willReturn(List.of(first, second));
+
+        //when
+        Map<Long, ArticleDto> articles = sut.getArticles(List.of(2L, 1L, 3L));
+
+        //then
+        assertThat(articles).containsOnlyKeys(1L, 2L);
+        then(articleRepository).should().findAllByIdIn(List.of(2L, 1L, 3L));
+    }
+
     @DisplayName("게시글 정보를 입력하면 게시글을 생성한다.")
     @Test
     void givenArticleInfo_whenSavingArticle_thenSavesArticle() {
@@ -183,28 +475,90 @@ class ArticleServiceTest {
         //Then
         then(userAccountRepository).should().getReferenceById(dto.userAccountDto().userId());
         then(articleRepository).should().save(any(Article.class)); // 세이브 대상의 article에서 save()를 한번 호출했는가(any(Article.class))를 검사
+        then(articleSearchIndex).should().index(any(Article.class));
+        then(articleTimeline).should().add(any(Article.class));
+        then(hashtagIndex).should().index(any(Article.class));
+        then(hashtagStatistics).should().index(any(Article.class));
+        then(articleCounter).should().increment();
     } // 여러 개의 레이어를 거쳐서 테스트한다(Unit Test 중에서 Sociable Test).
       // 해당 테스트는 Persistence Layer(데이터베이스)까지 가지 않는 Solitary Test이다.
 
-    @DisplayName("게시글의 수정 정보를 입력하면 게시글을 수정한다.")
+    @DisplayName("게시글의 수정 정보를 입력하면, 작성자를 읽지 않고 조건부 UPDATE로 게시글을 수정한다.")
     @Test
     void givenModifiedInfo_whenUpdatingArticle_thenUpdatesArticle() {
         //Given
         Article article = createArticle();
         ArticleDto dto = createArticleDto("새 타이틀", "새 내용", "#springboot");
-        given(articleRepository.getReferenceById(dto.id())).willReturn(article);
-        given(userAccountRepository.getReferenceById(dto.userAccountDto().userId())).willReturn(dto.userAccountDto().toEntity());
+        String userId = dto.userAccountDto().userId();
+        given(articleRepository.findById(dto.id())).willReturn(Optional.of(article));
+        given(articleRepository.updateIfOwned(article, 0L, userId, dto.title(), dto.content(), dto.hashtag())).willReturn(1L);
 
         //When
         sut.updateArticle(dto.id(), dto);
 
         //Then
-        assertThat(article)
-                .hasFieldOrPropertyWithValue("title", dto.title())
-                .hasFieldOrPropertyWithValue("content", dto.content())
-                .hasFieldOrPropertyWithValue("hashtag", dto.hashtag());
-        then(articleRepository).should().getReferenceById(dto.id());
-        then(userAccountRepository).should().getReferenceById(dto.userAccountDto().userId());
+        then(articleRepository).should().updateIfOwned(article, 0L, userId, dto.title(), dto.content(), dto.hashtag());
+        then(userAccountRepository).shouldHaveNoInteractions();
+        then(articleSearchIndex).should().index(article);
+        then(hashtagStatistics).should().index(article);
+    }
+
+    @DisplayName("게시글을 읽은 뒤 다른 수정이 먼저 커밋되었으면, 기다리지 않고 충돌 예외를 던진다.")
+    @Test
+    void givenConcurrentlyModifiedArticle_whenUpdatingArticle_thenThrowsConflict() {
+        //Given
+        Article article = createArticle();
+        ArticleDto dto = createArticleDto("새 타이틀", "새 내용", "#springboot");
+        String userId = dto.userAccountDto().userId();
+        given(articleRepository.findById(dto.id())).willReturn(Optional.of(article));
+        given(articleRepository.updateIfOwned(article, 0L, userId, dto.title(), dto.content(), dto.hashtag())).willReturn(0L);
+        given(articleRepository.existsByIdAndUserAccount_UserId(dto.id(), userId)).willReturn(true);
+
+        //When
+        Throwable t = catchThrowable(() -> sut.updateArticle(dto.id(), dto));
+
+        //Then
+        assertThat(t).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        then(articleSearchIndex).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("수정 폼을 연 뒤 다른 수정이 먼저 커밋되었으면, 폼의 버전으로 조건부 UPDATE를 해서 충돌 예외를 던진다.")
+    @Test
+    void givenStaleFormVersion_whenUpdatingArticle_thenUpdatesWithFormVersionAndThrowsConflict() {
+        //Given
+        Long articleId = 1L;
+        Article article = createArticle(); // 지금 읽은 게시글은 버전 0
+        ArticleDto dto = ArticleDto.of(createUserAccountDto(), "새 타이틀", "새 내용", "#springboot", 3L);
+        String userId = dto.userAccountDto().userId();
+        given(articleRepository.findById(articleId)).willReturn(Optional.of(article));
+        given(articleRepository.updateIfOwned(article, 3L, userId, dto.title(), dto.content(), dto.hashtag())).willReturn(0L);
+        given(articleRepository.existsByIdAndUserAccount_UserId(articleId, userId)).willReturn(true);
+
+        //When
+        Throwable t = catchThrowable(() -> sut.updateArticle(articleId, dto));
+
+        //Then
+        assertThat(t).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        then(articleRepository).should().updateIfOwned(article, 3L, userId, dto.title(), dto.content(), dto.hashtag());
+    }
+
+    @DisplayName("다른 사용자의 게시글을 수정하려 하면, 아무 것도 하지 않는다.")
+    @Test
+    void givenOthersArticle_whenUpdatingArticle_thenDoesNothing() {
+        //Given
+        Article article = createArticle();
+        ArticleDto dto = createArticleDto("새 타이틀", "새 내용", "#springboot");
+        String userId = dto.userAccountDto().userId();
+        given(articleRepository.findById(dto.id())).willReturn(Optional.of(article));
+        given(articleRepository.updateIfOwned(article, 0L, userId, dto.title(), dto.content(), dto.hashtag())).willReturn(0L);
+        given(articleRepository.existsByIdAndUserAccount_UserId(dto.id(), userId)).willReturn(false);
+
+        //When
+        sut.updateArticle(dto.id(), dto);
+
+        //Then
+        then(articleSearchIndex).shouldHaveNoInteractions();
+        then(renderedPageCache).shouldHaveNoInteractions();
     }
 
     @DisplayName("없는 게시글의 수정 정보를 입력하면 경고 로그를 찍고 아무 것도 하지 않는다.")
@@ -212,28 +566,71 @@ class ArticleServiceTest {
     void givenNonexistentArticleInfo_whenUpdatingArticle_thenLogsWarningAndDoesNothing() {
         //Given
         ArticleDto dto = createArticleDto("새 타이틀", "새 내용", "새 해시태그");
-        given(articleRepository.getReferenceById(dto.id())).willThrow(EntityNotFoundException.class);
+        given(articleRepository.findById(dto.id())).willReturn(Optional.empty());
 
         //When
         sut.updateArticle(dto.id(), dto);
 
         //Then
-        then(articleRepository).should().getReferenceById(dto.id());
+        then(articleRepository).should().findById(dto.id());
+        then(articleRepository).shouldHaveNoMoreInteractions();
     }
 
-    @DisplayName("게시글의 ID를 입력하면 게시글을 삭제한다.")
+    @DisplayName("게시글의 ID를 입력하면, 댓글과 게시글을 각각 한 번의 삭제 쿼리로 지운다.")
     @Test
     void givenArticleId_whenDeletingArticle_thenDeletesArticle() {
         //Given
         Long articleId = 1L;
         String userId = "vartyor";
-        willDoNothing().given(articleRepository).deleteByIdAndUserAccount_UserId(articleId, userId); // 아무 일도 하지 않는 코드적 명시
+        given(articleRepository.findForDeleteByIdAndUserAccount_UserId(articleId, userId)).willReturn(Optional.of(createArticle()));
 
         //When
         sut.deleteArticle(1L, userId);
 
         //Then
-        then(articleRepository).should().deleteByIdAndUserAccount_UserId(articleId, userId);
+        then(articleCommentRepository).should().bulkDeleteByArticleIdIn(eq(List.of(articleId)), any(LocalDateTime.class));
+        then(articleRepository).should().bulkDeleteByIdIn(eq(List.of(articleId)), any(LocalDateTime.class));
+        then(articleSearchIndex).should().remove(articleId);
+        then(articleTimeline).should().remove(articleId);
+        then(hashtagIndex).should().remove(articleId);
+        then(hashtagStatistics).should().remove(articleId);
+        then(articleCounter).should().decrement();
+    }
+
+    @DisplayName("다른 사용자의 게시글을 삭제하려 하면, 아무것도 지우지 않는다.")
+    @Test
+    void givenOthersArticleId_whenDeletingArticle_thenDeletesNothing() {
+        //Given
+        Long articleId = 1L;
+        String userId = "other";
+        given(articleRepository.findForDeleteByIdAndUserAccount_UserId(articleId, userId)).willReturn(Optional.empty());
+
+        //When
+        sut.deleteArticle(articleId, userId);
+
+        //Then
+        then(articleCommentRepository).shouldHaveNoInteractions();
+        then(articleRepository).should(never()).bulkDeleteByIdIn(any(), any());
+        then(articleCounter).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("모더레이터가 게시글 ID 목록을 입력하면, 작성자와 상관없이 잠근 게시글과 그 댓글을 한 번에 지운다.")
+    @Test
+    void givenArticleIds_whenDeletingArticles_thenDeletesLockedArticlesWithComments() {
+        //Given
+        Article article = createArticle();
+        given(articleRepository.findAllForDeleteByIdIn(List.of(1L, 2L))).willReturn(List.of(article)); // 2번은 그사이 지워졌다.
+        given(articleRepository.bulkDeleteByIdIn(eq(List.of(1L)), any(LocalDateTime.class))).willReturn(1);
+
+        //When
+        int deleted = sut.deleteArticles(List.of(1L, 2L));
+
+        //Then
+        assertThat(deleted).isEqualTo(1);
+        then(articleCommentRepository).should().bulkDeleteByArticleIdIn(eq(List.of(1L)), any(LocalDateTime.class));
+        then(articleSearchIndex).should().remove(1L);
+        then(articleCounter).should(times(1)).decrement();
+        then(articleSearchCache).should().evictAll();
     }
 
     @DisplayName("게시글 수를 조회하면, 게시글 수를 반환한다.")
@@ -250,6 +647,59 @@ class ArticleServiceTest {
         then(articleRepository).should().count();
     }
 
+    @DisplayName("게시글 카운터가 준비되면, count 쿼리 없이 카운터의 게시글 수를 반환한다.")
+    @Test
+    void givenReadyArticleCounter_whenCountingArticles_thenReturnsCounterValue() {
+        //Given
+        given(articleCounter.isReady()).willReturn(true);
+        given(articleCounter.get()).willReturn(123L);
+
+        //When
+        long actual = sut.getArticleCount();
+
+        //Then
+        assertThat(actual).isEqualTo(123L);
+        then(articleRepository).should(never()).count();
+    }
+
+    @DisplayName("게시글 상세를 조회하면, 게시글과 댓글 한 페이지, 전체 게시글 수를 함께 반환한다.")
+    @Test
+    void givenArticleId_whenSearchingArticleDetail_thenReturnsArticleWithCommentPageAndCount() {
+        //Given
+        Long articleId = 1L;
+        ArticleCommentCursor cursor = ArticleCommentCursor.first();
+        Slice<ArticleCommentDto> articleComments = new SliceImpl<>(List.of());
+        given(articleRepository.findById(articleId)).willReturn(Optional.of(createArticle()));
+        given(articleCommentService.searchArticleComments(articleId, cursor, 20)).willReturn(articleComments);
+        given(articleCounter.isReady()).willReturn(true);
+        given(articleCounter.get()).willReturn(123L);
+
+        //When
+        ArticleDetailDto actual = sut.getArticleDetail(articleId, cursor, 20);
+
+        //Then
+        assertThat(actual.article()).hasFieldOrPropertyWithValue("title", "title");
+        assertThat(actual.articleComments()).isSameAs(articleComments);
+        assertThat(actual.totalCount()).isEqualTo(123L);
+        then(articleViewCounter).should().increment(articleId);
+    }
+
+    @DisplayName("해시태그 통계가 준비되면, DB를 조회하지 않고 통계에서 해시태그 리스트를 반환한다.")
+    @Test
+    void givenReadyHashtagStatistics_whenCalling_thenReturnsHashtagsFromStatistics(){
+        //Given
+        List<String> expectedHashtags = List.of("#spring", "#java");
+        given(hashtagStatistics.isReady()).willReturn(true);
+        given(hashtagStatistics.getHashtags()).willReturn(expectedHashtags);
+
+        //When
+        List<String> actualHashtags = sut.getHashtags();
+
+        //Then
+        assertThat(actualHashtags).isEqualTo(expectedHashtags);
+        then(articleRepository).shouldHaveNoInteractions();
+    }
+
     @DisplayName("해시태그를 조회하면, 유니크 해시태그 리스트를 반환한다.")
     @Test
     void givenNothing_whenCalling_thenReturnsHashtags(){
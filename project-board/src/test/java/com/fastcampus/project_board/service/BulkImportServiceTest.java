@@ -0,0 +1,160 @@
+package com.fastcampus.project_board.service;
+
+import com.fastcampus.project_board.DTO.ArticleCommentDto;
+import com.fastcampus.project_board.DTO.ArticleDto;
+import com.fastcampus.project_board.DTO.request.ArticleCommentImportRow;
+import com.fastcampus.project_board.DTO.request.ArticleImportRow;
+import com.fastcampus.project_board.DTO.response.BulkImportResponse;
+import com.fastcampus.project_board.config.BulkImportConfig.BulkImportProperties;
+import com.fastcampus.project_board.domain.UserAccount;
+import com.fastcampus.project_board.repository.ArticleRepository;
+import com.fastcampus.project_board.repository.UserAccountRepository;
+import com.fastcampus.project_board.service.importer.ImportRowReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 대량 등록")
+@ExtendWith(MockitoExtension.class)
+class BulkImportServiceTest {
+
+    private BulkImportService sut;
+
+    @Mock private ArticleService articleService;
+    @Mock private ArticleCommentService articleCommentService;
+    @Mock private ArticleRepository articleRepository;
+    @Mock private UserAccountRepository userAccountRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    void setUp() {
+        sut = new BulkImportService(
+                articleService,
+                articleCommentService,
+                articleRepository,
+                userAccountRepository,
+                new BulkImportProperties(2, 10),
+                new SimpleMeterRegistry()
+        );
+    }
+
+    @DisplayName("게시글을 대량 등록하면, 청크 단위로 저장하고 작성자 존재 여부는 처음 볼 때만 조회한다.")
+    @Test
+    void givenArticleRows_whenImporting_thenSavesInChunksAndCachesUsers() throws IOException {
+        //Given
+        String body = """
+                {"userId":"vartyor","title":"t1","content":"c1"}
+                {"userId":"vartyor","title":"t2","content":"c2"}
+                {"userId":"vartyor","title":"t3","content":"c3"}
+                """;
+        given(userAccountRepository.findAllById(anyCollection())).willReturn(List.of(createUserAccount("vartyor")));
+        given(articleService.saveArticles(anyList())).willAnswer(invocation -> invocation.<List<ArticleDto>>getArgument(0).size());
+
+        //When
+        BulkImportResponse response = sut.importArticles(articleReader(body));
+
+        //Then
+        assertThat(response.imported()).isEqualTo(3);
+        assertThat(response.rejected()).isZero();
+        then(articleService).should(times(2)).saveArticles(anyList()); // 2개 + 1개
+        then(userAccountRepository).should(times(1)).findAllById(anyCollection());
+    }
+
+    @DisplayName("작성자가 없거나 제목이 빈 행은, 줄 번호와 이유를 남기고 건너뛴다.")
+    @Test
+    void givenInvalidArticleRows_whenImporting_thenRejectsThemWithLineNumbers() throws IOException {
+        //Given
+        String body = """
+                {"userId":"vartyor","title":"t1","content":"c1"}
+                {"userId":"nobody","title":"t2","content":"c2"}
+                {"userId":"vartyor","title":" ","content":"c3"}
+                """;
+        given(userAccountRepository.findAllById(anyCollection())).willReturn(List.of(createUserAccount("vartyor")));
+        given(articleService.saveArticles(anyList())).willAnswer(invocation -> invocation.<List<ArticleDto>>getArgument(0).size());
+
+        //When
+        BulkImportResponse response = sut.importArticles(articleReader(body));
+
+        //Then
+        assertThat(response.imported()).isEqualTo(1);
+        assertThat(response.rejected()).isEqualTo(2);
+        assertThat(response.rejections())
+                .extracting(BulkImportResponse.Rejection::line)
+                .containsExactlyInAnyOrder(2L, 3L);
+    }
+
+    @DisplayName("청크 저장에 실패하면, 그 청크의 행을 모두 거절하고 다음 청크를 계속 등록한다.")
+    @Test
+    void givenFailingChunk_whenImportingComments_thenRejectsChunkAndContinues() throws IOException {
+        //Given
+        String body = """
+                {"articleId":1,"userId":"vartyor","content":"c1"}
+                {"articleId":1,"userId":"vartyor","content":"c2"}
+                {"articleId":1,"userId":"vartyor","content":"c3"}
+                """;
+        given(userAccountRepository.findAllById(anyCollection())).willReturn(List.of(createUserAccount("vartyor")));
+        given(articleRepository.findIdsByIdIn(anyCollection())).willReturn(List.of(1L));
+        given(articleCommentService.saveArticleComments(anyList()))
+                .willThrow(new DataIntegrityViolationException("constraint"))
+                .willAnswer(invocation -> invocation.<List<ArticleCommentDto>>getArgument(0).size());
+
+        //When
+        BulkImportResponse response = sut.importArticleComments(
+                ImportRowReader.of(ImportRowReader.NDJSON, new StringReader(body), objectMapper, ArticleCommentImportRow.class)
+        );
+
+        //Then
+        assertThat(response.imported()).isEqualTo(1);
+        assertThat(response.rejected()).isEqualTo(2);
+        assertThat(response.rejections())
+                .extracting(BulkImportResponse.Rejection::line)
+                .containsExactly(1L, 2L);
+    }
+
+    @DisplayName("CSV의 따옴표가 닫히지 않았으면, 앞에서 저장한 청크는 그대로 두고 그 줄을 거절한 결과를 반환한다.")
+    @Test
+    void givenCsvWithUnclosedQuote_whenImporting_thenReturnsPartialResult() throws IOException {
+        //Given
+        String body = "userId,title,content\n" +
+                "vartyor,t1,c1\n" +
+                "vartyor,t2,c2\n" +
+                "vartyor,\"t3,c3\n";
+        given(userAccountRepository.findAllById(anyCollection())).willReturn(List.of(createUserAccount("vartyor")));
+        given(articleService.saveArticles(anyList())).willAnswer(invocation -> invocation.<List<ArticleDto>>getArgument(0).size());
+
+        //When
+        BulkImportResponse response = sut.importArticles(
+                ImportRowReader.of(ImportRowReader.CSV, new StringReader(body), objectMapper, ArticleImportRow.class)
+        );
+
+        //Then
+        assertThat(response.imported()).isEqualTo(2);
+        assertThat(response.rejected()).isEqualTo(1);
+        assertThat(response.rejections())
+                .extracting(BulkImportResponse.Rejection::line)
+                .containsExactly(4L);
+    }
+
+    private ImportRowReader<ArticleImportRow> articleReader(String body) {
+        return ImportRowReader.of(ImportRowReader.NDJSON, new StringReader(body), objectMapper, ArticleImportRow.class);
+    }
+
+    private UserAccount createUserAccount(String userId) {
+        return UserAccount.of(userId, "password", "varute@gmail.com", "Vartyor", null);
+    }
+}
@@ -0,0 +1,82 @@
+package com.fastcampus.project_board.service;
+
+import com.fastcampus.project_board.DTO.ArticleChangeDto;
+import com.fastcampus.project_board.DTO.ArticleCommentChangeDto;
+import com.fastcampus.project_board.DTO.ChangeFeedCursor;
+import com.fastcampus.project_board.DTO.ChangeFeedCursor.Position;
+import com.fastcampus.project_board.DTO.response.ChangeFeedResponse;
+import com.fastcampus.project_board.config.ChangeFeedConfig.ChangeFeedProperties;
+import com.fastcampus.project_board.repository.ChangeFeedRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 변경 피드")
+@ExtendWith(MockitoExtension.class)
+class ChangeFeedServiceTest {
+
+    private static final LocalDateTime MODIFIED_AT = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    private ChangeFeedService sut;
+    @Mock private ChangeFeedRepository changeFeedRepository;
+
+    @BeforeEach
+    void setUp() {
+        sut = new ChangeFeedService(changeFeedRepository, new ChangeFeedProperties(Duration.ofSeconds(5), 2));
+    }
+
+    @DisplayName("바뀐 게시글이 한 페이지보다 많으면, 한 페이지만 담고 마지막 게시글 위치를 다음 커서에 담는다.")
+    @Test
+    void givenMoreChangesThanPageSize_whenReadingChanges_thenReturnsPageAndNextCursor() {
+        // Given
+        given(changeFeedRepository.findArticleChanges(eq(Position.FIRST), any(), eq(3))).willReturn(List.of(
+                articleChange(1L, false), articleChange(2L, true), articleChange(3L, false)
+        ));
+        given(changeFeedRepository.findArticleCommentChanges(eq(Position.FIRST), any(), eq(3))).willReturn(List.of());
+
+        // When
+        ChangeFeedResponse result = sut.getChanges(ChangeFeedCursor.first(), 10);
+
+        // Then
+        assertThat(result.articles()).extracting(ArticleChangeDto::id).containsExactly(1L, 2L);
+        assertThat(result.articles().get(1)).hasFieldOrPropertyWithValue("deleted", true).hasFieldOrPropertyWithValue("content", null);
+        assertThat(result.hasMore()).isTrue();
+        assertThat(ChangeFeedCursor.decode(result.cursor()))
+                .isEqualTo(ChangeFeedCursor.of(Position.of(MODIFIED_AT, 2L), Position.FIRST));
+    }
+
+    @DisplayName("바뀐 것이 없으면, 받은 커서 위치를 그대로 돌려준다.")
+    @Test
+    void givenNoChanges_whenReadingChanges_thenKeepsCursorPosition() {
+        // Given
+        ChangeFeedCursor cursor = ChangeFeedCursor.of(Position.of(MODIFIED_AT, 2L), Position.of(MODIFIED_AT, 7L));
+        given(changeFeedRepository.findArticleChanges(eq(cursor.article()), any(), anyInt())).willReturn(List.of());
+        given(changeFeedRepository.findArticleCommentChanges(eq(cursor.articleComment()), any(), anyInt())).willReturn(List.of(
+                ArticleCommentChangeDto.of(8L, 1L, "vartyor", "comment", MODIFIED_AT, MODIFIED_AT.plusSeconds(1), false)
+        ));
+
+        // When
+        ChangeFeedResponse result = sut.getChanges(ChangeFeedCursor.decode(cursor.encode()), 10);
+
+        // Then
+        assertThat(result.articles()).isEmpty();
+        assertThat(result.hasMore()).isFalse();
+        assertThat(ChangeFeedCursor.decode(result.cursor()))
+                .isEqualTo(ChangeFeedCursor.of(cursor.article(), Position.of(MODIFIED_AT.plusSeconds(1), 8L)));
+    }
+
+    private static ArticleChangeDto articleChange(Long id, boolean deleted) {
+        return ArticleChangeDto.of(id, "vartyor", "title", "content", "#java", MODIFIED_AT, MODIFIED_AT, deleted);
+    }
+}
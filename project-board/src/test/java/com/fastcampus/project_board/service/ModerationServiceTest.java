@@ -0,0 +1,50 @@
+package com.fastcampus.project_board.service;
+
+import com.fastcampus.project_board.DTO.response.ModerationResponse;
+import com.fastcampus.project_board.config.ModerationConfig.ModerationProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 모더레이션")
+@ExtendWith(MockitoExtension.class)
+class ModerationServiceTest {
+
+    private ModerationService sut;
+    @Mock private ArticleService articleService;
+    @Mock private ArticleCommentService articleCommentService;
+
+    @BeforeEach
+    void setUp() {
+        sut = new ModerationService(articleService, articleCommentService, new ModerationProperties(Set.of(), 2));
+    }
+
+    @DisplayName("사용자 ID를 입력하면, 댓글과 게시글을 청크 단위로 남은 것이 없을 때까지 지운다.")
+    @Test
+    void givenUserId_whenDeletingContents_thenDeletesInChunksUntilNothingLeft() {
+        // Given
+        String userId = "spammer";
+        given(articleCommentService.findArticleCommentIdsOf(userId, 2)).willReturn(List.of(1L, 2L), List.of(3L), List.of());
+        given(articleCommentService.deleteArticleComments(List.of(1L, 2L))).willReturn(2);
+        given(articleCommentService.deleteArticleComments(List.of(3L))).willReturn(1);
+        given(articleService.findArticleIdsOf(userId, 2)).willReturn(List.of(10L, 11L), List.of());
+        given(articleService.deleteArticles(List.of(10L, 11L))).willReturn(2);
+
+        // When
+        ModerationResponse result = sut.deleteContentsOf(userId);
+
+        // Then
+        assertThat(result).isEqualTo(ModerationResponse.of(userId, 2, 3));
+        then(articleCommentService).should(times(2)).deleteArticleComments(anyCollection());
+        then(articleService).should(times(1)).deleteArticles(anyCollection());
+    }
+}
@@ -1,5 +1,8 @@
 package com.fastcampus.project_board.service;
 
+import com.fastcampus.project_board.DTO.ArticleCursor;
+import com.fastcampus.project_board.DTO.response.ArticleResponse;
+import com.fastcampus.project_board.DTO.response.CursorNavigation;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -7,7 +10,10 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -65,4 +71,38 @@ class PaginationServiceTest {
         assertThat(barLength).isEqualTo(5);
     }
 
+    @DisplayName("커서 첫 페이지에 다음 게시글이 있으면, 다음 커서만 만들어준다.")
+    @Test
+    void givenFirstCursorPageWithMore_whenCalculating_thenReturnsNextCursorOnly(){
+        //Given
+        ArticleResponse newest = createArticleResponse(3L, LocalDateTime.of(2023, 1, 3, 0, 0));
+        ArticleResponse oldest = createArticleResponse(2L, LocalDateTime.of(2023, 1, 2, 0, 0));
+
+        //When
+        CursorNavigation actual = sut.getCursorNavigation(ArticleCursor.first(), new SliceImpl<>(List.of(newest, oldest), Pageable.ofSize(2), true));
+
+        //Then
+        assertThat(actual.previousCursor()).isNull();
+        assertThat(ArticleCursor.decode(actual.nextCursor())).isEqualTo(ArticleCursor.after(oldest.createdAt(), oldest.id()));
+    }
+
+    @DisplayName("이전 커서로 맨 앞 페이지에 도달하면, 이전 커서 없이 다음 커서만 만들어준다.")
+    @Test
+    void givenBackwardCursorReachingNewest_whenCalculating_thenReturnsNextCursorOnly(){
+        //Given
+        ArticleResponse newest = createArticleResponse(3L, LocalDateTime.of(2023, 1, 3, 0, 0));
+        ArticleCursor cursor = ArticleCursor.before(LocalDateTime.of(2023, 1, 2, 0, 0), 2L);
+
+        //When
+        CursorNavigation actual = sut.getCursorNavigation(cursor, new SliceImpl<>(List.of(newest), Pageable.ofSize(2), false));
+
+        //Then
+        assertThat(actual.hasPrevious()).isFalse();
+        assertThat(ArticleCursor.decode(actual.nextCursor())).isEqualTo(ArticleCursor.after(newest.createdAt(), newest.id()));
+    }
+
+    private ArticleResponse createArticleResponse(Long id, LocalDateTime createdAt) {
+        return ArticleResponse.of(id, "title", "content", "#java", createdAt, "varute@gmail.com", "Vartyor", "vartyor");
+    }
+
 }
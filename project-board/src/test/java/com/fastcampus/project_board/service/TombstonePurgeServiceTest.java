@@ -0,0 +1,76 @@
+package com.fastcampus.project_board.service;
+
+import com.fastcampus.project_board.config.TombstonePurgeConfig.TombstonePurgeProperties;
+import com.fastcampus.project_board.repository.ArticleCommentRepository;
+import com.fastcampus.project_board.repository.ArticleRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - tombstone 정리")
+@ExtendWith(MockitoExtension.class)
+class TombstonePurgeServiceTest {
+
+    private TombstonePurgeService sut;
+    private SimpleMeterRegistry meterRegistry;
+    @Mock private ArticleRepository articleRepository;
+    @Mock private ArticleCommentRepository articleCommentRepository;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new TombstonePurgeService(articleRepository, articleCommentRepository, new TombstonePurgeProperties(Duration.ofDays(1), 2, 10), meterRegistry);
+    }
+
+    @DisplayName("정리하면, 댓글을 먼저 배치 단위로 지우고 게시글을 지운 뒤 남은 tombstone 수를 지표로 남긴다.")
+    @Test
+    void givenTombstones_whenPurging_thenPurgesCommentsThenArticlesInBatches() {
+        // Given
+        given(articleCommentRepository.findTombstoneIds(any(), eq(2))).willReturn(List.of(1L, 2L), List.of(3L));
+        given(articleCommentRepository.purgeByIdIn(List.of(1L, 2L))).willReturn(2);
+        given(articleCommentRepository.purgeByIdIn(List.of(3L))).willReturn(1);
+        given(articleRepository.findTombstoneIds(any(), eq(2))).willReturn(List.of(10L));
+        given(articleRepository.purgeByIdIn(List.of(10L))).willReturn(1);
+        given(articleRepository.countTombstones()).willReturn(5L);
+        given(articleCommentRepository.countTombstones()).willReturn(0L);
+
+        // When
+        sut.purge();
+
+        // Then
+        var inOrder = inOrder(articleCommentRepository, articleRepository);
+        inOrder.verify(articleCommentRepository).purgeByIdIn(List.of(3L));
+        inOrder.verify(articleRepository).purgeByIdIn(List.of(10L));
+        assertThat(meterRegistry.get("board.tombstone.purged").tag("table", "article_comment").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("board.tombstone.backlog").tag("table", "article").gauge().value()).isEqualTo(5);
+    }
+
+    @DisplayName("한 번에 지울 배치 수를 넘으면, 남은 tombstone은 다음 실행으로 미룬다.")
+    @Test
+    void givenLargeBacklog_whenPurging_thenStopsAtMaxBatches() {
+        // Given
+        sut = new TombstonePurgeService(articleRepository, articleCommentRepository, new TombstonePurgeProperties(Duration.ofDays(1), 2, 3), meterRegistry);
+        given(articleCommentRepository.findTombstoneIds(any(), anyInt())).willReturn(List.of(1L, 2L));
+        given(articleCommentRepository.purgeByIdIn(any())).willReturn(2);
+        given(articleRepository.findTombstoneIds(any(), anyInt())).willReturn(List.of());
+
+        // When
+        sut.purge();
+
+        // Then
+        then(articleCommentRepository).should(times(3)).purgeByIdIn(any());
+        then(articleRepository).should(never()).purgeByIdIn(any());
+    }
+}
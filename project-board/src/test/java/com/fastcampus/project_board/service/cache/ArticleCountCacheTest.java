@@ -0,0 +1,52 @@
+package com.fastcampus.project_board.service.cache;
+
+import com.fastcampus.project_board.config.PaginationConfig.PaginationProperties;
+import com.fastcampus.project_board.domain.constant.CountStrategy;
+import com.fastcampus.project_board.domain.constant.SearchType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("캐시 - 게시글 수 근사값")
+class ArticleCountCacheTest {
+
+    @DisplayName("TTL 안에 같은 검색을 다시 세면, count 쿼리를 다시 실행하지 않는다.")
+    @Test
+    void givenCachedCount_whenCountingAgainWithinTtl_thenReusesCount() {
+        //Given
+        ArticleCountCache sut = new ArticleCountCache(createProperties(Duration.ofMinutes(1)));
+        AtomicInteger queries = new AtomicInteger();
+
+        //When
+        long first = sut.get(SearchType.TITLE, "spring", () -> { queries.incrementAndGet(); return 10L; });
+        long second = sut.get(SearchType.TITLE, "spring", () -> { queries.incrementAndGet(); return 20L; });
+
+        //Then
+        assertThat(first).isEqualTo(10L);
+        assertThat(second).isEqualTo(10L);
+        assertThat(queries).hasValue(1);
+    }
+
+    @DisplayName("TTL이 지나면, 다시 센다.")
+    @Test
+    void givenExpiredCount_whenCounting_thenCountsAgain() {
+        //Given
+        ArticleCountCache sut = new ArticleCountCache(createProperties(Duration.ZERO));
+        sut.get(null, null, () -> 10L);
+
+        //When
+        long actual = sut.get(null, null, () -> 20L);
+
+        //Then
+        assertThat(actual).isEqualTo(20L);
+    }
+
+    private PaginationProperties createProperties(Duration ttl) {
+        return new PaginationProperties(CountStrategy.APPROXIMATE, Map.of(), 4, ttl);
+    }
+}
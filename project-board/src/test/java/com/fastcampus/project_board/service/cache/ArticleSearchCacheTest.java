@@ -0,0 +1,124 @@
+package com.fastcampus.project_board.service.cache;
+
+import com.fastcampus.project_board.DTO.ArticleDto;
+import com.fastcampus.project_board.DTO.UserAccountDto;
+import com.fastcampus.project_board.config.PageCacheConfig.PageCacheProperties;
+import com.fastcampus.project_board.domain.constant.SearchType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("캐시 - 게시글 검색 결과")
+class ArticleSearchCacheTest {
+
+    private MeterRegistry meterRegistry;
+    private ArticleSearchCache sut;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new ArticleSearchCache(new PageCacheProperties(Duration.ofMinutes(5), 200), meterRegistry);
+    }
+
+    @DisplayName("같은 키로 다시 조회하면 캐시에서 반환하고, hit/miss 지표를 남긴다.")
+    @Test
+    void givenCachedPage_whenGettingAgain_thenReturnsCachedPageAndRecordsMetrics() {
+        //Given
+        ArticleSearchCache.Key key = ArticleSearchCache.Key.search(SearchType.TITLE, "spring", Pageable.ofSize(10));
+        AtomicInteger loads = new AtomicInteger();
+
+        //When
+        sut.get(key, () -> { loads.incrementAndGet(); return page(article("spring boot", "#java")); });
+        Page<ArticleDto> actual = sut.get(key, () -> { loads.incrementAndGet(); return Page.empty(); });
+
+        //Then
+        assertThat(actual).hasSize(1);
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "miss").counter().count()).isEqualTo(1.0);
+    }
+
+    @DisplayName("게시글이 바뀌면, 그 게시글이 검색 조건에 걸리는 페이지만 지운다.")
+    @Test
+    void givenCachedPages_whenArticleChanges_thenEvictsOnlyMatchingPages() {
+        //Given
+        Pageable pageable = Pageable.ofSize(10);
+        ArticleSearchCache.Key springTitle = ArticleSearchCache.Key.search(SearchType.TITLE, "spring", pageable);
+        ArticleSearchCache.Key jpaTitle = ArticleSearchCache.Key.search(SearchType.TITLE, "jpa", pageable);
+        ArticleSearchCache.Key javaHashtag = ArticleSearchCache.Key.hashtag("#java", pageable);
+        ArticleSearchCache.Key all = ArticleSearchCache.Key.search(null, null, pageable);
+        List.of(springTitle, jpaTitle, javaHashtag, all).forEach(key -> sut.get(key, Page::empty));
+
+        //When
+        sut.evict(null, article("new Spring article", "#kotlin"));
+
+        //Then
+        AtomicInteger reloads = new AtomicInteger();
+        List.of(springTitle, jpaTitle, javaHashtag, all).forEach(key -> sut.get(key, () -> { reloads.incrementAndGet(); return Page.empty(); }));
+        assertThat(reloads).hasValue(2); // springTitle, all
+    }
+
+    @DisplayName("작성자 닉네임을 모르는 게시글이 바뀌면, 닉네임 검색 페이지는 모두 지운다.")
+    @Test
+    void givenArticleWithoutNickname_whenArticleChanges_thenEvictsAllNicknamePages() {
+        //Given
+        Pageable pageable = Pageable.ofSize(10);
+        ArticleSearchCache.Key nickname = ArticleSearchCache.Key.search(SearchType.NICKNAME, "someone", pageable);
+        ArticleSearchCache.Key userId = ArticleSearchCache.Key.search(SearchType.ID, "someone", pageable);
+        List.of(nickname, userId).forEach(key -> sut.get(key, Page::empty));
+        ArticleDto deleted = ArticleDto.of(1L, UserAccountDto.of("vartyor", null, null, null, null), "title", "content", null, null, null, null, null);
+
+        //When
+        sut.evict(deleted, null);
+
+        //Then
+        AtomicInteger reloads = new AtomicInteger();
+        List.of(nickname, userId).forEach(key -> sut.get(key, () -> { reloads.incrementAndGet(); return Page.empty(); }));
+        assertThat(reloads).hasValue(1); // nickname
+    }
+
+    @DisplayName("TTL이 지난 페이지는, 게시글이 바뀌지 않았어도 다시 읽는다. (조회수 반영)")
+    @Test
+    void givenExpiredPage_whenGetting_thenReloads() {
+        //Given
+        sut = new ArticleSearchCache(new PageCacheProperties(Duration.ZERO, 200), meterRegistry);
+        ArticleSearchCache.Key key = ArticleSearchCache.Key.search(null, null, Pageable.ofSize(10));
+        AtomicInteger loads = new AtomicInteger();
+        sut.get(key, () -> { loads.incrementAndGet(); return Page.empty(); });
+
+        //When
+        sut.get(key, () -> { loads.incrementAndGet(); return Page.empty(); });
+
+        //Then
+        assertThat(loads).hasValue(2);
+    }
+
+    private Page<ArticleDto> page(ArticleDto... articles) {
+        return new PageImpl<>(List.of(articles));
+    }
+
+    private ArticleDto article(String title, String hashtag) {
+        return ArticleDto.of(
+                1L,
+                UserAccountDto.of("vartyor", "pw", "varute@gmail.com", "Vartyor", null),
+                title,
+                "content",
+                hashtag,
+                null,
+                null,
+                null,
+                null
+        );
+    }
+}
@@ -0,0 +1,95 @@
+package com.fastcampus.project_board.service.cache;
+
+import com.fastcampus.project_board.DTO.UserAccountDto;
+import com.fastcampus.project_board.config.UserCacheConfig.UserCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("캐시 - 사용자 정보")
+class UserAccountCacheTest {
+
+    private MeterRegistry meterRegistry;
+    private UserAccountCache sut;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new UserAccountCache(new UserCacheProperties(Duration.ofMinutes(5), 2));
+        sut.bindTo(meterRegistry);
+        loads = new AtomicInteger();
+    }
+
+    @DisplayName("같은 사용자를 다시 조회하면 캐시에서 반환하고, 적중률을 지표로 남긴다.")
+    @Test
+    void givenCachedUser_whenGettingAgain_thenReturnsCachedUserAndRecordsHitRatio() {
+        //When
+        sut.get("vartyor", this::load);
+        Optional<UserAccountDto> actual = sut.get("vartyor", this::load);
+
+        //Then
+        assertThat(actual).map(UserAccountDto::userId).hasValue("vartyor");
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.hit.ratio").gauge().value()).isEqualTo(0.5);
+    }
+
+    @DisplayName("TTL이 지난 사용자는 다시 읽는다.")
+    @Test
+    void givenExpiredUser_whenGetting_thenReloads() {
+        //Given
+        sut = new UserAccountCache(new UserCacheProperties(Duration.ZERO, 2));
+        sut.get("vartyor", this::load);
+
+        //When
+        sut.get("vartyor", this::load);
+
+        //Then
+        assertThat(loads).hasValue(2);
+    }
+
+    @DisplayName("사용자가 바뀌어 무효화하면, 다음 조회에서 다시 읽는다.")
+    @Test
+    void givenInvalidatedUser_whenGetting_thenReloads() {
+        //Given
+        sut.get("vartyor", this::load);
+        sut.invalidate("vartyor");
+
+        //When
+        sut.get("vartyor", this::load);
+
+        //Then
+        assertThat(loads).hasValue(2);
+    }
+
+    @DisplayName("최대 크기를 넘으면, 가장 오래 쓰지 않은 사용자부터 지운다.")
+    @Test
+    void givenFullCache_whenAddingUser_thenEvictsLeastRecentlyUsed() {
+        //Given
+        sut.get("a", this::load);
+        sut.get("b", this::load);
+        sut.get("a", this::load);
+
+        //When
+        sut.get("c", this::load);
+        sut.get("b", this::load);
+
+        //Then
+        assertThat(loads).hasValue(4); // a, b, c, b
+        assertThat(meterRegistry.get("cache.evictions").functionCounter().count()).isEqualTo(2.0);
+    }
+
+    private Optional<UserAccountDto> load(String userId) {
+        loads.incrementAndGet();
+        return Optional.of(UserAccountDto.of(userId, "pw", null, userId, null));
+    }
+}
@@ -0,0 +1,93 @@
+package com.fastcampus.project_board.service.importer;
+
+import com.fastcampus.project_board.DTO.request.ArticleCommentImportRow;
+import com.fastcampus.project_board.DTO.request.ArticleImportRow;
+import com.fastcampus.project_board.service.importer.ImportRowReader.ImportRow;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("대량 등록 - 요청 본문 읽기")
+class ImportRowReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    @DisplayName("NDJSON을 읽으면, 빈 줄은 건너뛰고 잘못된 줄은 줄 번호와 함께 거절 행으로 돌려준다.")
+    @Test
+    void givenNdjson_whenReading_thenReturnsRowsWithLineNumbers() throws IOException {
+        //Given
+        String body = """
+                {"userId":"vartyor","title":"첫 글","content":"본문","hashtag":"#java"}
+
+                {"userId":"vartyor","title":
+                {"userId":"vartyor2","title":"둘째 글","content":"본문"}
+                """;
+
+        //When
+        List<ImportRow<ArticleImportRow>> rows = readAll(ImportRowReader.of(ImportRowReader.NDJSON, new StringReader(body), objectMapper, ArticleImportRow.class));
+
+        //Then
+        assertThat(rows).hasSize(3);
+        assertThat(rows.get(0)).isEqualTo(ImportRow.of(1, ArticleImportRow.of("vartyor", "첫 글", "본문", "#java")));
+        assertThat(rows.get(1).line()).isEqualTo(3);
+        assertThat(rows.get(1).error()).isNotNull();
+        assertThat(rows.get(2)).isEqualTo(ImportRow.of(4, ArticleImportRow.of("vartyor2", "둘째 글", "본문", null)));
+    }
+
+    @DisplayName("CSV를 읽으면, 헤더의 컬럼 이름으로 값을 찾고 따옴표 안의 쉼표와 줄바꿈을 그대로 읽는다.")
+    @Test
+    void givenCsv_whenReading_thenMapsColumnsByHeader() throws IOException {
+        //Given
+        String body = "content,articleId,userId\r\n" +
+                "\"첫 줄, 쉼표\n둘째 줄 \"\"따옴표\"\"\",1,vartyor\r\n" +
+                "짧은 댓글,2\r\n" +
+                "댓글,abc,vartyor\r\n";
+
+        //When
+        List<ImportRow<ArticleCommentImportRow>> rows = readAll(ImportRowReader.of(ImportRowReader.CSV, new StringReader(body), objectMapper, ArticleCommentImportRow.class));
+
+        //Then
+        assertThat(rows).hasSize(3);
+        assertThat(rows.get(0)).isEqualTo(ImportRow.of(2, ArticleCommentImportRow.of(1L, "vartyor", "첫 줄, 쉼표\n둘째 줄 \"따옴표\"")));
+        assertThat(rows.get(1).line()).isEqualTo(4);
+        assertThat(rows.get(1).error()).contains("컬럼 수");
+        assertThat(rows.get(2).line()).isEqualTo(5);
+        assertThat(rows.get(2).error()).isNotNull();
+    }
+
+    @DisplayName("CSV에 닫히지 않은 따옴표가 있으면, 예외 없이 그 줄을 거절 행으로 돌려주고 읽기를 마친다.")
+    @Test
+    void givenCsvWithUnclosedQuote_whenReading_thenRejectsRowAndStops() throws IOException {
+        //Given
+        String body = "content,articleId,userId\r\n" +
+                "댓글,1,vartyor\r\n" +
+                "\"닫히지 않은 따옴표,1,vartyor\r\n" +
+                "다음 댓글,1,vartyor\r\n";
+
+        //When
+        List<ImportRow<ArticleCommentImportRow>> rows = readAll(ImportRowReader.of(ImportRowReader.CSV, new StringReader(body), objectMapper, ArticleCommentImportRow.class));
+
+        //Then
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0)).isEqualTo(ImportRow.of(2, ArticleCommentImportRow.of(1L, "vartyor", "댓글")));
+        assertThat(rows.get(1).line()).isEqualTo(3);
+        assertThat(rows.get(1).error()).contains("따옴표");
+    }
+
+    private static <T> List<ImportRow<T>> readAll(ImportRowReader<T> reader) throws IOException {
+        List<ImportRow<T>> rows = new ArrayList<>();
+        ImportRow<T> row;
+        while ((row = reader.next()) != null) {
+            rows.add(row);
+        }
+        return rows;
+    }
+}
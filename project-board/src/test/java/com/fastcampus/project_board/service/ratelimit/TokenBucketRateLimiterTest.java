@@ -0,0 +1,79 @@
+package com.fastcampus.project_board.service.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("요청 제한 - 토큰 버킷")
+class TokenBucketRateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @DisplayName("버킷 크기만큼은 한 번에 통과하고, 그다음은 토큰이 다시 찰 때까지 거절한다.")
+    @Test
+    void givenFullBucket_whenBursting_thenAllowsUpToCapacityAndTellsWhenToRetry() {
+        //Given
+        TokenBucketRateLimiter sut = new TokenBucketRateLimiter(3, Duration.ofSeconds(10), 100, now::get);
+
+        //When
+        Duration first = sut.tryAcquire("vartyor");
+        sut.tryAcquire("vartyor");
+        sut.tryAcquire("vartyor");
+        Duration rejected = sut.tryAcquire("vartyor");
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        Duration refilled = sut.tryAcquire("vartyor");
+
+        //Then
+        assertThat(first).isZero();
+        assertThat(rejected).isEqualTo(Duration.ofSeconds(10));
+        assertThat(refilled).isZero();
+        assertThat(sut.tryAcquire("uno")).isZero(); // 사용자마다 버킷이 따로 있다.
+    }
+
+    @DisplayName("여러 스레드가 동시에 요청해도, 버킷 크기보다 많이 통과시키지 않는다.")
+    @Test
+    void givenConcurrentRequests_whenAcquiring_thenAllowsExactlyCapacity() throws InterruptedException {
+        //Given
+        TokenBucketRateLimiter sut = new TokenBucketRateLimiter(50, Duration.ofHours(1), 100, now::get);
+        AtomicInteger allowed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        //When
+        for (int i = 0; i < 1_000; i++) {
+            executor.execute(() -> {
+                if (sut.tryAcquire("vartyor").isZero()) allowed.incrementAndGet();
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        //Then
+        assertThat(allowed).hasValue(50);
+    }
+
+    @DisplayName("다시 꽉 찬 버킷은 지우고, 버킷 수가 최대면 꽉 찬 버킷부터 지운 뒤 새 사용자를 담는다.")
+    @Test
+    void givenIdleBuckets_whenEvictingOrFull_thenRemovesOnlyRefilledBuckets() {
+        //Given
+        TokenBucketRateLimiter sut = new TokenBucketRateLimiter(1, Duration.ofSeconds(10), 2, now::get);
+        sut.tryAcquire("idle");
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        sut.tryAcquire("busy");
+
+        //When
+        Duration newcomer = sut.tryAcquire("newcomer");
+
+        //Then
+        assertThat(newcomer).isZero();
+        assertThat(sut.size()).isEqualTo(2);
+        assertThat(sut.tryAcquire("busy")).isPositive(); // 아직 차지 않은 버킷은 그대로 남아 있다.
+    }
+}
@@ -0,0 +1,138 @@
+package com.fastcampus.project_board.service.security;
+
+import com.fastcampus.project_board.config.PasswordHashingConfig.PasswordHashingProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비밀번호 해시 bulkhead")
+class BulkheadPasswordEncoderTest {
+
+    private final PasswordEncoder delegate = mock(PasswordEncoder.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BulkheadPasswordEncoder sut;
+
+    @AfterEach
+    void tearDown() {
+        sut.destroy();
+    }
+
+    @DisplayName("한 번 확인한 비밀번호는 TTL 동안 다시 계산하지 않는다.")
+    @Test
+    void givenVerifiedPassword_whenMatchingAgain_thenSkipsHashing() {
+        //Given
+        sut = create(1, 1);
+        given(delegate.matches("pw", "{bcrypt}hash")).willReturn(true);
+        sut.matches("pw", "{bcrypt}hash");
+
+        //When
+        boolean actual = sut.matches("pw", "{bcrypt}hash");
+
+        //Then
+        assertThat(actual).isTrue();
+        then(delegate).should(times(1)).matches("pw", "{bcrypt}hash");
+        assertThat(meterRegistry.get("board.password.hash").tag("operation", "matches").timer().count()).isEqualTo(1);
+    }
+
+    @DisplayName("확인한 조합은 인스턴스마다 다른 비밀 키로 담으므로, 같은 비밀번호라도 다른 값으로 기억한다.")
+    @SuppressWarnings("unchecked")
+    @Test
+    void givenTwoEncoders_whenVerifyingSamePassword_thenRemembersDifferentKeys() {
+        //Given
+        sut = create(1, 1);
+        BulkheadPasswordEncoder other = create(1, 1);
+        given(delegate.matches("pw", "{bcrypt}hash")).willReturn(true);
+
+        //When
+        sut.matches("pw", "{bcrypt}hash");
+        other.matches("pw", "{bcrypt}hash");
+
+        //Then
+        Map<String, Long> verified = (Map<String, Long>) ReflectionTestUtils.getField(sut, "verified");
+        Map<String, Long> otherVerified = (Map<String, Long>) ReflectionTestUtils.getField(other, "verified");
+        assertThat(verified).hasSize(1);
+        assertThat(otherVerified).hasSize(1);
+        assertThat(verified.keySet()).doesNotContainAnyElementsOf(otherVerified.keySet());
+        other.destroy();
+    }
+
+    @DisplayName("틀린 비밀번호는 기억하지 않고 매번 계산한다.")
+    @Test
+    void givenWrongPassword_whenMatchingAgain_thenHashesAgain() {
+        //Given
+        sut = create(1, 1);
+        given(delegate.matches("wrong", "{bcrypt}hash")).willReturn(false);
+        sut.matches("wrong", "{bcrypt}hash");
+
+        //When
+        boolean actual = sut.matches("wrong", "{bcrypt}hash");
+
+        //Then
+        assertThat(actual).isFalse();
+        then(delegate).should(times(2)).matches("wrong", "{bcrypt}hash");
+    }
+
+    @DisplayName("계산 스레드와 대기열이 모두 차 있으면, 기다리지 않고 바로 거절한다.")
+    @Test
+    void givenFullBulkhead_whenMatching_thenRejectsImmediately() throws Exception {
+        //Given
+        sut = create(1, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(delegate.matches(any(), any())).willAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return false;
+        });
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> sut.matches("a", "{bcrypt}hash"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> sut.matches("b", "{bcrypt}hash"));
+        await(() -> meterRegistry.get("board.password.hash.queue").gauge().value() == 1);
+
+        //When
+        long before = System.nanoTime();
+        Throwable t = catchThrowable(() -> sut.matches("c", "{bcrypt}hash"));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - before);
+        release.countDown();
+
+        //Then
+        assertThat(t).isInstanceOf(AuthenticationServiceException.class);
+        assertThat(elapsedMillis).isLessThan(1_000);
+        assertThat(meterRegistry.get("board.password.hash.rejected").counter().count()).isEqualTo(1);
+        assertThat(running.get(5, TimeUnit.SECONDS)).isFalse();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isFalse();
+    }
+
+    private BulkheadPasswordEncoder create(int threads, int queueCapacity) {
+        BulkheadPasswordEncoder encoder = new BulkheadPasswordEncoder(
+                delegate,
+                new PasswordHashingProperties(threads, queueCapacity, Duration.ofSeconds(5), Duration.ofMinutes(1), 100)
+        );
+        encoder.bindTo(meterRegistry);
+        return encoder;
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+}